@@ -10,6 +10,7 @@ public class AuthResDTO {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     public record SmsSendResponse(
             LocalDateTime expiredAt,  // 인증번호 만료 시간 (발송 시간 + 3분)
+            String jobId,             // SMS 발송 작업 ID (발송은 비동기, SMS 비활성 환경에서는 null)
             String verificationCode   // 개발/QA 환경에서만 포함 (프로덕션에서는 null)
     ) {}
 
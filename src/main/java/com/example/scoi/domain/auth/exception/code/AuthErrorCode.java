@@ -62,6 +62,9 @@ public enum AuthErrorCode implements BaseErrorCode {
     BLACKLISTED_TOKEN(HttpStatus.UNAUTHORIZED,
             "AUTH401_6",
             "블랙리스트에 등록된 토큰입니다. 다시 로그인해주세요."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED,
+            "AUTH401_7",
+            "이미 사용된 Refresh Token입니다. 보안을 위해 다시 로그인해주세요."),
     ;
 
     private final HttpStatus status;
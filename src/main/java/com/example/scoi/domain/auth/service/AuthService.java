@@ -7,22 +7,21 @@ import com.example.scoi.domain.auth.exception.code.AuthErrorCode;
 import com.example.scoi.domain.member.dto.MemberReqDTO;
 import com.example.scoi.domain.member.entity.Member;
 import com.example.scoi.domain.member.enums.MemberType;
-import com.example.scoi.domain.member.entity.MemberToken;
 import com.example.scoi.domain.member.exception.MemberException;
 import com.example.scoi.domain.member.exception.code.MemberErrorCode;
 import com.example.scoi.domain.member.repository.MemberRepository;
-import com.example.scoi.domain.member.repository.MemberTokenRepository;
 import com.example.scoi.domain.member.service.MemberService;
 import com.example.scoi.global.apiPayload.code.GeneralErrorCode;
-import com.example.scoi.global.client.CoolSmsClient;
-import com.example.scoi.global.client.dto.CoolSmsDTO;
+import com.example.scoi.global.redis.RedisKeySpace;
 import com.example.scoi.global.redis.RedisUtil;
 import com.example.scoi.global.security.jwt.JwtUtil;
+import com.example.scoi.global.security.password.PasswordVerifier;
+import com.example.scoi.global.sms.SmsOutbox;
 import com.example.scoi.global.util.HashUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,17 +40,15 @@ import java.util.concurrent.TimeUnit;
 public class AuthService {
 
     private final MemberRepository memberRepository;
-    private final MemberTokenRepository memberTokenRepository;
     private final MemberService memberService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
     private final JwtUtil jwtUtil;
     private final RedisUtil redisUtil;
-    private final CoolSmsClient coolSmsClient;
+    private final SmsOutbox smsOutbox;
     private final HashUtil hashUtil;
     private final LoginFailCountManager loginFailCountManager;
-
-    @Value("${coolsms.from-number}")
-    private String fromNumber;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenAuditLog refreshTokenAuditLog;
 
     @Value("${coolsms.enabled:true}")
     private boolean smsEnabled;
@@ -59,26 +56,17 @@ public class AuthService {
     @Value("${coolsms.expose-code:false}")
     private boolean exposeCode;
 
-    // Redis 키 접두사
-    private static final String SMS_PREFIX = "sms:";
-    private static final String VERIFICATION_PREFIX = "verification:";
-    private static final String BLACKLIST_PREFIX = "blacklist:";
-    private static final String SMS_COOLDOWN_PREFIX = "sms:cooldown:";
-    private static final String SMS_REQUIRED_PREFIX = "sms_required:";
-
     // 상수
     private static final int SMS_CODE_LENGTH = 6;
     private static final long SMS_EXPIRATION_MINUTES = 5;
     private static final long VERIFICATION_EXPIRATION_MINUTES = 10;
-    private static final long REFRESH_TOKEN_SLIDING_DAYS = 14;  // 비활성 기준 만료
-    private static final long REFRESH_TOKEN_ABSOLUTE_DAYS = 30; // 최대 수명
     private static final long SMS_COOLDOWN_SECONDS = 60;
     private static final String SIMPLE_PASSWORD_REGEX = "^[0-9]{6}$";
 
     public AuthResDTO.SmsSendResponse sendSms(AuthReqDTO.SmsSendRequest request) {
-        // 0. 쿨다운 체크 (1분)
-        String cooldownKey = SMS_COOLDOWN_PREFIX + request.phoneNumber();
-        if (redisUtil.exists(cooldownKey)) {
+        // 0. 쿨다운 체크 (1분, 동시에 들어온 요청은 하나만 통과)
+        String cooldownKey = RedisKeySpace.SMS_COOLDOWN.key(request.phoneNumber());
+        if (!redisUtil.setIfAbsent(cooldownKey, "1", SMS_COOLDOWN_SECONDS, TimeUnit.SECONDS)) {
             throw new AuthException(AuthErrorCode.SMS_COOLDOWN);
         }
 
@@ -86,62 +74,52 @@ public class AuthService {
         String verificationCode = String.format("%06d", ThreadLocalRandom.current().nextInt(1000000));
 
         // 2. Redis 저장
-        String redisKey = SMS_PREFIX + request.phoneNumber();
+        String redisKey = RedisKeySpace.SMS_CODE.key(request.phoneNumber());
         redisUtil.set(redisKey, verificationCode, SMS_EXPIRATION_MINUTES, TimeUnit.MINUTES);
 
-        // 3. CoolSMS 발송
+        // 3. CoolSMS 발송 작업 등록 (실제 발송은 SmsDispatcher가 비동기로 처리)
+        String jobId = null;
         if (smsEnabled) {
             try {
-                CoolSmsDTO.Message message = new CoolSmsDTO.Message(
-                    request.phoneNumber(),
-                    fromNumber,
-                    "[SCOI] 인증번호: " + verificationCode
-                );
-                CoolSmsDTO.SendRequest smsRequest = new CoolSmsDTO.SendRequest(message);
-                coolSmsClient.sendMessage(smsRequest);
-                log.info("SMS 발송 성공: phoneNumber={}, code={}", request.phoneNumber(), verificationCode);
+                jobId = smsOutbox.enqueue(request.phoneNumber(), "[SCOI] 인증번호: " + verificationCode);
+                log.info("SMS 발송 등록: phoneNumber={}, jobId={}", request.phoneNumber(), jobId);
             } catch (Exception e) {
-                log.error("SMS 발송 실패: {}", e.getMessage());
+                log.error("SMS 발송 등록 실패: {}", e.getMessage());
+                redisUtil.delete(cooldownKey);
                 throw new AuthException(AuthErrorCode.SMS_SEND_FAILED);
             }
         } else {
             log.warn("[DEV/QA MODE] SMS 발송 건너뛰기: phoneNumber={}, code={}", request.phoneNumber(), verificationCode);
         }
 
-        // 4. 쿨다운 설정 (1분)
-        redisUtil.set(cooldownKey, "1", SMS_COOLDOWN_SECONDS, TimeUnit.SECONDS);
-
-        // 5. 응답
+        // 4. 응답
         LocalDateTime expiredAt = LocalDateTime.now().plusMinutes(SMS_EXPIRATION_MINUTES);
         String codeToExpose = exposeCode ? verificationCode : null;
-        return new AuthResDTO.SmsSendResponse(expiredAt, codeToExpose);
+        return new AuthResDTO.SmsSendResponse(expiredAt, jobId, codeToExpose);
     }
 
     public AuthResDTO.SmsVerifyResponse verifySms(AuthReqDTO.SmsVerifyRequest request) {
-        // 1. Redis 조회
-        String redisKey = SMS_PREFIX + request.phoneNumber();
-        String storedCode = redisUtil.get(redisKey);
+        // 1. Redis 조회 + 일치하면 SMS 코드 삭제 (한 번에 처리, 같은 코드로 동시에 두 번 인증되지 않음)
+        String redisKey = RedisKeySpace.SMS_CODE.key(request.phoneNumber());
+        String storedCode = redisUtil.getAndDeleteIfEquals(redisKey, request.verificationCode());
 
         if (storedCode == null) {
             throw new AuthException(AuthErrorCode.VERIFICATION_CODE_EXPIRED);
         }
 
-        // 2. 검증
+        // 2. 검증 (불일치 시 코드는 그대로 남음)
         if (!storedCode.equals(request.verificationCode())) {
             throw new AuthException(AuthErrorCode.INVALID_VERIFICATION_CODE);
         }
 
-        // 3. SMS 코드 삭제
-        redisUtil.delete(redisKey);
-
-        // 4. Verification Token 발급
+        // 3. Verification Token 발급
         String verificationToken = jwtUtil.createVerificationToken(request.phoneNumber());
 
-        // 5. Redis 저장 (10분 TTL)
-        String tokenKey = VERIFICATION_PREFIX + verificationToken;
+        // 4. Redis 저장 (10분 TTL)
+        String tokenKey = RedisKeySpace.VERIFICATION.key(verificationToken);
         redisUtil.set(tokenKey, request.phoneNumber(), VERIFICATION_EXPIRATION_MINUTES, TimeUnit.MINUTES);
 
-        // 6. 기존 회원 여부 확인 (화면 분기용)
+        // 5. 기존 회원 여부 확인 (화면 분기용)
         boolean isExistingMember = memberRepository.existsByPhoneNumber(request.phoneNumber());
 
         log.info("SMS 인증 성공: phoneNumber={}, isExistingMember={}", request.phoneNumber(), isExistingMember);
@@ -159,7 +137,7 @@ public class AuthService {
      * @throws AuthException 토큰이 만료되었거나 휴대폰 번호가 일치하지 않을 경우
      */
     public String validateVerificationToken(String verificationToken, String phoneNumber) {
-        String tokenKey = VERIFICATION_PREFIX + verificationToken;
+        String tokenKey = RedisKeySpace.VERIFICATION.key(verificationToken);
         String verifiedPhoneNumber = redisUtil.get(tokenKey);
 
         if (verifiedPhoneNumber == null) {
@@ -206,10 +184,10 @@ public class AuthService {
         }
 
         // 간편 비밀번호 변경
-        member.updateSimplePassword(passwordEncoder.encode(newPassword));
+        member.updateSimplePassword(passwordVerifier.encode(newPassword));
 
         // 로그인 횟수 -> 0
-        member.resetLoginFailCount();
+        loginFailCountManager.resetFailCount(member);
         return null;
     }
 
@@ -238,7 +216,7 @@ public class AuthService {
             throw new AuthException(AuthErrorCode.INVALID_PASSWORD);
         }
 
-        String hashedPassword = passwordEncoder.encode(rawPassword);
+        String hashedPassword = passwordVerifier.encode(rawPassword);
 
         // 4. Member 생성
         Member member = Member.builder()
@@ -251,7 +229,12 @@ public class AuthService {
             .isBioRegistered(request.isBioRegistered() != null ? request.isBioRegistered() : false)
             .build();
 
-        memberRepository.save(member);
+        try {
+            memberRepository.save(member);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 가입 요청 (uk_member_phone_number)
+            throw new AuthException(AuthErrorCode.ALREADY_REGISTERED_PHONE);
+        }
 
         // 5. API 키 등록
         List<MemberReqDTO.PostPatchApiKey> apiKeyRequests = new ArrayList<>();
@@ -289,9 +272,9 @@ public class AuthService {
         }
 
         // 3. 계정 잠금 체크 → SMS 재인증 필수
-        if (member.getLoginFailCount() >= 5) {
+        if (loginFailCountManager.isLocked(member)) {
             if (smsVerified) {
-                loginFailCountManager.resetFailCount(member.getId());
+                loginFailCountManager.resetFailCount(member);
                 log.info("SMS 재인증으로 계정 잠금 해제: phoneNumber={}", request.phoneNumber());
             } else {
                 throw new AuthException(
@@ -302,17 +285,17 @@ public class AuthService {
         }
 
         // 3-1. RT 만료로 인한 SMS 재인증 필수 체크
-        String smsRequiredKey = SMS_REQUIRED_PREFIX + request.phoneNumber();
-        if (redisUtil.exists(smsRequiredKey)) {
-            if (smsVerified) {
-                redisUtil.delete(smsRequiredKey);
+        String smsRequiredKey = RedisKeySpace.SMS_REQUIRED.key(request.phoneNumber());
+        if (smsVerified) {
+            // SMS 재인증을 했으면 확인 없이 바로 삭제 (있었는지는 삭제 결과로 판단)
+            if (redisUtil.delete(smsRequiredKey)) {
                 log.info("SMS 재인증으로 RT 만료 플래그 해제: phoneNumber={}", request.phoneNumber());
-            } else {
-                throw new AuthException(
-                    AuthErrorCode.ACCOUNT_LOCKED,
-                    Map.of("smsRequired", "true", "reason", "refresh_token_expired")
-                );
             }
+        } else if (redisUtil.exists(smsRequiredKey)) {
+            throw new AuthException(
+                AuthErrorCode.ACCOUNT_LOCKED,
+                Map.of("smsRequired", "true", "reason", "refresh_token_expired")
+            );
         }
 
         // 3. 비밀번호 AES 복호화 후 검증 (AES 암호문 → 평문 → 형식 검증 → BCrypt 해시와 비교)
@@ -330,31 +313,26 @@ public class AuthService {
             throw handleLoginFailure(member, request.phoneNumber());
         }
 
-        if (!passwordEncoder.matches(rawPassword, member.getSimplePassword())) {
+        PasswordVerifier.Verification verification =
+                passwordVerifier.verify(request.phoneNumber(), rawPassword, member.getSimplePassword());
+        if (!verification.matches()) {
             log.warn("로그인 실패: phoneNumber={}", request.phoneNumber());
             throw handleLoginFailure(member, request.phoneNumber());
         }
 
-        // 4. 성공 처리 (JPA 더티 체킹으로 자동 저장)
-        member.resetLoginFailCount();
+        // 4. 성공 처리 (실패 횟수는 Redis, 나머지는 JPA 더티 체킹으로 자동 저장)
+        // 해시 방식/비용이 바뀌었으면 새 해시로 교체
+        if (verification.upgradedPassword() != null) {
+            member.updateSimplePassword(verification.upgradedPassword());
+            log.info("간편비밀번호 재해시: phoneNumber={}", request.phoneNumber());
+        }
+        loginFailCountManager.resetFailCount(member);
         member.updateLastLoginAt(LocalDateTime.now());
 
-        // 5. 토큰 생성
+        // 5. 토큰 생성 (RT는 새 묶음으로 발급, 기존 로그인의 RT는 폐기)
         String accessToken = jwtUtil.createAccessToken(request.phoneNumber());
-        String refreshToken = jwtUtil.createRefreshToken(request.phoneNumber());
-
-        // 6. RT DB 저장 (기존 있으면 삭제 후 재생성)
-        memberTokenRepository.deleteByMemberPhoneNumber(request.phoneNumber());
-
-        LocalDateTime now = LocalDateTime.now();
-        MemberToken memberToken = MemberToken.builder()
-                .member(member)
-                .refreshToken(refreshToken)
-                .issuedAt(now)  // 최초 발급 시간
-                .expirationDate(now.plusDays(REFRESH_TOKEN_SLIDING_DAYS))
-                .build();
-
-        memberTokenRepository.save(memberToken);
+        String refreshToken = refreshTokenStore.issue(member.getId(), request.phoneNumber());
+        refreshTokenAuditLog.issued(member.getId(), refreshToken);
 
         log.info("로그인 성공: phoneNumber={}", request.phoneNumber());
         return new AuthResDTO.LoginResponse(
@@ -365,15 +343,15 @@ public class AuthService {
     }
 
     /**
-     * 로그인 실패 처리: failCount 증가 (별도 트랜잭션) + 5회 도달 시 즉시 ACCOUNT_LOCKED 응답
+     * 로그인 실패 처리: failCount 증가 (Redis 카운터) + 5회 도달 시 즉시 ACCOUNT_LOCKED 응답
      */
     private AuthException handleLoginFailure(Member member, String phoneNumber) {
-        int failCount = loginFailCountManager.increaseFailCount(member.getId());
-        int remainingAttempts = Math.max(5 - failCount, 0);
+        int failCount = loginFailCountManager.increaseFailCount(member);
+        int remainingAttempts = Math.max(LoginFailCountManager.MAX_FAIL_COUNT - failCount, 0);
         log.warn("로그인 실패: phoneNumber={}, failCount={}, remainingAttempts={}",
             phoneNumber, failCount, remainingAttempts);
 
-        if (failCount >= 5) {
+        if (failCount >= LoginFailCountManager.MAX_FAIL_COUNT) {
             return new AuthException(
                 AuthErrorCode.ACCOUNT_LOCKED,
                 Map.of("smsRequired", "true")
@@ -388,7 +366,6 @@ public class AuthService {
         );
     }
 
-    @Transactional
     public AuthResDTO.ReissueResponse reissue(AuthReqDTO.ReissueRequest request) {
         // 1. RT 검증
         if (!jwtUtil.validateToken(request.refreshToken())) {
@@ -398,63 +375,53 @@ public class AuthService {
         // 2. phoneNumber 추출
         String phoneNumber = jwtUtil.getPhoneNumberFromToken(request.refreshToken());
 
-        // 3. DB 조회
-        MemberToken memberToken = memberTokenRepository.findByRefreshToken(request.refreshToken())
-            .orElseThrow(() -> new AuthException(AuthErrorCode.REFRESH_TOKEN_NOT_FOUND));
-
-        // 4. 만료 확인 (Sliding Expiration)
-        LocalDateTime now = LocalDateTime.now();
-        if (memberToken.getExpirationDate().isBefore(now)) {
-            memberTokenRepository.delete(memberToken);
-            redisUtil.set(SMS_REQUIRED_PREFIX + phoneNumber, "rt_expired");
-            throw new AuthException(
-                AuthErrorCode.EXPIRED_REFRESH_TOKEN,
-                Map.of("smsRequired", "true")
-            );
-        }
-
-        // 5. 최대 수명 확인 (Absolute Expiration)
-        LocalDateTime issuedAt = memberToken.getIssuedAt();
-        LocalDateTime absoluteExpiration = issuedAt.plusDays(REFRESH_TOKEN_ABSOLUTE_DAYS);
-        if (absoluteExpiration.isBefore(now)) {
-            memberTokenRepository.delete(memberToken);
-            redisUtil.set(SMS_REQUIRED_PREFIX + phoneNumber, "rt_absolute_expired");
-            log.warn("RT 최대 수명 만료: phoneNumber={}, issuedAt={}", phoneNumber, issuedAt);
-            throw new AuthException(
-                AuthErrorCode.EXPIRED_REFRESH_TOKEN,
-                Map.of("smsRequired", "true")
-            );
+        // 3. RT 회전 (Redis, issuedAt 기준 최대 수명 30일 유지)
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(phoneNumber, request.refreshToken());
+        switch (rotation.status()) {
+            case NOT_FOUND -> throw new AuthException(AuthErrorCode.REFRESH_TOKEN_NOT_FOUND);
+            // 만료 (Sliding Expiration)
+            case EXPIRED -> throw requireSms(phoneNumber, "rt_expired", AuthErrorCode.EXPIRED_REFRESH_TOKEN);
+            // 최대 수명 만료 (Absolute Expiration)
+            case ABSOLUTE_EXPIRED -> {
+                log.warn("RT 최대 수명 만료: phoneNumber={}", phoneNumber);
+                throw requireSms(phoneNumber, "rt_absolute_expired", AuthErrorCode.EXPIRED_REFRESH_TOKEN);
+            }
+            // 이미 회전된 RT 재사용 → 묶음 전체 폐기됨
+            case REUSED -> throw requireSms(phoneNumber, "rt_reused", AuthErrorCode.REFRESH_TOKEN_REUSED);
+            case ROTATED -> {
+            }
         }
 
-        // 6. 새 토큰 생성
+        // 4. 새 AT 생성
         String newAccessToken = jwtUtil.createAccessToken(phoneNumber);
-        String newRefreshToken = jwtUtil.createRefreshToken(phoneNumber);
 
-        // 7. RT 업데이트 (Rotation, issuedAt 유지하여 최대 수명 30일 보장)
-        memberToken.updateToken(newRefreshToken, now.plusDays(REFRESH_TOKEN_SLIDING_DAYS));
-
-        // 8. lastLoginAt 갱신 (사용자 활동 추적)
-        Member member = memberToken.getMember();
-        member.updateLastLoginAt(now);
+        // 5. RT 기록 + lastLoginAt 갱신 (사용자 활동 추적, 비동기)
+        refreshTokenAuditLog.rotated(rotation.memberId(), rotation.refreshToken());
 
         log.info("토큰 재발급 성공: phoneNumber={}", phoneNumber);
         return new AuthResDTO.ReissueResponse(
                 newAccessToken,
-                newRefreshToken,
+                rotation.refreshToken(),
                 jwtUtil.getAccessTokenExpirationInSeconds()
         );
     }
 
-    @Transactional
+    // 다음 로그인 시 SMS 재인증 필수
+    private AuthException requireSms(String phoneNumber, String reason, AuthErrorCode errorCode) {
+        redisUtil.set(RedisKeySpace.SMS_REQUIRED.key(phoneNumber), reason);
+        return new AuthException(errorCode, Map.of("smsRequired", "true"));
+    }
+
     public void logout(String phoneNumber, String accessToken) {
-        // 1. RT 삭제
-        memberTokenRepository.deleteByMemberPhoneNumber(phoneNumber);
+        // 1. RT 묶음 폐기
+        refreshTokenStore.revoke(phoneNumber);
+        refreshTokenAuditLog.revoked(phoneNumber);
 
         // 2. AT 블랙리스트 등록
         long remainingTime = jwtUtil.getRemainingTime(accessToken);
 
         if (remainingTime > 0) {
-            String blacklistKey = BLACKLIST_PREFIX + accessToken;
+            String blacklistKey = RedisKeySpace.BLACKLIST.key(accessToken);
             redisUtil.set(blacklistKey, "logout", remainingTime, TimeUnit.MILLISECONDS);
         }
 
@@ -465,11 +432,11 @@ public class AuthService {
     public String generateSmsToken(
             String phoneNumber
     ) {
-        // 4. Verification Token 발급
+        // 3. Verification Token 발급
         String verificationToken = jwtUtil.createVerificationToken(phoneNumber);
 
-        // 5. Redis 저장 (10분 TTL)
-        String tokenKey = VERIFICATION_PREFIX + verificationToken;
+        // 4. Redis 저장 (10분 TTL)
+        String tokenKey = RedisKeySpace.VERIFICATION.key(verificationToken);
         redisUtil.set(tokenKey, phoneNumber, VERIFICATION_EXPIRATION_MINUTES, TimeUnit.MINUTES);
 
         return verificationToken;
@@ -1,37 +1,141 @@
 package com.example.scoi.domain.auth.service;
 
+import com.example.scoi.domain.member.entity.Member;
 import com.example.scoi.domain.member.repository.MemberRepository;
+import com.example.scoi.domain.member.service.MemberLookupCache;
+import com.example.scoi.global.redis.RedisKeySpace;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 간편 비밀번호 실패 횟수 관리 (로그인, 출금 비밀번호 확인, 비밀번호 변경 공용)
+ * 실패 횟수는 Redis 카운터(INCR + PEXPIRE)가 기준이고, DB(member.login_fail_count)에는 모아서 나중에 반영합니다.
+ * - Redis에 카운터가 없으면 조회한 회원 엔티티의 값으로 시작하므로 Redis 키가 만료되어도 잠금 상태는 유지됩니다.
+ * - 값이 바뀐 회원은 DIRTY_KEY에 모아두고 FLUSH 주기마다 DB에 한 번씩만 UPDATE 합니다.
+ * 회원 엔티티의 loginFailCount는 DB 반영 값이므로 잠금 판단은 이 클래스를 통해서만 해야 합니다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class LoginFailCountManager {
 
+    public static final int MAX_FAIL_COUNT = 5;
+
+    // 카운터와 변경 대상 집합을 한 스크립트에서 다루므로 같은 슬롯 (RedisKeySpace.LOGIN_FAIL)
+    private static final String DIRTY_KEY = RedisKeySpace.LOGIN_FAIL.key("dirty");
+
+    // DB에 반영된 뒤에는 Redis에서 사라져도 되므로 넉넉히만 유지
+    private static final long COUNTER_TTL_MILLIS = TimeUnit.DAYS.toMillis(7);
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    // 카운터가 없으면 DB 값으로 시작한 뒤 1 증가, 변경 대상에 추가
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('SET', KEYS[1], ARGV[1])
+            end
+            local count = redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[3])
+            return count
+            """, Long.class);
+
+    // 0으로 초기화하고 변경 대상에 추가 (이미 0이면 DB 값도 0이므로 건너뜀)
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current == false then
+                current = ARGV[1]
+            end
+            if tonumber(current) == 0 then
+                return 0
+            end
+            redis.call('SET', KEYS[1], '0', 'PX', ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
     private final MemberRepository memberRepository;
+    private final MemberLookupCache memberLookupCache;
+
+    /**
+     * 현재 실패 횟수를 조회합니다.
+     * @param member 회원
+     * @return 실패 횟수
+     */
+    public int getFailCount(Member member) {
+        String count = redisTemplate.opsForValue().get(toKey(member.getId()));
+        return count != null ? Integer.parseInt(count) : member.getLoginFailCount();
+    }
 
     /**
-     * 로그인 실패 카운트를 별도 트랜잭션에서 증가시킵니다.
-     * REQUIRES_NEW로 외부 트랜잭션 롤백과 무관하게 커밋됩니다.
-     * @Modifying @Query로 L1 캐시 무관하게 DB 직접 업데이트합니다.
+     * 잠금 여부를 확인합니다.
+     * @param member 회원
+     * @return 실패 횟수가 MAX_FAIL_COUNT 이상이면 true
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public int increaseFailCount(Long memberId) {
-        memberRepository.incrementLoginFailCount(memberId);
-        return memberRepository.findById(memberId)
-            .orElseThrow(() -> new IllegalStateException("Member not found: " + memberId))
-            .getLoginFailCount();
+    public boolean isLocked(Member member) {
+        return getFailCount(member) >= MAX_FAIL_COUNT;
     }
 
     /**
-     * 로그인 실패 카운트를 별도 트랜잭션에서 초기화합니다.
-     * SMS 재인증으로 계정 잠금 해제 시 사용 — 이후 비밀번호가 틀려도 잠금 해제는 유지됩니다.
-     * @Modifying @Query로 L1 캐시 무관하게 DB 직접 업데이트합니다.
+     * 실패 횟수를 1 증가시킵니다.
+     * @param member 회원
+     * @return 증가된 실패 횟수
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void resetFailCount(Long memberId) {
-        memberRepository.resetLoginFailCount(memberId);
+    public int increaseFailCount(Member member) {
+        Long count = redisTemplate.execute(INCREASE_SCRIPT, List.of(toKey(member.getId()), DIRTY_KEY),
+                String.valueOf(member.getLoginFailCount()),
+                String.valueOf(COUNTER_TTL_MILLIS),
+                String.valueOf(member.getId()));
+        return count == null ? member.getLoginFailCount() + 1 : count.intValue();
+    }
+
+    /**
+     * 실패 횟수를 초기화합니다. (비밀번호 일치, SMS 재인증, 비밀번호 재설정)
+     * @param member 회원
+     */
+    public void resetFailCount(Member member) {
+        redisTemplate.execute(RESET_SCRIPT, List.of(toKey(member.getId()), DIRTY_KEY),
+                String.valueOf(member.getLoginFailCount()),
+                String.valueOf(COUNTER_TTL_MILLIS),
+                String.valueOf(member.getId()));
+    }
+
+    // 바뀐 실패 횟수를 DB에 반영 (write-behind)
+    @Scheduled(fixedDelayString = "${auth.login-fail.flush-interval-millis:5000}")
+    public void flush() {
+        List<String> memberIds = redisTemplate.opsForSet().pop(DIRTY_KEY, FLUSH_BATCH_SIZE);
+        if (memberIds == null || memberIds.isEmpty()) {
+            return;
+        }
+
+        List<String> counts = redisTemplate.opsForValue().multiGet(memberIds.stream().map(this::toKey).toList());
+        for (int idx = 0; idx < memberIds.size(); idx++) {
+            String memberId = memberIds.get(idx);
+            String count = counts == null ? null : counts.get(idx);
+            if (count == null) {
+                continue;
+            }
+            try {
+                memberRepository.updateLoginFailCount(Long.valueOf(memberId), Integer.parseInt(count));
+                // 잠금 여부가 바뀌었을 수 있으므로 회원 캐시 비우기
+                memberLookupCache.evict(Long.valueOf(memberId));
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 반영
+                log.warn("로그인 실패 횟수 DB 반영 실패: memberId={}", memberId, e);
+                redisTemplate.opsForSet().add(DIRTY_KEY, memberId);
+            }
+        }
+    }
+
+    private String toKey(Object memberId) {
+        return RedisKeySpace.LOGIN_FAIL.key(memberId);
     }
 }
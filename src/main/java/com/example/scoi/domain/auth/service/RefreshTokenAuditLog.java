@@ -0,0 +1,110 @@
+package com.example.scoi.domain.auth.service;
+
+import com.example.scoi.domain.member.entity.MemberToken;
+import com.example.scoi.domain.member.repository.MemberRepository;
+import com.example.scoi.domain.member.repository.MemberTokenRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * RT 발급/회전/폐기 기록 (member_token 테이블)
+ * RT 검증은 RefreshTokenStore(Redis)만 보므로 이 기록은 요청 스레드 밖에서 순서대로 씁니다.
+ * - auth.refresh-token.audit-log=true일 때만 member_token에 남기고, 토큰 원문 대신 해시를 저장합니다.
+ * - 재발급 시 lastLoginAt 갱신도 여기서 함께 처리해 재발급 요청이 DB를 기다리지 않도록 합니다.
+ * 기록에 실패해도 토큰 처리 결과에는 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenAuditLog {
+
+    private final MemberRepository memberRepository;
+    private final MemberTokenRepository memberTokenRepository;
+
+    @Value("${auth.refresh-token.audit-log:false}")
+    private boolean enabled;
+
+    // 같은 회원의 발급 -> 회전 순서가 뒤바뀌지 않도록 스레드 하나로 처리
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "refresh-token-audit-log");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 로그인으로 새 RT 묶음이 발급되었을 때 기록합니다.
+     * @param memberId 회원 ID
+     * @param refreshToken 발급된 RT
+     */
+    public void issued(Long memberId, String refreshToken) {
+        if (!enabled) {
+            return;
+        }
+        String tokenHash = RefreshTokenStore.hash(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
+        execute(() -> {
+            memberTokenRepository.deleteByMemberId(memberId);
+            memberTokenRepository.save(MemberToken.builder()
+                    .member(memberRepository.getReferenceById(memberId))
+                    .refreshToken(tokenHash)
+                    .issuedAt(now)
+                    .expirationDate(now.plus(RefreshTokenStore.SLIDING_MILLIS, ChronoUnit.MILLIS))
+                    .build());
+        });
+    }
+
+    /**
+     * RT가 회전되었을 때 기록하고 마지막 접속 시간을 갱신합니다.
+     * @param memberId 회원 ID
+     * @param refreshToken 새 RT
+     */
+    public void rotated(Long memberId, String refreshToken) {
+        String tokenHash = enabled ? RefreshTokenStore.hash(refreshToken) : null;
+        LocalDateTime now = LocalDateTime.now();
+        execute(() -> {
+            memberRepository.updateLastLoginAt(memberId, now);
+            if (tokenHash != null) {
+                memberTokenRepository.updateRefreshToken(
+                        memberId,
+                        tokenHash,
+                        now.plus(RefreshTokenStore.SLIDING_MILLIS, ChronoUnit.MILLIS),
+                        now
+                );
+            }
+        });
+    }
+
+    /**
+     * RT 묶음이 폐기되었을 때 기록을 지웁니다. (로그아웃)
+     * @param phoneNumber 사용자 휴대폰 번호
+     */
+    public void revoked(String phoneNumber) {
+        if (!enabled) {
+            return;
+        }
+        execute(() -> memberTokenRepository.deleteByMemberPhoneNumber(phoneNumber));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        writer.shutdown();
+    }
+
+    private void execute(Runnable task) {
+        writer.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("RT 기록 실패", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.scoi.domain.auth.service;
+
+import com.example.scoi.global.redis.RedisKeySpace;
+import com.example.scoi.global.security.jwt.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh Token 저장소 (Redis)
+ * 로그인 1회에서 이어지는 RT들을 하나의 묶음(family)으로 관리하고, 토큰 원문 대신 SHA-256 해시만 저장합니다.
+ * - rt:{phone}:family:{fid} : 묶음 정보 (memberId, phone, 현재 토큰 해시, 최대 수명 만료 시각)
+ * - rt:{phone}:token:{hash} : 현재 토큰 (TTL = 비활성 만료, 최대 수명을 넘지 않음)
+ * - rt:{phone}:member       : 회원의 현재 묶음 ID (회원당 로그인 1개)
+ * 스크립트가 키 이름을 이어 만들기 때문에 한 회원의 키는 휴대폰 번호 해시 태그로 같은 슬롯에 둡니다.
+ * 회전은 Lua 스크립트 하나로 처리하므로 같은 RT로 동시에 재발급해도 한 번만 성공합니다.
+ * 이미 회전된 RT가 다시 들어오면 탈취로 보고 묶음 전체를 폐기합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    public static final long SLIDING_MILLIS = TimeUnit.DAYS.toMillis(14);   // 비활성 기준 만료
+    public static final long ABSOLUTE_MILLIS = TimeUnit.DAYS.toMillis(30);  // 최대 수명
+
+    private static final String FAMILY = "family";
+    private static final String TOKEN = "token";
+    private static final String MEMBER = "member";
+
+    // 최대 수명이 지난 뒤에도 만료 응답을 줄 수 있도록 묶음 정보를 조금 더 남겨둠
+    private static final long FAMILY_TOMBSTONE_MILLIS = SLIDING_MILLIS;
+
+    // 기존 묶음 폐기 후 새 묶음 등록
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            local old = redis.call('GET', KEYS[1])
+            if old then
+                local oldKey = ARGV[8] .. old
+                local current = redis.call('HGET', oldKey, 'current')
+                if current then
+                    redis.call('DEL', ARGV[9] .. current)
+                end
+                redis.call('DEL', oldKey)
+            end
+            redis.call('HSET', KEYS[2], 'memberId', ARGV[2], 'phone', ARGV[3], 'current', ARGV[4], 'expiresAt', ARGV[5])
+            redis.call('PEXPIRE', KEYS[2], ARGV[6])
+            redis.call('SET', KEYS[3], ARGV[1], 'PX', ARGV[7])
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[6])
+            return 1
+            """, Long.class);
+
+    // 현재 토큰이면 새 토큰으로 교체, 아니면 사유와 함께 묶음 폐기
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local family = redis.call('HMGET', KEYS[1], 'current', 'expiresAt', 'memberId')
+            if not family[1] then
+                return {'NOT_FOUND'}
+            end
+            local function revoke()
+                redis.call('DEL', ARGV[6] .. family[1], KEYS[1])
+                if redis.call('GET', KEYS[4]) == ARGV[3] then
+                    redis.call('DEL', KEYS[4])
+                end
+            end
+            local now = tonumber(ARGV[4])
+            local expiresAt = tonumber(family[2])
+            if now >= expiresAt then
+                revoke()
+                return {'ABSOLUTE_EXPIRED', family[3]}
+            end
+            if family[1] ~= ARGV[1] then
+                revoke()
+                return {'REUSED', family[3]}
+            end
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                revoke()
+                return {'EXPIRED', family[3]}
+            end
+            redis.call('DEL', KEYS[2])
+            redis.call('SET', KEYS[3], ARGV[3], 'PX', math.min(tonumber(ARGV[5]), expiresAt - now))
+            redis.call('HSET', KEYS[1], 'current', ARGV[2])
+            return {'ROTATED', family[3]}
+            """, List.class);
+
+    // 회원의 현재 묶음 폐기
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            local fid = redis.call('GET', KEYS[1])
+            if not fid then
+                return 0
+            end
+            local familyKey = ARGV[1] .. fid
+            local current = redis.call('HGET', familyKey, 'current')
+            if current then
+                redis.call('DEL', ARGV[2] .. current)
+            end
+            redis.call('DEL', familyKey, KEYS[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JwtUtil jwtUtil;
+
+    /**
+     * 새 묶음으로 RT를 발급합니다. 기존 묶음은 폐기됩니다.
+     * @param memberId 회원 ID
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @return 새 Refresh Token
+     */
+    public String issue(Long memberId, String phoneNumber) {
+        String familyId = UUID.randomUUID().toString();
+        String refreshToken = jwtUtil.createRefreshToken(phoneNumber, familyId);
+        String tokenHash = hash(refreshToken);
+        long now = System.currentTimeMillis();
+
+        redisTemplate.execute(ISSUE_SCRIPT,
+                List.of(
+                        RedisKeySpace.REFRESH_TOKEN.key(phoneNumber, MEMBER),
+                        RedisKeySpace.REFRESH_TOKEN.key(phoneNumber, FAMILY, familyId),
+                        RedisKeySpace.REFRESH_TOKEN.key(phoneNumber, TOKEN, tokenHash)
+                ),
+                familyId,
+                String.valueOf(memberId),
+                phoneNumber,
+                tokenHash,
+                String.valueOf(now + ABSOLUTE_MILLIS),
+                String.valueOf(ABSOLUTE_MILLIS + FAMILY_TOMBSTONE_MILLIS),
+                String.valueOf(SLIDING_MILLIS),
+                RedisKeySpace.REFRESH_TOKEN.prefix(phoneNumber, FAMILY),
+                RedisKeySpace.REFRESH_TOKEN.prefix(phoneNumber, TOKEN));
+        return refreshToken;
+    }
+
+    /**
+     * RT를 회전합니다. 성공하면 기존 RT는 즉시 무효가 됩니다.
+     * @param phoneNumber RT의 휴대폰 번호 (서명 검증 후 추출한 값)
+     * @param refreshToken 요청으로 받은 RT
+     * @return 회전 결과 (ROTATED일 때만 새 RT 포함)
+     */
+    public Rotation rotate(String phoneNumber, String refreshToken) {
+        String familyId = jwtUtil.getFamilyIdFromToken(refreshToken);
+        // 묶음 도입 전에 발급된 RT
+        if (familyId == null) {
+            return new Rotation(Status.NOT_FOUND, null, null);
+        }
+
+        String newRefreshToken = jwtUtil.createRefreshToken(phoneNumber, familyId);
+        String tokenHash = hash(refreshToken);
+        String newTokenHash = hash(newRefreshToken);
+        List<?> result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(
+                        RedisKeySpace.REFRESH_TOKEN.key(phoneNumber, FAMILY, familyId),
+                        RedisKeySpace.REFRESH_TOKEN.key(phoneNumber, TOKEN, tokenHash),
+                        RedisKeySpace.REFRESH_TOKEN.key(phoneNumber, TOKEN, newTokenHash),
+                        RedisKeySpace.REFRESH_TOKEN.key(phoneNumber, MEMBER)
+                ),
+                tokenHash,
+                newTokenHash,
+                familyId,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(SLIDING_MILLIS),
+                RedisKeySpace.REFRESH_TOKEN.prefix(phoneNumber, TOKEN));
+
+        if (result == null || result.isEmpty()) {
+            return new Rotation(Status.NOT_FOUND, null, null);
+        }
+        Status status = Status.valueOf(String.valueOf(result.get(0)));
+        Long memberId = result.size() > 1 ? Long.valueOf(String.valueOf(result.get(1))) : null;
+        if (status == Status.REUSED) {
+            log.warn("RT 재사용 감지, 묶음 폐기: phoneNumber={}, familyId={}", phoneNumber, familyId);
+        }
+        return new Rotation(status, memberId, status == Status.ROTATED ? newRefreshToken : null);
+    }
+
+    /**
+     * 회원의 현재 RT 묶음을 폐기합니다. (로그아웃)
+     * @param phoneNumber 사용자 휴대폰 번호
+     */
+    public void revoke(String phoneNumber) {
+        redisTemplate.execute(REVOKE_SCRIPT,
+                List.of(RedisKeySpace.REFRESH_TOKEN.key(phoneNumber, MEMBER)),
+                RedisKeySpace.REFRESH_TOKEN.prefix(phoneNumber, FAMILY),
+                RedisKeySpace.REFRESH_TOKEN.prefix(phoneNumber, TOKEN));
+    }
+
+    /**
+     * RT의 SHA-256 해시 (Redis 키, 감사 로그에 원문 대신 저장)
+     */
+    public static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public enum Status {
+        ROTATED,
+        NOT_FOUND,
+        EXPIRED,            // 비활성 기간 초과
+        ABSOLUTE_EXPIRED,   // 최대 수명 초과
+        REUSED              // 이미 회전된 RT 재사용 (탈취 의심)
+    }
+
+    /**
+     * RT 회전 결과
+     * @param status 결과
+     * @param memberId 회원 ID (묶음이 없으면 null)
+     * @param refreshToken 새 RT (ROTATED가 아니면 null)
+     */
+    public record Rotation(
+            Status status,
+            Long memberId,
+            String refreshToken
+    ) {}
+}
@@ -69,15 +69,16 @@ public class ChargeController implements ChargeControllerDocs{
     @GetMapping("/deposits/address")
     public ApiResponse<String> getDepositAddress(
             @AuthenticationPrincipal CustomUserDetails user,
-            @RequestParam ExchangeType exchangeType
+            @RequestParam ExchangeType exchangeType,
+            @RequestParam(defaultValue = "false") boolean forceRefresh
     ){
         BaseSuccessCode code = ChargeSuccessCode.OK;
-        return ApiResponse.onSuccess(code, chargeService.getDepositAddress(user.getUsername(), exchangeType));
+        return ApiResponse.onSuccess(code, chargeService.getDepositAddress(user.getUsername(), exchangeType, forceRefresh));
     }
 
     // 입금 주소 생성하기
     @PostMapping("/deposits/address")
-    public ApiResponse<List<String>> createDepositAddress(
+    public ApiResponse<List<ChargeResDTO.CreateDepositAddress>> createDepositAddress(
             @AuthenticationPrincipal CustomUserDetails user,
             @Valid @RequestBody ChargeReqDTO.CreateDepositAddress dto
     ){
@@ -20,7 +20,11 @@ public interface ChargeControllerDocs {
 
     @Operation(
             summary = "원화 충전 요청하기 API By 김주헌",
-            description = "코인을 구매하기 위한 원화 충전을 요청합니다. 반드시 인증서 발급을 한 뒤 호출해주세요."
+            description = """
+                    코인을 구매하기 위한 원화 충전을 요청합니다. 반드시 인증서 발급을 한 뒤 호출해주세요.
+                    충전 상태는 서버가 대신 확인합니다. 상태가 바뀔 때마다 /user/queue/deposit/{uuid}로 본인에게만 전송되고,
+                    완료/취소되면 FCM 알림이 갑니다. (특정 주문 확인하기를 반복 호출하지 않아도 됩니다)
+                    """
     )
     ApiResponse<ChargeResDTO.ChargeKrw> chargeKrw(@AuthenticationPrincipal CustomUserDetails user, @Valid @RequestBody ChargeReqDTO.ChargeKrw dto);
 
@@ -41,19 +45,27 @@ public interface ChargeControllerDocs {
 
     @Operation(
             summary = "입금 주소 확인하기 API By 김주헌",
-            description = "코인의 입금 주소를 확인합니다. 해당 유저의 입금 주소 전체를 조회하고 최상단에 잇는 입금 주소를 반환합니다."
+            description = """
+                    코인의 입금 주소를 확인합니다. 해당 유저의 입금 주소 전체를 조회하고 최상단에 잇는 입금 주소를 반환합니다.
+                    입금 주소는 서버에 저장된 값을 바로 반환하며, 오래된 주소는 백그라운드에서 거래소와 다시 맞춥니다.
+                    forceRefresh=true면 거래소에서 다시 조회한 뒤 반환합니다.
+                    """
     )
     ApiResponse<String> getDepositAddress(
             @AuthenticationPrincipal CustomUserDetails user,
-            @RequestParam ExchangeType exchangeType
+            @RequestParam ExchangeType exchangeType,
+            @RequestParam(defaultValue = "false") boolean forceRefresh
     );
 
     @Operation(
             summary = "입금 주소 생성하기 API By 김주헌",
             description = """
                     코인의 입금 주소를 생성합니다.
-                    각 거래소에 생성 요청을 보내기때문에 입금 주소가 즉시 안 올 수 있습니다. (비동기)
-                    따라서 주소가 필요하면 생성 → 조회 순으로 요청을 보내주세요
+                    코인별 생성 요청을 동시에 보내고, 코인/네트워크별 결과를 요청 순서대로 반환합니다.
+                    거래소는 주소를 비동기로 발급하므로 잠시 동안 발급 완료를 기다린 뒤 응답합니다.
+                    - CREATED: 발급 완료 (address, secondaryAddress 포함)
+                    - PENDING: 아직 생성 중, 잠시 후 입금 주소 조회로 확인해주세요
+                    - FAILED: 생성 실패 (errorCode, errorMessage 포함)
                     
                     ** 거래소 별 가능한 코인 심볼 - 네트워크 타입
                     업비트 USDT: [ETH, TRX, APT, KAIA]
@@ -63,7 +75,7 @@ public interface ChargeControllerDocs {
                     **
                     """
     )
-    ApiResponse<List<String>> createDepositAddress(
+    ApiResponse<List<ChargeResDTO.CreateDepositAddress>> createDepositAddress(
             @AuthenticationPrincipal CustomUserDetails user,
             @Valid @RequestBody ChargeReqDTO.CreateDepositAddress dto
     );
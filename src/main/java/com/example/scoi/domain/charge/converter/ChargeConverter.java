@@ -1,6 +1,14 @@
 package com.example.scoi.domain.charge.converter;
 
+import com.example.scoi.domain.charge.dto.BalanceResDTO;
 import com.example.scoi.domain.charge.dto.ChargeResDTO;
+import com.example.scoi.domain.charge.enums.DepositAddressStatus;
+import com.example.scoi.global.apiPayload.code.BaseErrorCode;
+import com.example.scoi.global.client.snapshot.AccountSnapshot;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 public class ChargeConverter {
 
@@ -26,4 +34,79 @@ public class ChargeConverter {
                 .coinType(coinType)
                 .build();
     }
+
+    // 원화 충전 상태
+    public static ChargeResDTO.DepositStatus toDepositStatus(
+            String uuid,
+            String currency,
+            String amount,
+            String state,
+            String doneAt
+    ){
+        return ChargeResDTO.DepositStatus.builder()
+                .uuid(uuid)
+                .currency(currency)
+                .amount(amount)
+                .state(state)
+                .doneAt(doneAt)
+                .build();
+    }
+
+    // 입금 주소 생성 결과
+    public static ChargeResDTO.CreateDepositAddress toCreatedDepositAddress(
+            String coinType,
+            String netType,
+            String address,
+            String secondaryAddress
+    ){
+        return ChargeResDTO.CreateDepositAddress.builder()
+                .coinType(coinType)
+                .netType(netType)
+                .status(address == null ? DepositAddressStatus.PENDING : DepositAddressStatus.CREATED)
+                .address(address)
+                .secondaryAddress(secondaryAddress)
+                .build();
+    }
+
+    // 입금 주소 생성 실패
+    public static ChargeResDTO.CreateDepositAddress toFailedDepositAddress(
+            String coinType,
+            String netType,
+            BaseErrorCode errorCode
+    ){
+        return ChargeResDTO.CreateDepositAddress.builder()
+                .coinType(coinType)
+                .netType(netType)
+                .status(DepositAddressStatus.FAILED)
+                .errorCode(errorCode.getCode())
+                .errorMessage(errorCode.getMessage())
+                .build();
+    }
+
+    // 계좌 스냅샷 -> 보유자산 목록
+    // USDC, USDT, KRW 중 잔고가 0보다 큰 자산만 반환
+    public static BalanceResDTO.BalanceListDTO toBalanceListDTO(
+            AccountSnapshot snapshot
+    ){
+        List<BalanceResDTO.BalanceDTO> balances = new ArrayList<>();
+        for (String currency : List.of("USDC", "USDT", "KRW")) {
+            snapshot.find(currency).ifPresent(balance -> {
+                try {
+                    if (balance.balanceValue().compareTo(BigDecimal.ZERO) > 0
+                            || balance.lockedValue().compareTo(BigDecimal.ZERO) > 0) {
+                        balances.add(BalanceResDTO.BalanceDTO.builder()
+                                .currency(currency)
+                                .balance(balance.balance())
+                                .locked(balance.locked())
+                                .build());
+                    }
+                } catch (NumberFormatException e) {
+                    // 파싱 실패 시 해당 자산은 제외
+                }
+            });
+        }
+        return BalanceResDTO.BalanceListDTO.builder()
+                .balances(balances)
+                .build();
+    }
 }
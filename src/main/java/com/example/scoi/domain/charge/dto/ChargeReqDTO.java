@@ -17,7 +17,9 @@ public class ChargeReqDTO {
             @NotNull(message = "충전할 금액은 필수입니다.")
             Long amount,
             @NotNull(message = "인증서 타입은 필수입니다. (KAKAO, NAVER, HANA)")
-            MFAType MFA
+            MFAType MFA,
+            // 멱등성 키 (선택, 중복 요청 방지용 UUID)
+            String idempotentKey
     ){}
 
     // 특정 주문 확인하기
@@ -1,5 +1,6 @@
 package com.example.scoi.domain.charge.dto;
 
+import com.example.scoi.domain.charge.enums.DepositAddressStatus;
 import lombok.Builder;
 
 public class ChargeResDTO {
@@ -18,4 +19,26 @@ public class ChargeResDTO {
             String coinType,
             String address
     ){}
+
+    // 입금 주소 생성하기 (코인/네트워크별 결과)
+    @Builder
+    public record CreateDepositAddress(
+            String coinType,
+            String netType,
+            DepositAddressStatus status,
+            String address,
+            String secondaryAddress,
+            String errorCode,
+            String errorMessage
+    ){}
+
+    // 원화 충전 상태 변경 알림 (STOMP /user/queue/deposit/{uuid})
+    @Builder
+    public record DepositStatus(
+            String uuid,
+            String currency,
+            String amount,
+            String state,
+            String doneAt
+    ){}
 }
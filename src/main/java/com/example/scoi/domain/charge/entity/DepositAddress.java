@@ -0,0 +1,56 @@
+package com.example.scoi.domain.charge.entity;
+
+import com.example.scoi.domain.member.entity.Member;
+import com.example.scoi.domain.member.enums.ExchangeType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 회원별 입금 주소 (거래소에서 조회/생성한 주소를 보관하는 조회용 테이블)
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "deposit_address",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_deposit_address_identity",
+                columnNames = {"member_id", "exchange_type", "currency", "net_type"}
+        )
+)
+public class DepositAddress {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "exchange_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ExchangeType exchangeType;
+
+    // 코인 심볼 (ex. USDT)
+    @Column(name = "currency", length = 20, nullable = false)
+    private String currency;
+
+    // 입금 네트워크 (ex. TRX)
+    @Column(name = "net_type", length = 20, nullable = false)
+    private String netType;
+
+    @Column(name = "address", nullable = false)
+    private String address;
+
+    // 2차 입금 주소 (메모, 태그 등)
+    @Column(name = "secondary_address")
+    private String secondaryAddress;
+
+    // 거래소에서 마지막으로 확인한 시각
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+
+    // 연관관계
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+}
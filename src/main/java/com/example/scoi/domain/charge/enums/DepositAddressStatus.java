@@ -0,0 +1,7 @@
+package com.example.scoi.domain.charge.enums;
+
+public enum DepositAddressStatus {
+    CREATED,    // 입금 주소 발급 완료
+    PENDING,    // 거래소에서 생성 중 (잠시 후 조회)
+    FAILED      // 생성 요청 실패
+}
@@ -36,6 +36,9 @@ public enum ChargeErrorCode implements BaseErrorCode {
     NOT_SUPPORT_NET_TYPE(HttpStatus.BAD_REQUEST,
             "CHARGE400_9",
             "해당 거래소에서 지원하지 않는 네트워크입니다."),
+    DEPOSIT_ADDRESS_PAIR_MISMATCH(HttpStatus.BAD_REQUEST,
+            "CHARGE400_10",
+            "코인 심볼과 네트워크 타입의 개수가 다릅니다."),
     EXCHANGE_FORBIDDEN(HttpStatus.FORBIDDEN,
             "CHARGE403_1",
             "거래소의 API키 권한이 부족합니다."),
@@ -48,6 +51,12 @@ public enum ChargeErrorCode implements BaseErrorCode {
     ADDRESS_NOT_FOUND(HttpStatus.NOT_FOUND,
             "CHARGE404_3",
             "해당 유저의 입금 주소가 없습니다."),
+    DUPLICATE_REQUEST(HttpStatus.LOCKED,
+            "CHARGE423_1",
+            "이미 처리 중인 충전 요청입니다."),
+    EXCHANGE_RATE_LIMIT(HttpStatus.TOO_MANY_REQUESTS,
+            "CHARGE429_1",
+            "거래소 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
     ;
 
     private final HttpStatus status;
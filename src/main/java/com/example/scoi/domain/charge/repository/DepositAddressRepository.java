@@ -0,0 +1,61 @@
+package com.example.scoi.domain.charge.repository;
+
+import com.example.scoi.domain.charge.entity.DepositAddress;
+import com.example.scoi.domain.member.enums.ExchangeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DepositAddressRepository extends JpaRepository<DepositAddress, Long> {
+
+    // 회원의 거래소별 입금 주소 (저장 순서대로)
+    List<DepositAddress> findAllByMember_PhoneNumberAndExchangeTypeOrderByIdAsc(
+            String phoneNumber,
+            ExchangeType exchangeType
+    );
+
+    // uk_deposit_address_identity 기준으로 주소 저장/갱신
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO deposit_address (member_id, exchange_type, currency, net_type, address, secondary_address, updated_at) " +
+            "VALUES (:memberId, :exchangeType, :currency, :netType, :address, :secondaryAddress, :updatedAt) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "address = VALUES(address), " +
+            "secondary_address = VALUES(secondary_address), " +
+            "updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    int upsert(
+            @Param("memberId") Long memberId,
+            @Param("exchangeType") String exchangeType,
+            @Param("currency") String currency,
+            @Param("netType") String netType,
+            @Param("address") String address,
+            @Param("secondaryAddress") String secondaryAddress,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    // 전체 갱신 때 거래소 목록에서 빠진 주소 정리
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DepositAddress d " +
+            "WHERE d.member.id = :memberId AND d.exchangeType = :exchangeType AND d.updatedAt < :refreshedAt")
+    int deleteStale(
+            @Param("memberId") Long memberId,
+            @Param("exchangeType") ExchangeType exchangeType,
+            @Param("refreshedAt") LocalDateTime refreshedAt
+    );
+
+    // API 키 변경/삭제 시 해당 거래소 주소 제거
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DepositAddress d WHERE d.member.id = :memberId AND d.exchangeType = :exchangeType")
+    int deleteByMemberIdAndExchangeType(
+            @Param("memberId") Long memberId,
+            @Param("exchangeType") ExchangeType exchangeType
+    );
+}
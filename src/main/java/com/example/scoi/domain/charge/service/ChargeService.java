@@ -15,17 +15,24 @@ import com.example.scoi.global.client.UpbitClient;
 import com.example.scoi.global.client.converter.BithumbConverter;
 import com.example.scoi.global.client.converter.UpbitConverter;
 import com.example.scoi.global.client.dto.*;
+import com.example.scoi.global.client.exception.ExchangeApiException;
+import com.example.scoi.global.client.exception.ExchangeErrorCode;
+import com.example.scoi.global.client.snapshot.AccountSnapshot;
+import com.example.scoi.global.client.snapshot.AccountSnapshotService;
+import com.example.scoi.global.redis.idempotency.IdempotencyScope;
+import com.example.scoi.global.redis.idempotency.IdempotencyStore;
 import com.example.scoi.global.util.JwtApiUtil;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import tools.jackson.databind.ObjectMapper;
+import org.springframework.util.StringUtils;
 
 import java.security.GeneralSecurityException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -33,14 +40,51 @@ import java.util.List;
 @Slf4j
 public class ChargeService {
 
+    // 거래소 에러 -> 충전 에러 (표에 없으면 403은 EXCHANGE_FORBIDDEN, 그 외 EXCHANGE_BAD_REQUEST)
+    private static final Map<ExchangeErrorCode, ChargeErrorCode> EXCHANGE_ERRORS = Map.of(
+            ExchangeErrorCode.ORDER_NOT_FOUND, ChargeErrorCode.ORDER_NOT_FOUND,
+            ExchangeErrorCode.OUT_OF_SCOPE, ChargeErrorCode.EXCHANGE_FORBIDDEN
+    );
+
+    // 원화 충전 요청은 파라미터 오류도 2차 인증서 문제로 봄
+    private static final Map<ExchangeErrorCode, ChargeErrorCode> CHARGE_KRW_ERRORS = Map.of(
+            ExchangeErrorCode.VALIDATION_ERROR, ChargeErrorCode.TWO_FACTOR_AUTH_REQUIRED,
+            ExchangeErrorCode.TWO_FACTOR_AUTH_REQUIRED, ChargeErrorCode.TWO_FACTOR_AUTH_REQUIRED,
+            ExchangeErrorCode.DEPOSIT_AMOUNT_TOO_SMALL, ChargeErrorCode.MINIMUM_DEPOSIT_BAD_REQUEST,
+            ExchangeErrorCode.OUT_OF_SCOPE, ChargeErrorCode.EXCHANGE_FORBIDDEN
+    );
+
     private final JwtApiUtil jwtApiUtil;
     private final BithumbClient bithumbClient;
     private final UpbitClient upbitClient;
+    private final AccountSnapshotService accountSnapshotService;
+    private final IdempotencyStore idempotencyStore;
+    private final DepositAddressCreator depositAddressCreator;
+    private final DepositAddressDirectory depositAddressDirectory;
+    private final DepositStatusWatcher depositStatusWatcher;
 
     // 원화 충전 요청하기
     public ChargeResDTO.ChargeKrw chargeKrw(
             String phoneNumber,
             ChargeReqDTO.ChargeKrw dto
+    ) {
+        // 멱등성 키가 없으면 기존처럼 바로 요청
+        if (!StringUtils.hasText(dto.idempotentKey())) {
+            return requestChargeKrw(phoneNumber, dto);
+        }
+        return idempotencyStore.execute(
+                IdempotencyScope.CHARGE_KRW,
+                phoneNumber,
+                dto.idempotentKey(),
+                ChargeResDTO.ChargeKrw.class,
+                () -> requestChargeKrw(phoneNumber, dto),
+                () -> new ChargeException(ChargeErrorCode.DUPLICATE_REQUEST)
+        );
+    }
+
+    private ChargeResDTO.ChargeKrw requestChargeKrw(
+            String phoneNumber,
+            ChargeReqDTO.ChargeKrw dto
     ) {
         // 거래소별 지원 2차 인증서인지 확인
         // 벗썸만 카카오 단독 지원
@@ -73,42 +117,13 @@ public class ChargeService {
         // 토큰 못 만들었을 경우
         } catch (GeneralSecurityException e) {
             throw new RuntimeException(e);
-        // 거래소 400 BadRequest
-        } catch (FeignException.BadRequest e) {
-
-            // Error 변환
-            ObjectMapper objectMapper = new ObjectMapper();
-            ClientErrorDTO.Errors error = objectMapper.readValue(e.contentUTF8(), ClientErrorDTO.Errors.class);
-
-            switch (error.error().name()){
-                // 2차 인증서 문제
-                case "validation_error":
-                case "two_factor_auth_required":
-                    throw new ChargeException(ChargeErrorCode.TWO_FACTOR_AUTH_REQUIRED);
-                // 최소 주문
-                case "deposit_amount_too_small":
-                    throw new ChargeException(ChargeErrorCode.MINIMUM_DEPOSIT_BAD_REQUEST);
-            }
-
-            // 나머지 400 에러
-            throw new ChargeException(ChargeErrorCode.EXCHANGE_BAD_REQUEST);
-
-        } catch (FeignException.Unauthorized e) {
-
-            // Error 변환
-            ObjectMapper objectMapper = new ObjectMapper();
-            ClientErrorDTO.Errors error = objectMapper.readValue(e.contentUTF8(), ClientErrorDTO.Errors.class);
-
-            // 권한 부족
-            if (error.error().name().equals("out_of_scope")){
-                throw new ChargeException(ChargeErrorCode.EXCHANGE_FORBIDDEN);
-            }
-
-            // 그 이외에는 JWT 관련 오류
-            throw new ChargeException(ChargeErrorCode.EXCHANGE_BAD_REQUEST);
+        // 거래소 에러 (2차 인증서 문제, 최소 주문 미만, 권한 부족 등)
+        } catch (ExchangeApiException e) {
+            throw toChargeException(e, CHARGE_KRW_ERRORS);
         }
 
-        // 정상 처리되었을때
+        // 정상 처리되었을때: 2차 인증 후 입금 완료를 서버에서 감시 (STOMP /user/queue/deposit/{uuid}, FCM)
+        depositStatusWatcher.watch(phoneNumber, dto.exchangeType(), uuid, dto.amount());
         return ChargeConverter.toChargeKrw(uuid,txid);
     }
 
@@ -162,28 +177,9 @@ public class ChargeService {
         // 토큰 못 만들었을 경우
         } catch (GeneralSecurityException e) {
             throw new RuntimeException(e);
-        } catch (FeignException.BadRequest | FeignException.NotFound e) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            ClientErrorDTO.Errors error = objectMapper.readValue(e.contentUTF8(), ClientErrorDTO.Errors.class);
-
-            // 주문을 찾지 못한 경우
-            if (error.error().name().equals("order_not_found")) {
-                throw new ChargeException(ChargeErrorCode.ORDER_NOT_FOUND);
-            }
-
-            // 나머지 400 에러
-            throw new ChargeException(ChargeErrorCode.EXCHANGE_BAD_REQUEST);
-        } catch (FeignException.Unauthorized e) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            ClientErrorDTO.Errors error = objectMapper.readValue(e.contentUTF8(), ClientErrorDTO.Errors.class);
-
-            // 권한이 부족한 경우
-            if (error.error().name().equals("out_of_scope")) {
-                throw new ChargeException(ChargeErrorCode.EXCHANGE_FORBIDDEN);
-            }
-
-            // 나머지 JWT 관련 오류
-            throw new ChargeException(ChargeErrorCode.EXCHANGE_BAD_REQUEST);
+        // 거래소 에러 (주문을 찾지 못한 경우, 권한 부족 등)
+        } catch (ExchangeApiException e) {
+            throw toChargeException(e, EXCHANGE_ERRORS);
         }
 
         return result.toUpperCase();
@@ -194,97 +190,22 @@ public class ChargeService {
     public BalanceResDTO.BalanceListDTO getBalancesByPhone(String phoneNumber, ExchangeType exchangeType) {
         log.info("getBalancesByPhone 호출 - phoneNumber: {}, exchangeType: {}", phoneNumber, exchangeType);
         try {
-            List<BalanceResDTO.BalanceDTO> balances;
-            
-            switch (exchangeType) {
-                case UPBIT:
-                    String jwt = jwtApiUtil.createUpBitJwt(phoneNumber, null, null);
-                    // 디버깅: Authorization 헤더 형식 확인
-                    log.debug("ChargeService - 업비트 API 호출 - phoneNumber: {}, authorization 시작: {}",
-                            phoneNumber, jwt.substring(0, Math.min(30, jwt.length())));
-                    if (!jwt.startsWith("Bearer ")) {
-                        log.error("ChargeService - Authorization 헤더에 'Bearer '가 없습니다! - phoneNumber: {}, jwt: {}",
-                                phoneNumber, jwt.substring(0, Math.min(50, jwt.length())));
-                    }
-                    UpbitResDTO.BalanceResponse[] upbitResponses = upbitClient.getAccount(jwt);
-                    balances = UpbitConverter.toBalanceDTOList(upbitResponses);
-                    break;
-                case BITHUMB:
-                    jwt = jwtApiUtil.createBithumbJwt(phoneNumber, null, null);
-                    BithumbResDTO.BalanceResponse[] bithumbResponses = bithumbClient.getAccount(jwt);
-                    balances = BithumbConverter.toBalanceDTOList(bithumbResponses);
-                    break;
-                default:
-                    throw new ChargeException(ChargeErrorCode.WRONG_EXCHANGE_TYPE);
-            }
-            
-            return BalanceResDTO.BalanceListDTO.builder()
-                    .balances(balances)
-                    .build();
+            AccountSnapshot snapshot = accountSnapshotService.getSnapshot(phoneNumber, exchangeType);
+            return ChargeConverter.toBalanceListDTO(snapshot);
         } catch (MemberException e) {
             log.error("ChargeService - 업비트 API 키를 찾을 수 없습니다 - phoneNumber: {}", phoneNumber, e);
             throw new ChargeException(ChargeErrorCode.EXCHANGE_API_KEY_NOT_FOUND);
         } catch (GeneralSecurityException e) {
             log.error("ChargeService - 보유자산 조회 JWT 생성 실패", e);
             throw new ChargeException(ChargeErrorCode.EXCHANGE_BAD_REQUEST);
-        } catch (FeignException.BadRequest | FeignException.NotFound e) {
-            String errorBody = e.contentUTF8();
-
-            // 응답 본문이 있고 JSON 형식인 경우에만 파싱 시도
-            if (errorBody != null && !errorBody.isEmpty() && errorBody.trim().startsWith("{")) {
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    ClientErrorDTO.Errors error = objectMapper.readValue(errorBody, ClientErrorDTO.Errors.class);
-
-                    // API 키를 찾을 수 없는 경우
-                    if (e instanceof FeignException.NotFound) {
-                        throw new ChargeException(ChargeErrorCode.EXCHANGE_API_KEY_NOT_FOUND);
-                    }
-
-                    // 나머지 400 에러
-                    throw new ChargeException(ChargeErrorCode.EXCHANGE_BAD_REQUEST);
-                } catch (Exception parseException) {
-                    // JSON 파싱 실패 시 로깅하고 원본 FeignException을 그대로 던짐
-                    log.error("ChargeService - 보유자산 조회 에러 응답 파싱 실패 - status: {}, responseBody: {}, 파싱 에러: {}",
-                            e.status(), errorBody, parseException.getMessage());
-                    throw e; // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-                }
-            } else {
-                // 응답 본문이 없거나 JSON이 아닌 경우 - 원본 FeignException을 그대로 던짐
-                log.warn("ChargeService - 보유자산 조회 에러 응답 본문이 비어있거나 JSON 형식이 아님 - status: {}, responseBody: {}",
-                        e.status(), errorBody);
-                throw e; // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-            }
-        } catch (FeignException.Unauthorized e) {
-            String errorBody = e.contentUTF8();
-
-            // 응답 본문이 있고 JSON 형식인 경우에만 파싱 시도
-            if (errorBody != null && !errorBody.isEmpty() && errorBody.trim().startsWith("{")) {
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    ClientErrorDTO.Errors error = objectMapper.readValue(errorBody, ClientErrorDTO.Errors.class);
-
-                    // 권한이 부족한 경우
-                    if (error.error().name().equals("out_of_scope")) {
-                        throw new ChargeException(ChargeErrorCode.EXCHANGE_FORBIDDEN);
-                    }
-
-                    // 나머지 JWT 관련 오류
-                    throw new ChargeException(ChargeErrorCode.EXCHANGE_BAD_REQUEST);
-                } catch (Exception parseException) {
-                    // JSON 파싱 실패 시 로깅하고 원본 FeignException을 그대로 던짐
-                    log.error("ChargeService - 보유자산 조회 에러 응답 파싱 실패 - status: {}, responseBody: {}, 파싱 에러: {}",
-                            e.status(), errorBody, parseException.getMessage());
-                    throw e; // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-                }
-            } else {
-                // 응답 본문이 없거나 JSON이 아닌 경우 - 원본 FeignException을 그대로 던짐
-                log.warn("ChargeService - 보유자산 조회 에러 응답 본문이 비어있거나 JSON 형식이 아님 - status: {}, responseBody: {}",
-                        e.status(), errorBody);
-                throw e; // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
+        } catch (ExchangeApiException e) {
+            // API 키를 찾을 수 없는 경우
+            if (e.status() == 404) {
+                throw new ChargeException(ChargeErrorCode.EXCHANGE_API_KEY_NOT_FOUND);
             }
+            throw toChargeException(e, EXCHANGE_ERRORS);
         } catch (FeignException e) {
-            // 다른 FeignException 타입들(Forbidden, InternalServerError 등)은 그대로 전파
+            // 거래소 응답을 받지 못한 경우(연결 실패, 타임아웃 등)는 그대로 전파
             log.error("ChargeService - 보유자산 조회 API 호출 실패 - FeignException: status: {}", e.status(), e);
             throw e; // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
         } catch (Exception e) {
@@ -294,125 +215,48 @@ public class ChargeService {
         }
     }
 
+    // 거래소 에러를 충전 에러로 변환 (429/5XX는 요청 문제가 아니므로 그대로 전파)
+    private RuntimeException toChargeException(ExchangeApiException e, Map<ExchangeErrorCode, ChargeErrorCode> errors) {
+        if (e.isRetryable()) {
+            return e;
+        }
+        ChargeErrorCode fallback = e.status() == 403
+                ? ChargeErrorCode.EXCHANGE_FORBIDDEN
+                : ChargeErrorCode.EXCHANGE_BAD_REQUEST;
+        return new ChargeException(errors.getOrDefault(e.getErrorCode(), fallback));
+    }
+
     // 입금 주소 확인하기
+    // 주소 저장/갱신은 DepositAddressRepository가 각자 트랜잭션으로 처리 (읽기 전용 트랜잭션에 묶이지 않도록)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String getDepositAddress(
             String phoneNumber,
-            ExchangeType exchangeType
+            ExchangeType exchangeType,
+            boolean forceRefresh
     ) {
-
-        // 거래소별 요청 보내기
-        String token;
-        String result;
-        try{
-            switch (exchangeType) {
-                case UPBIT:
-                    token = jwtApiUtil.createUpBitJwt(phoneNumber, null, null);
-                    List<UpbitResDTO.GetDepositAddress> upbitResult = upbitClient.getDepositAddresses(token);
-
-                    // USDT, USDC 중 가장 먼저 찾은 입금 주소를 result로
-                    result = upbitResult.stream().filter(depositAddress ->
-                            depositAddress.currency().equals("USDT") || depositAddress.currency().equals("USDC"))
-                            .findFirst()
-                            .orElseThrow(() -> new ChargeException(ChargeErrorCode.ADDRESS_NOT_FOUND))
-                            .deposit_address();
-
-                    break;
-                case BITHUMB:
-                    token = jwtApiUtil.createBithumbJwt(phoneNumber, null, null);
-                    List<BithumbResDTO.GetDepositAddress> bithumbResult = bithumbClient.getDepositAddresses(token);
-
-                    // USDT, USDC 중 가장 먼저 찾은 입금 주소를 result로
-                    result = bithumbResult.stream().filter(depositAddress ->
-                                    depositAddress.currency().equals("USDT") || depositAddress.currency().equals("USDC"))
-                            .findFirst()
-                            .orElseThrow(() -> new ChargeException(ChargeErrorCode.ADDRESS_NOT_FOUND))
-                            .deposit_address();
-                    break;
-                default:
-                    throw new ChargeException(ChargeErrorCode.WRONG_EXCHANGE_TYPE);
-            }
-        // 거래소 JWT 토큰 오류
-        } catch (GeneralSecurityException e) {
-            throw new ChargeException(ChargeErrorCode.EXCHANGE_API_KEY_NOT_FOUND);
-        // 거래소 JWT 토큰 인증 오류
-        } catch (FeignException.Unauthorized e) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            ClientErrorDTO.Errors error = objectMapper.readValue(e.contentUTF8(), ClientErrorDTO.Errors.class);
-
-            if (error.error().name().equals("out_of_scope")) {
-                throw new ChargeException(ChargeErrorCode.EXCHANGE_FORBIDDEN);
-            }
-            throw new ChargeException(ChargeErrorCode.EXCHANGE_BAD_REQUEST);
-        }
-
-        return result;
+        // USDT, USDC 중 가장 먼저 찾은 입금 주소를 result로
+        return depositAddressDirectory.getAddresses(phoneNumber, exchangeType, forceRefresh).stream()
+                .filter(depositAddress ->
+                        depositAddress.currency().equals("USDT") || depositAddress.currency().equals("USDC"))
+                .findFirst()
+                .orElseThrow(() -> new ChargeException(ChargeErrorCode.ADDRESS_NOT_FOUND))
+                .address();
     }
 
-    // 입금 주소 생성하기
-    public List<String> createDepositAddress(
+    // 입금 주소 생성하기 (코인별로 동시에 요청하고 항목별 결과 반환)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ChargeResDTO.CreateDepositAddress> createDepositAddress(
             String phoneNumber,
             ChargeReqDTO.CreateDepositAddress dto
     ) {
-
-        // 거래소별 요청 보내기
-        String token;
-        List<String> result = new ArrayList<>();
-        try{
-            switch (dto.exchangeType()){
-                case UPBIT:
-                    for (int idx = 0; idx < dto.coinType().size(); idx++) {
-                        // 소문자로 변경
-                        String coin = dto.coinType().get(idx).toUpperCase();
-                        String netType = dto.netType().get(idx).toUpperCase();
-
-                        UpbitReqDTO.CreateDepositAddress upbitDto = UpbitConverter
-                                .toCreateDepositAddress(coin, netType);
-
-                        token = jwtApiUtil
-                                .createUpBitJwt(phoneNumber, null, upbitDto);
-
-                        UpbitResDTO.CreateDepositAddress upbitResult = upbitClient
-                                .createDepositAddress(token, upbitDto);
-
-                        result.add(upbitResult.currency());
-                    }
-                    break;
-                case BITHUMB:
-                    for (int idx = 0; idx < dto.coinType().size(); idx++) {
-                        // 소문자로 변경
-                        String coin = dto.coinType().get(idx).toUpperCase();
-                        String netType = dto.netType().get(idx).toUpperCase();
-
-                        BithumbReqDTO.CreateDepositAddress bithumbDto = BithumbConverter
-                                .toCreateDepositAddress(coin, netType);
-
-                        token = jwtApiUtil
-                                .createBithumbJwt(phoneNumber, null, bithumbDto);
-
-                        BithumbResDTO.CreateDepositAddress bithumbResult = bithumbClient
-                                .createDepositAddress(token, bithumbDto);
-
-                        result.add(bithumbResult.currency());
-                    }
-                    break;
-                default:
-                    throw new ChargeException(ChargeErrorCode.WRONG_EXCHANGE_TYPE);
-            }
-        // JWT 못 만들었을 경우
-        } catch (GeneralSecurityException e) {
-            throw new ChargeException(ChargeErrorCode.EXCHANGE_BAD_REQUEST);
-        // 파라미터 빼먹은 경우
-        } catch (FeignException.BadRequest e) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            ClientErrorDTO.Error error = objectMapper.readValue(e.contentUTF8(), ClientErrorDTO.Errors.class).error();
-
-            if (error.name().equals("invalid_parameter")){
-                throw new ChargeException(ChargeErrorCode.WRONG_COIN_TYPE);
-            }
-
-            throw new ChargeException(ChargeErrorCode.EXCHANGE_BAD_REQUEST);
+        if (dto.coinType().size() != dto.netType().size()) {
+            throw new ChargeException(ChargeErrorCode.DEPOSIT_ADDRESS_PAIR_MISMATCH);
         }
+        List<ChargeResDTO.CreateDepositAddress> result =
+                depositAddressCreator.createAll(phoneNumber, dto.exchangeType(), dto.coinType(), dto.netType());
 
+        // 발급된 주소는 입금 주소 디렉터리에 바로 반영
+        depositAddressDirectory.record(phoneNumber, dto.exchangeType(), result);
         return result;
     }
 }
@@ -0,0 +1,273 @@
+package com.example.scoi.domain.charge.service;
+
+import com.example.scoi.domain.charge.converter.ChargeConverter;
+import com.example.scoi.domain.charge.dto.ChargeResDTO;
+import com.example.scoi.domain.charge.exception.code.ChargeErrorCode;
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.converter.BithumbConverter;
+import com.example.scoi.global.client.converter.UpbitConverter;
+import com.example.scoi.global.client.dto.BithumbResDTO;
+import com.example.scoi.global.client.dto.UpbitResDTO;
+import com.example.scoi.global.client.exception.ExchangeApiException;
+import com.example.scoi.global.client.exception.ExchangeErrorCode;
+import com.example.scoi.global.client.gateway.BithumbGateway;
+import com.example.scoi.global.client.gateway.UpbitGateway;
+import com.example.scoi.global.client.ratelimit.ExchangeRateLimitException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 입금 주소 일괄 생성기
+ * 코인/네트워크별 생성 요청을 동시에 보내고, 항목마다 성공/실패를 따로 돌려줍니다.
+ * 거래소는 주소를 비동기로 발급하므로 생성 요청 직후 주소가 없으면 개별 입금 주소 조회로 발급 완료를 기다리고,
+ * 전체 대기 시간(TOTAL_TIMEOUT) 안에 발급되지 않은 항목은 PENDING으로 응답합니다.
+ * 조회 사이의 대기는 스케줄러에 다음 조회를 예약하는 방식이라 스레드를 잡고 있지 않으며,
+ * 스레드는 거래소 요청을 보내는 동안에만 사용합니다.
+ * 거래소 요청 수 제한은 Feign 인터셉터(ExchangeRateLimiter)가 API 키 단위로 적용하고,
+ * 제한에 걸린 항목은 다시 시도할 수 있는 에러(CHARGE429_1)로 응답합니다.
+ * 모든 항목이 제한에 걸렸으면 요청 전체를 429와 Retry-After로 응답합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DepositAddressCreator {
+
+    // 거래소 요청을 보내는 스레드 수 (대기 중인 항목은 스레드를 쓰지 않음)
+    private static final int REQUEST_THREADS = 8;
+    // 발급 완료 조회 간격 (두 배씩 증가)
+    private static final long INITIAL_POLL_DELAY_MILLIS = 500;
+    private static final long MAX_POLL_DELAY_MILLIS = 2_000;
+    // 요청 전체 대기 시간
+    private static final long TOTAL_TIMEOUT_MILLIS = 8_000;
+
+    private final UpbitGateway upbitGateway;
+    private final BithumbGateway bithumbGateway;
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(REQUEST_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "deposit-address-creator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 입금 주소를 일괄 생성합니다.
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @param exchangeType 거래소 타입
+     * @param coinTypes 코인 심볼 목록
+     * @param netTypes 네트워크 타입 목록 (coinTypes와 같은 순서)
+     * @return 요청 순서대로의 항목별 결과
+     * @throws ExchangeRateLimitException 모든 항목이 요청 수 제한에 걸린 경우
+     */
+    public List<ChargeResDTO.CreateDepositAddress> createAll(
+            String phoneNumber,
+            ExchangeType exchangeType,
+            List<String> coinTypes,
+            List<String> netTypes
+    ) {
+        long deadline = System.currentTimeMillis() + TOTAL_TIMEOUT_MILLIS;
+
+        List<CompletableFuture<ChargeResDTO.CreateDepositAddress>> futures = new ArrayList<>();
+        for (int idx = 0; idx < coinTypes.size(); idx++) {
+            String coin = coinTypes.get(idx).toUpperCase();
+            String netType = netTypes.get(idx).toUpperCase();
+
+            CompletableFuture<ChargeResDTO.CreateDepositAddress> future = new CompletableFuture<>();
+            scheduler.execute(() -> attempt(future, () -> request(phoneNumber, exchangeType, coin, netType),
+                    phoneNumber, exchangeType, coin, netType, INITIAL_POLL_DELAY_MILLIS, deadline));
+            futures.add(future);
+        }
+
+        List<ChargeResDTO.CreateDepositAddress> result = new ArrayList<>();
+        ExchangeRateLimitException rateLimited = null;
+        int rateLimitedCount = 0;
+        for (int idx = 0; idx < futures.size(); idx++) {
+            String coin = coinTypes.get(idx).toUpperCase();
+            String netType = netTypes.get(idx).toUpperCase();
+            try {
+                result.add(await(futures.get(idx), coin, netType, deadline));
+            } catch (ExchangeRateLimitException e) {
+                rateLimited = e;
+                rateLimitedCount++;
+                result.add(ChargeConverter.toFailedDepositAddress(coin, netType, ChargeErrorCode.EXCHANGE_RATE_LIMIT));
+            }
+        }
+
+        // 하나도 거래소에 보내지 못했으면 항목별 결과 대신 요청 전체를 재시도하도록 응답
+        if (rateLimited != null && rateLimitedCount == futures.size()) {
+            throw rateLimited;
+        }
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 거래소를 한 번 호출하고, 주소가 아직 없으면 다음 조회를 예약합니다.
+     * 대기 시간이 지나 결과가 이미 응답된 항목은 더 조회하지 않습니다.
+     */
+    private void attempt(
+            CompletableFuture<ChargeResDTO.CreateDepositAddress> future,
+            AddressCall call,
+            String phoneNumber,
+            ExchangeType exchangeType,
+            String coin,
+            String netType,
+            long delay,
+            long deadline
+    ) {
+        if (future.isDone()) {
+            return;
+        }
+        try {
+            Address address = call.get();
+            if (!address.isEmpty()) {
+                future.complete(ChargeConverter.toCreatedDepositAddress(
+                        coin, netType, address.address(), address.secondaryAddress()));
+                return;
+            }
+            if (System.currentTimeMillis() + delay >= deadline) {
+                log.info("입금 주소 발급 대기 중 - exchangeType: {}, coin: {}, netType: {}", exchangeType, coin, netType);
+                future.complete(ChargeConverter.toCreatedDepositAddress(coin, netType, null, null));
+                return;
+            }
+
+            long nextDelay = Math.min(delay * 2, MAX_POLL_DELAY_MILLIS);
+            scheduler.schedule(
+                    () -> attempt(future, () -> lookup(phoneNumber, exchangeType, coin, netType),
+                            phoneNumber, exchangeType, coin, netType, nextDelay, deadline),
+                    delay,
+                    TimeUnit.MILLISECONDS
+            );
+
+        // 요청 수 제한은 createAll에서 항목별/전체 응답을 정함
+        } catch (ExchangeRateLimitException e) {
+            future.completeExceptionally(e);
+        // JWT 못 만들었을 경우
+        } catch (GeneralSecurityException e) {
+            future.complete(ChargeConverter.toFailedDepositAddress(coin, netType, ChargeErrorCode.EXCHANGE_BAD_REQUEST));
+        // 지원하지 않는 코인/네트워크, API 키 권한 부족, 거래소 429
+        } catch (ExchangeApiException e) {
+            future.complete(ChargeConverter.toFailedDepositAddress(coin, netType, toErrorCode(e)));
+        // 종료 중 예약 거절 포함
+        } catch (RuntimeException e) {
+            log.warn("입금 주소 생성 실패 - exchangeType: {}, coin: {}, netType: {}", exchangeType, coin, netType, e);
+            future.complete(ChargeConverter.toFailedDepositAddress(coin, netType, ChargeErrorCode.EXCHANGE_BAD_REQUEST));
+        }
+    }
+
+    private Address request(
+            String phoneNumber,
+            ExchangeType exchangeType,
+            String coin,
+            String netType
+    ) throws GeneralSecurityException {
+
+        return switch (exchangeType) {
+            case UPBIT -> {
+                UpbitResDTO.CreateDepositAddress response = upbitGateway
+                        .createDepositAddress(phoneNumber, UpbitConverter.toCreateDepositAddress(coin, netType));
+                yield new Address(response.deposit_address(), response.secondary_address());
+            }
+            case BITHUMB -> {
+                BithumbResDTO.CreateDepositAddress response = bithumbGateway
+                        .createDepositAddress(phoneNumber, BithumbConverter.toCreateDepositAddress(coin, netType));
+                yield new Address(response.deposit_address(), response.secondary_address());
+            }
+        };
+    }
+
+    // 아직 발급 전이면 빈 주소 (거래소는 404 또는 주소 없는 응답을 줌)
+    private Address lookup(
+            String phoneNumber,
+            ExchangeType exchangeType,
+            String coin,
+            String netType
+    ) throws GeneralSecurityException {
+
+        try {
+            return switch (exchangeType) {
+                case UPBIT -> {
+                    UpbitResDTO.GetDepositAddress response = upbitGateway.getDepositAddress(phoneNumber, coin, netType);
+                    yield new Address(response.deposit_address(), response.secondary_address());
+                }
+                case BITHUMB -> {
+                    BithumbResDTO.GetDepositAddress response = bithumbGateway.getDepositAddress(phoneNumber, coin, netType);
+                    yield new Address(response.deposit_address(), response.secondary_address());
+                }
+            };
+        } catch (ExchangeApiException e) {
+            if (e.status() == 404) {
+                return new Address(null, null);
+            }
+            throw e;
+        }
+    }
+
+    private ChargeResDTO.CreateDepositAddress await(
+            CompletableFuture<ChargeResDTO.CreateDepositAddress> future,
+            String coin,
+            String netType,
+            long deadline
+    ) {
+        try {
+            // 앞 항목을 기다리는 동안 뒤 항목도 진행되므로 남은 시간만큼만 대기
+            long remaining = Math.max(deadline - System.currentTimeMillis(), 0);
+            return future.get(remaining, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 예약된 다음 조회는 완료된 future를 보고 멈춤
+            future.complete(ChargeConverter.toCreatedDepositAddress(coin, netType, null, null));
+            return ChargeConverter.toCreatedDepositAddress(coin, netType, null, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.complete(ChargeConverter.toCreatedDepositAddress(coin, netType, null, null));
+            return ChargeConverter.toCreatedDepositAddress(coin, netType, null, null);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ExchangeRateLimitException rateLimit) {
+                throw rateLimit;
+            }
+            log.warn("입금 주소 생성 실패 - coin: {}, netType: {}", coin, netType, e.getCause());
+            return ChargeConverter.toFailedDepositAddress(coin, netType, ChargeErrorCode.EXCHANGE_BAD_REQUEST);
+        }
+    }
+
+    private ChargeErrorCode toErrorCode(ExchangeApiException e) {
+        if (e.status() == 429) {
+            return ChargeErrorCode.EXCHANGE_RATE_LIMIT;
+        }
+        if (e.isAuthError()) {
+            return ChargeErrorCode.EXCHANGE_FORBIDDEN;
+        }
+        return e.getErrorCode() == ExchangeErrorCode.INVALID_PARAMETER
+                ? ChargeErrorCode.WRONG_COIN_TYPE
+                : ChargeErrorCode.EXCHANGE_BAD_REQUEST;
+    }
+
+    @FunctionalInterface
+    private interface AddressCall {
+        Address get() throws GeneralSecurityException;
+    }
+
+    private record Address(
+            String address,
+            String secondaryAddress
+    ) {
+        boolean isEmpty() {
+            return address == null || address.isBlank();
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.example.scoi.domain.charge.service;
+
+import com.example.scoi.domain.charge.dto.ChargeResDTO;
+import com.example.scoi.domain.charge.entity.DepositAddress;
+import com.example.scoi.domain.charge.enums.DepositAddressStatus;
+import com.example.scoi.domain.charge.exception.ChargeException;
+import com.example.scoi.domain.charge.exception.code.ChargeErrorCode;
+import com.example.scoi.domain.charge.repository.DepositAddressRepository;
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.domain.member.service.MemberLookupCache;
+import com.example.scoi.global.client.exception.ExchangeApiException;
+import com.example.scoi.global.client.exception.ExchangeErrorCode;
+import com.example.scoi.global.client.gateway.BithumbGateway;
+import com.example.scoi.global.client.gateway.UpbitGateway;
+import com.example.scoi.global.redis.RedisKeySpace;
+import com.example.scoi.global.redis.RedisUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 회원별 입금 주소 디렉터리
+ * 입금 주소는 거의 바뀌지 않으므로 (거래소, 코인, 네트워크) -> 주소를 DB에 보관하고 메모리에 캐시합니다.
+ * - 캐시가 있으면 거래소 호출 없이 바로 반환하고, REFRESH_AFTER_MILLIS가 지났으면 백그라운드에서 전체 주소를 다시 조회합니다.
+ * - 캐시가 없으면 DB에서 읽고, DB에도 없으면 거래소에서 조회해 저장합니다.
+ * - 입금 주소 생성 결과와 강제 갱신 요청도 같은 경로로 반영합니다.
+ * API 키가 바뀌면 다른 계정의 주소일 수 있으므로 invalidate로 비워야 합니다.
+ * invalidate는 Redis에 저장한 (거래소, 회원) 세대 번호를 올리고, 모든 서버는 캐시를 쓰기 전에 세대 번호를 비교하므로
+ * 다른 서버의 캐시도 다음 조회부터 버려집니다. 갱신 도중 세대가 바뀌었으면 조회 결과를 저장하지 않습니다.
+ * 메모리 캐시는 CACHE_TTL_MILLIS 동안만 보관하고 MAX_CACHED_DIRECTORIES를 넘으면 가장 오래된 항목부터 비웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DepositAddressDirectory {
+
+    // 이 시간이 지나면 백그라운드 갱신
+    private static final long REFRESH_AFTER_MILLIS = 6 * 60 * 60_000L;
+    // 메모리 캐시 보관 시간과 최대 개수 (지나면 DB에서 다시 읽음)
+    private static final long CACHE_TTL_MILLIS = 30 * 60_000L;
+    private static final int MAX_CACHED_DIRECTORIES = 10_000;
+
+    private final DepositAddressRepository depositAddressRepository;
+    private final MemberLookupCache memberLookupCache;
+    private final UpbitGateway upbitGateway;
+    private final BithumbGateway bithumbGateway;
+    private final RedisUtil redisUtil;
+
+    private final ConcurrentHashMap<String, Directory> directories = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "deposit-address-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 입금 주소 목록을 조회합니다.
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @param exchangeType 거래소 타입
+     * @param forceRefresh true면 캐시를 무시하고 거래소에서 다시 조회
+     * @return 입금 주소 목록 (거래소 응답 순서)
+     */
+    public List<Entry> getAddresses(
+            String phoneNumber,
+            ExchangeType exchangeType,
+            boolean forceRefresh
+    ) {
+        String key = toKey(phoneNumber, exchangeType);
+
+        if (!forceRefresh) {
+            long generation = currentGeneration(phoneNumber, exchangeType);
+            Directory cached = directories.get(key);
+            if (cached != null && (cached.generation() != generation
+                    || cached.isExpired(System.currentTimeMillis(), CACHE_TTL_MILLIS))) {
+                directories.remove(key, cached);
+                cached = null;
+            }
+            if (cached == null) {
+                cached = load(phoneNumber, exchangeType, generation);
+            }
+            // 주소가 하나도 없으면 그 사이 발급되었을 수 있으므로 거래소에서 조회
+            if (cached != null && !cached.entries().isEmpty()) {
+                if (cached.isOlderThan(System.currentTimeMillis(), REFRESH_AFTER_MILLIS)) {
+                    refreshAsync(phoneNumber, exchangeType);
+                }
+                return cached.entries();
+            }
+        }
+
+        return refresh(phoneNumber, exchangeType).entries();
+    }
+
+    /**
+     * 입금 주소 생성 결과 중 발급된 주소를 반영합니다.
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @param exchangeType 거래소 타입
+     * @param created 입금 주소 생성 결과
+     */
+    public void record(
+            String phoneNumber,
+            ExchangeType exchangeType,
+            List<ChargeResDTO.CreateDepositAddress> created
+    ) {
+        List<Entry> entries = created.stream()
+                .filter(result -> result.status() == DepositAddressStatus.CREATED)
+                .map(result -> new Entry(result.coinType(), result.netType(), result.address(), result.secondaryAddress()))
+                .toList();
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            save(phoneNumber, exchangeType, entries, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // 다음 조회 때 거래소에서 다시 채워지므로 응답은 그대로 진행
+            log.warn("입금 주소 저장 실패 - exchangeType: {}, 건수: {}", exchangeType, entries.size(), e);
+            directories.remove(toKey(phoneNumber, exchangeType));
+            return;
+        }
+
+        directories.computeIfPresent(toKey(phoneNumber, exchangeType),
+                (key, directory) -> directory.merge(entries));
+    }
+
+    /**
+     * API 키 변경/삭제 후 해당 거래소의 입금 주소를 비웁니다.
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @param exchangeType 거래소 타입
+     */
+    public void invalidate(String phoneNumber, ExchangeType exchangeType) {
+        // 다른 서버의 캐시와 진행 중인 갱신은 세대 번호로 무효화
+        redisUtil.increment(RedisKeySpace.DEPOSIT_ADDRESS_GENERATION.key(exchangeType.name(), phoneNumber), 1);
+        directories.remove(toKey(phoneNumber, exchangeType));
+        memberLookupCache.find(phoneNumber).ifPresent(member ->
+                depositAddressRepository.deleteByMemberIdAndExchangeType(member.id(), exchangeType));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // 만료된 캐시 정리
+    @Scheduled(fixedDelay = 60_000)
+    void purgeExpired() {
+        long now = System.currentTimeMillis();
+        directories.values().removeIf(directory -> directory.isExpired(now, CACHE_TTL_MILLIS));
+    }
+
+    // DB에 저장된 주소로 캐시 채우기 (없으면 null)
+    private Directory load(String phoneNumber, ExchangeType exchangeType, long generation) {
+        List<DepositAddress> saved = depositAddressRepository
+                .findAllByMember_PhoneNumberAndExchangeTypeOrderByIdAsc(phoneNumber, exchangeType);
+        if (saved.isEmpty()) {
+            return null;
+        }
+
+        // 가장 오래 확인하지 않은 주소 기준으로 갱신 시점 판단
+        LocalDateTime oldest = saved.stream()
+                .map(DepositAddress::getUpdatedAt)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+        Directory directory = new Directory(
+                saved.stream().map(Entry::from).toList(),
+                oldest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                System.currentTimeMillis(),
+                generation
+        );
+        cache(toKey(phoneNumber, exchangeType), directory);
+        return directory;
+    }
+
+    // 거래소 전체 주소로 DB와 캐시 교체
+    private Directory refresh(String phoneNumber, ExchangeType exchangeType) {
+        long generation = currentGeneration(phoneNumber, exchangeType);
+        LocalDateTime refreshedAt = LocalDateTime.now();
+        List<Entry> entries = fetch(phoneNumber, exchangeType);
+
+        long now = System.currentTimeMillis();
+        Directory directory = new Directory(entries, now, now, generation);
+
+        // 조회하는 동안 API 키가 바뀌었으면 이전 키의 주소이므로 저장하지 않음
+        if (currentGeneration(phoneNumber, exchangeType) != generation) {
+            log.info("입금 주소 갱신 결과 폐기 (API 키 변경) - exchangeType: {}", exchangeType);
+            return directory;
+        }
+
+        Long memberId = save(phoneNumber, exchangeType, entries, refreshedAt);
+        depositAddressRepository.deleteStale(memberId, exchangeType, refreshedAt);
+
+        cache(toKey(phoneNumber, exchangeType), directory);
+        return directory;
+    }
+
+    private void cache(String key, Directory directory) {
+        // 가득 찼으면 가장 오래 캐시된 항목부터 비움
+        if (directories.size() >= MAX_CACHED_DIRECTORIES && !directories.containsKey(key)) {
+            purgeExpired();
+            while (directories.size() >= MAX_CACHED_DIRECTORIES) {
+                directories.entrySet().stream()
+                        .min(Comparator.comparingLong(entry -> entry.getValue().cachedAtMillis()))
+                        .ifPresent(oldest -> directories.remove(oldest.getKey(), oldest.getValue()));
+            }
+        }
+        directories.put(key, directory);
+    }
+
+    private long currentGeneration(String phoneNumber, ExchangeType exchangeType) {
+        String generation = redisUtil.get(RedisKeySpace.DEPOSIT_ADDRESS_GENERATION.key(exchangeType.name(), phoneNumber));
+        return generation != null ? Long.parseLong(generation) : 0L;
+    }
+
+    private void refreshAsync(String phoneNumber, ExchangeType exchangeType) {
+        String key = toKey(phoneNumber, exchangeType);
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    refresh(phoneNumber, exchangeType);
+                    log.debug("입금 주소 백그라운드 갱신 완료 - key: {}", key);
+                } catch (RuntimeException e) {
+                    // 캐시된 주소를 계속 사용하고 다음 조회에서 재시도
+                    log.warn("입금 주소 백그라운드 갱신 실패 - key: {}", key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(key);
+            throw e;
+        }
+    }
+
+    private Long save(
+            String phoneNumber,
+            ExchangeType exchangeType,
+            List<Entry> entries,
+            LocalDateTime updatedAt
+    ) {
+        Long memberId = memberLookupCache.find(phoneNumber)
+                .map(MemberLookupCache.MemberSummary::id)
+                .orElseThrow(() -> new ChargeException(ChargeErrorCode.EXCHANGE_API_KEY_NOT_FOUND));
+
+        for (Entry entry : entries) {
+            depositAddressRepository.upsert(
+                    memberId,
+                    exchangeType.name(),
+                    entry.currency(),
+                    entry.netType(),
+                    entry.address(),
+                    entry.secondaryAddress(),
+                    updatedAt
+            );
+        }
+        return memberId;
+    }
+
+    private List<Entry> fetch(String phoneNumber, ExchangeType exchangeType) {
+        log.info("거래소 입금 주소 조회 - phoneNumber: {}, exchangeType: {}", phoneNumber, exchangeType);
+        try {
+            List<Entry> entries = switch (exchangeType) {
+                case UPBIT -> upbitGateway.getDepositAddresses(phoneNumber).stream()
+                        .map(address -> new Entry(address.currency(), address.net_type(),
+                                address.deposit_address(), address.secondary_address()))
+                        .toList();
+                case BITHUMB -> bithumbGateway.getDepositAddresses(phoneNumber).stream()
+                        .map(address -> new Entry(address.currency(), address.net_type(),
+                                address.deposit_address(), address.secondary_address()))
+                        .toList();
+            };
+            // 생성 중이라 주소가 아직 없는 항목은 제외
+            return entries.stream()
+                    .filter(entry -> entry.address() != null && !entry.address().isBlank())
+                    .toList();
+        // 거래소 JWT 토큰 오류
+        } catch (GeneralSecurityException e) {
+            throw new ChargeException(ChargeErrorCode.EXCHANGE_API_KEY_NOT_FOUND);
+        // 거래소 JWT 토큰 인증 오류
+        } catch (ExchangeApiException e) {
+            if (e.status() != 401) {
+                throw e;
+            }
+            if (e.getErrorCode() == ExchangeErrorCode.OUT_OF_SCOPE) {
+                throw new ChargeException(ChargeErrorCode.EXCHANGE_FORBIDDEN);
+            }
+            throw new ChargeException(ChargeErrorCode.EXCHANGE_BAD_REQUEST);
+        }
+    }
+
+    private String toKey(String phoneNumber, ExchangeType exchangeType) {
+        return exchangeType.name() + ":" + phoneNumber;
+    }
+
+    /**
+     * 입금 주소 한 건
+     * @param currency 코인 심볼
+     * @param netType 네트워크 타입
+     * @param address 입금 주소
+     * @param secondaryAddress 2차 입금 주소 (메모, 태그 등)
+     */
+    public record Entry(
+            String currency,
+            String netType,
+            String address,
+            String secondaryAddress
+    ) {
+        static Entry from(DepositAddress depositAddress) {
+            return new Entry(
+                    depositAddress.getCurrency(),
+                    depositAddress.getNetType(),
+                    depositAddress.getAddress(),
+                    depositAddress.getSecondaryAddress()
+            );
+        }
+
+        boolean isSameSlot(Entry other) {
+            return Objects.equals(currency, other.currency) && Objects.equals(netType, other.netType);
+        }
+    }
+
+    // 캐시된 주소 목록, 마지막으로 거래소에서 확인한 시각, 캐시에 넣은 시각, 캐시할 때의 세대 번호
+    private record Directory(
+            List<Entry> entries,
+            long refreshedAtMillis,
+            long cachedAtMillis,
+            long generation
+    ) {
+        boolean isOlderThan(long now, long maxAgeMillis) {
+            return now - refreshedAtMillis > maxAgeMillis;
+        }
+
+        boolean isExpired(long now, long ttlMillis) {
+            return now - cachedAtMillis > ttlMillis;
+        }
+
+        // 같은 (코인, 네트워크)는 새 주소로 바꾸고 나머지는 뒤에 추가
+        Directory merge(List<Entry> added) {
+            List<Entry> merged = new ArrayList<>();
+            for (Entry entry : entries) {
+                if (added.stream().noneMatch(entry::isSameSlot)) {
+                    merged.add(entry);
+                }
+            }
+            merged.addAll(added);
+            return new Directory(List.copyOf(merged), refreshedAtMillis, cachedAtMillis, generation);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.scoi.domain.charge.service;
+
+import com.example.scoi.domain.charge.converter.ChargeConverter;
+import com.example.scoi.domain.charge.dto.ChargeResDTO;
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.domain.member.repository.MemberFcmRepository;
+import com.example.scoi.domain.member.repository.MemberRepository;
+import com.example.scoi.global.client.dto.BithumbResDTO;
+import com.example.scoi.global.client.dto.UpbitResDTO;
+import com.example.scoi.global.client.gateway.BithumbGateway;
+import com.example.scoi.global.client.gateway.UpbitGateway;
+import com.example.scoi.global.client.snapshot.AccountSnapshotService;
+import com.example.scoi.global.config.RedisConfig;
+import com.example.scoi.global.redis.RedisKeySpace;
+import com.example.scoi.global.util.FcmUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 원화 충전 완료 감시기
+ * 원화 충전 요청 직후 입금 uuid를 등록해두고, 백그라운드에서 (거래소, 사용자) 단위로 묶어
+ * 입금 리스트 API 한 번으로 상태를 조회합니다.
+ * 상태가 바뀌면 본인에게만 STOMP(/user/queue/deposit/{uuid})로 알리고, 끝나면 FCM 알림을 보낸 뒤 감시를 멈추므로
+ * 클라이언트가 특정 주문 확인하기 API를 반복 호출할 필요가 없습니다.
+ *
+ * 감시 대상은 Redis ZSET(score = 다음 조회 시각)과 해시(감시 정보)에 보관하므로 여러 서버가 나눠서 처리할 수 있고,
+ * 상태 변화가 없으면 조회 간격을 BASE_DELAY부터 MAX_DELAY까지 두 배씩 늘립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DepositStatusWatcher {
+
+    private static final String WATCHING_KEY = RedisKeySpace.DEPOSIT_WATCHING.key();
+    private static final String INFO_KEY = RedisKeySpace.DEPOSIT_WATCHING.key("info");
+    private static final String DESTINATION_PREFIX = "/queue/deposit/";
+    private static final String CURRENCY = "KRW";
+
+    private static final int BATCH_SIZE = 100;
+    private static final long BASE_DELAY_MILLIS = 3_000;
+    private static final long MAX_DELAY_MILLIS = 60_000;
+    // 조회 중인 항목을 다른 서버가 가져가지 않도록 미뤄두는 시간
+    private static final long LEASE_MILLIS = 60_000;
+    // 2차 인증이 끝나지 않고 이 시간이 지나면 감시 중단 (특정 주문 확인하기로 확인)
+    private static final long MAX_WATCH_MILLIS = 30 * 60_000;
+
+    private static final Set<String> TERMINAL_STATES = Set.of("ACCEPTED", "CANCELLED", "REJECTED", "REFUNDED");
+
+    // 조회 시각이 된 항목을 꺼내면서 LEASE 만큼 뒤로 미룸
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, id in ipairs(ids) do
+                redis.call('ZADD', KEYS[1], ARGV[3], id)
+            end
+            return ids
+            """, List.class);
+
+    @Qualifier(RedisConfig.BACKGROUND)
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MemberRepository memberRepository;
+    private final MemberFcmRepository memberFcmRepository;
+    private final UpbitGateway upbitGateway;
+    private final BithumbGateway bithumbGateway;
+    private final AccountSnapshotService accountSnapshotService;
+    private final SimpMessageSendingOperations simpMessageSendingOperations;
+    private final FcmUtil fcmUtil;
+
+    /**
+     * 원화 충전 완료 감시를 시작합니다.
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @param exchangeType 거래소 타입
+     * @param uuid 입금 uuid
+     * @param amount 충전 요청 금액
+     */
+    public void watch(
+            String phoneNumber,
+            ExchangeType exchangeType,
+            String uuid,
+            Long amount
+    ) {
+        if (uuid == null) {
+            return;
+        }
+        Watch watch = new Watch(exchangeType, phoneNumber, uuid, String.valueOf(amount), null, System.currentTimeMillis(), 0);
+        String id = toId(exchangeType, uuid);
+        try {
+            redisTemplate.opsForHash().put(INFO_KEY, id, objectMapper.writeValueAsString(watch));
+        } catch (JsonProcessingException e) {
+            log.warn("[ DepositStatusWatcher ]: 감시 등록 실패 - uuid: {}", uuid, e);
+            return;
+        }
+        redisTemplate.opsForZSet().add(WATCHING_KEY, id, System.currentTimeMillis() + BASE_DELAY_MILLIS);
+        log.info("[ DepositStatusWatcher ]: 원화 충전 감시 등록 - exchangeType: {}, uuid: {}", exchangeType, uuid);
+    }
+
+    @Scheduled(fixedDelayString = "${charge.deposit-watching.interval-millis:1000}")
+    public void poll() {
+        List<String> ids = claim();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        // 같은 API 키끼리 묶어서 한 번에 조회
+        Map<String, List<Watch>> groups = new LinkedHashMap<>();
+        List<Object> values = redisTemplate.opsForHash().multiGet(INFO_KEY, new ArrayList<>(ids));
+        for (int idx = 0; idx < ids.size(); idx++) {
+            Watch watch = read(values.get(idx));
+            if (watch == null) {
+                stopWatching(ids.get(idx));
+                continue;
+            }
+            groups.computeIfAbsent(watch.exchangeType() + ":" + watch.phoneNumber(), k -> new ArrayList<>()).add(watch);
+        }
+        groups.values().forEach(this::refreshGroup);
+    }
+
+    private void refreshGroup(List<Watch> watches) {
+        Watch first = watches.get(0);
+
+        Map<String, DepositStatus> statuses;
+        try {
+            statuses = fetchStatuses(
+                    first.phoneNumber(),
+                    first.exchangeType(),
+                    watches.stream().map(Watch::uuid).toList()
+            );
+        } catch (GeneralSecurityException | RuntimeException e) {
+            log.warn("[ DepositStatusWatcher ]: 입금 상태 조회 실패 - exchangeType: {}, 건수: {}",
+                    first.exchangeType(), watches.size(), e);
+            watches.forEach(watch -> reschedule(watch, watch.state(), false));
+            return;
+        }
+
+        boolean accepted = false;
+        for (Watch watch : watches) {
+            DepositStatus status = statuses.get(watch.uuid());
+            boolean changed = status != null && !Objects.equals(status.state(), watch.state());
+
+            if (changed) {
+                notify(watch, status);
+                accepted |= "ACCEPTED".equals(status.state());
+            }
+
+            String state = changed ? status.state() : watch.state();
+            if (isTerminal(state) || isExpired(watch)) {
+                stopWatching(toId(watch.exchangeType(), watch.uuid()));
+            } else {
+                reschedule(watch, state, changed);
+            }
+        }
+
+        // 원화 잔고가 바뀌었으므로 계좌 스냅샷 제거
+        if (accepted) {
+            accountSnapshotService.evict(first.phoneNumber(), first.exchangeType());
+        }
+    }
+
+    private Map<String, DepositStatus> fetchStatuses(
+            String phoneNumber,
+            ExchangeType exchangeType,
+            List<String> uuids
+    ) throws GeneralSecurityException {
+
+        Map<String, DepositStatus> statuses = new HashMap<>();
+        switch (exchangeType) {
+            case UPBIT -> {
+                for (UpbitResDTO.GetDeposit deposit : upbitGateway.getDeposits(phoneNumber, CURRENCY, uuids)) {
+                    statuses.put(deposit.uuid(), new DepositStatus(normalize(deposit.state()), deposit.done_at()));
+                }
+            }
+            case BITHUMB -> {
+                for (BithumbResDTO.GetDeposit deposit : bithumbGateway.getDeposits(phoneNumber, CURRENCY, uuids)) {
+                    // 빗썸은 취소를 REJECTED로 응답 (특정 주문 확인하기와 동일하게 CANCELLED로 통일)
+                    String state = normalize(deposit.state());
+                    statuses.put(deposit.uuid(), new DepositStatus("REJECTED".equals(state) ? "CANCELLED" : state, deposit.done_at()));
+                }
+            }
+        }
+        return statuses;
+    }
+
+    // 상태 변경 알림 (STOMP + FCM)
+    private void notify(Watch watch, DepositStatus status) {
+        ChargeResDTO.DepositStatus dto = ChargeConverter.toDepositStatus(
+                watch.uuid(), CURRENCY, watch.amount(), status.state(), status.doneAt());
+        simpMessageSendingOperations.convertAndSendToUser(watch.phoneNumber(), DESTINATION_PREFIX + watch.uuid(), dto);
+        log.info("[ DepositStatusWatcher ]: 원화 충전 상태 변경 - uuid: {}, {} -> {}",
+                watch.uuid(), watch.state(), status.state());
+
+        if (isTerminal(status.state())) {
+            memberRepository.findByPhoneNumber(watch.phoneNumber())
+                    .flatMap(memberFcmRepository::findByMember)
+                    .ifPresent(memberFcm -> fcmUtil.sendNotification(
+                            memberFcm.getFcmToken(),
+                            "원화 충전 알림",
+                            watch.amount() + "원 충전이 " + toKorean(status.state()) + "되었습니다."
+                    ));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> claim() {
+        long now = System.currentTimeMillis();
+        List<String> claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(WATCHING_KEY),
+                String.valueOf(now), String.valueOf(BATCH_SIZE), String.valueOf(now + LEASE_MILLIS));
+        return claimed == null ? List.of() : claimed;
+    }
+
+    // 상태가 바뀌면 기본 간격으로, 그대로면 간격을 두 배로
+    private void reschedule(Watch watch, String state, boolean changed) {
+        int attempts = changed ? 0 : watch.attempts() + 1;
+        Watch next = new Watch(watch.exchangeType(), watch.phoneNumber(), watch.uuid(), watch.amount(),
+                state, watch.enrolledAt(), attempts);
+        String id = toId(watch.exchangeType(), watch.uuid());
+        try {
+            redisTemplate.opsForHash().put(INFO_KEY, id, objectMapper.writeValueAsString(next));
+        } catch (JsonProcessingException e) {
+            log.warn("[ DepositStatusWatcher ]: 감시 정보 갱신 실패 - uuid: {}", watch.uuid(), e);
+        }
+        long delay = Math.min(BASE_DELAY_MILLIS << Math.min(attempts, 16), MAX_DELAY_MILLIS);
+        redisTemplate.opsForZSet().add(WATCHING_KEY, id, System.currentTimeMillis() + delay);
+    }
+
+    private void stopWatching(String id) {
+        redisTemplate.opsForZSet().remove(WATCHING_KEY, id);
+        redisTemplate.opsForHash().delete(INFO_KEY, id);
+    }
+
+    private Watch read(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue((String) value, Watch.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[ DepositStatusWatcher ]: 감시 정보 역직렬화 실패", e);
+            return null;
+        }
+    }
+
+    private boolean isExpired(Watch watch) {
+        return System.currentTimeMillis() - watch.enrolledAt() > MAX_WATCH_MILLIS;
+    }
+
+    private boolean isTerminal(String state) {
+        return state != null && TERMINAL_STATES.contains(state);
+    }
+
+    private String normalize(String state) {
+        return state == null ? null : state.toUpperCase();
+    }
+
+    private String toId(ExchangeType exchangeType, String uuid) {
+        return exchangeType.name() + ":" + uuid;
+    }
+
+    private String toKorean(String state) {
+        return switch (state) {
+            case "ACCEPTED" -> "완료";
+            case "CANCELLED" -> "취소";
+            case "REFUNDED" -> "반환";
+            default -> "거절";
+        };
+    }
+
+    // Redis에 보관하는 감시 정보 (state는 마지막으로 확인한 거래소 상태)
+    private record Watch(
+            ExchangeType exchangeType,
+            String phoneNumber,
+            String uuid,
+            String amount,
+            String state,
+            long enrolledAt,
+            int attempts
+    ) {}
+
+    private record DepositStatus(
+            String state,
+            String doneAt
+    ) {}
+}
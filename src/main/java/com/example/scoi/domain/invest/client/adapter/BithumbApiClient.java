@@ -7,8 +7,15 @@ import com.example.scoi.domain.invest.dto.MaxOrderInfoDTO;
 import com.example.scoi.domain.invest.exception.InvestException;
 import com.example.scoi.domain.invest.exception.code.InvestErrorCode;
 import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.domain.member.exception.MemberException;
+import com.example.scoi.global.client.codec.ExchangeCodecs;
 import com.example.scoi.global.client.dto.BithumbReqDTO;
 import com.example.scoi.global.client.dto.BithumbResDTO;
+import com.example.scoi.global.client.exception.ExchangeApiException;
+import com.example.scoi.global.client.rules.MarketRules;
+import com.example.scoi.global.client.rules.MarketRulesStore;
+import com.example.scoi.global.client.snapshot.AccountSnapshot;
+import com.example.scoi.global.client.snapshot.AccountSnapshotService;
 import com.example.scoi.global.util.JwtApiUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,10 +28,7 @@ import java.math.RoundingMode;
 import java.security.GeneralSecurityException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Component
 @RequiredArgsConstructor
@@ -33,6 +37,11 @@ public class BithumbApiClient implements ExchangeApiClient {
     
     private final BithumbFeignClient bithumbFeignClient;
     private final JwtApiUtil jwtApiUtil;
+    private final AccountSnapshotService accountSnapshotService;
+    private final MarketRulesStore marketRulesStore;
+
+    // 빗썸 기본 최소 주문 금액 (마켓 규칙에 없는 경우)
+    private static final BigDecimal DEFAULT_MIN_ORDER_AMOUNT = new BigDecimal("5000");
     
     @Override
     public MaxOrderInfoDTO getMaxOrderInfo(String phoneNumber, ExchangeType exchangeType, String coinType, String unitPrice, String orderType, String side) {
@@ -40,22 +49,15 @@ public class BithumbApiClient implements ExchangeApiClient {
             // coinType에서 실제 코인 추출 (KRW-USDC -> USDC, USDC -> USDC, KRW -> KRW)
             String targetCoin = extractCoinFromCoinType(coinType);
             
-            String authorization = jwtApiUtil.createBithumbJwt(phoneNumber, null, null);
             log.info("빗썸 최대 주문 정보 조회 API 호출 시작 - phoneNumber: {}, coinType: {} (대상 코인: {}), unitPrice: {}, orderType: {}, side: {}", 
                     phoneNumber, coinType, targetCoin, unitPrice, orderType, side);
             
-            // 전체 계좌 조회
-            BithumbResDTO.BalanceResponse[] accounts = bithumbFeignClient.getAccounts(authorization);
-            List<BithumbResDTO.BalanceResponse> accountList = Arrays.asList(accounts);
+            // 계좌 스냅샷 조회 (같은 사용자의 동시 계좌 조회는 한 번의 API 호출로 합쳐짐)
+            AccountSnapshot snapshot = accountSnapshotService.getSnapshot(phoneNumber, ExchangeType.BITHUMB);
             
-            log.info("빗썸 최대 주문 정보 조회 API 응답 수신 - 계좌 개수: {}", accountList.size());
-            // 디버깅: 실제 응답 값 확인
-            for (BithumbResDTO.BalanceResponse account : accountList) {
-                log.info("계좌 정보 - currency: {}, balance: {}, locked: {}", 
-                        account.currency(), account.balance(), account.locked());
-            }
+            log.info("빗썸 최대 주문 정보 조회 API 응답 수신 - 계좌 개수: {}", snapshot.balances().size());
             
-            return parseMaxOrderInfoResponse(accountList, targetCoin, coinType, unitPrice, orderType, side);
+            return parseMaxOrderInfoResponse(snapshot, targetCoin, coinType, unitPrice, orderType, side);
             
         } catch (InvestException e) {
             // InvestException은 그대로 전파 (INSUFFICIENT_COIN_AMOUNT, MINIMUM_ORDER_AMOUNT 등)
@@ -78,7 +80,7 @@ public class BithumbApiClient implements ExchangeApiClient {
      * unitPrice가 있으면 balance / unitPrice로 최대 주문 수량(maxQuantity)
      * 시장가 주문인 경우: 시장가 매수는 KRW 잔액, 시장가 매도는 코인 잔액을 maxQuantity로 반환
      */
-    private MaxOrderInfoDTO parseMaxOrderInfoResponse(List<BithumbResDTO.BalanceResponse> accounts, String targetCoin, String coinType, String unitPrice, String orderType, String side) {
+    private MaxOrderInfoDTO parseMaxOrderInfoResponse(AccountSnapshot snapshot, String targetCoin, String coinType, String unitPrice, String orderType, String side) {
         try {
             String balance = "0";
             String targetCurrency;
@@ -119,29 +121,22 @@ public class BithumbApiClient implements ExchangeApiClient {
             }
             
             // 해당 currency로 계좌 찾기
-            for (BithumbResDTO.BalanceResponse account : accounts) {
-                if (targetCurrency.equals(account.currency())) {
-                    log.info("해당 currency 계좌 발견 - currency: {} (조회 목적: {}), balance: {}, locked: {}", 
-                            account.currency(), targetCoin, account.balance(), account.locked());
-                    
-                    // balance - locked로 사용 가능 잔고 계산
-                    if (account.balance() != null && !account.balance().isEmpty()) {
-                        try {
-                            BigDecimal balanceDecimal = new BigDecimal(account.balance());
-                            BigDecimal lockedDecimal = account.locked() != null && !account.locked().isEmpty() 
-                                    ? new BigDecimal(account.locked()) 
-                                    : BigDecimal.ZERO;
-                            BigDecimal availableDecimal = balanceDecimal.subtract(lockedDecimal);
-                            balance = availableDecimal.toPlainString();
-                            log.info("사용 가능 잔고 계산 - balance: {}, locked: {}, available: {}", 
-                                    account.balance(), account.locked(), balance);
-                        } catch (NumberFormatException e) {
-                            // 계산 실패 시 balance 그대로 사용
-                            balance = account.balance();
-                            log.warn("사용 가능 잔고 계산 실패, balance 사용: {}", balance);
-                        }
+            AccountSnapshot.Balance account = snapshot.find(targetCurrency).orElse(null);
+            if (account != null) {
+                log.info("해당 currency 계좌 발견 - currency: {} (조회 목적: {}), balance: {}, locked: {}", 
+                        account.currency(), targetCoin, account.balance(), account.locked());
+                
+                // balance - locked로 사용 가능 잔고 계산
+                if (account.balance() != null && !account.balance().isEmpty()) {
+                    try {
+                        balance = account.balanceValue().subtract(account.lockedValue()).toPlainString();
+                        log.info("사용 가능 잔고 계산 - balance: {}, locked: {}, available: {}", 
+                                account.balance(), account.locked(), balance);
+                    } catch (NumberFormatException e) {
+                        // 계산 실패 시 balance 그대로 사용
+                        balance = account.balance();
+                        log.warn("사용 가능 잔고 계산 실패, balance 사용: {}", balance);
                     }
-                    break;
                 }
             }
             
@@ -157,12 +152,11 @@ public class BithumbApiClient implements ExchangeApiClient {
                         String tickerResponse = bithumbFeignClient.getTicker(market);
                         
                         if (tickerResponse != null && !tickerResponse.isEmpty()) {
-                            ObjectMapper objectMapper = new ObjectMapper();
                             BithumbResDTO.Ticker ticker = null;
                             
                             // 빗썸 API는 배열을 반환할 수 있으므로 배열로 파싱 시도
                             try {
-                                BithumbResDTO.Ticker[] tickers = objectMapper.readValue(tickerResponse, BithumbResDTO.Ticker[].class);
+                                BithumbResDTO.Ticker[] tickers = ExchangeCodecs.BITHUMB_TICKERS.readValue(tickerResponse);
                                 if (tickers != null && tickers.length > 0) {
                                     ticker = tickers[0];
                                     log.debug("빗썸 현재가 조회 - 배열 형식으로 파싱 성공");
@@ -170,7 +164,7 @@ public class BithumbApiClient implements ExchangeApiClient {
                             } catch (Exception arrayException) {
                                 // 배열 파싱 실패 시 단일 객체로 파싱 시도
                                 try {
-                                    ticker = objectMapper.readValue(tickerResponse, BithumbResDTO.Ticker.class);
+                                    ticker = ExchangeCodecs.BITHUMB_TICKER.readValue(tickerResponse);
                                     log.debug("빗썸 현재가 조회 - 단일 객체 형식으로 파싱 성공");
                                 } catch (Exception singleException) {
                                     log.error("빗썸 현재가 조회 - JSON 파싱 실패 (배열/단일 객체 모두 실패): {}", singleException.getMessage());
@@ -211,19 +205,18 @@ public class BithumbApiClient implements ExchangeApiClient {
                             String tickerResponse = bithumbFeignClient.getTicker(market);
                             
                             if (tickerResponse != null && !tickerResponse.isEmpty()) {
-                                ObjectMapper objectMapper = new ObjectMapper();
                                 BithumbResDTO.Ticker ticker = null;
                                 
                                 // 빗썸 API는 배열을 반환할 수 있으므로 배열로 파싱 시도
                                 try {
-                                    BithumbResDTO.Ticker[] tickers = objectMapper.readValue(tickerResponse, BithumbResDTO.Ticker[].class);
+                                    BithumbResDTO.Ticker[] tickers = ExchangeCodecs.BITHUMB_TICKERS.readValue(tickerResponse);
                                     if (tickers != null && tickers.length > 0) {
                                         ticker = tickers[0];
                                     }
                                 } catch (Exception arrayException) {
                                     // 배열 파싱 실패 시 단일 객체로 파싱 시도
                                     try {
-                                        ticker = objectMapper.readValue(tickerResponse, BithumbResDTO.Ticker.class);
+                                        ticker = ExchangeCodecs.BITHUMB_TICKER.readValue(tickerResponse);
                                     } catch (Exception singleException) {
                                         log.warn("빗썸 시장가 매도 현재가 조회 JSON 파싱 실패: {}", singleException.getMessage());
                                     }
@@ -232,7 +225,7 @@ public class BithumbApiClient implements ExchangeApiClient {
                                 if (ticker != null && ticker.trade_price() != null && ticker.trade_price() > 0) {
                                     BigDecimal currentPrice = BigDecimal.valueOf(ticker.trade_price());
                                     BigDecimal orderAmount = currentPrice.multiply(balanceDecimal);
-                                    BigDecimal minOrderAmount = new BigDecimal("5000"); // 빗썸 기본 최소 주문 금액
+                                    BigDecimal minOrderAmount = getMinimumAskAmount(coinType);
                                     
                                     if (orderAmount.compareTo(minOrderAmount) < 0) {
                                         log.warn("빗썸 시장가 매도 - 최소 주문 금액 미만 - 주문 금액: {}, 최소 주문 금액: {}", 
@@ -327,7 +320,7 @@ public class BithumbApiClient implements ExchangeApiClient {
                                 if (unitPriceDecimal.compareTo(BigDecimal.ZERO) > 0) {
                                     // 최소 주문 금액 검증: unitPrice * balance >= 5000원
                                     BigDecimal maxOrderAmount = unitPriceDecimal.multiply(balanceDecimal);
-                                    BigDecimal minOrderAmount = new BigDecimal("5000"); // 빗썸 기본 최소 주문 금액
+                                    BigDecimal minOrderAmount = getMinimumAskAmount(coinType);
                                     
                                     if (maxOrderAmount.compareTo(minOrderAmount) < 0) {
                                         log.warn("빗썸 지정가 매도 - 최소 주문 금액 미만 - 주문 금액: {}, 최소 주문 금액: {}", 
@@ -472,14 +465,18 @@ public class BithumbApiClient implements ExchangeApiClient {
             log.info("빗썸 주문 가능 여부 확인 API 호출 시작 - phoneNumber: {}, market: {}, side: {}", 
                     phoneNumber, market, side);
             
-            // 주문 가능 정보 조회 
-            BithumbResDTO.OrderChance orderChance = getOrderChance(phoneNumber, market);
+            // 마켓 규칙 조회 (캐시에 없을 때만 주문 가능 정보 API 호출)
+            MarketRules rules = getMarketRules(phoneNumber, market);
             
-            // 주문 가능 여부 검증 
-            validateOrderAvailability(market, side, orderType, price, volume, orderChance);
+            // 주문 가능 여부 검증 (잔고는 계좌 스냅샷 기준)
+            BigDecimal balance = getAvailableBalance(phoneNumber, rules, side);
+            validateOrderAvailability(market, side, orderType, price, volume, rules, balance);
             
             log.info("빗썸 주문 가능 여부 확인 완료 - 주문 가능");
             
+        } catch (MemberException e) {
+            log.error("빗썸 API 키를 찾을 수 없습니다 - phoneNumber: {}", phoneNumber, e);
+            throw new InvestException(InvestErrorCode.API_KEY_NOT_FOUND);
         } catch (InvestException e) {
             throw e;
         } catch (Exception e) {
@@ -488,70 +485,28 @@ public class BithumbApiClient implements ExchangeApiClient {
         }
     }
    
-    private BithumbResDTO.OrderChance getOrderChance(String phoneNumber, String market) {
+    private MarketRules getMarketRules(String phoneNumber, String market) {
         try {
             String convertedMarket = convertMarketForBithumb(market);
-            String query = "market=" + convertedMarket;
-            log.info("빗썸 주문 가능 정보 조회 - 원본 마켓: {}, 변환된 마켓: {}, query: {}", market, convertedMarket, query);
-            //빗썸용 JWT 생성
-            String authorization = jwtApiUtil.createBithumbJwt(phoneNumber, query, null);
-            
-            // Feign Client를 통한 API 호출
-            // Feign Client가 DTO로 변환
-            log.info("빗썸 API 호출 시작 - market: {}", convertedMarket);
-            BithumbResDTO.OrderChance orderChance = bithumbFeignClient.getOrderChance(authorization, convertedMarket);
-            
-            log.info("빗썸 API 응답 수신 완료");
+            log.info("빗썸 마켓 규칙 조회 - 원본 마켓: {}, 변환된 마켓: {}", market, convertedMarket);
             
-            // 원본 JSON 응답 확인을 위해 ObjectMapper로 직렬화 (디버깅용)
-            try {
-                com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                String jsonResponse = objectMapper.writeValueAsString(orderChance);
-                log.info("빗썸 API 응답 원본 JSON: {}", jsonResponse);
-            } catch (Exception e) {
-                log.warn("빗썸 API 응답 JSON 직렬화 실패: {}", e.getMessage());
-            }
-            
-            // 전체 응답 구조 확인 (디버깅용)
-            log.info("빗썸 API 응답 전체 구조 - orderChance: {}", orderChance);
-            log.info("빗썸 API 응답 - bid_fee: {}, ask_fee: {}, market: {}, bid: {}, ask: {}, bid_account: {}, ask_account: {}", 
-                    orderChance.bid_fee(), orderChance.ask_fee(), orderChance.market(), 
-                    orderChance.bid(), orderChance.ask(), orderChance.bid_account(), orderChance.ask_account());
-            
-            // API 응답에서 실제 마켓 형식 확인
-            if (orderChance.market() != null && orderChance.market().id() != null) {
-                log.info("빗썸 API 응답 market.id: {} (요청한 market: {})", orderChance.market().id(), convertedMarket);
-            }
-            
-            // bid 객체 확인 (최소 주문 금액 검증용)
-            if (orderChance.bid() != null) {
-                log.info("빗썸 API 응답 bid 객체 존재 - currency: {}, min_total: {}", 
-                        orderChance.bid().currency(), orderChance.bid().min_total());
-            } else {
-                log.warn("빗썸 API 응답 bid 객체가 null입니다! - 최소 주문 금액 검증 불가");
-                // ask 객체도 확인
-                if (orderChance.ask() != null) {
-                    log.info("빗썸 API 응답 ask 객체 존재 - currency: {}, min_total: {}", 
-                            orderChance.ask().currency(), orderChance.ask().min_total());
-                } else {
-                    log.warn("빗썸 API 응답 ask 객체도 null입니다!");
-                }
-            }
-            
-            if (orderChance.bid_account() != null || orderChance.ask_account() != null) {
-                return orderChance;
-            }
-            
-            log.error("빗썸 API 응답 형식이 예상과 다름. 응답 본문: {}", orderChance);
-            throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
+            MarketRules rules = marketRulesStore.getRules(phoneNumber, ExchangeType.BITHUMB, convertedMarket);
+            log.debug("빗썸 마켓 규칙 - market: {}, bidFee: {}, askFee: {}, bidMinTotal: {}, askMinTotal: {}",
+                    convertedMarket, rules.bidFee(), rules.askFee(), rules.bidMinTotal(), rules.askMinTotal());
+            return rules;
             
         } catch (GeneralSecurityException e) {
             log.error("빗썸 JWT 생성 실패", e);
             throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-        } catch (feign.FeignException.Unauthorized e) {
+        } catch (ExchangeApiException e) {
             // 401 Unauthorized: API 키 권한 부족
-            log.error("빗썸 API 키 권한 부족", e);
-            throw new InvestException(InvestErrorCode.INSUFFICIENT_API_PERMISSION);
+            if (e.status() == 401) {
+                log.error("빗썸 API 키 권한 부족 - errorName: {}", e.getErrorName());
+                throw new InvestException(InvestErrorCode.INSUFFICIENT_API_PERMISSION);
+            }
+            throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
+        } catch (MemberException e) {
+            throw e;
         } catch (Exception e) {
             log.error("빗썸 주문 가능 정보 조회 실패", e);
             throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
@@ -596,38 +551,39 @@ public class BithumbApiClient implements ExchangeApiClient {
         return "KRW-" + market;
     }
   
+    // 주문 방향에 필요한 통화의 주문 가능 잔고 (계좌 스냅샷 기준)
+    private BigDecimal getAvailableBalance(
+            String phoneNumber,
+            MarketRules rules,
+            String side
+    ) throws GeneralSecurityException {
+        String currency = "bid".equals(side) ? rules.bidCurrency() : rules.askCurrency();
+        return accountSnapshotService.getSnapshot(phoneNumber, ExchangeType.BITHUMB)
+                .find(currency)
+                .map(AccountSnapshot.Balance::balanceValue)
+                .orElse(BigDecimal.ZERO);
+    }
+  
     private void validateOrderAvailability(
             String market,
             String side,
             String orderType,
             String price,
             String volume,
-            BithumbResDTO.OrderChance orderChance
+            MarketRules rules,
+            BigDecimal balanceDecimal
     ) {
-        String balance;
-        
-        // 잔고 정보 추출
-        if ("bid".equals(side)) {
-            BithumbResDTO.BidAccount bidAccount = orderChance.bid_account();
-            if (bidAccount != null && bidAccount.balance() != null) {
-                balance = bidAccount.balance();
-            } else {
-                log.error("빗썸 응답에 bid_account.balance가 없습니다.");
-                throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-            }
-        } else if ("ask".equals(side)) {
-            BithumbResDTO.AskAccount askAccount = orderChance.ask_account();
-            if (askAccount != null && askAccount.balance() != null) {
-                balance = askAccount.balance();
-            } else {
-                log.error("빗썸 응답에 ask_account.balance가 없습니다.");
-                throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-            }
-        } else {
+        if (!"bid".equals(side) && !"ask".equals(side)) {
             throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
         }
-        
-        BigDecimal balanceDecimal = new BigDecimal(balance);
+
+        // 마켓에서 지원하지 않는 주문 방식
+        if (!rules.supports(side, orderType)) {
+            log.warn("지원하지 않는 주문 방식 - market: {}, side: {}, orderType: {}", market, side, orderType);
+            throw new InvestException(InvestErrorCode.UNSUPPORTED_ORDER_TYPE);
+        }
+
+        String balance = balanceDecimal.toPlainString();
         
         // 주문 가능 여부 검증 (불가능하면 예외 발생)
         String requiredAmountStr = "";
@@ -661,43 +617,12 @@ public class BithumbApiClient implements ExchangeApiClient {
             log.info("빗썸 최소 주문 금액 검증 시작 - 주문 금액: {}", requiredAmount);
             
             // 빗썸 API 문서에 따르면 market.bid.min_total 또는 market.ask.min_total에 최소 주문 금액이 있음
-            BithumbResDTO.Bid bid = null;
-            String minTotalStr = null;
-            
-            // 1순위: orderChance.bid() 확인
-            if (orderChance.bid() != null && orderChance.bid().min_total() != null && !orderChance.bid().min_total().isEmpty()) {
-                bid = orderChance.bid();
-                minTotalStr = bid.min_total();
-                log.info("빗썸 최소 주문 금액 검증 - orderChance.bid()에서 조회: {}", minTotalStr);
-            }
-            // 2순위: orderChance.market().bid() 확인
-            else if (orderChance.market() != null && orderChance.market().bid() != null 
-                    && orderChance.market().bid().min_total() != null 
-                    && !orderChance.market().bid().min_total().isEmpty()) {
-                bid = orderChance.market().bid();
-                minTotalStr = bid.min_total();
-                log.info("빗썸 최소 주문 금액 검증 - orderChance.market().bid()에서 조회: {}", minTotalStr);
-            }
-            
-            log.info("빗썸 최소 주문 금액 검증 - bid 객체: {}, min_total: {}", 
-                    bid != null ? "존재" : "null", 
-                    minTotalStr != null ? minTotalStr : "null");
-            
-            BigDecimal minTotal;
-            String minTotalSource;
-            
-            if (minTotalStr != null && !minTotalStr.isEmpty()) {
-                // API에서 제공하는 최소 주문 금액 사용
-                minTotal = new BigDecimal(minTotalStr);
-                minTotalSource = "API 응답";
-                log.info("빗썸 최소 주문 금액 검증 - API 응답에서 최소 주문 금액 조회: {}", minTotal);
-            } else {
+            BigDecimal minTotal = rules.bidMinTotal();
+            String minTotalSource = "마켓 규칙";
+            if (minTotal == null) {
                 // 빗썸 API가 최소 주문 금액을 제공하지 않으므로 기본값 사용 (5000원)
-                minTotal = new BigDecimal("5000");
+                minTotal = DEFAULT_MIN_ORDER_AMOUNT;
                 minTotalSource = "기본값";
-                log.warn("빗썸 API 응답에 최소 주문 금액 정보가 없어 기본값(5000원) 사용 - bid: {}, min_total: {}", 
-                        bid != null ? "존재" : "null", 
-                        minTotalStr != null ? minTotalStr : "null 또는 빈 문자열");
             }
             
             log.info("빗썸 최소 주문 금액 검증 - 주문 금액: {}, 최소 주문 금액: {} ({})", requiredAmount, minTotal, minTotalSource);
@@ -712,14 +637,16 @@ public class BithumbApiClient implements ExchangeApiClient {
             }
             log.info("빗썸 최소 주문 금액 검증 통과 - 주문 금액: {} >= 최소 주문 금액: {}", requiredAmount, minTotal);
             
-            // 2단계: 잔고 검증 (최소 주문 금액을 넘는다면, 잔고로 살 수 있는지 확인)
-            if (balanceDecimal.compareTo(requiredAmount) < 0) {
+            // 2단계: 잔고 검증 (최소 주문 금액을 넘는다면, 수수료를 포함해 잔고로 살 수 있는지 확인)
+            BigDecimal bidFee = rules.bidFee();
+            BigDecimal requiredWithFee = requiredAmount.add(requiredAmount.multiply(bidFee));
+            if (balanceDecimal.compareTo(requiredWithFee) < 0) {
                 // 잔고 부족 시 400 에러 반환
-                BigDecimal shortage = requiredAmount.subtract(balanceDecimal);
-                log.warn("계좌 잔고 부족 - 잔고: {}, 필요: {}, 부족: {}", balance, requiredAmount, shortage);
+                BigDecimal shortage = requiredWithFee.subtract(balanceDecimal);
+                log.warn("계좌 잔고 부족 - 잔고: {}, 필요(수수료 {} 포함): {}, 부족: {}", balance, bidFee, requiredWithFee, shortage);
                 Map<String, String> errorDetails = Map.of(
                     "balance", balance,
-                    "requiredAmount", requiredAmountStr,
+                    "requiredAmount", requiredWithFee.toPlainString(),
                     "shortage", shortage.toPlainString()
                 );
                 throw new InvestException(InvestErrorCode.INSUFFICIENT_BALANCE, errorDetails);
@@ -751,17 +678,16 @@ public class BithumbApiClient implements ExchangeApiClient {
                     String tickerResponse = bithumbFeignClient.getTicker(convertedMarket);
 
                     if (tickerResponse != null && !tickerResponse.isEmpty()) {
-                        ObjectMapper objectMapper = new ObjectMapper();
                         BithumbResDTO.Ticker ticker = null;
 
                         try {
-                            BithumbResDTO.Ticker[] tickers = objectMapper.readValue(tickerResponse, BithumbResDTO.Ticker[].class);
+                            BithumbResDTO.Ticker[] tickers = ExchangeCodecs.BITHUMB_TICKERS.readValue(tickerResponse);
                             if (tickers != null && tickers.length > 0) {
                                 ticker = tickers[0];
                             }
                         } catch (Exception arrayException) {
                             try {
-                                ticker = objectMapper.readValue(tickerResponse, BithumbResDTO.Ticker.class);
+                                ticker = ExchangeCodecs.BITHUMB_TICKER.readValue(tickerResponse);
                             } catch (Exception singleException) {
                                 log.warn("빗썸 시장가 매도 현재가 조회 JSON 파싱 실패 - 최소 주문 금액 검증을 생략합니다: {}", singleException.getMessage());
                             }
@@ -789,39 +715,12 @@ public class BithumbApiClient implements ExchangeApiClient {
             // 지정가/시장가 매도: 최소 주문 금액 검증 (orderAmount가 계산된 경우에만)
             if (orderAmount != null) {
                 // 빗썸 API 문서에 따르면 market.ask.min_total에 최소 주문 금액이 있음
-                BithumbResDTO.Ask ask = null;
-                String minTotalStr = null;
-                
-                // 1순위: orderChance.ask() 확인
-                if (orderChance.ask() != null && orderChance.ask().min_total() != null && !orderChance.ask().min_total().isEmpty()) {
-                    ask = orderChance.ask();
-                    minTotalStr = ask.min_total();
-                    log.info("빗썸 매도 최소 주문 금액 검증 - orderChance.ask()에서 조회: {}", minTotalStr);
-                }
-                // 2순위: orderChance.market().ask() 확인
-                else if (orderChance.market() != null && orderChance.market().ask() != null 
-                        && orderChance.market().ask().min_total() != null 
-                        && !orderChance.market().ask().min_total().isEmpty()) {
-                    ask = orderChance.market().ask();
-                    minTotalStr = ask.min_total();
-                    log.info("빗썸 매도 최소 주문 금액 검증 - orderChance.market().ask()에서 조회: {}", minTotalStr);
-                }
-                
-                BigDecimal minTotal;
-                String minTotalSource;
-                
-                if (minTotalStr != null && !minTotalStr.isEmpty()) {
-                    // API에서 제공하는 최소 주문 금액 사용
-                    minTotal = new BigDecimal(minTotalStr);
-                    minTotalSource = "API 응답";
-                    log.info("빗썸 매도 최소 주문 금액 검증 - API 응답에서 최소 주문 금액 조회: {}", minTotal);
-                } else {
+                BigDecimal minTotal = rules.askMinTotal();
+                String minTotalSource = "마켓 규칙";
+                if (minTotal == null) {
                     // 빗썸 API가 최소 주문 금액을 제공하지 않으므로 기본값 사용 (5000원)
-                    minTotal = new BigDecimal("5000");
+                    minTotal = DEFAULT_MIN_ORDER_AMOUNT;
                     minTotalSource = "기본값";
-                    log.warn("빗썸 API 응답에 최소 주문 금액 정보가 없어 기본값(5000원) 사용 - ask: {}, min_total: {}", 
-                            ask != null ? "존재" : "null", 
-                            minTotalStr != null ? minTotalStr : "null 또는 빈 문자열");
                 }
                 
                 log.info("빗썸 매도 최소 주문 금액 검증 - 주문 금액: {}, 최소 주문 금액: {} ({})", orderAmount, minTotal, minTotalSource);
@@ -921,6 +820,9 @@ public class BithumbApiClient implements ExchangeApiClient {
 
             log.info("빗썸 주문 생성 완료 - uuid: {}, market: {}", response.uuid(), response.market());
 
+            // 주문으로 잔고가 묶였으므로 계좌 스냅샷 제거
+            accountSnapshotService.evict(phoneNumber, ExchangeType.BITHUMB);
+
             // 응답을 InvestResDTO.OrderDTO로 변환
             return new InvestResDTO.OrderDTO(
                     response.uuid(),
@@ -966,6 +868,9 @@ public class BithumbApiClient implements ExchangeApiClient {
 
             log.info("빗썸 주문 취소 완료 - uuid: {}", response.uuid());
 
+            // 주문 취소로 잔고가 풀렸으므로 계좌 스냅샷 제거
+            accountSnapshotService.evict(phoneNumber, ExchangeType.BITHUMB);
+
             // 응답을 InvestResDTO.CancelOrderDTO로 변환
             return new InvestResDTO.CancelOrderDTO(
                     response.uuid(),
@@ -987,6 +892,13 @@ public class BithumbApiClient implements ExchangeApiClient {
         }
     }
 
+    // 캐시된 마켓 규칙의 최소 매도 금액 (없으면 기본값, 거래소 호출 없음)
+    private BigDecimal getMinimumAskAmount(String coinType) {
+        return marketRulesStore.peek(ExchangeType.BITHUMB, convertMarketForBithumb(coinType))
+                .map(MarketRules::askMinTotal)
+                .orElse(DEFAULT_MIN_ORDER_AMOUNT);
+    }
+
     private LocalDateTime parseCreatedAt(String createdAt) {
         if (createdAt == null || createdAt.isEmpty()) {
             return LocalDateTime.now();
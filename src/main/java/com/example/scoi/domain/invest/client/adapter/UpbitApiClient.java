@@ -8,14 +8,19 @@ import com.example.scoi.domain.invest.exception.InvestException;
 import com.example.scoi.domain.invest.exception.code.InvestErrorCode;
 import com.example.scoi.domain.member.enums.ExchangeType;
 import com.example.scoi.domain.member.exception.MemberException;
-import com.example.scoi.global.client.dto.ClientErrorDTO;
 import com.example.scoi.global.client.dto.UpbitReqDTO;
 import com.example.scoi.global.client.dto.UpbitResDTO;
+import com.example.scoi.global.client.exception.ExchangeApiException;
+import com.example.scoi.global.client.exception.ExchangeErrorCode;
+import com.example.scoi.global.client.rules.MarketRules;
+import com.example.scoi.global.client.rules.MarketRulesStore;
+import com.example.scoi.global.client.snapshot.AccountSnapshot;
+import com.example.scoi.global.client.snapshot.AccountSnapshotService;
 import com.example.scoi.global.util.JwtApiUtil;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -23,8 +28,10 @@ import java.math.RoundingMode;
 import java.security.GeneralSecurityException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -33,6 +40,19 @@ public class UpbitApiClient implements ExchangeApiClient {
     
     private final UpbitFeignClient upbitFeignClient;
     private final JwtApiUtil jwtApiUtil; 
+    private final AccountSnapshotService accountSnapshotService;
+    private final MarketRulesStore marketRulesStore;
+
+    // 최소 주문 금액 미만 / 호가 제한 초과 에러
+    private static final Set<ExchangeErrorCode> MIN_TOTAL_ERRORS =
+            EnumSet.of(ExchangeErrorCode.UNDER_MIN_TOTAL, ExchangeErrorCode.INVALID_MIN_TOTAL);
+    private static final Set<ExchangeErrorCode> PRICE_LIMIT_ERRORS =
+            EnumSet.of(ExchangeErrorCode.OVER_PRICE_LIMIT_BID, ExchangeErrorCode.OVER_PRICE_LIMIT_ASK);
+
+    // true면 실제 주문 대신 주문 생성 테스트 API(/v1/orders/test)만 호출
+    @Value("${upbit.order.dry-run:false}")
+    private boolean orderDryRun;
+
     
     @Override
     public MaxOrderInfoDTO getMaxOrderInfo(String phoneNumber, ExchangeType exchangeType, String coinType, String unitPrice, String orderType, String side) {
@@ -40,21 +60,15 @@ public class UpbitApiClient implements ExchangeApiClient {
             // coinType을 업비트 형식으로 정규화 (KRW-BTC 형식으로 통일)
             String normalizedCoinType = normalizeCoinType(coinType);
             
-            String authorization = jwtApiUtil.createUpBitJwt(phoneNumber, null, null);
             log.info("업비트 최대 주문 정보 조회 API 호출 시작 - phoneNumber: {}, coinType: {} (정규화: {}), unitPrice: {}, orderType: {}, side: {}",
                     phoneNumber, coinType, normalizedCoinType, unitPrice, orderType, side);
             
-            // Feign Client가 자동으로 List<Account>로 변환해줌 (ObjectMapper 불필요!)
-            List<UpbitResDTO.Account> accounts = upbitFeignClient.getAccounts(authorization);
+            // 계좌 스냅샷 조회 (같은 사용자의 동시 계좌 조회는 한 번의 API 호출로 합쳐짐)
+            AccountSnapshot snapshot = accountSnapshotService.getSnapshot(phoneNumber, ExchangeType.UPBIT);
             
-            log.info("업비트 최대 주문 정보 조회 API 응답 수신 - 계좌 개수: {}", accounts.size());
-            // 디버깅: 실제 응답 값 확인
-            for (UpbitResDTO.Account account : accounts) {
-                log.info("계좌 정보 - currency: {}, balance: {}, locked: {}, available: {}", 
-                        account.currency(), account.balance(), account.locked(), account.available());
-            }
+            log.info("업비트 최대 주문 정보 조회 API 응답 수신 - 계좌 개수: {}", snapshot.balances().size());
             
-            return parseMaxOrderInfoResponse(accounts, normalizedCoinType, unitPrice, orderType, side);
+            return parseMaxOrderInfoResponse(snapshot, normalizedCoinType, unitPrice, orderType, side);
             
         } catch (MemberException e) {
             log.error("업비트 API 키를 찾을 수 없습니다 - phoneNumber: {}", phoneNumber, e);
@@ -62,81 +76,8 @@ public class UpbitApiClient implements ExchangeApiClient {
         } catch (GeneralSecurityException e) {
             log.error("업비트 JWT 생성 실패", e);
             throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-        } catch (FeignException.BadRequest | FeignException.NotFound e) {
-            String errorBody = e.contentUTF8();
-
-            // 응답 본문이 있고 JSON 형식인 경우에만 파싱 시도
-            if (errorBody != null && !errorBody.isEmpty() && errorBody.trim().startsWith("{")) {
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    ClientErrorDTO.Errors error = objectMapper.readValue(errorBody, ClientErrorDTO.Errors.class);
-
-                    // API 키를 찾을 수 없는 경우
-                    if (e instanceof FeignException.NotFound) {
-                        throw new InvestException(InvestErrorCode.API_KEY_NOT_FOUND);
-                    }
-
-                    // 나머지 400 에러
-                    throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-                } catch (Exception parseException) {
-                    // JSON 파싱 실패 시 로깅하고 원본 FeignException을 그대로 던짐
-                    log.error("UpbitApiClient - 최대 주문 개수 조회 에러 응답 파싱 실패 - status: {}, responseBody: {}, 파싱 에러: {}",
-                            e.status(), errorBody, parseException.getMessage());
-                    throw e; // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-                }
-            } else {
-                // 응답 본문이 없거나 JSON이 아닌 경우 - 원본 FeignException을 그대로 던짐
-                log.warn("UpbitApiClient - 최대 주문 개수 조회 에러 응답 본문이 비어있거나 JSON 형식이 아님 - status: {}, responseBody: {}",
-                        e.status(), errorBody);
-                throw e; // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-            }
-        } catch (FeignException.Unauthorized e) {
-            String errorBody = e.contentUTF8();
-
-            log.error("=== 업비트 API 인증 실패 (401 Unauthorized) ===");
-            log.error("phoneNumber: {}, status: {}", phoneNumber, e.status());
-            log.error("응답 본문: {}", errorBody);
-
-            // 응답 본문이 있고 JSON 형식인 경우에만 파싱 시도
-            if (errorBody != null && !errorBody.isEmpty() && errorBody.trim().startsWith("{")) {
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    ClientErrorDTO.Errors error = objectMapper.readValue(errorBody, ClientErrorDTO.Errors.class);
-
-                    if (error != null && error.error() != null) {
-                        String errorName = error.error().name();
-                        String errorMessage = error.error().message();
-
-                        log.error("업비트 API 에러 - errorName: {}, errorMessage: {}", errorName, errorMessage);
-
-                        // 권한이 부족한 경우 (API Key 권한 문제)
-                        if ("out_of_scope".equals(errorName)) {
-                            log.error("⚠️ API Key 권한 부족 - 업비트에서 설정한 API Key 권한이 부족합니다.");
-                            throw new InvestException(InvestErrorCode.INSUFFICIENT_API_PERMISSION);
-                        }
-
-                        // query_hash 관련 에러
-                        if (errorMessage != null && errorMessage.contains("query_hash")) {
-                            log.error("⚠️ query_hash mismatch - query_hash 계산이 잘못되었을 수 있습니다.");
-                        }
-                    }
-
-                    // 나머지 JWT 관련 오류
-                    throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-                } catch (InvestException investEx) {
-                    throw investEx;
-                } catch (Exception parseException) {
-                    // JSON 파싱 실패 시 로깅하고 원본 FeignException을 그대로 던짐
-                    log.error("UpbitApiClient - 최대 주문 개수 조회 에러 응답 파싱 실패 - status: {}, responseBody: {}, 파싱 에러: {}",
-                            e.status(), errorBody, parseException.getMessage());
-                    throw e; // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-                }
-            } else {
-                // 응답 본문이 없거나 JSON이 아닌 경우 - 원본 FeignException을 그대로 던짐
-                log.warn("UpbitApiClient - 최대 주문 개수 조회 에러 응답 본문이 비어있거나 JSON 형식이 아님 - status: {}, responseBody: {}",
-                        e.status(), errorBody);
-                throw e; // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-            }
+        } catch (ExchangeApiException e) {
+            throw toInvestException(e);
         } catch (InvestException e) {
             // InvestException은 그대로 전파 (INSUFFICIENT_COIN_AMOUNT, MINIMUM_ORDER_AMOUNT 등)
             throw e;
@@ -151,7 +92,7 @@ public class UpbitApiClient implements ExchangeApiClient {
         }
     }
     
-    private MaxOrderInfoDTO parseMaxOrderInfoResponse(List<UpbitResDTO.Account> accounts, String coinType, String unitPrice, String orderType, String side) {
+    private MaxOrderInfoDTO parseMaxOrderInfoResponse(AccountSnapshot snapshot, String coinType, String unitPrice, String orderType, String side) {
         try {
             String currency;
             String targetCurrency; // 조회할 화폐 (KRW 또는 코인)
@@ -212,29 +153,15 @@ public class UpbitApiClient implements ExchangeApiClient {
             String balance = "0";
             
             // 해당 currency로 계좌 찾기
-            for (UpbitResDTO.Account account : accounts) {
-                if (currency.equals(account.currency())) {
-                    // available이 있으면 available 사용 (매수 가능 금액)
-                    // 주의: 업비트 API /v1/accounts는 available 필드를 제공하지 않음 (공식 문서 확인)
-                    // 따라서 available이 null이면 balance - locked로 계산해야 함
-                    if (account.available() != null && !account.available().isEmpty()) {
-                        balance = account.available();
-                    } else if (account.balance() != null && !account.balance().isEmpty()) {
-                        // available이 null이면 balance - locked로 계산
-                        try {
-                            BigDecimal balanceDecimal = new BigDecimal(account.balance());
-                            BigDecimal lockedDecimal = account.locked() != null && !account.locked().isEmpty() 
-                                    ? new BigDecimal(account.locked()) 
-                                    : BigDecimal.ZERO;
-                            BigDecimal availableDecimal = balanceDecimal.subtract(lockedDecimal);
-                            balance = availableDecimal.toPlainString();
-                        } catch (NumberFormatException e) {
-                            // 계산 실패 시 balance 그대로 사용
-                            balance = account.balance();
-                            log.warn("available 계산 실패, balance 사용: {}", balance);
-                        }
-                    }
-                    break;
+            // 주의: 업비트 API /v1/accounts는 available 필드를 제공하지 않으므로 balance - locked로 계산
+            AccountSnapshot.Balance account = snapshot.find(currency).orElse(null);
+            if (account != null && account.balance() != null && !account.balance().isEmpty()) {
+                try {
+                    balance = account.balanceValue().subtract(account.lockedValue()).toPlainString();
+                } catch (NumberFormatException e) {
+                    // 계산 실패 시 balance 그대로 사용
+                    balance = account.balance();
+                    log.warn("available 계산 실패, balance 사용: {}", balance);
                 }
             }
             
@@ -283,7 +210,7 @@ public class UpbitApiClient implements ExchangeApiClient {
                                 if (ticker.trade_price() != null && ticker.trade_price() > 0) {
                                     BigDecimal currentPrice = BigDecimal.valueOf(ticker.trade_price());
                                     BigDecimal orderAmount = currentPrice.multiply(balanceDecimal);
-                                    BigDecimal minOrderAmount = getUpbitMinimumOrderAmount(normalizeCoinType(coinType));
+                                    BigDecimal minOrderAmount = getMinimumAskAmount(normalizeCoinType(coinType));
                                     
                                     if (orderAmount.compareTo(minOrderAmount) < 0) {
                                         log.warn("업비트 시장가 매도 - 최소 주문 금액 미만 - 주문 금액: {}, 최소 주문 금액: {}", 
@@ -344,7 +271,7 @@ public class UpbitApiClient implements ExchangeApiClient {
                                 if (unitPriceDecimal.compareTo(BigDecimal.ZERO) > 0) {
                                     // 최소 주문 금액 검증: unitPrice * balance >= 5000원
                                     BigDecimal maxOrderAmount = unitPriceDecimal.multiply(balanceDecimal);
-                                    BigDecimal minOrderAmount = getUpbitMinimumOrderAmount(normalizeCoinType(coinType));
+                                    BigDecimal minOrderAmount = getMinimumAskAmount(normalizeCoinType(coinType));
                                     
                                     if (maxOrderAmount.compareTo(minOrderAmount) < 0) {
                                         log.warn("업비트 지정가 매도 - 최소 주문 금액 미만 - 주문 금액: {}, 최소 주문 금액: {}", 
@@ -491,11 +418,16 @@ public class UpbitApiClient implements ExchangeApiClient {
             log.info("업비트 주문 가능 여부 확인 API 호출 시작 - phoneNumber: {}, market: {} (정규화: {}), side: {}",
                     phoneNumber, market, normalizedMarket, side);
 
-            UpbitResDTO.OrderChance orderChance = getOrderChance(phoneNumber, normalizedMarket);
-            validateOrderAvailability(normalizedMarket, side, orderType, price, volume, orderChance);
+            // 캐시된 마켓 규칙 + 계좌 스냅샷 잔고로 검증 (대부분 거래소 호출 없음)
+            MarketRules rules = getMarketRules(phoneNumber, normalizedMarket);
+            BigDecimal balance = getAvailableBalance(phoneNumber, rules, side);
+            validateOrderAvailability(normalizedMarket, side, orderType, price, volume, rules, balance);
             
             log.info("업비트 주문 가능 여부 확인 완료 - 주문 가능");
             
+        } catch (MemberException e) {
+            log.error("업비트 API 키를 찾을 수 없습니다 - phoneNumber: {}", phoneNumber, e);
+            throw new InvestException(InvestErrorCode.API_KEY_NOT_FOUND);
         } catch (InvestException e) {
             throw e;
         } catch (Exception e) {
@@ -504,44 +436,13 @@ public class UpbitApiClient implements ExchangeApiClient {
         }
     }
     
-    private UpbitResDTO.OrderChance getOrderChance(String phoneNumber, String market) {
+    // 마켓 규칙 조회 (캐시에 없을 때만 주문 가능 정보 API 호출)
+    private MarketRules getMarketRules(String phoneNumber, String market) {
         try {
-            String query = "market=" + market;
-            String authorization = jwtApiUtil.createUpBitJwt(phoneNumber, query, null);
-            
-            log.info("업비트 API 호출 시작 - market: {}", market);
-            // Feign Client가 DTO로 변환
-            UpbitResDTO.OrderChance orderChance = upbitFeignClient.getOrderChance(authorization, market);
-            
-            log.info("업비트 API 응답 수신 완료");
-            
-            // 전체 응답 구조 확인 (디버깅용)
-            log.info("업비트 API 응답 전체 구조 - orderChance: {}", orderChance);
-            log.info("업비트 API 응답 - bid_fee: {}, ask_fee: {}, market: {}, bid: {}, ask: {}, bid_account: {}, ask_account: {}", 
-                    orderChance.bid_fee(), orderChance.ask_fee(), orderChance.market(), 
-                    orderChance.bid(), orderChance.ask(), orderChance.bid_account(), orderChance.ask_account());
-            
-            // API 응답에서 실제 마켓 형식 확인
-            if (orderChance.market() != null && orderChance.market().id() != null) {
-                log.info("업비트 API 응답 market.id: {} (요청한 market: {})", orderChance.market().id(), market);
-            }
-            
-            // bid 객체 확인 (최소 주문 금액 검증용)
-            if (orderChance.bid() != null) {
-                log.info("업비트 API 응답 bid 객체 존재 - currency: {}, min_total: {}", 
-                        orderChance.bid().currency(), orderChance.bid().min_total());
-            } else {
-                log.warn("업비트 API 응답 bid 객체가 null입니다! - 최소 주문 금액 검증 불가");
-                // ask 객체도 확인
-                if (orderChance.ask() != null) {
-                    log.info("업비트 API 응답 ask 객체 존재 - currency: {}, min_total: {}", 
-                            orderChance.ask().currency(), orderChance.ask().min_total());
-                } else {
-                    log.warn("업비트 API 응답 ask 객체도 null입니다!");
-                }
-            }
-            
-            return orderChance;
+            MarketRules rules = marketRulesStore.getRules(phoneNumber, ExchangeType.UPBIT, market);
+            log.debug("업비트 마켓 규칙 - market: {}, bidFee: {}, askFee: {}, bidMinTotal: {}, askMinTotal: {}",
+                    market, rules.bidFee(), rules.askFee(), rules.bidMinTotal(), rules.askMinTotal());
+            return rules;
             
         } catch (MemberException e) {
             log.error("업비트 API 키를 찾을 수 없습니다 - phoneNumber: {}", phoneNumber, e);
@@ -549,66 +450,8 @@ public class UpbitApiClient implements ExchangeApiClient {
         } catch (GeneralSecurityException e) {
             log.error("업비트 JWT 생성 실패", e);
             throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-        } catch (FeignException.BadRequest | FeignException.NotFound e) {
-            String errorBody = e.contentUTF8();
-
-            // 응답 본문이 있고 JSON 형식인 경우에만 파싱 시도
-            if (errorBody != null && !errorBody.isEmpty() && errorBody.trim().startsWith("{")) {
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    ClientErrorDTO.Errors error = objectMapper.readValue(errorBody, ClientErrorDTO.Errors.class);
-
-                    // API 키를 찾을 수 없는 경우
-                    if (e instanceof FeignException.NotFound) {
-                        throw new InvestException(InvestErrorCode.API_KEY_NOT_FOUND);
-                    }
-
-                    // 나머지 400 에러
-                    throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-                } catch (Exception parseException) {
-                    // JSON 파싱 실패 시 로깅하고 원본 FeignException을 그대로 던짐
-                    log.error("UpbitApiClient - 주문 가능여부 조회 에러 응답 파싱 실패 - status: {}, responseBody: {}, 파싱 에러: {}",
-                            e.status(), errorBody, parseException.getMessage());
-                    throw e; // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-                }
-            } else {
-                // 응답 본문이 없거나 JSON이 아닌 경우 - 원본 FeignException을 그대로 던짐
-                log.warn("UpbitApiClient - 주문 가능여부 조회 에러 응답 본문이 비어있거나 JSON 형식이 아님 - status: {}, responseBody: {}",
-                        e.status(), errorBody);
-                throw e; // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-            }
-        } catch (FeignException.Unauthorized e) {
-            String errorBody = e.contentUTF8();
-
-            // 응답 본문이 있고 JSON 형식인 경우에만 파싱 시도
-            if (errorBody != null && !errorBody.isEmpty() && errorBody.trim().startsWith("{")) {
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    ClientErrorDTO.Errors error = objectMapper.readValue(errorBody, ClientErrorDTO.Errors.class);
-
-                    if (error != null && error.error() != null) {
-                        String errorName = error.error().name();
-
-                        // 권한이 부족한 경우
-                        if ("out_of_scope".equals(errorName)) {
-                            throw new InvestException(InvestErrorCode.INSUFFICIENT_API_PERMISSION);
-                        }
-                    }
-
-                    // 나머지 JWT 관련 오류
-                    throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-                } catch (Exception parseException) {
-                    // JSON 파싱 실패 시 로깅하고 원본 FeignException을 그대로 던짐
-                    log.error("UpbitApiClient - 주문 가능여부 조회 에러 응답 파싱 실패 - status: {}, responseBody: {}, 파싱 에러: {}",
-                            e.status(), errorBody, parseException.getMessage());
-                    throw e; // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-                }
-            } else {
-                // 응답 본문이 없거나 JSON이 아닌 경우 - 원본 FeignException을 그대로 던짐
-                log.warn("UpbitApiClient - 주문 가능여부 조회 에러 응답 본문이 비어있거나 JSON 형식이 아님 - status: {}, responseBody: {}",
-                        e.status(), errorBody);
-                throw e; // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-            }
+        } catch (ExchangeApiException e) {
+            throw toInvestException(e);
         } catch (FeignException e) {
             // FeignException은 그대로 전파하여 상위에서 세부적인 분기 가능
             log.error("업비트 주문 가능 정보 조회 실패 - FeignException: status: {}", e.status(), e);
@@ -618,39 +461,91 @@ public class UpbitApiClient implements ExchangeApiClient {
             throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
         }
     }
+
+    // 조회 API 에러를 투자 에러로 변환 (404는 API 키 없음, 429/5XX는 그대로 전파)
+    private RuntimeException toInvestException(ExchangeApiException e) {
+        if (e.isRetryable()) {
+            return e;
+        }
+        if (e.status() == 404) {
+            return new InvestException(InvestErrorCode.API_KEY_NOT_FOUND);
+        }
+        // 권한이 부족한 경우 (API Key 권한 문제)
+        if (e.getErrorCode() == ExchangeErrorCode.OUT_OF_SCOPE) {
+            return new InvestException(InvestErrorCode.INSUFFICIENT_API_PERMISSION);
+        }
+        return new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
+    }
+
+    // 주문 생성 테스트 API 에러를 투자 에러로 변환 (에러 이름이 없는 응답을 위해 메시지도 확인)
+    private InvestException toTestOrderException(ExchangeApiException e, String side) {
+        if (e.status() == 401) {
+            return new InvestException(InvestErrorCode.INSUFFICIENT_API_PERMISSION);
+        }
+        if (e.status() != 400) {
+            return new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
+        }
+
+        ExchangeErrorCode errorCode = e.getErrorCode();
+        String errorMessage = e.getErrorMessage() != null ? e.getErrorMessage() : "";
+
+        if (errorCode == ExchangeErrorCode.INSUFFICIENT_FUNDS || errorMessage.contains("잔고")) {
+            // 매수 시 잔고 부족
+            if ("bid".equals(side)) {
+                return new InvestException(InvestErrorCode.INSUFFICIENT_BALANCE);
+            }
+            // 매도 시 보유 수량 부족
+            if ("ask".equals(side)) {
+                return new InvestException(InvestErrorCode.INSUFFICIENT_COIN_AMOUNT);
+            }
+        } else if (MIN_TOTAL_ERRORS.contains(errorCode)
+                || errorMessage.contains("최소") || errorMessage.contains("minimum")) {
+            // 최소 주문 금액 미만
+            return new InvestException(InvestErrorCode.MINIMUM_ORDER_AMOUNT);
+        } else if (PRICE_LIMIT_ERRORS.contains(errorCode) || errorMessage.contains("현재가")) {
+            // 호가 제한 초과 (현재가의 300% 이내에서만 주문 가능)
+            Map<String, String> errorDetails = Map.of(
+                    "errorName", e.getErrorName() != null ? e.getErrorName() : "",
+                    "errorMessage", errorMessage
+            );
+            return new InvestException(InvestErrorCode.EXCHANGE_API_ERROR, errorDetails);
+        }
+        return new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
+    }
   
+    // 주문 방향에 필요한 통화의 주문 가능 잔고 (계좌 스냅샷 기준)
+    private BigDecimal getAvailableBalance(
+            String phoneNumber,
+            MarketRules rules,
+            String side
+    ) throws GeneralSecurityException {
+        String currency = "bid".equals(side) ? rules.bidCurrency() : rules.askCurrency();
+        return accountSnapshotService.getSnapshot(phoneNumber, ExchangeType.UPBIT)
+                .find(currency)
+                .map(AccountSnapshot.Balance::balanceValue)
+                .orElse(BigDecimal.ZERO);
+    }
+
     private void validateOrderAvailability(
             String market,
             String side,
             String orderType,
             String price,
             String volume,
-            UpbitResDTO.OrderChance orderChance
+            MarketRules rules,
+            BigDecimal balanceDecimal
     ) {
-        String balance;
-        
-        // 잔고 정보 추출
-        if ("bid".equals(side)) {
-            UpbitResDTO.BidAccount bidAccount = orderChance.bid_account();
-            if (bidAccount != null && bidAccount.balance() != null) {
-                balance = bidAccount.balance();
-            } else {
-                log.error("업비트 주문 가능 정보 응답에 bid_account.balance가 없습니다.");
-                throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-            }
-        } else if ("ask".equals(side)) {
-            UpbitResDTO.AskAccount askAccount = orderChance.ask_account();
-            if (askAccount != null && askAccount.balance() != null) {
-                balance = askAccount.balance();
-            } else {
-                log.error("업비트 주문 가능 정보 응답에 ask_account.balance가 없습니다.");
-                throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-            }
-        } else {
+        if (!"bid".equals(side) && !"ask".equals(side)) {
             throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
         }
-        
-        BigDecimal balanceDecimal = new BigDecimal(balance);
+
+        // 마켓에서 지원하지 않는 주문 방식
+        if (!rules.supports(side, orderType)) {
+            log.warn("지원하지 않는 주문 방식 - market: {}, side: {}, orderType: {}", market, side, orderType);
+            throw new InvestException(InvestErrorCode.UNSUPPORTED_ORDER_TYPE);
+        }
+
+        String balance = balanceDecimal.toPlainString();
         
         // 주문 가능 여부 검증 (불가능하면 예외 발생)
         String requiredAmountStr = "";
@@ -670,6 +565,7 @@ public class UpbitApiClient implements ExchangeApiClient {
                     throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
                 }
                 BigDecimal volumeDecimal = new BigDecimal(volume);
+                validatePriceUnit(market, priceDecimal);
                 requiredAmount = priceDecimal.multiply(volumeDecimal);
             } else if ("price".equals(orderType)) {
                 // 시장가 매수: price만 필요 (총액)
@@ -685,44 +581,12 @@ public class UpbitApiClient implements ExchangeApiClient {
             
             // 업비트 API 문서에 따르면 market.bid.min_total 또는 market.ask.min_total에 최소 주문 금액이 있음
             // 참고: https://docs.upbit.com/kr/reference/available-order-information
-            UpbitResDTO.Bid bid = null;
-            String minTotalStr = null;
-            
-            // 1순위: orderChance.bid() 확인
-            if (orderChance.bid() != null && orderChance.bid().min_total() != null && !orderChance.bid().min_total().isEmpty()) {
-                bid = orderChance.bid();
-                minTotalStr = bid.min_total();
-                log.info("업비트 최소 주문 금액 검증 - orderChance.bid()에서 조회: {}", minTotalStr);
-            }
-            // 2순위: orderChance.market().bid() 확인
-            else if (orderChance.market() != null && orderChance.market().bid() != null 
-                    && orderChance.market().bid().min_total() != null 
-                    && !orderChance.market().bid().min_total().isEmpty()) {
-                bid = orderChance.market().bid();
-                minTotalStr = bid.min_total();
-                log.info("업비트 최소 주문 금액 검증 - orderChance.market().bid()에서 조회: {}", minTotalStr);
-            }
-            
-            log.info("업비트 최소 주문 금액 검증 - bid 객체: {}, min_total: {}", 
-                    bid != null ? "존재" : "null", 
-                    minTotalStr != null ? minTotalStr : "null");
-            
-            BigDecimal minTotal;
-            String minTotalSource;
-            
-            if (minTotalStr != null && !minTotalStr.isEmpty()) {
-                // API에서 제공하는 최소 주문 금액 사용
-                minTotal = new BigDecimal(minTotalStr);
-                minTotalSource = "API 응답";
-                log.info("업비트 최소 주문 금액 검증 - API 응답에서 최소 주문 금액 조회: {}", minTotal);
-            } else {
+            BigDecimal minTotal = rules.bidMinTotal();
+            String minTotalSource = "마켓 규칙";
+            if (minTotal == null) {
                 // 업비트 API가 최소 주문 금액을 제공하지 않으므로 마켓 타입에 따라 기본값 사용
                 minTotal = getUpbitMinimumOrderAmount(market);
                 minTotalSource = "마켓별 기본값";
-                log.warn("업비트 API 응답에 최소 주문 금액 정보가 없어 마켓별 기본값 사용 - market: {}, minTotal: {}, bid: {}, min_total: {}", 
-                        market, minTotal, 
-                        bid != null ? "존재" : "null", 
-                        minTotalStr != null ? minTotalStr : "null 또는 빈 문자열");
             }
             
             log.info("업비트 최소 주문 금액 검증 - 주문 금액: {}, 최소 주문 금액: {} ({})", requiredAmount, minTotal, minTotalSource);
@@ -737,14 +601,16 @@ public class UpbitApiClient implements ExchangeApiClient {
             }
             log.info("업비트 최소 주문 금액 검증 통과 - 주문 금액: {} >= 최소 주문 금액: {}", requiredAmount, minTotal);
             
-            // 2단계: 잔고 검증 (최소 주문 금액을 넘는다면, 잔고로 살 수 있는지 확인)
-            if (balanceDecimal.compareTo(requiredAmount) < 0) {
+            // 2단계: 잔고 검증 (최소 주문 금액을 넘는다면, 수수료를 포함해 잔고로 살 수 있는지 확인)
+            BigDecimal bidFee = rules.bidFee();
+            BigDecimal requiredWithFee = requiredAmount.add(requiredAmount.multiply(bidFee));
+            if (balanceDecimal.compareTo(requiredWithFee) < 0) {
                 // 잔고 부족 시 400 에러 반환
-                BigDecimal shortage = requiredAmount.subtract(balanceDecimal);
-                log.warn("계좌 잔고 부족 - 잔고: {}, 필요: {}, 부족: {}", balance, requiredAmount, shortage);
+                BigDecimal shortage = requiredWithFee.subtract(balanceDecimal);
+                log.warn("계좌 잔고 부족 - 잔고: {}, 필요(수수료 {} 포함): {}, 부족: {}", balance, bidFee, requiredWithFee, shortage);
                 Map<String, String> errorDetails = Map.of(
                     "balance", balance,
-                    "requiredAmount", requiredAmountStr,
+                    "requiredAmount", requiredWithFee.toPlainString(),
                     "shortage", shortage.toPlainString()
                 );
                 throw new InvestException(InvestErrorCode.INSUFFICIENT_BALANCE, errorDetails);
@@ -766,6 +632,7 @@ public class UpbitApiClient implements ExchangeApiClient {
                     throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
                 }
                 BigDecimal priceDecimal = new BigDecimal(price);
+                validatePriceUnit(market, priceDecimal);
                 orderAmount = priceDecimal.multiply(volumeDecimal);
             } else if ("market".equals(orderType)) {
                 // 시장가 매도: volume만 필요 (price 불필요)
@@ -798,40 +665,12 @@ public class UpbitApiClient implements ExchangeApiClient {
             if (orderAmount != null) {
                 // 업비트 API 문서에 따르면 market.ask.min_total에 최소 주문 금액이 있음
                 // 참고: https://docs.upbit.com/kr/reference/available-order-information
-                UpbitResDTO.Ask ask = null;
-                String minTotalStr = null;
-                
-                // 1순위: orderChance.ask() 확인
-                if (orderChance.ask() != null && orderChance.ask().min_total() != null && !orderChance.ask().min_total().isEmpty()) {
-                    ask = orderChance.ask();
-                    minTotalStr = ask.min_total();
-                    log.info("업비트 매도 최소 주문 금액 검증 - orderChance.ask()에서 조회: {}", minTotalStr);
-                }
-                // 2순위: orderChance.market().ask() 확인
-                else if (orderChance.market() != null && orderChance.market().ask() != null 
-                        && orderChance.market().ask().min_total() != null 
-                        && !orderChance.market().ask().min_total().isEmpty()) {
-                    ask = orderChance.market().ask();
-                    minTotalStr = ask.min_total();
-                    log.info("업비트 매도 최소 주문 금액 검증 - orderChance.market().ask()에서 조회: {}", minTotalStr);
-                }
-                
-                BigDecimal minTotal;
-                String minTotalSource;
-                
-                if (minTotalStr != null && !minTotalStr.isEmpty()) {
-                    // API에서 제공하는 최소 주문 금액 사용
-                    minTotal = new BigDecimal(minTotalStr);
-                    minTotalSource = "API 응답";
-                    log.info("업비트 매도 최소 주문 금액 검증 - API 응답에서 최소 주문 금액 조회: {}", minTotal);
-                } else {
+                BigDecimal minTotal = rules.askMinTotal();
+                String minTotalSource = "마켓 규칙";
+                if (minTotal == null) {
                     // 업비트 API가 최소 주문 금액을 제공하지 않으므로 마켓 타입에 따라 기본값 사용
                     minTotal = getUpbitMinimumOrderAmount(market);
                     minTotalSource = "마켓별 기본값";
-                    log.warn("업비트 API 응답에 최소 주문 금액 정보가 없어 마켓별 기본값 사용 - market: {}, minTotal: {}, ask: {}, min_total: {}", 
-                            market, minTotal,
-                            ask != null ? "존재" : "null", 
-                            minTotalStr != null ? minTotalStr : "null 또는 빈 문자열");
                 }
                 
                 log.info("업비트 매도 최소 주문 금액 검증 - 주문 금액: {}, 최소 주문 금액: {} ({})", orderAmount, minTotal, minTotalSource);
@@ -930,79 +769,8 @@ public class UpbitApiClient implements ExchangeApiClient {
         } catch (GeneralSecurityException e) {
             log.error("업비트 JWT 생성 실패", e);
             throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-        } catch (FeignException.Unauthorized e) {
-            String errorBody = e.contentUTF8();
-            if (errorBody != null && !errorBody.isEmpty() && errorBody.trim().startsWith("{")) {
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    ClientErrorDTO.Errors error = objectMapper.readValue(errorBody, ClientErrorDTO.Errors.class);
-                    if (error != null && error.error() != null) {
-                        log.error("=== 업비트 주문 생성 테스트 실패 (401) ===");
-                        log.error("에러 이름: {}", error.error().name());
-                        log.error("에러 메시지: {}", error.error().message());
-                        log.error("전체 응답: {}", errorBody);
-                    }
-                } catch (Exception parseException) {
-                    log.error("업비트 주문 생성 테스트 실패 (401) - JSON 파싱 실패: {}, responseBody: {}",
-                            parseException.getMessage(), errorBody);
-                }
-            }
-            throw new InvestException(InvestErrorCode.INSUFFICIENT_API_PERMISSION);
-        } catch (FeignException.BadRequest e) {
-            String errorBody = e.contentUTF8();
-            if (errorBody != null && !errorBody.isEmpty() && errorBody.trim().startsWith("{")) {
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    ClientErrorDTO.Errors error = objectMapper.readValue(errorBody, ClientErrorDTO.Errors.class);
-                    if (error != null && error.error() != null) {
-                        String errorName = error.error().name();
-                        String errorMessage = error.error().message();
-                        
-                        log.error("=== 업비트 주문 생성 테스트 실패 (400) ===");
-                        log.error("에러 이름: {}", errorName);
-                        log.error("에러 메시지: {}", errorMessage);
-                        log.error("전체 응답: {}", errorBody);
-                        
-                        // 업비트 API 에러 이름에 따라 구체적인 에러 코드로 변환
-                        if ("insufficient_funds".equals(errorName) || 
-                            (errorMessage != null && errorMessage.contains("잔고"))) {
-                            // 매수 시 잔고 부족
-                            if ("bid".equals(side)) {
-                                throw new InvestException(InvestErrorCode.INSUFFICIENT_BALANCE);
-                            }
-                            // 매도 시 보유 수량 부족
-                            else if ("ask".equals(side)) {
-                                throw new InvestException(InvestErrorCode.INSUFFICIENT_COIN_AMOUNT);
-                            }
-                        } else if ("invalid_min_total".equals(errorName) || 
-                                   "under_min_total".equals(errorName) ||
-                                   (errorMessage != null && (errorMessage.contains("최소") || errorMessage.contains("minimum")))) {
-                            // 최소 주문 금액 미만
-                            throw new InvestException(InvestErrorCode.MINIMUM_ORDER_AMOUNT);
-                        } else if ("over_price_limit_bid".equals(errorName) || 
-                                   "over_price_limit_ask".equals(errorName) ||
-                                   (errorMessage != null && errorMessage.contains("현재가"))) {
-                            // 호가 제한 초과 (현재가의 300% 이내에서만 주문 가능)
-                            Map<String, String> errorDetails = Map.of(
-                                "errorName", errorName,
-                                "errorMessage", errorMessage != null ? errorMessage : ""
-                            );
-                            throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR, errorDetails);
-                        }
-                    } else {
-                        log.error("업비트 주문 생성 테스트 실패 (400) - responseBody: {}", errorBody);
-                    }
-                } catch (InvestException investEx) {
-                    // 구체적인 InvestException은 그대로 전파
-                    throw investEx;
-                } catch (Exception parseException) {
-                    log.error("업비트 주문 생성 테스트 실패 (400) - JSON 파싱 실패: {}, responseBody: {}",
-                            parseException.getMessage(), errorBody);
-                }
-            } else {
-                log.error("업비트 주문 생성 테스트 실패 (400) - HTML 응답 또는 비JSON 응답: {}", errorBody);
-            }
-            throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
+        } catch (ExchangeApiException e) {
+            throw toTestOrderException(e, side);
         } catch (InvestException e) {
             throw e;
         } catch (Exception e) {
@@ -1026,8 +794,17 @@ public class UpbitApiClient implements ExchangeApiClient {
             // market을 업비트 형식으로 정규화 (KRW-USDC 형식으로 통일)
             String normalizedMarket = normalizeCoinType(market);
 
-            log.info("업비트 주문 생성 API 호출 시작 - phoneNumber: {}, market: {} (정규화: {}), side: {}, orderType: {}",
-                    phoneNumber, market, normalizedMarket, side, orderType);
+            log.info("업비트 주문 생성 API 호출 시작 - phoneNumber: {}, market: {} (정규화: {}), side: {}, orderType: {}, dryRun: {}",
+                    phoneNumber, market, normalizedMarket, side, orderType, orderDryRun);
+
+            long startedAt = System.nanoTime();
+
+            // 1단계: 로컬 검증 (주문 방식, 최소 주문 금액, 수수료 포함 잔고, 호가 단위)
+            // 주문 생성 테스트 API 왕복 없이 마켓 규칙과 계좌 스냅샷으로 거래소와 같은 조건을 먼저 확인
+            MarketRules rules = getMarketRules(phoneNumber, normalizedMarket);
+            BigDecimal balance = getAvailableBalance(phoneNumber, rules, side);
+            validateOrderAvailability(normalizedMarket, side, orderType, price, volume, rules, balance);
+            long validatedAt = System.nanoTime();
 
             // 주문 생성 요청 DTO 생성 (빈 문자열은 null로 변환하여 JSON에 포함되지 않도록 함)
             UpbitReqDTO.CreateOrder request =
@@ -1039,83 +816,33 @@ public class UpbitApiClient implements ExchangeApiClient {
                             .volume((volume != null && !volume.isEmpty()) ? volume : null)
                             .build();
 
-            // JWT 생성 (POST 요청이므로 body 사용)
-            log.info("업비트 주문 생성 JWT 생성 시작 - body를 query string으로 변환하여 query_hash 계산");
-            log.info("업비트 주문 생성 요청 DTO 상세 - market: {}, side: {}, ord_type: {}, price: {}, volume: {}",
+            // 2단계: JWT 생성 (POST 요청이므로 body를 query string으로 변환하여 query_hash 계산)
+            log.debug("업비트 주문 생성 요청 DTO 상세 - market: {}, side: {}, ord_type: {}, price: {}, volume: {}",
                     request.market(), request.side(), request.ord_type(), request.price(), request.volume());
             String authorization = jwtApiUtil.createUpBitJwt(phoneNumber, null, request);
+            long signedAt = System.nanoTime();
 
-            // 주문 생성 테스트 API 호출 (실제 주문 생성 없이 검증)
-            try {
-                UpbitResDTO.CreateOrder testResponse = upbitFeignClient.testCreateOrder(authorization, request);
-            } catch (FeignException.BadRequest | FeignException.NotFound e) {
-                String errorBody = e.contentUTF8();
-
-                // 응답 본문이 있고 JSON 형식인 경우에만 파싱 시도
-                if (errorBody != null && !errorBody.isEmpty() && errorBody.trim().startsWith("{")) {
-                    try {
-                        ObjectMapper objectMapper = new ObjectMapper();
-                        ClientErrorDTO.Errors error = objectMapper.readValue(errorBody, ClientErrorDTO.Errors.class);
-                        if (error != null && error.error() != null) {
-                            log.error("UpbitApiClient - 주문 생성 테스트 에러 응답 - status: {}, errorName: {}, errorMessage: {}",
-                                    e.status(), error.error().name(), error.error().message());
-                        } else {
-                            log.error("UpbitApiClient - 주문 생성 테스트 에러 응답 - status: {}, responseBody: {}",
-                                    e.status(), errorBody);
-                        }
-                    } catch (Exception parseException) {
-                        // JSON 파싱 실패 시 로깅
-                        log.error("UpbitApiClient - 주문 생성 테스트 에러 응답 파싱 실패 - status: {}, responseBody: {}, 파싱 에러: {}",
-                                e.status(), errorBody, parseException.getMessage());
-                    }
-                } else {
-                    // 응답 본문이 없거나 JSON이 아닌 경우
-                    log.warn("UpbitApiClient - 주문 생성 테스트 에러 응답 본문이 비어있거나 JSON 형식이 아님 - status: {}, responseBody: {}",
-                            e.status(), errorBody);
+            // 3단계: 주문 전송 (dry-run이면 주문 생성 테스트 API만 호출)
+            UpbitResDTO.CreateOrder response;
+            if (orderDryRun) {
+                // 주문 생성 테스트 API와 같은 에러 변환 (dry-run 여부로 에러 응답이 달라지지 않도록)
+                try {
+                    response = upbitFeignClient.testCreateOrder(authorization, request);
+                } catch (ExchangeApiException e) {
+                    throw toTestOrderException(e, side);
                 }
-                // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-                throw e;
-            } catch (FeignException.Unauthorized e) {
-                String errorBody = e.contentUTF8();
+            } else {
+                response = upbitFeignClient.createOrder(authorization, request);
 
-                // 응답 본문이 있고 JSON 형식인 경우에만 파싱 시도
-                if (errorBody != null && !errorBody.isEmpty() && errorBody.trim().startsWith("{")) {
-                    try {
-                        ObjectMapper objectMapper = new ObjectMapper();
-                        ClientErrorDTO.Errors error = objectMapper.readValue(errorBody, ClientErrorDTO.Errors.class);
-                        if (error != null && error.error() != null) {
-                            log.error("UpbitApiClient - 주문 생성 테스트 에러 응답 - status: {}, errorName: {}, errorMessage: {}",
-                                    e.status(), error.error().name(), error.error().message());
-                        } else {
-                            log.error("UpbitApiClient - 주문 생성 테스트 에러 응답 - status: {}, responseBody: {}",
-                                    e.status(), errorBody);
-                        }
-                    } catch (Exception parseException) {
-                        // JSON 파싱 실패 시 로깅
-                        log.error("UpbitApiClient - 주문 생성 테스트 에러 응답 파싱 실패 - status: {}, responseBody: {}, 파싱 에러: {}",
-                                e.status(), errorBody, parseException.getMessage());
-                    }
-                } else {
-                    // 응답 본문이 없거나 JSON이 아닌 경우
-                    log.warn("UpbitApiClient - 주문 생성 테스트 에러 응답 본문이 비어있거나 JSON 형식이 아님 - status: {}, responseBody: {}",
-                            e.status(), errorBody);
-                }
-                // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-                throw e;
-            } catch (FeignException e) {
-                log.error("업비트 주문 생성 테스트 실패 - status: {}, 실제 주문 생성을 중단합니다", e.status(), e);
-                // 테스트 실패 시 예외를 그대로 전파
-                throw e;
+                // 주문으로 잔고가 묶였으므로 계좌 스냅샷 제거
+                accountSnapshotService.evict(phoneNumber, ExchangeType.UPBIT);
             }
+            long placedAt = System.nanoTime();
 
-            // 테스트 성공 후 실제 주문 생성 API 호출
-            // 중요: 업비트는 각 요청마다 고유한 nonce를 요구하므로, 실제 주문 생성 시 새로운 JWT를 생성해야 함
-            log.info("업비트 실제 주문 생성 JWT 생성 시작 - 새로운 nonce 사용");
-            String actualOrderAuthorization = jwtApiUtil.createUpBitJwt(phoneNumber, null, request);
-
-            UpbitResDTO.CreateOrder response = upbitFeignClient.createOrder(actualOrderAuthorization, request);
-
-            log.info("업비트 주문 생성 완료 - uuid: {}, market: {}", response.uuid(), response.market());
+            log.info("업비트 주문 생성 완료 - uuid: {}, market: {}, dryRun: {}, 단계별 소요(ms) validate: {}, sign: {}, place: {}, total: {}",
+                    response.uuid(), response.market(), orderDryRun,
+                    toMillis(validatedAt - startedAt), toMillis(signedAt - validatedAt),
+                    toMillis(placedAt - signedAt), toMillis(placedAt - startedAt));
 
             // 응답을 InvestResDTO.OrderDTO로 변환
             return new InvestResDTO.OrderDTO(
@@ -1133,60 +860,6 @@ public class UpbitApiClient implements ExchangeApiClient {
         } catch (GeneralSecurityException e) {
             log.error("업비트 JWT 생성 실패", e);
             throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-        } catch (FeignException.BadRequest | FeignException.NotFound e) {
-            String errorBody = e.contentUTF8();
-
-            // 응답 본문이 있고 JSON 형식인 경우에만 파싱 시도
-            if (errorBody != null && !errorBody.isEmpty() && errorBody.trim().startsWith("{")) {
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    ClientErrorDTO.Errors error = objectMapper.readValue(errorBody, ClientErrorDTO.Errors.class);
-                    if (error != null && error.error() != null) {
-                        log.error("UpbitApiClient - 주문 생성 에러 응답 - status: {}, errorName: {}, errorMessage: {}",
-                                e.status(), error.error().name(), error.error().message());
-                    } else {
-                        log.error("UpbitApiClient - 주문 생성 에러 응답 - status: {}, responseBody: {}",
-                                e.status(), errorBody);
-                    }
-                } catch (Exception parseException) {
-                    // JSON 파싱 실패 시 로깅
-                    log.error("UpbitApiClient - 주문 생성 에러 응답 파싱 실패 - status: {}, responseBody: {}, 파싱 에러: {}",
-                            e.status(), errorBody, parseException.getMessage());
-                }
-            } else {
-                // 응답 본문이 없거나 JSON이 아닌 경우
-                log.warn("UpbitApiClient - 주문 생성 에러 응답 본문이 비어있거나 JSON 형식이 아님 - status: {}, responseBody: {}",
-                        e.status(), errorBody);
-            }
-            // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-            throw e;
-        } catch (FeignException.Unauthorized e) {
-            String errorBody = e.contentUTF8();
-
-            // 응답 본문이 있고 JSON 형식인 경우에만 파싱 시도
-            if (errorBody != null && !errorBody.isEmpty() && errorBody.trim().startsWith("{")) {
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    ClientErrorDTO.Errors error = objectMapper.readValue(errorBody, ClientErrorDTO.Errors.class);
-                    if (error != null && error.error() != null) {
-                        log.error("UpbitApiClient - 주문 생성 에러 응답 - status: {}, errorName: {}, errorMessage: {}",
-                                e.status(), error.error().name(), error.error().message());
-                    } else {
-                        log.error("UpbitApiClient - 주문 생성 에러 응답 - status: {}, responseBody: {}",
-                                e.status(), errorBody);
-                    }
-                } catch (Exception parseException) {
-                    // JSON 파싱 실패 시 로깅
-                    log.error("UpbitApiClient - 주문 생성 에러 응답 파싱 실패 - status: {}, responseBody: {}, 파싱 에러: {}",
-                            e.status(), errorBody, parseException.getMessage());
-                }
-            } else {
-                // 응답 본문이 없거나 JSON이 아닌 경우
-                log.warn("UpbitApiClient - 주문 생성 에러 응답 본문이 비어있거나 JSON 형식이 아님 - status: {}, responseBody: {}",
-                        e.status(), errorBody);
-            }
-            // 원본 FeignException을 그대로 던져서 상위에서 세부적인 분기 가능
-            throw e;
         } catch (FeignException e) {
             // FeignException은 그대로 전파하여 상위에서 세부적인 분기 가능
             log.error("업비트 주문 생성 API 호출 실패 - FeignException: status: {}", e.status(), e);
@@ -1218,6 +891,9 @@ public class UpbitApiClient implements ExchangeApiClient {
             // 주문 취소 API 호출
             UpbitResDTO.CancelOrder response = upbitFeignClient.cancelOrder(authorization, uuid);
 
+            // 주문 취소로 잔고가 풀렸으므로 계좌 스냅샷 제거
+            accountSnapshotService.evict(phoneNumber, ExchangeType.UPBIT);
+
             // 응답을 InvestResDTO.CancelOrderDTO로 변환
             return new InvestResDTO.CancelOrderDTO(
                     response.uuid(),
@@ -1231,41 +907,21 @@ public class UpbitApiClient implements ExchangeApiClient {
         } catch (GeneralSecurityException e) {
             log.error("업비트 JWT 생성 실패", e);
             throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR);
-        } catch (FeignException.BadRequest e) {
-            // 응답 본문에서 에러 코드 확인
-            String errorBody = e.contentUTF8();
-            if (errorBody != null && !errorBody.isEmpty() && errorBody.trim().startsWith("{")) {
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    ClientErrorDTO.Errors errorResponse =
-                            objectMapper.readValue(errorBody, ClientErrorDTO.Errors.class);
-
-                    if (errorResponse != null && errorResponse.error() != null) {
-                        String errorName = errorResponse.error().name();
-                        String errorMessage = errorResponse.error().message();
-
-                        if ("canceled_order".equals(errorName)) {
-                            log.warn("업비트 주문 취소 - 이미 취소된 주문입니다. uuid: {}, message: {}", uuid, errorMessage);
-                            throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR,
-                                    Map.of("error", "canceled_order", "message", "이미 취소된 주문입니다."));
-                        } else if ("order_not_found".equals(errorName)) {
-                            log.error("업비트 주문 취소 - 주문을 찾을 수 없습니다. uuid: {}, message: {}", uuid, errorMessage);
-                            throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR,
-                                    Map.of("error", "order_not_found", "message", "주문을 찾을 수 없습니다."));
-                        }
-                    }
-                } catch (InvestException investEx) {
-                    throw investEx;
-                } catch (Exception parseException) {
-                    log.warn("업비트 주문 취소 에러 응답 파싱 실패: {}", parseException.getMessage());
-                    // 파싱 실패 시 원본 FeignException 전파
-                    throw e;
-                }
+        } catch (ExchangeApiException e) {
+            if (e.getErrorCode() == ExchangeErrorCode.CANCELED_ORDER) {
+                log.warn("업비트 주문 취소 - 이미 취소된 주문입니다. uuid: {}, message: {}", uuid, e.getErrorMessage());
+                throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR,
+                        Map.of("error", "canceled_order", "message", "이미 취소된 주문입니다."));
+            }
+            if (e.getErrorCode() == ExchangeErrorCode.ORDER_NOT_FOUND) {
+                log.error("업비트 주문 취소 - 주문을 찾을 수 없습니다. uuid: {}, message: {}", uuid, e.getErrorMessage());
+                throw new InvestException(InvestErrorCode.EXCHANGE_API_ERROR,
+                        Map.of("error", "order_not_found", "message", "주문을 찾을 수 없습니다."));
             }
-            // JSON이 아니거나 특정 에러가 아닌 경우 원본 FeignException 전파
+            // 그 외 거래소 에러(Unauthorized, Forbidden 등)는 그대로 전파 (FeignErrorDecoder에서 이미 로깅됨)
             throw e;
         } catch (FeignException e) {
-            // 다른 FeignException 타입들(Unauthorized, Forbidden 등)은 그대로 전파
+            // 거래소 응답을 받지 못한 경우(연결 실패, 타임아웃 등)는 그대로 전파
             log.error("업비트 주문 취소 API 호출 실패 - FeignException: status: {}", e.status(), e);
             throw e;
         } catch (InvestException e) {
@@ -1276,6 +932,50 @@ public class UpbitApiClient implements ExchangeApiClient {
         }
     }
 
+    private long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    /**
+     * 지정가 주문 가격의 호가 단위 검증
+     * 원화 마켓만 검증하며, 나머지 마켓은 거래소 응답에 맡깁니다.
+     * 참고: https://docs.upbit.com/kr/docs/krw-market-info
+     */
+    private void validatePriceUnit(String market, BigDecimal price) {
+        if (market == null || !market.toUpperCase().startsWith("KRW-")) {
+            return;
+        }
+
+        BigDecimal priceUnit = getUpbitKrwPriceUnit(price);
+        if (price.remainder(priceUnit).compareTo(BigDecimal.ZERO) != 0) {
+            log.warn("호가 단위 불일치 - market: {}, price: {}, priceUnit: {}", market, price, priceUnit);
+            Map<String, String> errorDetails = Map.of(
+                "price", price.toPlainString(),
+                "priceUnit", priceUnit.toPlainString()
+            );
+            throw new InvestException(InvestErrorCode.INVALID_PRICE_UNIT, errorDetails);
+        }
+    }
+
+    // 업비트 원화 마켓 가격대별 호가 단위 (테스트에서 구간 경계를 검증)
+    static BigDecimal getUpbitKrwPriceUnit(BigDecimal price) {
+        if (price.compareTo(new BigDecimal("2000000")) >= 0) return new BigDecimal("1000");
+        if (price.compareTo(new BigDecimal("1000000")) >= 0) return new BigDecimal("500");
+        if (price.compareTo(new BigDecimal("500000")) >= 0) return new BigDecimal("100");
+        if (price.compareTo(new BigDecimal("100000")) >= 0) return new BigDecimal("50");
+        if (price.compareTo(new BigDecimal("10000")) >= 0) return new BigDecimal("10");
+        if (price.compareTo(new BigDecimal("5000")) >= 0) return new BigDecimal("5");
+        if (price.compareTo(new BigDecimal("100")) >= 0) return BigDecimal.ONE;
+        if (price.compareTo(BigDecimal.TEN) >= 0) return new BigDecimal("0.1");
+        if (price.compareTo(BigDecimal.ONE) >= 0) return new BigDecimal("0.01");
+        if (price.compareTo(new BigDecimal("0.1")) >= 0) return new BigDecimal("0.001");
+        if (price.compareTo(new BigDecimal("0.01")) >= 0) return new BigDecimal("0.0001");
+        if (price.compareTo(new BigDecimal("0.001")) >= 0) return new BigDecimal("0.00001");
+        if (price.compareTo(new BigDecimal("0.0001")) >= 0) return new BigDecimal("0.000001");
+        if (price.compareTo(new BigDecimal("0.00001")) >= 0) return new BigDecimal("0.0000001");
+        return new BigDecimal("0.00000001");
+    }
+
     private LocalDateTime parseCreatedAt(String createdAt) {
         if (createdAt == null || createdAt.isEmpty()) {
             return LocalDateTime.now();
@@ -1294,6 +994,13 @@ public class UpbitApiClient implements ExchangeApiClient {
         }
     }
     
+    // 캐시된 마켓 규칙의 최소 매도 금액 (없으면 마켓별 기본값, 거래소 호출 없음)
+    private BigDecimal getMinimumAskAmount(String market) {
+        return marketRulesStore.peek(ExchangeType.UPBIT, market)
+                .map(MarketRules::askMinTotal)
+                .orElseGet(() -> getUpbitMinimumOrderAmount(market));
+    }
+
     /**
      * 업비트 마켓별 최소 주문 금액 조회
      * 참고:
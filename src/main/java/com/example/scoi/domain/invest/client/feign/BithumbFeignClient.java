@@ -2,7 +2,6 @@ package com.example.scoi.domain.invest.client.feign;
 
 import com.example.scoi.global.client.dto.BithumbReqDTO;
 import com.example.scoi.global.client.dto.BithumbResDTO;
-import com.example.scoi.global.config.feign.BithumbFeignConfig;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,21 +12,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(
     name = "bithumbFeignClient",
-    url = "https://api.bithumb.com",
-    configuration = BithumbFeignConfig.class
+    url = "https://api.bithumb.com"
 )
 public interface BithumbFeignClient {
 
-    //전체 계좌 조회
-    @GetMapping("/v1/accounts")
-    BithumbResDTO.BalanceResponse[] getAccounts(@RequestHeader("Authorization") String authorization);
-
-    //주문 가능 정보 조회
-    @GetMapping("/v1/orders/chance")
-    BithumbResDTO.OrderChance getOrderChance(
-            @RequestHeader("Authorization") String authorization,
-            @RequestParam("market") String market
-    );
+    // 전체 계좌 조회, 주문 가능 정보 조회는 BithumbGateway 사용
 
     //주문 생성
     @PostMapping("/v1/orders")
@@ -2,7 +2,6 @@ package com.example.scoi.domain.invest.client.feign;
 
 import com.example.scoi.global.client.dto.UpbitReqDTO;
 import com.example.scoi.global.client.dto.UpbitResDTO;
-import com.example.scoi.global.config.feign.UpbitFeignConfig;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,20 +14,10 @@ import java.util.List;
 
 @FeignClient(
     name = "upbitFeignClient",
-    url = "https://api.upbit.com",
-    configuration = UpbitFeignConfig.class
+    url = "https://api.upbit.com"
 )
 public interface UpbitFeignClient {
-    //전체계좌조회
-    @GetMapping("/v1/accounts")
-    List<UpbitResDTO.Account> getAccounts(@RequestHeader("Authorization") String authorization);
-
-    //주문 가능 정보 조회
-    @GetMapping("/v1/orders/chance")
-    UpbitResDTO.OrderChance getOrderChance(
-            @RequestHeader("Authorization") String authorization,
-            @RequestParam("market") String market
-    );
+    // 전체 계좌 조회, 주문 가능 정보 조회는 UpbitGateway 사용
 
     //주문 생성 테스트 (실제 주문 생성 없이 검증)
     @PostMapping("/v1/orders/test")
@@ -31,6 +31,14 @@ public enum InvestErrorCode implements BaseErrorCode {
             "INVEST400_5",
             "주문 금액이 최소 주문 금액보다 낮습니다."),
 
+    INVALID_PRICE_UNIT(HttpStatus.BAD_REQUEST,
+            "INVEST400_6",
+            "주문 가격이 호가 단위에 맞지 않습니다."),
+
+    UNSUPPORTED_ORDER_TYPE(HttpStatus.BAD_REQUEST,
+            "INVEST400_7",
+            "해당 마켓에서 지원하지 않는 주문 방식입니다."),
+
     // 401 에러
     INSUFFICIENT_API_PERMISSION(HttpStatus.UNAUTHORIZED,
             "INVEST401_1",
@@ -7,9 +7,9 @@ import com.example.scoi.domain.invest.dto.InvestResDTO;
 import com.example.scoi.domain.invest.dto.MaxOrderInfoDTO;
 import com.example.scoi.domain.invest.exception.InvestException;
 import com.example.scoi.domain.invest.exception.code.InvestErrorCode;
-import com.example.scoi.domain.member.entity.Member;
 import com.example.scoi.domain.member.enums.ExchangeType;
-import com.example.scoi.domain.member.repository.MemberRepository;
+import com.example.scoi.domain.member.service.MemberLookupCache;
+import com.example.scoi.domain.member.service.MemberLookupCache.MemberSummary;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,13 +22,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class InvestService {
 
-    private final MemberRepository memberRepository;
+    private final MemberLookupCache memberLookupCache;
     private final BithumbApiClient bithumbApiClient;
     private final UpbitApiClient upbitApiClient;
     
     public MaxOrderInfoDTO getMaxOrderInfo(String phoneNumber, ExchangeType exchangeType, String coinType, String unitPrice, String orderType, String side) {
         // 사용자 존재 여부 확인
-        Member member = memberRepository.findByPhoneNumber(phoneNumber)
+        MemberSummary member = memberLookupCache.find(phoneNumber)
                 .orElseThrow(() -> new InvestException(InvestErrorCode.API_KEY_NOT_FOUND));
 
         // 시크릿 키 복호화하기 (JwtApiUtil 내부)
@@ -69,9 +69,9 @@ public class InvestService {
                 phoneNumber, exchangeType, market, side, orderType, price, volume);
         
         // 사용자 존재 여부 확인
-        Member member = memberRepository.findByPhoneNumber(phoneNumber)
+        MemberSummary member = memberLookupCache.find(phoneNumber)
                 .orElseThrow(() -> new InvestException(InvestErrorCode.API_KEY_NOT_FOUND));
-        log.info("사용자 조회 완료 - memberId: {}", member.getId());
+        log.info("사용자 조회 완료 - memberId: {}", member.id());
 
         // 시크릿 키 복호화하기
         // 쿼리 파라미터에 따라 빗썸 or 업비트 API 조회하기
@@ -116,7 +116,7 @@ public class InvestService {
             String password
     ) {
         // 사용자 존재 여부 확인
-        Member member = memberRepository.findByPhoneNumber(phoneNumber)
+        MemberSummary member = memberLookupCache.find(phoneNumber)
                 .orElseThrow(() -> new InvestException(InvestErrorCode.API_KEY_NOT_FOUND));
 
         // 간편 비밀번호 검증 (password는 암호화된 상태로 전달됨)
@@ -161,7 +161,7 @@ public class InvestService {
             String txid
     ) {
         // 사용자 존재 여부 확인
-        Member member = memberRepository.findByPhoneNumber(phoneNumber)
+        MemberSummary member = memberLookupCache.find(phoneNumber)
                 .orElseThrow(() -> new InvestException(InvestErrorCode.API_KEY_NOT_FOUND));
 
         // 거래소별 분기
@@ -3,6 +3,7 @@ package com.example.scoi.domain.member.entity;
 import com.example.scoi.domain.member.enums.MemberType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
@@ -15,7 +16,11 @@ import java.time.LocalDateTime;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "member")
+@Table(
+        name = "member",
+        uniqueConstraints = @UniqueConstraint(name = "uk_member_phone_number", columnNames = {"phone_number", "not_deleted"})
+)
+@DynamicUpdate
 @SQLDelete(sql = "UPDATE member SET deleted_at = now() WHERE id = ?")
 @SQLRestriction("deleted_at IS NULL")
 @EntityListeners(AuditingEntityListener.class)
@@ -58,6 +63,16 @@ public class Member {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 탈퇴하지 않았으면 1, 탈퇴했으면 NULL (DB 생성 컬럼, 탈퇴한 번호로 다시 가입할 수 있도록 유니크 키에 사용)
+    @Column(
+            name = "not_deleted",
+            insertable = false,
+            updatable = false,
+            columnDefinition = "TINYINT GENERATED ALWAYS AS (IF(deleted_at IS NULL, 1, NULL)) VIRTUAL"
+    )
+    private Integer notDeleted;
+
+    // LoginFailCountManager가 Redis 카운터를 주기적으로 반영하는 값 (잠금 판단은 LoginFailCountManager로)
     @Column(name = "login_fail_count", nullable = false)
     @Builder.Default
     private Integer loginFailCount = 0;
@@ -69,14 +84,6 @@ public class Member {
     private String profileImageUrl;
 
     // 업데이트
-    public void increaseLoginFailCount(){
-        this.loginFailCount++;
-    }
-
-    public void resetLoginFailCount(){
-        this.loginFailCount = 0;
-    }
-
     public void updateSimplePassword(String simplePassword){ this.simplePassword = simplePassword; }
 
     public void updateLastLoginAt(LocalDateTime lastLoginAt) {
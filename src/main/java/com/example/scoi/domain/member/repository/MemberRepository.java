@@ -5,7 +5,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -16,11 +18,15 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     // 휴대폰 번호 중복 체크
     boolean existsByPhoneNumber(String phoneNumber);
 
+    // 로그인 실패 횟수 반영 (LoginFailCountManager write-behind)
+    @Transactional
     @Modifying
-    @Query("UPDATE Member m SET m.loginFailCount = m.loginFailCount + 1 WHERE m.id = :memberId")
-    int incrementLoginFailCount(@Param("memberId") Long memberId);
+    @Query("UPDATE Member m SET m.loginFailCount = :loginFailCount WHERE m.id = :memberId")
+    int updateLoginFailCount(@Param("memberId") Long memberId, @Param("loginFailCount") int loginFailCount);
 
+    // 마지막 접속 시간 갱신 (RT 재발급 시)
+    @Transactional
     @Modifying
-    @Query("UPDATE Member m SET m.loginFailCount = 0 WHERE m.id = :memberId")
-    int resetLoginFailCount(@Param("memberId") Long memberId);
+    @Query("UPDATE Member m SET m.lastLoginAt = :lastLoginAt WHERE m.id = :memberId")
+    int updateLastLoginAt(@Param("memberId") Long memberId, @Param("lastLoginAt") LocalDateTime lastLoginAt);
 }
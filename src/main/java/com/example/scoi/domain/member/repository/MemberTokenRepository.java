@@ -2,9 +2,15 @@ package com.example.scoi.domain.member.repository;
 
 import com.example.scoi.domain.member.entity.MemberToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
+// RT 기준 저장소는 Redis(RefreshTokenStore)이고, 이 테이블은 감사 로그 용도로만 씁니다.
 public interface MemberTokenRepository extends JpaRepository<MemberToken, Long> {
 
     // 회원 ID로 토큰 조회
@@ -13,12 +19,23 @@ public interface MemberTokenRepository extends JpaRepository<MemberToken, Long>
     // 휴대폰 번호로 토큰 조회
     Optional<MemberToken> findByMemberPhoneNumber(String phoneNumber);
 
-    // Refresh Token으로 조회
-    Optional<MemberToken> findByRefreshToken(String refreshToken);
-
-    // 회원 ID로 토큰 삭제 (로그아웃 시)
+    // 회원 ID로 토큰 삭제 (재로그인 시)
+    @Transactional
     void deleteByMemberId(Long memberId);
 
-    // 휴대폰 번호로 토큰 삭제
+    // 휴대폰 번호로 토큰 삭제 (로그아웃 시)
+    @Transactional
     void deleteByMemberPhoneNumber(String phoneNumber);
-}
\ No newline at end of file
+
+    // RT 회전 기록 (issuedAt 유지)
+    @Transactional
+    @Modifying
+    @Query("UPDATE MemberToken t SET t.refreshToken = :refreshToken, t.expirationDate = :expirationDate, t.updatedAt = :updatedAt " +
+            "WHERE t.member.id = :memberId")
+    int updateRefreshToken(
+            @Param("memberId") Long memberId,
+            @Param("refreshToken") String refreshToken,
+            @Param("expirationDate") LocalDateTime expirationDate,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+}
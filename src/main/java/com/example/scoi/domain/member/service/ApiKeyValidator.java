@@ -0,0 +1,138 @@
+package com.example.scoi.domain.member.service;
+
+import com.example.scoi.domain.member.dto.MemberReqDTO;
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.BithumbClient;
+import com.example.scoi.global.client.UpbitClient;
+import com.example.scoi.global.client.converter.BithumbConverter;
+import com.example.scoi.global.client.converter.UpbitConverter;
+import com.example.scoi.global.client.snapshot.AccountSnapshot;
+import com.example.scoi.global.util.JwtApiUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 거래소 API 키 검증기
+ * 키마다 전체 계좌 조회(/v1/accounts)를 동시에 보내고, 200이 오면 유효한 키로 봅니다.
+ * 거래소별 타임아웃 안에 응답이 없으면 실패로 처리하며, 조회한 계좌는 스냅샷으로 돌려줘 잔고 캐시를 채우는 데 씁니다.
+ * 타임아웃은 요청이 실제로 시작된 시점부터 재므로, 다른 요청이 스레드를 쓰고 있어 대기열에서 기다린 시간은 포함하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyValidator {
+
+    // 한 번에 등록하는 키는 거래소 수(2개) 정도
+    private static final int MAX_CONCURRENCY = 4;
+
+    private final JwtApiUtil jwtApiUtil;
+    private final BithumbClient bithumbClient;
+    private final UpbitClient upbitClient;
+
+    @Value("${member.api-key.validation-timeout-millis.upbit:3000}")
+    private long upbitTimeoutMillis;
+
+    @Value("${member.api-key.validation-timeout-millis.bithumb:5000}")
+    private long bithumbTimeoutMillis;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(MAX_CONCURRENCY, runnable -> {
+        Thread thread = new Thread(runnable, "api-key-validator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * API 키들을 동시에 검증합니다.
+     * @param apiKeys 등록 요청한 API 키 목록
+     * @return 요청 순서대로의 검증 결과
+     */
+    public List<Result> validateAll(List<MemberReqDTO.PostPatchApiKey> apiKeys) {
+        List<CompletableFuture<AccountSnapshot>> futures = new ArrayList<>();
+        for (MemberReqDTO.PostPatchApiKey apiKey : apiKeys) {
+            CompletableFuture<AccountSnapshot> future = new CompletableFuture<>();
+            executor.execute(() -> {
+                // 실행이 시작된 시점부터 거래소별 타임아웃 적용
+                future.orTimeout(timeoutMillis(apiKey.exchangeType()), TimeUnit.MILLISECONDS);
+                try {
+                    future.complete(fetch(apiKey));
+                } catch (GeneralSecurityException | RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+            futures.add(future);
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (int idx = 0; idx < futures.size(); idx++) {
+            MemberReqDTO.PostPatchApiKey apiKey = apiKeys.get(idx);
+            results.add(new Result(apiKey, await(futures.get(idx), apiKey.exchangeType())));
+        }
+        return results;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private AccountSnapshot fetch(MemberReqDTO.PostPatchApiKey apiKey) throws GeneralSecurityException {
+        String token = jwtApiUtil.createJwtWithApiKeys(apiKey.publicKey(), apiKey.secretKey(), apiKey.exchangeType());
+        return switch (apiKey.exchangeType()) {
+            case BITHUMB -> BithumbConverter.toAccountSnapshot(bithumbClient.getAccount(token));
+            case UPBIT -> UpbitConverter.toAccountSnapshot(upbitClient.getAccount(token));
+        };
+    }
+
+    // JWT 생성 실패(잘못된 키 형식), 거래소 4XX/5XX, 타임아웃은 모두 검증 실패 (null)
+    // 시작된 요청은 타임아웃으로 반드시 끝나므로 여기서는 따로 시간 제한을 두지 않음
+    private AccountSnapshot await(CompletableFuture<AccountSnapshot> future, ExchangeType exchangeType) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                log.info("[API키 등록]: 검증 시간 초과 - exchangeType: {}", exchangeType);
+            } else {
+                log.info("[API키 등록]: 검증 실패 - exchangeType: {}, {}", exchangeType, e.getCause().getMessage());
+            }
+            return null;
+        }
+    }
+
+    private long timeoutMillis(ExchangeType exchangeType) {
+        return switch (exchangeType) {
+            case UPBIT -> upbitTimeoutMillis;
+            case BITHUMB -> bithumbTimeoutMillis;
+        };
+    }
+
+    /**
+     * API 키 검증 결과
+     * @param apiKey 요청한 API 키
+     * @param snapshot 검증에 사용한 계좌 조회 결과 (검증 실패 시 null)
+     */
+    public record Result(
+            MemberReqDTO.PostPatchApiKey apiKey,
+            AccountSnapshot snapshot
+    ) {
+        public boolean isValid() {
+            return snapshot != null;
+        }
+    }
+}
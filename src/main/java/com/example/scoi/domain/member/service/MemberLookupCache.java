@@ -0,0 +1,117 @@
+package com.example.scoi.domain.member.service;
+
+import com.example.scoi.domain.member.entity.Member;
+import com.example.scoi.domain.member.enums.MemberType;
+import com.example.scoi.domain.member.repository.MemberRepository;
+import com.example.scoi.global.security.userdetails.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 휴대폰 번호 -> 회원 요약 정보 캐시
+ * 인증 필터와 서비스가 같은 요청 안에서 같은 회원을 다시 조회하지 않도록 합니다.
+ * - 요청 범위: 인증된 요청이면 SecurityContext의 CustomUserDetails를 그대로 사용 (DB/캐시 조회 없음)
+ * - 공유 범위: ttl-millis 동안 메모리에 보관 (다른 서버의 변경은 TTL 안에서만 늦게 반영됨)
+ * 엔티티가 아닌 요약 정보(id, 휴대폰 번호, 회원 유형, 잠금 여부)만 보관하므로,
+ * 엔티티를 수정하거나 연관관계로 저장할 때는 memberRepository.getReferenceById(id)를 사용합니다.
+ * 회원 정보(잠금 여부 등)가 바뀌면 evict로 비워야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberLookupCache {
+
+    // CustomUserDetails.isAccountNonLocked와 같은 기준
+    private static final int LOCK_THRESHOLD = 5;
+
+    private final MemberRepository memberRepository;
+
+    @Value("${member.cache.ttl-millis:30000}")
+    private long ttlMillis;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 회원 요약 정보를 조회합니다.
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @return 회원 요약 정보 (탈퇴했거나 없으면 empty)
+     */
+    public Optional<MemberSummary> find(String phoneNumber) {
+        // 1. 요청 범위 (인증 필터에서 이미 조회한 회원)
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                && userDetails.getUsername().equals(phoneNumber)) {
+            return Optional.of(userDetails.getMember());
+        }
+
+        // 2. 공유 범위
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(phoneNumber);
+        if (cached != null && cached.expiresAt() > now) {
+            return Optional.of(cached.summary());
+        }
+
+        // 3. DB (없는 회원은 캐시하지 않음 -> 가입 직후 바로 조회 가능)
+        Optional<MemberSummary> loaded = memberRepository.findByPhoneNumber(phoneNumber).map(MemberSummary::from);
+        loaded.ifPresent(summary -> entries.put(phoneNumber, new Entry(summary, now + ttlMillis)));
+        return loaded;
+    }
+
+    /**
+     * 회원 정보 변경 후 캐시를 비웁니다.
+     * @param phoneNumber 사용자 휴대폰 번호
+     */
+    public void evict(String phoneNumber) {
+        entries.remove(phoneNumber);
+    }
+
+    /**
+     * 회원 ID로 캐시를 비웁니다. (휴대폰 번호를 모르는 write-behind 반영 등)
+     * @param memberId 회원 ID
+     */
+    public void evict(Long memberId) {
+        entries.values().removeIf(entry -> entry.summary().id().equals(memberId));
+    }
+
+    // 만료된 항목 정리
+    @Scheduled(fixedDelayString = "${member.cache.ttl-millis:30000}")
+    void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    /**
+     * 회원 요약 정보
+     * @param id 회원 ID
+     * @param phoneNumber 휴대폰 번호
+     * @param memberType 회원 유형
+     * @param locked 로그인 실패로 잠긴 계정인지 (DB 반영 값 기준)
+     */
+    public record MemberSummary(
+            Long id,
+            String phoneNumber,
+            MemberType memberType,
+            boolean locked
+    ) {
+        public static MemberSummary from(Member member) {
+            return new MemberSummary(
+                    member.getId(),
+                    member.getPhoneNumber(),
+                    member.getMemberType(),
+                    member.getLoginFailCount() >= LOCK_THRESHOLD
+            );
+        }
+    }
+
+    private record Entry(MemberSummary summary, long expiresAt) {
+    }
+}
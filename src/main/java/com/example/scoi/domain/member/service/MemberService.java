@@ -1,5 +1,7 @@
 package com.example.scoi.domain.member.service;
 
+import com.example.scoi.domain.auth.service.LoginFailCountManager;
+import com.example.scoi.domain.charge.service.DepositAddressDirectory;
 import com.example.scoi.domain.member.converter.MemberConverter;
 import com.example.scoi.domain.member.dto.MemberReqDTO;
 import com.example.scoi.domain.member.dto.MemberResDTO;
@@ -12,19 +14,19 @@ import com.example.scoi.domain.member.repository.MemberApiKeyRepository;
 import com.example.scoi.domain.member.repository.MemberFcmRepository;
 import com.example.scoi.domain.member.repository.MemberRepository;
 import com.example.scoi.global.apiPayload.code.GeneralErrorCode;
-import com.example.scoi.global.client.BithumbClient;
-import com.example.scoi.global.client.UpbitClient;
+import com.example.scoi.global.client.snapshot.AccountSnapshot;
+import com.example.scoi.global.client.snapshot.AccountSnapshotService;
 import com.example.scoi.global.redis.RedisUtil;
+import com.example.scoi.global.security.password.PasswordVerifier;
 import com.example.scoi.global.util.FcmUtil;
 import com.example.scoi.global.util.HashUtil;
-import com.example.scoi.global.util.JwtApiUtil;
 import com.google.firebase.messaging.FirebaseMessagingException;
-import feign.FeignException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.security.GeneralSecurityException;
 import java.util.*;
@@ -35,18 +37,18 @@ import java.util.*;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberLookupCache memberLookupCache;
     private final MemberApiKeyRepository memberApiKeyRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginFailCountManager loginFailCountManager;
     private final HashUtil hashUtil;
-    private final JwtApiUtil jwtApiUtil;
-    private final BithumbClient bithumbClient;
-    private final UpbitClient upbitClient;
+    private final AccountSnapshotService accountSnapshotService;
+    private final ApiKeyValidator apiKeyValidator;
+    private final DepositAddressDirectory depositAddressDirectory;
     private final MemberFcmRepository memberFcmRepository;
     private final RedisUtil redisUtil;
     private final FcmUtil fcmUtil;
 
-    // 인증 완료된 전화번호 접두사
-    private static final String VERIFICATION_PREFIX = "verification:";
     // 간편 비밀번호 정규표현식
     private static final String SIMPLE_PASSWORD_REGEX = "^[0-9]{6}$";
 
@@ -99,21 +101,21 @@ public class MemberService {
         }
 
         // 로그인 횟수가 5 이상인지 확인
-        if (member.getLoginFailCount() >= 4){
+        if (loginFailCountManager.getFailCount(member) >= LoginFailCountManager.MAX_FAIL_COUNT - 1){
             throw new MemberException(MemberErrorCode.LOCKED);
         }
 
         // 기존 비밀번호가 맞는지 확인: 틀렸을 경우 로그인 실패 횟수 증가
-        if (!passwordEncoder.matches(oldSimplePassword, member.getSimplePassword())) {
-            member.increaseLoginFailCount();
+        if (!passwordVerifier.matches(phoneNumber, oldSimplePassword, member.getSimplePassword())) {
+            int failCount = loginFailCountManager.increaseFailCount(member);
             Map<String, String> binding = new HashMap<>();
-            binding.put("loginFailCount", member.getLoginFailCount().toString());
+            binding.put("loginFailCount", String.valueOf(failCount));
             return Optional.of(binding);
         }
 
         // 간편 비밀번호 변경: 새 비밀번호 DB 저장 & LoginFailCount = 0
-        member.updateSimplePassword(passwordEncoder.encode(newSimplePassword));
-        member.resetLoginFailCount();
+        member.updateSimplePassword(passwordVerifier.encode(newSimplePassword));
+        loginFailCountManager.resetFailCount(member);
         return Optional.empty();
     }
 
@@ -156,65 +158,69 @@ public class MemberService {
             List<MemberReqDTO.PostPatchApiKey> dto
     ) {
 
-        Member member = memberRepository.findByPhoneNumber(phoneNumber)
-                .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND));
-
-        // 기존 등록한 API 리스트 조회
-        List<MemberApiKey> memberApiKeyList = memberApiKeyRepository.findAllByMember(member);
-
-        List<String> result = new ArrayList<>();
+        Member member = getMemberReference(phoneNumber);
 
-        // API 리스트 for문
-        for (MemberReqDTO.PostPatchApiKey i : dto){
-
-            log.info("[API키 등록]: 시크릿 키: {}", i.secretKey());
-            // 실제 API키가 맞는지 검증: JWT 토큰 생성한 뒤 실제 요청을 보냈을때 200 오면 OK
-            try {
-                String token = jwtApiUtil.createJwtWithApiKeys(i.publicKey(),i.secretKey(),i.exchangeType());
-                switch (i.exchangeType().name()){
-                    case "BITHUMB":
-                        bithumbClient.getAccount(token);
-                        break;
-                    case "UPBIT":
-                        upbitClient.getAccount(token);
-                        break;
-                }
-            // JWT 토큰 생성 실패시: dto 거래소 타입이 잘못됨, 잘못된 API 키
-            // 요청을 보낼때 에러 (4XX) 발생시
-            } catch (GeneralSecurityException | IllegalArgumentException | FeignException e) {
-                log.info("[API키 등록]: 검증 실패");
-                log.info(e.getMessage());
+        // 실제 API키가 맞는지 검증: 거래소별로 동시에 계좌 조회를 보내 200이 오면 OK
+        // JWT 토큰 생성 실패(거래소 타입이 잘못됨, 잘못된 API 키), 4XX, 시간 초과는 건너뜀
+        Map<ExchangeType, ApiKeyValidator.Result> validated = new LinkedHashMap<>();
+        for (ApiKeyValidator.Result validation : apiKeyValidator.validateAll(dto)) {
+            if (!validation.isValid()) {
                 continue;
             }
+            log.info("[API키 등록]: 검증 성공 - exchangeType: {}", validation.apiKey().exchangeType());
+            // 같은 거래소를 여러 번 보냈으면 마지막 키로 등록
+            validated.put(validation.apiKey().exchangeType(), validation);
+        }
+        if (validated.isEmpty()) {
+            return List.of();
+        }
 
-            log.info("[API키 등록]: 검증 성공");
-            // 정상적인 요청
-            boolean isExist = false;
-            for (MemberApiKey apiKey : memberApiKeyList){
-
-                // 이미 등록된 거래소가 존재할 경우
-                if (i.exchangeType().name().equals(apiKey.getExchangeType().name())){
-                    isExist = true;
-                    apiKey.updateApiKey(i.publicKey(), i.secretKey());
-                    result.add(apiKey.getExchangeType().name());
-                    log.info("[API키 등록]: API키 변경 완료");
-                }
-            }
+        // 기존 등록한 API 리스트 조회
+        Map<ExchangeType, MemberApiKey> registered = new EnumMap<>(ExchangeType.class);
+        for (MemberApiKey apiKey : memberApiKeyRepository.findAllByMember(member)) {
+            registered.put(apiKey.getExchangeType(), apiKey);
+        }
 
-            // 등록되지 않은 거래소인 경우
-            // 추가
-            if (!isExist){
-                MemberApiKey apiKey = MemberConverter.toMemberApiKey(
+        // 등록/변경을 모아서 한 번에 반영 (변경은 트랜잭션 종료 시 함께 flush)
+        List<MemberApiKey> created = new ArrayList<>();
+        List<AccountSnapshot> snapshots = new ArrayList<>();
+        List<String> result = new ArrayList<>();
+        for (ApiKeyValidator.Result validation : validated.values()) {
+            MemberReqDTO.PostPatchApiKey i = validation.apiKey();
+            MemberApiKey apiKey = registered.get(i.exchangeType());
+
+            // 이미 등록된 거래소가 존재할 경우
+            if (apiKey != null) {
+                apiKey.updateApiKey(i.publicKey(), i.secretKey());
+                // 다른 계정의 키일 수 있으므로 저장된 입금 주소 제거
+                depositAddressDirectory.invalidate(phoneNumber, i.exchangeType());
+                log.info("[API키 등록]: API키 변경 완료");
+            // 등록되지 않은 거래소인 경우 추가
+            } else {
+                created.add(MemberConverter.toMemberApiKey(
                         i.exchangeType(),
                         i.publicKey(),
                         i.secretKey(),
                         member
-                );
-                memberApiKeyRepository.save(apiKey);
-                result.add(i.exchangeType().name());
-                log.info("[API키 등록]: API키 엔티티 생성 완료");
+                ));
             }
+
+            snapshots.add(validation.snapshot());
+            result.add(i.exchangeType().name());
         }
+        if (!created.isEmpty()) {
+            memberApiKeyRepository.saveAll(created);
+            log.info("[API키 등록]: API키 엔티티 생성 완료 - {}건", created.size());
+        }
+
+        // 검증에 사용한 계좌 조회 결과로 잔고 캐시 채우기 (첫 지갑 화면이 거래소를 기다리지 않도록)
+        // 롤백되면 등록되지 않은 키의 잔고가 캐시에 남으므로 커밋 후에 채움
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshots.forEach(snapshot -> accountSnapshotService.warm(phoneNumber, snapshot));
+            }
+        });
         return result;
     }
 
@@ -234,6 +240,8 @@ public class MemberService {
 
         // 있다면 지우기
         memberApiKeyRepository.deleteByMember_PhoneNumberAndExchangeType(phoneNumber, dto.exchangeType());
+        accountSnapshotService.evict(phoneNumber, dto.exchangeType());
+        depositAddressDirectory.invalidate(phoneNumber, dto.exchangeType());
 
         return null;
     }
@@ -245,8 +253,7 @@ public class MemberService {
             MemberReqDTO.PostFcmToken dto
     ) {
 
-        Member member = memberRepository.findByPhoneNumber(phoneNumber)
-                .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND));
+        Member member = getMemberReference(phoneNumber);
 
         // FCM 토큰 저장 (로그인 -> 추가, 현재 로그인 된 디바이스)
         memberFcmRepository.findByMember(member)
@@ -262,4 +269,12 @@ public class MemberService {
 
         return null;
     }
+
+    // 연관관계 저장용 회원 참조 (인증 시 조회한 회원 정보를 재사용, SELECT 없음)
+    private Member getMemberReference(String phoneNumber) {
+        Long memberId = memberLookupCache.find(phoneNumber)
+                .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND))
+                .id();
+        return memberRepository.getReferenceById(memberId);
+    }
 }
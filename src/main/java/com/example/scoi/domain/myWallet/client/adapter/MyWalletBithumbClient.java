@@ -8,10 +8,15 @@ import com.example.scoi.domain.myWallet.dto.TopupClientDTO;
 import com.example.scoi.domain.myWallet.dto.WithdrawClientDTO;
 import com.example.scoi.domain.myWallet.enums.OrderState;
 import com.example.scoi.domain.myWallet.enums.PeriodType;
+import com.example.scoi.domain.member.enums.ExchangeType;
 import com.example.scoi.domain.member.exception.MemberException;
 import com.example.scoi.domain.myWallet.exception.MyWalletException;
 import com.example.scoi.domain.myWallet.exception.code.MyWalletErrorCode;
 import com.example.scoi.global.client.dto.BithumbResDTO;
+import com.example.scoi.global.client.exception.ExchangeApiException;
+import com.example.scoi.global.client.ratelimit.ExchangeRateLimitException;
+import com.example.scoi.global.client.snapshot.AccountSnapshot;
+import com.example.scoi.global.client.snapshot.AccountSnapshotService;
 import com.example.scoi.global.util.JwtApiUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +36,7 @@ public class MyWalletBithumbClient implements MyWalletExchangeClient {
 
     private final MyWalletBithumbFeignClient bithumbFeignClient;
     private final JwtApiUtil jwtApiUtil;
+    private final AccountSnapshotService accountSnapshotService;
 
     private static final int MAX_LIMIT = 100;
     private static final String ORDER_DESC = "desc";
@@ -42,20 +48,14 @@ public class MyWalletBithumbClient implements MyWalletExchangeClient {
         try {
             log.info("빗썸 계좌 잔고 조회 시작 - phoneNumber: {}", phoneNumber);
 
-            String authorization = jwtApiUtil.createBithumbJwt(phoneNumber, "", null);
-            var accounts = bithumbFeignClient.getAccounts(authorization);
+            AccountSnapshot snapshot = accountSnapshotService.getSnapshot(phoneNumber, ExchangeType.BITHUMB);
 
             Map<String, BigDecimal> balances = new HashMap<>();
-            for (var account : accounts) {
-                if (CURRENCIES.contains(account.currency())) {
-                    BigDecimal total = new BigDecimal(account.balance())
-                            .add(new BigDecimal(account.locked()));
-                    balances.put(account.currency(), total);
-                }
-            }
-
             for (String currency : CURRENCIES) {
-                balances.putIfAbsent(currency, BigDecimal.ZERO);
+                BigDecimal total = snapshot.find(currency)
+                        .map(AccountSnapshot.Balance::total)
+                        .orElse(BigDecimal.ZERO);
+                balances.put(currency, total);
             }
 
             log.info("빗썸 계좌 잔고 조회 완료 - balances: {}", balances);
@@ -215,17 +215,15 @@ public class MyWalletBithumbClient implements MyWalletExchangeClient {
         try {
             log.info("빗썸 원화 자산 조회 시작 - phoneNumber: {}", phoneNumber);
 
-            String authorization = jwtApiUtil.createBithumbJwt(phoneNumber, "", null);
-            var accounts = bithumbFeignClient.getAccounts(authorization);
-
-            for (var account : accounts) {
-                if ("KRW".equals(account.currency())) {
-                    log.info("빗썸 원화 자산 조회 완료 - balance: {}", account.balance());
-                    return MyWalletResDTO.KrwBalanceDTO.builder()
-                            .currency("KRW")
-                            .balance(account.balance() != null ? account.balance() : "0")
-                            .build();
-                }
+            AccountSnapshot snapshot = accountSnapshotService.getSnapshot(phoneNumber, ExchangeType.BITHUMB);
+
+            var account = snapshot.find("KRW").orElse(null);
+            if (account != null) {
+                log.info("빗썸 원화 자산 조회 완료 - balance: {}", account.balance());
+                return MyWalletResDTO.KrwBalanceDTO.builder()
+                        .currency("KRW")
+                        .balance(account.balance() != null ? account.balance() : "0")
+                        .build();
             }
 
             // KRW 계좌가 없는 경우 0으로 반환
@@ -254,6 +252,7 @@ public class MyWalletBithumbClient implements MyWalletExchangeClient {
             WithdrawClientDTO.WithdrawKrwResponse response = bithumbFeignClient.withdrawKrw(authorization, requestBody);
 
             log.info("빗썸 원화 출금 요청 완료 - uuid: {}", response.uuid());
+            accountSnapshotService.evict(phoneNumber, ExchangeType.BITHUMB);
             return MyWalletResDTO.WithdrawKrwDTO.builder()
                     .currency("KRW")
                     .uuid(response.uuid())
@@ -283,26 +282,25 @@ public class MyWalletBithumbClient implements MyWalletExchangeClient {
             log.error("{} 실패 - JWT 생성 실패", operation, e);
             return new MyWalletException(MyWalletErrorCode.EXCHANGE_API_ERROR);
         }
+        // 거래소 에러 응답은 FeignErrorDecoder가 ExchangeApiException으로 변환해 둠
+        int status = e instanceof ExchangeApiException exchangeError ? exchangeError.status() : 0;
         // Feign 401: 권한 부족
-        if (e instanceof feign.FeignException.Unauthorized) {
+        if (status == 401) {
             log.error("{} 실패 - API 키 권한 부족", operation, e);
             return new MyWalletException(MyWalletErrorCode.INSUFFICIENT_API_PERMISSION);
         }
         // Feign 429: Rate Limit 초과
-        if (e instanceof feign.FeignException.TooManyRequests) {
+        if (status == 429 || e instanceof ExchangeRateLimitException) {
             log.error("{} 실패 - 거래소 API 호출 한도 초과", operation, e);
             return new MyWalletException(MyWalletErrorCode.EXCHANGE_RATE_LIMIT);
         }
         // Feign 500+: 거래소 서버 에러
-        if (e instanceof feign.FeignException.InternalServerError
-                || e instanceof feign.FeignException.BadGateway
-                || e instanceof feign.FeignException.ServiceUnavailable) {
+        if (status == 500 || status == 502 || status == 503) {
             log.error("{} 실패 - 거래소 서버 에러", operation, e);
             return new MyWalletException(MyWalletErrorCode.EXCHANGE_SERVER_ERROR);
         }
         // Feign 504 또는 타임아웃
-        if (e instanceof feign.FeignException.GatewayTimeout
-                || e instanceof feign.RetryableException) {
+        if (status == 504 || e instanceof feign.RetryableException) {
             log.error("{} 실패 - 거래소 API 타임아웃", operation, e);
             return new MyWalletException(MyWalletErrorCode.EXCHANGE_TIMEOUT);
         }
@@ -8,10 +8,15 @@ import com.example.scoi.domain.myWallet.dto.TopupClientDTO;
 import com.example.scoi.domain.myWallet.dto.WithdrawClientDTO;
 import com.example.scoi.domain.myWallet.enums.OrderState;
 import com.example.scoi.domain.myWallet.enums.PeriodType;
+import com.example.scoi.domain.member.enums.ExchangeType;
 import com.example.scoi.domain.member.exception.MemberException;
 import com.example.scoi.domain.myWallet.exception.MyWalletException;
 import com.example.scoi.domain.myWallet.exception.code.MyWalletErrorCode;
 import com.example.scoi.global.client.dto.UpbitResDTO;
+import com.example.scoi.global.client.exception.ExchangeApiException;
+import com.example.scoi.global.client.ratelimit.ExchangeRateLimitException;
+import com.example.scoi.global.client.snapshot.AccountSnapshot;
+import com.example.scoi.global.client.snapshot.AccountSnapshotService;
 import com.example.scoi.global.util.JwtApiUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +38,7 @@ public class MyWalletUpbitClient implements MyWalletExchangeClient {
 
     private final MyWalletUpbitFeignClient upbitFeignClient;
     private final JwtApiUtil jwtApiUtil;
+    private final AccountSnapshotService accountSnapshotService;
 
     private static final int MAX_LIMIT = 100;
     private static final String ORDER_DESC = "desc";
@@ -46,20 +52,14 @@ public class MyWalletUpbitClient implements MyWalletExchangeClient {
         try {
             log.info("업비트 계좌 잔고 조회 시작 - phoneNumber: {}", phoneNumber);
 
-            String authorization = jwtApiUtil.createUpBitJwt(phoneNumber, null, null);
-            var accounts = upbitFeignClient.getAccounts(authorization);
+            AccountSnapshot snapshot = accountSnapshotService.getSnapshot(phoneNumber, ExchangeType.UPBIT);
 
             Map<String, BigDecimal> balances = new HashMap<>();
-            for (var account : accounts) {
-                if (CURRENCIES.contains(account.currency())) {
-                    BigDecimal total = new BigDecimal(account.balance())
-                            .add(new BigDecimal(account.locked()));
-                    balances.put(account.currency(), total);
-                }
-            }
-
             for (String currency : CURRENCIES) {
-                balances.putIfAbsent(currency, BigDecimal.ZERO);
+                BigDecimal total = snapshot.find(currency)
+                        .map(AccountSnapshot.Balance::total)
+                        .orElse(BigDecimal.ZERO);
+                balances.put(currency, total);
             }
 
             log.info("업비트 계좌 잔고 조회 완료 - balances: {}", balances);
@@ -293,17 +293,15 @@ public class MyWalletUpbitClient implements MyWalletExchangeClient {
         try {
             log.info("업비트 원화 자산 조회 시작 - phoneNumber: {}", phoneNumber);
 
-            String authorization = jwtApiUtil.createUpBitJwt(phoneNumber, null, null);
-            var accounts = upbitFeignClient.getAccounts(authorization);
+            AccountSnapshot snapshot = accountSnapshotService.getSnapshot(phoneNumber, ExchangeType.UPBIT);
 
-            for (var account : accounts) {
-                if ("KRW".equals(account.currency())) {
-                    log.info("업비트 원화 자산 조회 완료 - balance: {}", account.balance());
-                    return MyWalletResDTO.KrwBalanceDTO.builder()
-                            .currency("KRW")
-                            .balance(account.balance() != null ? account.balance() : "0")
-                            .build();
-                }
+            var account = snapshot.find("KRW").orElse(null);
+            if (account != null) {
+                log.info("업비트 원화 자산 조회 완료 - balance: {}", account.balance());
+                return MyWalletResDTO.KrwBalanceDTO.builder()
+                        .currency("KRW")
+                        .balance(account.balance() != null ? account.balance() : "0")
+                        .build();
             }
 
             // KRW 계좌가 없는 경우 0으로 반환
@@ -332,6 +330,7 @@ public class MyWalletUpbitClient implements MyWalletExchangeClient {
             WithdrawClientDTO.WithdrawKrwResponse response = upbitFeignClient.withdrawKrw(authorization, requestBody);
 
             log.info("업비트 원화 출금 요청 완료 - uuid: {}", response.uuid());
+            accountSnapshotService.evict(phoneNumber, ExchangeType.UPBIT);
             return MyWalletResDTO.WithdrawKrwDTO.builder()
                     .currency("KRW")
                     .uuid(response.uuid())
@@ -358,22 +357,21 @@ public class MyWalletUpbitClient implements MyWalletExchangeClient {
             log.error("{} 실패 - JWT 생성 실패", operation, e);
             return new MyWalletException(MyWalletErrorCode.EXCHANGE_API_ERROR);
         }
-        if (e instanceof feign.FeignException.Unauthorized) {
+        // 거래소 에러 응답은 FeignErrorDecoder가 ExchangeApiException으로 변환해 둠
+        int status = e instanceof ExchangeApiException exchangeError ? exchangeError.status() : 0;
+        if (status == 401) {
             log.error("{} 실패 - API 키 권한 부족", operation, e);
             return new MyWalletException(MyWalletErrorCode.INSUFFICIENT_API_PERMISSION);
         }
-        if (e instanceof feign.FeignException.TooManyRequests) {
+        if (status == 429 || e instanceof ExchangeRateLimitException) {
             log.error("{} 실패 - 거래소 API 호출 한도 초과", operation, e);
             return new MyWalletException(MyWalletErrorCode.EXCHANGE_RATE_LIMIT);
         }
-        if (e instanceof feign.FeignException.InternalServerError
-                || e instanceof feign.FeignException.BadGateway
-                || e instanceof feign.FeignException.ServiceUnavailable) {
+        if (status == 500 || status == 502 || status == 503) {
             log.error("{} 실패 - 거래소 서버 에러", operation, e);
             return new MyWalletException(MyWalletErrorCode.EXCHANGE_SERVER_ERROR);
         }
-        if (e instanceof feign.FeignException.GatewayTimeout
-                || e instanceof feign.RetryableException) {
+        if (status == 504 || e instanceof feign.RetryableException) {
             log.error("{} 실패 - 거래소 API 타임아웃", operation, e);
             return new MyWalletException(MyWalletErrorCode.EXCHANGE_TIMEOUT);
         }
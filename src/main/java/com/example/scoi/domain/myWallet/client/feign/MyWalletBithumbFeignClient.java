@@ -1,6 +1,5 @@
 package com.example.scoi.domain.myWallet.client.feign;
 
-import com.example.scoi.domain.myWallet.dto.BalanceClientDTO;
 import com.example.scoi.domain.myWallet.dto.TopupClientDTO;
 import com.example.scoi.domain.myWallet.dto.WithdrawClientDTO;
 import com.example.scoi.global.client.dto.BithumbResDTO;
@@ -15,8 +14,7 @@ import java.util.List;
 
 @FeignClient(
     name = "myWalletBithumbFeignClient",
-    url = "https://api.bithumb.com",
-    configuration = com.example.scoi.global.config.feign.BithumbFeignConfig.class
+    url = "https://api.bithumb.com"
 )
 public interface MyWalletBithumbFeignClient {
 
@@ -40,12 +38,6 @@ public interface MyWalletBithumbFeignClient {
             @RequestParam(value = "order_by", required = false) String orderBy
     );
 
-    // 전체 계좌 조회 (잔고)
-    @GetMapping("/v1/accounts")
-    List<BalanceClientDTO.AccountInfo> getAccounts(
-            @RequestHeader("Authorization") String authorization
-    );
-
     // 주문 리스트 조회 (충전 거래 내역)
     @GetMapping("/v1/orders")
     List<TopupClientDTO.BithumbOrder> getOrders(
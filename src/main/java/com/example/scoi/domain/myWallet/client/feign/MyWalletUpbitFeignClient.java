@@ -1,6 +1,5 @@
 package com.example.scoi.domain.myWallet.client.feign;
 
-import com.example.scoi.domain.myWallet.dto.BalanceClientDTO;
 import com.example.scoi.domain.myWallet.dto.TopupClientDTO;
 import com.example.scoi.domain.myWallet.dto.WithdrawClientDTO;
 import com.example.scoi.global.client.dto.UpbitResDTO;
@@ -15,8 +14,7 @@ import java.util.List;
 
 @FeignClient(
     name = "myWalletUpbitFeignClient",
-    url = "https://api.upbit.com",
-    configuration = com.example.scoi.global.config.feign.UpbitFeignConfig.class
+    url = "https://api.upbit.com"
 )
 public interface MyWalletUpbitFeignClient {
 
@@ -40,12 +38,6 @@ public interface MyWalletUpbitFeignClient {
             @RequestParam(value = "order_by", required = false) String orderBy
     );
 
-    // 전체 계좌 조회 (잔고)
-    @GetMapping("/v1/accounts")
-    List<BalanceClientDTO.AccountInfo> getAccounts(
-            @RequestHeader("Authorization") String authorization
-    );
-
     // 종료 주문 목록 조회 (완료/취소)
     @GetMapping("/v1/orders/closed")
     List<TopupClientDTO.UpbitOrder> getClosedOrders(
@@ -19,6 +19,9 @@ public class MyWalletReqDTO {
             Long amount,
 
             @NotNull(message = "2차 인증 수단은 필수입니다.")
-            MFAType MFA
+            MFAType MFA,
+
+            // 멱등성 키 (선택, 중복 요청 방지용 UUID)
+            String idempotentKey
     ) {}
 }
@@ -56,6 +56,11 @@ public enum MyWalletErrorCode implements BaseErrorCode {
             "MYWALLET404_2",
             "사용자를 찾을 수 없습니다."),
 
+    // 423 에러
+    DUPLICATE_REQUEST(HttpStatus.LOCKED,
+            "MYWALLET423_1",
+            "이미 처리 중인 출금 요청입니다."),
+
     // 429 에러
     EXCHANGE_RATE_LIMIT(HttpStatus.TOO_MANY_REQUESTS,
             "MYWALLET429_1",
@@ -1,8 +1,7 @@
 package com.example.scoi.domain.myWallet.service;
 
-import com.example.scoi.domain.member.entity.Member;
 import com.example.scoi.domain.member.enums.ExchangeType;
-import com.example.scoi.domain.member.repository.MemberRepository;
+import com.example.scoi.domain.member.service.MemberLookupCache;
 import com.example.scoi.domain.myWallet.client.MyWalletExchangeClient;
 import com.example.scoi.domain.myWallet.client.adapter.MyWalletBithumbClient;
 import com.example.scoi.domain.myWallet.client.adapter.MyWalletUpbitClient;
@@ -17,10 +16,13 @@ import com.example.scoi.domain.myWallet.enums.RemitType;
 import com.example.scoi.domain.myWallet.enums.TopupType;
 import com.example.scoi.domain.myWallet.exception.MyWalletException;
 import com.example.scoi.domain.myWallet.exception.code.MyWalletErrorCode;
+import com.example.scoi.global.redis.idempotency.IdempotencyScope;
+import com.example.scoi.global.redis.idempotency.IdempotencyStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -40,9 +42,10 @@ import java.util.Map;
 @Slf4j
 public class MyWalletService {
 
-    private final MemberRepository memberRepository;
+    private final MemberLookupCache memberLookupCache;
     private final MyWalletBithumbClient myWalletBithumbClient;
     private final MyWalletUpbitClient myWalletUpbitClient;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * 거래 내역(입출금) 전체 조회
@@ -64,7 +67,7 @@ public class MyWalletService {
             int limit
     ) {
         // 1. 사용자 존재 여부 확인
-        memberRepository.findByPhoneNumber(phoneNumber)
+        memberLookupCache.find(phoneNumber)
                 .orElseThrow(() -> new MyWalletException(MyWalletErrorCode.MEMBER_NOT_FOUND));
 
         // 2. 거래소 클라이언트 선택
@@ -193,7 +196,7 @@ public class MyWalletService {
             int limit
     ) {
         // 1. 사용자 존재 여부 확인
-        memberRepository.findByPhoneNumber(phoneNumber)
+        memberLookupCache.find(phoneNumber)
                 .orElseThrow(() -> new MyWalletException(MyWalletErrorCode.MEMBER_NOT_FOUND));
 
         // 2. 거래소 클라이언트 선택
@@ -282,7 +285,7 @@ public class MyWalletService {
             String currency
     ) {
         // 1. 사용자 존재 여부 확인
-        memberRepository.findByPhoneNumber(phoneNumber)
+        memberLookupCache.find(phoneNumber)
                 .orElseThrow(() -> new MyWalletException(MyWalletErrorCode.MEMBER_NOT_FOUND));
 
         // 2. 거래소 클라이언트 선택
@@ -379,7 +382,7 @@ public class MyWalletService {
      */
     public MyWalletResDTO.KrwBalanceDTO getKrwBalance(String phoneNumber, ExchangeType exchangeType) {
         // 1. 사용자 존재 여부 확인
-        memberRepository.findByPhoneNumber(phoneNumber)
+        memberLookupCache.find(phoneNumber)
                 .orElseThrow(() -> new MyWalletException(MyWalletErrorCode.MEMBER_NOT_FOUND));
 
         // 2. 거래소 클라이언트 선택
@@ -393,12 +396,27 @@ public class MyWalletService {
      * 원화(KRW) 출금 요청
      *
      * @param phoneNumber 사용자 휴대폰 번호
-     * @param dto         출금 요청 DTO (exchangeType, amount, MFA)
+     * @param dto         출금 요청 DTO (exchangeType, amount, MFA, idempotentKey)
      * @return 출금 요청 결과 (currency, uuid, txid)
      */
     public MyWalletResDTO.WithdrawKrwDTO withdrawKrw(String phoneNumber, MyWalletReqDTO.WithdrawKrwRequest dto) {
+        // 멱등성 키가 없으면 기존처럼 바로 요청
+        if (!StringUtils.hasText(dto.idempotentKey())) {
+            return requestWithdrawKrw(phoneNumber, dto);
+        }
+        return idempotencyStore.execute(
+                IdempotencyScope.WITHDRAW_KRW,
+                phoneNumber,
+                dto.idempotentKey(),
+                MyWalletResDTO.WithdrawKrwDTO.class,
+                () -> requestWithdrawKrw(phoneNumber, dto),
+                () -> new MyWalletException(MyWalletErrorCode.DUPLICATE_REQUEST)
+        );
+    }
+
+    private MyWalletResDTO.WithdrawKrwDTO requestWithdrawKrw(String phoneNumber, MyWalletReqDTO.WithdrawKrwRequest dto) {
         // 1. 사용자 존재 여부 확인
-        memberRepository.findByPhoneNumber(phoneNumber)
+        memberLookupCache.find(phoneNumber)
                 .orElseThrow(() -> new MyWalletException(MyWalletErrorCode.MEMBER_NOT_FOUND));
 
         // 2. 빗썸은 카카오만 지원 검증
@@ -5,6 +5,7 @@ import com.example.scoi.domain.member.enums.ExchangeType;
 import com.example.scoi.domain.member.enums.MemberType;
 import com.example.scoi.domain.transfer.dto.TransferReqDTO;
 import com.example.scoi.domain.transfer.dto.TransferResDTO;
+import com.example.scoi.domain.transfer.entity.MemberRecentRecipient;
 import com.example.scoi.domain.transfer.entity.Recipient;
 import com.example.scoi.domain.transfer.entity.TradeHistory;
 import com.example.scoi.domain.transfer.enums.CoinType;
@@ -14,6 +15,7 @@ import com.example.scoi.global.client.dto.BithumbResDTO;
 import com.example.scoi.global.client.dto.UpbitResDTO;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,10 +24,10 @@ public class TransferConverter {
 
     // 전체 리스트 및 페이징 정보 변환
     public static TransferResDTO.RecipientListDTO toRecentRecipientListDTO(
-            List<TradeHistory> histories, String nextCursor, boolean hasNext) {
+            List<MemberRecentRecipient> recents, String nextCursor, boolean hasNext) {
 
-        List<TransferResDTO.RecipientDTO> items = histories.stream()
-                .map(TradeHistory::getRecipient)
+        List<TransferResDTO.RecipientDTO> items = recents.stream()
+                .map(MemberRecentRecipient::getRecipient)
                 .map(TransferConverter::toRecentRecipientDTO) // recipient 넘겨주기
                 .toList();
 
@@ -76,6 +78,8 @@ public class TransferConverter {
     public static Recipient toFavoriteRecipient(TransferReqDTO.RecipientInformation recipient, Member member){
         return Recipient.builder()
                 .walletAddress(recipient.walletAddress())
+                .exchangeType(recipient.exchangeType())
+                .netType(recipient.netType())
                 .recipientKoName(recipient.recipientKoName())
                 .recipientType(MemberType.from(recipient.memberType()))
 //                .recipientCorpKoName(recipient.corpKoreanName())
@@ -192,6 +196,33 @@ public class TransferConverter {
                 bithumbRes.fee()
         );
     }
+    // 출금 리스트 항목 -> 출금 결과 (결과를 모르는 출금을 거래소에서 확인한 경우)
+    public static TransferResDTO.WithdrawResult toWithdrawResult(UpbitResDTO.GetWithdraw withdraw) {
+        return buildWithdrawResult(
+                withdraw.amount(),
+                withdraw.currency(),
+                withdraw.uuid(),
+                toLocalDateTime(withdraw.created_at()),
+                withdraw.state(),
+                withdraw.fee()
+        );
+    }
+    public static TransferResDTO.WithdrawResult toWithdrawResult(BithumbResDTO.GetWithdraw withdraw) {
+        return buildWithdrawResult(
+                withdraw.amount(),
+                withdraw.currency(),
+                withdraw.uuid(),
+                toLocalDateTime(withdraw.created_at()),
+                withdraw.state(),
+                withdraw.fee()
+        );
+    }
+
+    // 출금 리스트의 시각(2026-01-10T19:51:25+09:00)에서 오프셋 제거
+    private static String toLocalDateTime(String createdAt) {
+        return createdAt == null ? null : OffsetDateTime.parse(createdAt).toLocalDateTime().toString();
+    }
+
     // 3. 빌더 로직 통합 (내부 공통 메서드)
     private static TransferResDTO.WithdrawResult buildWithdrawResult(
             String amount, String currency, String uuid, String createdAtStr, String state, String fee
@@ -213,6 +244,8 @@ public class TransferConverter {
     public static Recipient toRecipient(TransferReqDTO.WithdrawRequest request, Member member){
         return Recipient.builder()
                 .walletAddress(request.address())
+                .exchangeType(toRecipientExchange(request))
+                .netType(request.netType())
                 .recipientEnName(request.receiverEnName())
                 .recipientKoName(request.receiverKoName())
                 .recipientType(MemberType.from(request.receiverType()))
@@ -220,6 +253,11 @@ public class TransferConverter {
                 .build();
     }
 
+    // 수취인 식별 키의 거래소: 상대 거래소가 없으면(업비트 출금) 출금 거래소
+    public static ExchangeType toRecipientExchange(TransferReqDTO.WithdrawRequest request) {
+        return request.exchangeName() != null ? request.exchangeName() : request.exchangeType();
+    }
+
     public static TradeHistory toTradeHistory(TransferReqDTO.WithdrawRequest request, TransferResDTO.WithdrawResult result, Recipient recipient, Member member) {
 
         LocalDateTime createdAt = (result.getCreatedAt() == null)
@@ -227,7 +265,7 @@ public class TransferConverter {
                 : LocalDateTime.parse(result.getCreatedAt());
 
         return TradeHistory.builder()
-                .exchangeType(request.exchangeName())
+                .exchangeType(request.exchangeType())
                 .coinCount(result.getAmount())
                 .createdAt(createdAt)
                 .coinType(CoinType.valueOf(result.getCurrency()))
@@ -250,6 +288,19 @@ public class TransferConverter {
                 .build();
     }
 
+    public static TransferResDTO.WithdrawStatusDTO toWithdrawStatusDTO(
+            TradeHistory tradeHistory, String state, String txid, String doneAt
+    ) {
+        return TransferResDTO.WithdrawStatusDTO.builder()
+                .uuid(tradeHistory.getUuid())
+                .currency(String.valueOf(tradeHistory.getCoinType()))
+                .amount(tradeHistory.getCoinCount())
+                .txid(txid)
+                .state(state)
+                .doneAt(doneAt)
+                .build();
+    }
+
     // 수수료와 출금값 더해주는 메서드
     private static String calculateTotalAmount(String amountStr, String feeStr) {
         try {
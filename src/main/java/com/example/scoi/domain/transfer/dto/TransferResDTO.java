@@ -104,6 +104,20 @@ public class TransferResDTO {
         private String state;           // 출금 신청 완료 (공통: 출금 상태)
     }
 
+    // 출금 상태 변경 알림 (STOMP /user/queue/withdraw/{uuid})
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class WithdrawStatusDTO {
+        private String uuid;
+        private String currency;
+        private String amount;
+        private String txid;
+        private String state;           // 출금 상태 (WAITING, PROCESSING, DONE, FAILED, CANCELLED, REJECTED)
+        private String doneAt;
+    }
+
     // 수취인 응답
     @Getter
     @Builder
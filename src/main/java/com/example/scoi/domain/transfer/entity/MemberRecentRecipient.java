@@ -0,0 +1,48 @@
+package com.example.scoi.domain.transfer.entity;
+
+import com.example.scoi.domain.member.entity.Member;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 회원별 최근 수취인 (수취인마다 마지막 이체 내역만 유지하는 조회용 테이블)
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "member_recent_recipient",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_member_recent_recipient_member_recipient",
+                columnNames = {"member_id", "recipient_id"}
+        ),
+        indexes = @Index(
+                name = "idx_member_recent_recipient_cursor",
+                columnList = "member_id, last_trade_at, last_trade_id"
+        )
+)
+public class MemberRecentRecipient {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 마지막 이체 내역 ID
+    @Column(name = "last_trade_id", nullable = false)
+    private Long lastTradeId;
+
+    // 마지막 이체 시각 (trade_history.created_at)
+    @Column(name = "last_trade_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime lastTradeAt;
+
+    // 연관관계
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recipient_id", nullable = false)
+    private Recipient recipient;
+}
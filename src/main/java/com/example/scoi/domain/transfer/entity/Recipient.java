@@ -1,7 +1,9 @@
 package com.example.scoi.domain.transfer.entity;
 
 import com.example.scoi.domain.member.entity.Member;
+import com.example.scoi.domain.member.enums.ExchangeType;
 import com.example.scoi.domain.member.enums.MemberType;
+import com.example.scoi.domain.transfer.enums.NetworkType;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -10,7 +12,14 @@ import lombok.*;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "recipient")
+@Table(
+        name = "recipient",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_recipient_identity",
+                columnNames = {"member_id", "exchange_type", "wallet_address", "net_type"}
+        ),
+        indexes = @Index(name = "idx_recipient_member_favorite", columnList = "member_id, is_favorite, id")
+)
 public class Recipient {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -19,6 +28,16 @@ public class Recipient {
     @Column(name = "wallet_address", nullable = false)
     private String walletAddress; // 출금 주소
 
+    // 상대방 지갑 주소 거래소 (업비트 출금처럼 요청에 없으면 출금 거래소)
+    @Column(name = "exchange_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ExchangeType exchangeType;
+
+    // 출금 네트워크
+    @Column(name = "net_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private NetworkType netType;
+
     // 수취인 기본 정보
     @Column(name = "recipient_en_name", length = 50, nullable = false)
     private String recipientEnName;
@@ -52,4 +71,11 @@ public class Recipient {
     public void changeToFavoriteTrue(){
         isFavorite = true;
     }
+
+    // 같은 지갑으로 다시 이체할 때 최신 수취인 정보로 갱신
+    public void updateRecipientInfo(String recipientKoName, String recipientEnName, MemberType recipientType){
+        if (recipientKoName != null) this.recipientKoName = recipientKoName;
+        if (recipientEnName != null) this.recipientEnName = recipientEnName;
+        if (recipientType != null) this.recipientType = recipientType;
+    }
 }
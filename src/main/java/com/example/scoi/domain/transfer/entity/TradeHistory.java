@@ -16,7 +16,13 @@ import java.time.LocalDateTime;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "trade_history")
+@Table(
+        name = "trade_history",
+        indexes = {
+                @Index(name = "idx_trade_history_member_recipient", columnList = "member_id, recipient_id"),
+                @Index(name = "idx_trade_history_member_created", columnList = "member_id, created_at, id")
+        }
+)
 @EntityListeners(AuditingEntityListener.class)
 public class TradeHistory {
 
@@ -0,0 +1,64 @@
+package com.example.scoi.domain.transfer.repository;
+
+import com.example.scoi.domain.transfer.entity.MemberRecentRecipient;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface MemberRecentRecipientRepository extends JpaRepository<MemberRecentRecipient, Long> {
+
+    // (member_id, last_trade_at, last_trade_id) 인덱스 순서대로 읽는 커서 조회
+    @Query("SELECT mr FROM MemberRecentRecipient mr " +
+            "JOIN FETCH mr.recipient r " +
+            "WHERE mr.member.id = :memberId " +
+            "AND (:lastTime IS NULL OR (mr.lastTradeAt < :lastTime) " +
+            "     OR (mr.lastTradeAt = :lastTime AND mr.lastTradeId < :lastId)) " +
+            "ORDER BY mr.lastTradeAt DESC, mr.lastTradeId DESC")
+    Slice<MemberRecentRecipient> findRecentRecipients(
+            @Param("memberId") Long memberId,
+            @Param("lastTime") LocalDateTime lastTime,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    // 최근 수취인 갱신 (더 최신 이체 내역일 때만 덮어씀)
+    // last_trade_at을 먼저 갱신해야 비교 대상인 last_trade_id가 바뀌기 전 값으로 판단됨
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO member_recent_recipient (member_id, recipient_id, last_trade_id, last_trade_at) " +
+            "VALUES (:memberId, :recipientId, :tradeId, :tradeAt) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "last_trade_at = IF(VALUES(last_trade_id) > last_trade_id, VALUES(last_trade_at), last_trade_at), " +
+            "last_trade_id = GREATEST(last_trade_id, VALUES(last_trade_id))",
+            nativeQuery = true)
+    int upsert(
+            @Param("memberId") Long memberId,
+            @Param("recipientId") Long recipientId,
+            @Param("tradeId") Long tradeId,
+            @Param("tradeAt") LocalDateTime tradeAt
+    );
+
+    // 기존 이체 내역으로 최근 수취인 채우기 (member_id 범위 단위)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO member_recent_recipient (member_id, recipient_id, last_trade_id, last_trade_at) " +
+            "SELECT th.member_id, th.recipient_id, th.id, COALESCE(th.created_at, NOW(6)) " +
+            "FROM trade_history th " +
+            "JOIN (SELECT MAX(id) AS id FROM trade_history " +
+            "      WHERE member_id BETWEEN :fromMemberId AND :toMemberId " +
+            "      GROUP BY member_id, recipient_id) latest ON latest.id = th.id " +
+            "ON DUPLICATE KEY UPDATE " +
+            "last_trade_at = IF(VALUES(last_trade_id) > last_trade_id, VALUES(last_trade_at), last_trade_at), " +
+            "last_trade_id = GREATEST(last_trade_id, VALUES(last_trade_id))",
+            nativeQuery = true)
+    int backfill(
+            @Param("fromMemberId") Long fromMemberId,
+            @Param("toMemberId") Long toMemberId
+    );
+}
@@ -1,14 +1,25 @@
 package com.example.scoi.domain.transfer.repository;
 
+import com.example.scoi.domain.member.enums.ExchangeType;
 import com.example.scoi.domain.transfer.entity.Recipient;
+import com.example.scoi.domain.transfer.enums.NetworkType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
+
 public interface RecipientRepository extends JpaRepository<Recipient, Long> {
-    Boolean existsByMemberIdAndWalletAddress(Long memberId, String walletAddress);
+    // uk_recipient_identity 기준 수취인 조회
+    Optional<Recipient> findByMemberIdAndExchangeTypeAndWalletAddressAndNetType(
+            Long memberId,
+            ExchangeType exchangeType,
+            String walletAddress,
+            NetworkType netType
+    );
 
     @Query("SELECT r FROM Recipient r WHERE r.member.id = :memberId " +
             "AND r.isFavorite = true " +
@@ -19,5 +30,74 @@ public interface RecipientRepository extends JpaRepository<Recipient, Long> {
             @Param("lastId") Long lastId,
             Pageable pageable);
 
+    // ===== 중복 수취인 정리 (RecipientCompactionRunner) =====
+    // 같은 (member_id, exchange_type, wallet_address, net_type) 묶음에서 가장 작은 id를 남김
+    // null 컬럼도 같은 값으로 묶기 위해 <=> 로 비교
+    // 중복은 회원 안에서만 생기므로 member_id 범위 단위로 나눠 처리 (uk_recipient_identity 범위 스캔)
+
+    // 정리 범위 계산용
+    @Query("SELECT MAX(r.member.id) FROM Recipient r")
+    Long findMaxMemberId();
+
+    // 남길 수취인에 묶음 전체의 즐겨찾기 여부 반영
+    @Modifying
+    @Query(value = "UPDATE recipient keep " +
+            "JOIN (SELECT MIN(id) AS keep_id, MAX(is_favorite) AS favorite FROM recipient " +
+            "      WHERE member_id BETWEEN :fromMemberId AND :toMemberId " +
+            "      GROUP BY member_id, exchange_type, wallet_address, net_type HAVING COUNT(*) > 1) dup " +
+            "ON keep.id = dup.keep_id " +
+            "SET keep.is_favorite = dup.favorite",
+            nativeQuery = true)
+    int mergeDuplicateFavorites(
+            @Param("fromMemberId") Long fromMemberId,
+            @Param("toMemberId") Long toMemberId
+    );
+
+    // 중복 수취인을 가리키는 이체 내역을 남길 수취인으로 변경
+    @Modifying
+    @Query(value = "UPDATE trade_history th " +
+            "JOIN recipient r ON th.recipient_id = r.id " +
+            "JOIN (SELECT member_id, exchange_type, wallet_address, net_type, MIN(id) AS keep_id FROM recipient " +
+            "      WHERE member_id BETWEEN :fromMemberId AND :toMemberId " +
+            "      GROUP BY member_id, exchange_type, wallet_address, net_type HAVING COUNT(*) > 1) dup " +
+            "ON r.member_id = dup.member_id AND r.exchange_type <=> dup.exchange_type " +
+            "AND r.wallet_address = dup.wallet_address AND r.net_type <=> dup.net_type " +
+            "SET th.recipient_id = dup.keep_id " +
+            "WHERE r.id <> dup.keep_id",
+            nativeQuery = true)
+    int repointDuplicateTradeHistories(
+            @Param("fromMemberId") Long fromMemberId,
+            @Param("toMemberId") Long toMemberId
+    );
+
+    // 중복 수취인의 최근 수취인 행 제거 (이후 백필로 다시 채움)
+    @Modifying
+    @Query(value = "DELETE mr FROM member_recent_recipient mr " +
+            "JOIN recipient r ON mr.recipient_id = r.id " +
+            "JOIN (SELECT member_id, exchange_type, wallet_address, net_type, MIN(id) AS keep_id FROM recipient " +
+            "      WHERE member_id BETWEEN :fromMemberId AND :toMemberId " +
+            "      GROUP BY member_id, exchange_type, wallet_address, net_type HAVING COUNT(*) > 1) dup " +
+            "ON r.member_id = dup.member_id AND r.exchange_type <=> dup.exchange_type " +
+            "AND r.wallet_address = dup.wallet_address AND r.net_type <=> dup.net_type " +
+            "WHERE r.id <> dup.keep_id",
+            nativeQuery = true)
+    int deleteDuplicateRecentRecipients(
+            @Param("fromMemberId") Long fromMemberId,
+            @Param("toMemberId") Long toMemberId
+    );
 
+    // 더 이상 참조되지 않는 중복 수취인 삭제
+    @Modifying
+    @Query(value = "DELETE r FROM recipient r " +
+            "JOIN (SELECT member_id, exchange_type, wallet_address, net_type, MIN(id) AS keep_id FROM recipient " +
+            "      WHERE member_id BETWEEN :fromMemberId AND :toMemberId " +
+            "      GROUP BY member_id, exchange_type, wallet_address, net_type HAVING COUNT(*) > 1) dup " +
+            "ON r.member_id = dup.member_id AND r.exchange_type <=> dup.exchange_type " +
+            "AND r.wallet_address = dup.wallet_address AND r.net_type <=> dup.net_type " +
+            "WHERE r.id <> dup.keep_id",
+            nativeQuery = true)
+    int deleteDuplicates(
+            @Param("fromMemberId") Long fromMemberId,
+            @Param("toMemberId") Long toMemberId
+    );
 }
@@ -1,34 +1,30 @@
 package com.example.scoi.domain.transfer.repository;
 
 import com.example.scoi.domain.transfer.entity.TradeHistory;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TradeHistoryRepository extends JpaRepository<TradeHistory,Long> {
 
-    @Query("SELECT th FROM TradeHistory th " +
-            "JOIN FETCH th.recipient r " +
-            "WHERE th.member.id = :memberId " +
-            "AND th.id IN (" +
-            "    SELECT MAX(th2.id) FROM TradeHistory th2 " +
-            "    WHERE th2.member.id = :memberId " +
-            "    GROUP BY th2.recipient" +
-            ") " +
-            "AND (:lastTime IS NULL OR (th.createdAt < :lastTime) " +
-            "     OR (th.createdAt = :lastTime AND th.id < :lastId)) " +
-            "ORDER BY th.createdAt DESC, th.id DESC")
-    Slice<TradeHistory> findRecentUniqueRecipients(
-            @Param("memberId") Long memberId,
-            @Param("lastTime") LocalDateTime lastTime,
-            @Param("lastId") Long lastId,
-            Pageable pageable
-    );
+    // 최근 수취인 백필 범위 계산용
+    @Query("SELECT MAX(th.member.id) FROM TradeHistory th")
+    Long findMaxMemberId();
 
     Optional<TradeHistory> findTradeHistoryByIdempotentKey(String idempotentKey);
+
+    // 출금 상태 추적용 (API 키 조회를 위해 회원까지 함께 조회)
+    @Query("SELECT th FROM TradeHistory th JOIN FETCH th.member WHERE th.id IN :ids")
+    List<TradeHistory> findAllWithMemberByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TradeHistory th SET th.status = :status WHERE th.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") String status);
 }
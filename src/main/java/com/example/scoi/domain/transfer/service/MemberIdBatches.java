@@ -0,0 +1,34 @@
+package com.example.scoi.domain.transfer.service;
+
+/**
+ * member_id 범위 단위 일괄 작업
+ * 백필/정리 작업이 전체 테이블을 한 번에 잠그지 않도록 1 ~ maxMemberId를 500명씩 나눠 처리합니다.
+ */
+final class MemberIdBatches {
+
+    // 한 번에 처리할 member_id 범위
+    static final long MEMBER_BATCH_SIZE = 500;
+
+    private MemberIdBatches() {
+    }
+
+    @FunctionalInterface
+    interface RangeTask {
+        int run(long fromMemberId, long toMemberId);
+    }
+
+    /**
+     * 1 ~ maxMemberId를 범위별로 나눠 실행합니다.
+     * @param maxMemberId 마지막 member_id
+     * @param task 범위별 작업 (영향받은 행 수 반환)
+     * @return 영향받은 행 수 합계
+     */
+    static long forEach(long maxMemberId, RangeTask task) {
+        long total = 0;
+        for (long from = 1; from <= maxMemberId; from += MEMBER_BATCH_SIZE) {
+            long to = Math.min(from + MEMBER_BATCH_SIZE - 1, maxMemberId);
+            total += task.run(from, to);
+        }
+        return total;
+    }
+}
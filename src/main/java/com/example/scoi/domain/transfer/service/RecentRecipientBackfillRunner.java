@@ -0,0 +1,41 @@
+package com.example.scoi.domain.transfer.service;
+
+import com.example.scoi.domain.transfer.repository.MemberRecentRecipientRepository;
+import com.example.scoi.domain.transfer.repository.TradeHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 trade_history로 member_recent_recipient를 채우는 일회성 백필
+ * transfer.recent-recipient.backfill=true로 기동했을 때만 실행되며,
+ * upsert 기반이라 서비스 중에 다시 실행해도 최신 이체 내역을 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "transfer.recent-recipient.backfill", havingValue = "true")
+public class RecentRecipientBackfillRunner implements ApplicationRunner {
+
+    private final TradeHistoryRepository tradeHistoryRepository;
+    private final MemberRecentRecipientRepository memberRecentRecipientRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long maxMemberId = tradeHistoryRepository.findMaxMemberId();
+        if (maxMemberId == null) {
+            log.info("최근 수취인 백필 - 이체 내역 없음");
+            return;
+        }
+
+        long total = MemberIdBatches.forEach(maxMemberId, (from, to) -> {
+            int affected = memberRecentRecipientRepository.backfill(from, to);
+            log.info("최근 수취인 백필 - memberId: {} ~ {}, affected: {}", from, to, affected);
+            return affected;
+        });
+        log.info("최근 수취인 백필 완료 - maxMemberId: {}, affected: {}", maxMemberId, total);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.scoi.domain.transfer.service;
+
+import com.example.scoi.domain.transfer.repository.RecipientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이체마다 새로 쌓인 중복 수취인을 하나로 합치는 일회성 작업
+ * transfer.recipient.compaction=true로 기동했을 때만 실행되며,
+ * 최근 수취인 백필과 같이 member_id 500명 범위마다 별도 트랜잭션으로 처리합니다. (RecipientCompactor)
+ * 1. 남길 수취인(묶음의 최소 id)에 즐겨찾기 여부 합치기
+ * 2. 이체 내역이 남길 수취인을 가리키도록 변경
+ * 3. 중복 수취인의 최근 수취인 행 제거 후 수취인 삭제
+ * 4. 최근 수취인 다시 채우기
+ * 중간에 실패해도 끝난 범위는 이미 정리된 상태라, 다시 실행하면 남은 범위만 바뀝니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "transfer.recipient.compaction", havingValue = "true")
+public class RecipientCompactionRunner implements ApplicationRunner {
+
+    private final RecipientRepository recipientRepository;
+    private final RecipientCompactor recipientCompactor;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long maxMemberId = recipientRepository.findMaxMemberId();
+        if (maxMemberId == null) {
+            log.info("중복 수취인 정리 - 수취인 없음");
+            return;
+        }
+
+        long deleted = MemberIdBatches.forEach(maxMemberId, recipientCompactor::compact);
+        log.info("중복 수취인 정리 완료 - maxMemberId: {}, 수취인 삭제: {}", maxMemberId, deleted);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.scoi.domain.transfer.service;
+
+import com.example.scoi.domain.transfer.repository.MemberRecentRecipientRepository;
+import com.example.scoi.domain.transfer.repository.RecipientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * member_id 범위 하나의 중복 수취인 정리 (RecipientCompactionRunner에서 범위별로 호출)
+ * 범위마다 트랜잭션을 따로 열어, 잠금과 언두 로그가 500명분을 넘지 않게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "transfer.recipient.compaction", havingValue = "true")
+public class RecipientCompactor {
+
+    private final RecipientRepository recipientRepository;
+    private final MemberRecentRecipientRepository memberRecentRecipientRepository;
+
+    /**
+     * 범위 안의 중복 수취인을 합치고 최근 수취인을 다시 채웁니다.
+     * @param fromMemberId 시작 member_id (포함)
+     * @param toMemberId 끝 member_id (포함)
+     * @return 삭제한 중복 수취인 수
+     */
+    @Transactional
+    public int compact(long fromMemberId, long toMemberId) {
+        int favorites = recipientRepository.mergeDuplicateFavorites(fromMemberId, toMemberId);
+        int histories = recipientRepository.repointDuplicateTradeHistories(fromMemberId, toMemberId);
+        int recents = recipientRepository.deleteDuplicateRecentRecipients(fromMemberId, toMemberId);
+        int deleted = recipientRepository.deleteDuplicates(fromMemberId, toMemberId);
+        int backfilled = memberRecentRecipientRepository.backfill(fromMemberId, toMemberId);
+
+        log.info("중복 수취인 정리 - memberId: {} ~ {}, 수취인 묶음: {}, 이체 내역 변경: {}, 최근 수취인 제거: {}, 수취인 삭제: {}, 최근 수취인 백필: {}",
+                fromMemberId, toMemberId, favorites, histories, recents, deleted, backfilled);
+        return deleted;
+    }
+}
@@ -3,97 +3,135 @@ package com.example.scoi.domain.transfer.service;
 import com.example.scoi.domain.auth.service.LoginFailCountManager;
 import com.example.scoi.domain.member.entity.Member;
 import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.domain.member.enums.MemberType;
 import com.example.scoi.domain.member.exception.MemberException;
 import com.example.scoi.domain.member.exception.code.MemberErrorCode;
 import com.example.scoi.domain.auth.exception.AuthException;
 import com.example.scoi.domain.auth.exception.code.AuthErrorCode;
 import com.example.scoi.domain.member.repository.MemberRepository;
+import com.example.scoi.domain.member.service.MemberLookupCache;
 import com.example.scoi.domain.transfer.converter.TransferConverter;
 import com.example.scoi.domain.transfer.dto.TransferReqDTO;
 import com.example.scoi.domain.transfer.dto.TransferResDTO;
+import com.example.scoi.domain.transfer.entity.MemberRecentRecipient;
 import com.example.scoi.domain.transfer.entity.Recipient;
 import com.example.scoi.domain.transfer.entity.TradeHistory;
 import com.example.scoi.domain.transfer.enums.CoinType;
 import com.example.scoi.domain.transfer.exception.TransferException;
 import com.example.scoi.domain.transfer.exception.code.TransferErrorCode;
+import com.example.scoi.domain.transfer.repository.MemberRecentRecipientRepository;
 import com.example.scoi.domain.transfer.repository.RecipientRepository;
 import com.example.scoi.domain.transfer.repository.TradeHistoryRepository;
-import com.example.scoi.domain.transfer.utils.TransferCursorUtils;
 import com.example.scoi.domain.transfer.utils.WalletUtils;
 import com.example.scoi.global.client.BithumbClient;
 import com.example.scoi.global.client.UpbitClient;
 import com.example.scoi.global.client.dto.BithumbResDTO;
-import com.example.scoi.global.client.dto.ClientErrorDTO;
 import com.example.scoi.global.client.dto.UpbitResDTO;
+import com.example.scoi.global.client.exception.ExchangeApiException;
+import com.example.scoi.global.client.exception.ExchangeErrorCode;
+import com.example.scoi.global.client.snapshot.AccountSnapshotService;
+import com.example.scoi.global.redis.idempotency.IdempotencyScope;
+import com.example.scoi.global.redis.idempotency.IdempotencyStore;
+import com.example.scoi.global.security.password.PasswordVerifier;
+import com.example.scoi.global.util.CursorCodec;
 import com.example.scoi.global.util.HashUtil;
 import com.example.scoi.global.util.JwtApiUtil;
-import feign.FeignException;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.util.StringUtils;
-import tools.jackson.databind.ObjectMapper;
 
 import java.math.BigDecimal;
 import java.security.GeneralSecurityException;
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 @Slf4j
 public class TransferService {
 
+    // 거래소 에러 -> 이체 에러 (표에 없으면 403은 EXCHANGE_FORBIDDEN, 그 외 EXCHANGE_BAD_REQUEST)
+    private static final Map<ExchangeErrorCode, TransferErrorCode> EXCHANGE_ERRORS = Map.of(
+            // 파라미터(네트워크 타입, 코인 타입)가 잘못된 경우
+            ExchangeErrorCode.VALIDATION_ERROR, TransferErrorCode.INVALID_INPUT,
+            ExchangeErrorCode.INVALID_NETWORK_TYPE, TransferErrorCode.INVALID_NETWORK_TYPE,
+            // 지갑 주소가 올바르지 않거나 등록된 출금주소가 아닌 경우
+            ExchangeErrorCode.INVALID_WITHDRAW_ADDRESS, TransferErrorCode.INVALID_WALLET_ADDRESS,
+            ExchangeErrorCode.WITHDRAW_ADDRESS_NOT_REGISTERED, TransferErrorCode.UNREGISTERED_WALLET_ADDRESS,
+            // 출금 시스템이 점검 중인 경우
+            ExchangeErrorCode.WITHDRAW_MAINTAIN, TransferErrorCode.TRANSFER_CHECK,
+            // 권한이 부족한 경우
+            ExchangeErrorCode.OUT_OF_SCOPE, TransferErrorCode.EXCHANGE_FORBIDDEN,
+            // 인증되지 않은 ip에서 요청을 보낸 경우
+            ExchangeErrorCode.NO_AUTHORIZATION_IP, TransferErrorCode.NOT_ALLOW_IP,
+            ExchangeErrorCode.NOT_ALLOW_IP, TransferErrorCode.NOT_ALLOW_IP
+    );
+
+    // 결과를 모르는 출금 확인 시 조회할 최근 출금 수
+    private static final int RECONCILE_LOOKUP_LIMIT = 20;
+    // 결과를 모르는 출금 확인 시 허용하는 서버와 거래소의 시각 차이
+    private static final long CLOCK_SKEW_MILLIS = 60_000;
+    // 반영되지 않은 것으로 보는 출금 상태
+    private static final Set<String> CANCELED_WITHDRAW_STATES = Set.of("CANCELED", "CANCELLED", "REJECTED", "FAILED");
+
     private final TradeHistoryRepository tradeHistoryRepository;
     private final MemberRepository memberRepository;
+    private final MemberLookupCache memberLookupCache;
     private final RecipientRepository recipientRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final MemberRecentRecipientRepository memberRecentRecipientRepository;
+    private final PasswordVerifier passwordVerifier;
     private final HashUtil hashUtil;
+    private final CursorCodec cursorCodec;
 
     private final JwtApiUtil jwtApiUtil;
     private final BithumbClient bithumbClient;
     private final UpbitClient upbitClient;
+    private final AccountSnapshotService accountSnapshotService;
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-    private final RedisTemplate<String, String> redisTemplate;
+    private final IdempotencyStore idempotencyStore;
+    private final WithdrawStatusTracker withdrawStatusTracker;
     private final LoginFailCountManager loginFailCountManager;
 
     // 최근 수취인 조회 메서드
     public TransferResDTO.RecipientListDTO findRecentRecipients(String phoneNumber, String cursor, int limit) {
 
-        Member member = memberRepository.findByPhoneNumber(phoneNumber)
+        MemberLookupCache.MemberSummary member = memberLookupCache.find(phoneNumber)
                 .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND));
 
-        // 커서 디코딩 (Base64 형태의 커서에서 시간과 historyID 추출)
+        // 커서 디코딩 (마지막 거래 시간과 historyID 추출)
         LocalDateTime lastTime = null;
         Long lastId = null;
         if (cursor != null && !cursor.isEmpty()) {
-            TransferCursorUtils.CursorContents contents = TransferCursorUtils.decode(cursor);
-            lastTime = contents.getTimestamp(); // 마지막 조회 시간
-            lastId = contents.getId(); // 마지막 거래 내역
+            CursorCodec.Cursor contents = cursorCodec.decode(member.id(), cursor)
+                    .filter(decoded -> decoded.timestamp() != null)
+                    .orElseThrow(() -> new TransferException(TransferErrorCode.INVALID_CURSOR));
+            lastTime = contents.timestamp(); // 마지막 조회 시간
+            lastId = contents.id(); // 마지막 거래 내역
         }
 
         // DB 조회
         PageRequest pageRequest = PageRequest.of(0, limit);
-        Slice<TradeHistory> histories = tradeHistoryRepository.findRecentUniqueRecipients(
-                member.getId(), lastTime, lastId, pageRequest);
+        Slice<MemberRecentRecipient> recents = memberRecentRecipientRepository.findRecentRecipients(
+                member.id(), lastTime, lastId, pageRequest);
 
         // 수취인 목록 3개와 다음이 있는지 확인
-        List<TradeHistory> content = histories.getContent();
-        boolean hasNext = histories.hasNext();
+        List<MemberRecentRecipient> content = recents.getContent();
+        boolean hasNext = recents.hasNext();
 
         // 다음 커서 인코딩(없다면 null)
         String nextCursor = (hasNext && !content.isEmpty())
-                ? TransferCursorUtils.encode( content.getLast().getCreatedAt(),
-                content.getLast().getId() )
+                ? cursorCodec.encode(member.id(), content.getLast().getLastTradeAt(),
+                content.getLast().getLastTradeId())
                 : null;
 
         // DTO로 변환 및 반환
@@ -103,19 +141,20 @@ public class TransferService {
     // 즐겨찾기 수취인 조회 메서드
     public TransferResDTO.RecipientListDTO findFavoriteRecipients(String phoneNumber, String cursor, int limit){
 
-        Member member = memberRepository.findByPhoneNumber(phoneNumber)
+        MemberLookupCache.MemberSummary member = memberLookupCache.find(phoneNumber)
                 .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND));
 
-        // 커서 디코딩 (Base64 형태의 RecipientID 추출)
+        // 커서 디코딩 (RecipientID 추출)
         Long lastId = null;
         if (cursor != null && !cursor.isEmpty()) {
-            TransferCursorUtils.CursorContents contents = TransferCursorUtils.decode(cursor);
-            lastId = contents.getId(); // 마지막 거래 내역
+            lastId = cursorCodec.decode(member.id(), cursor)
+                    .map(CursorCodec.Cursor::id)
+                    .orElseThrow(() -> new TransferException(TransferErrorCode.INVALID_CURSOR));
         }
 
         // DB 조회
         PageRequest pageRequest = PageRequest.of(0, limit);
-        Slice<Recipient> recipients = recipientRepository.findByMemberIdAndIsFavoriteTrue(member.getId(), lastId, pageRequest);
+        Slice<Recipient> recipients = recipientRepository.findByMemberIdAndIsFavoriteTrue(member.id(), lastId, pageRequest);
 
         // 수취인 목록 3개와 다음이 있는지 확인
         List<Recipient> content = recipients.getContent();
@@ -123,7 +162,7 @@ public class TransferService {
 
         // 다음 커서 인코딩 (없다면 null)
         String nextCursor = (hasNext && !content.isEmpty())
-                ? TransferCursorUtils.encode( content.getLast().getId() )
+                ? cursorCodec.encode(member.id(), content.getLast().getId())
                 : null;
 
         // DTO로 변환 및 반환
@@ -134,18 +173,36 @@ public class TransferService {
     @Transactional
     public Long addFavoriteRecipient(String phoneNumber, TransferReqDTO.RecipientInformation recipientInformation) {
 
-        Member member = memberRepository.findByPhoneNumber(phoneNumber)
+        MemberLookupCache.MemberSummary member = memberLookupCache.find(phoneNumber)
                 .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND));
 
-        // 이미 즐겨찾기로 등록된 사용자는 그대로 반환
-        if(recipientRepository.existsByMemberIdAndWalletAddress(member.getId(), recipientInformation.walletAddress())){
-            throw new TransferException(TransferErrorCode.EXIST_FAVORITE_RECIPIENT);
+        // 수취인 식별 키(거래소, 네트워크)가 없으면 저장할 수 없음
+        if (recipientInformation.exchangeType() == null || recipientInformation.netType() == null) {
+            throw new TransferException(TransferErrorCode.INVALID_RECIPIENT_INFORMATION);
+        }
+
+        // 이미 이체한 적 있는 지갑이면 기존 수취인을 즐겨찾기로 변경
+        Recipient existing = recipientRepository.findByMemberIdAndExchangeTypeAndWalletAddressAndNetType(
+                member.id(),
+                recipientInformation.exchangeType(),
+                recipientInformation.walletAddress(),
+                recipientInformation.netType()
+        ).orElse(null);
+
+        if (existing != null) {
+            // 이미 즐겨찾기로 등록된 사용자
+            if (Boolean.TRUE.equals(existing.getIsFavorite())) {
+                throw new TransferException(TransferErrorCode.EXIST_FAVORITE_RECIPIENT);
+            }
+            existing.changeToFavoriteTrue();
+            return recipientRepository.save(existing).getId();
         }
 
         // 수취인 정보가 옳바른지 검증
         validateRecipient(recipientInformation);
 
-        Recipient recipient = TransferConverter.toFavoriteRecipient(recipientInformation, member);
+        Recipient recipient = TransferConverter.toFavoriteRecipient(
+                recipientInformation, memberRepository.getReferenceById(member.id()));
         Recipient saved = recipientRepository.save(recipient);
 
         return saved.getId();
@@ -237,42 +294,9 @@ public class TransferService {
         }catch (GeneralSecurityException e){
             throw new RuntimeException(e);
 
-        // 잘못된 요청 형식
-        } catch (FeignException.BadRequest | FeignException.NotFound e) {
-            String rawBody = e.contentUTF8(); // 원본 응답 저장
-            log.error(">>>> 거래소 응답 원본: {}", rawBody); // 에러 로그 원본
-
-            ClientErrorDTO.Errors error = objectMapper.readValue(rawBody, ClientErrorDTO.Errors.class);
-            String errorName = error.error().name();
-            log.error(">>>> 거래소 에러 코드명: {}", errorName); // 파싱된 거래소 에러 코드명 확인
-
-            switch (errorName) {
-                // 파라미터(네트워크 타입, 코인 타입)가 잘못된 경우
-                case "validation_error" -> throw new TransferException(TransferErrorCode.INVALID_INPUT);
-                // 파라미터(네트워크 타입)가 잘못된 경우
-                case "invalid_network_type" -> throw new TransferException(TransferErrorCode.INVALID_NETWORK_TYPE);
-                // 나머지 400 에러
-                default -> throw new TransferException(TransferErrorCode.EXCHANGE_BAD_REQUEST);
-            }
-
-        // 권한이 부족한 경우
-        } catch (FeignException.Unauthorized | FeignException.Forbidden e) {
-            String rawBody = e.contentUTF8(); // 원본 응답 저장
-            log.error(">>>> 거래소 응답 원본: {}", rawBody); // 에러 로그 원본
-
-            ClientErrorDTO.Errors error = objectMapper.readValue(rawBody, ClientErrorDTO.Errors.class);
-            String errorName = error.error().name();
-            log.error(">>>> 거래소 에러 코드명: {}", errorName); // 파싱된 거래소 에러 코드명 확인
-
-            switch (errorName) {
-                // 권한이 부족한 경우
-                case "out_of_scope" -> throw new TransferException(TransferErrorCode.EXCHANGE_FORBIDDEN);
-                // 인증되지 않은 ip에서 요청을 보낸 경우
-                case "no_authorization_ip" -> throw new TransferException(TransferErrorCode.NOT_ALLOW_IP);
-                case "NotAllowIP" -> throw new TransferException(TransferErrorCode.NOT_ALLOW_IP);
-                // 나머지 jwt 관련 오류
-                default -> throw new TransferException(TransferErrorCode.EXCHANGE_BAD_REQUEST);
-            }
+        // 거래소 에러 (잘못된 요청 형식, 권한 부족 등)
+        } catch (ExchangeApiException e) {
+            throw toTransferException(e);
         }
     }
 
@@ -303,201 +327,251 @@ public class TransferService {
     // 이체
     public TransferResDTO.WithdrawResult executeWithdraw(String phoneNumber, TransferReqDTO.WithdrawRequest request) {
 
-        // 0. 멱등성 키 추출 및 Redis 락 획득
-        String idempotentKey = request.idempotentKey();
-        String redisKey = "transfer:lock:" + idempotentKey;
-
-        // 10분동안 유효한 락 설정
-        Boolean isFirstReq = redisTemplate.opsForValue()
-                .setIfAbsent(redisKey, "PROCESSING", Duration.ofMinutes(10));
+        // 같은 멱등성 키의 요청은 한 번만 출금하고, 이후에는 저장된 결과를 반환
+        // 결과를 모르는 출금(5XX, 타임아웃)은 거래소 출금 리스트에서 확인한 뒤에만 다시 출금
+        return idempotencyStore.execute(
+                IdempotencyScope.TRANSFER_WITHDRAW,
+                phoneNumber,
+                request.idempotentKey(),
+                TransferResDTO.WithdrawResult.class,
+                () -> withdraw(phoneNumber, request),
+                startedAt -> findWithdraw(phoneNumber, request, startedAt),
+                () -> new TransferException(TransferErrorCode.DUPLICATE_REQUEST)
+        );
+    }
 
-        // 이미 해당 키로 진행 중이거나 완료된 요청임
-        if (Boolean.FALSE.equals(isFirstReq)) {
-            //throw new TransferException(TransferErrorCode.DUPLICATE_REQUEST);
-            TradeHistory tradeHistory = tradeHistoryRepository.findTradeHistoryByIdempotentKey(idempotentKey)
-                    .orElseThrow(() -> new TransferException(TransferErrorCode.DUPLICATE_REQUEST));
-            return TransferConverter.toWithdrawResult(tradeHistory);
+    // 결과를 모르는 출금이 거래소에 반영되었는지 확인 (이체 내역 -> 첫 시도 이후 같은 네트워크/수량/주소의 출금)
+    // 같은 출금인지 판단할 수 없으면(주소가 없는 항목, 여러 건 일치) 예외를 던져 결과를 모르는 상태로 유지
+    private Optional<TransferResDTO.WithdrawResult> findWithdraw(
+            String phoneNumber,
+            TransferReqDTO.WithdrawRequest request,
+            long startedAt
+    ) {
+        Optional<TradeHistory> history = tradeHistoryRepository.findTradeHistoryByIdempotentKey(request.idempotentKey());
+        if (history.isPresent()) {
+            return history.map(TransferConverter::toWithdrawResult);
         }
-        boolean isSuccess = false;
 
+        String query = "currency=" + request.currency() + "&limit=" + RECONCILE_LOOKUP_LIMIT;
+        List<WithdrawCandidate> candidates;
         try {
-            // 1. 간편 비밀번호 검증
-            Member member = memberRepository.findByPhoneNumber(phoneNumber)
-                    .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND));
-
-            // 비밀번호 5회 이상 틀린 경우
-            if (member.getLoginFailCount() >= 5) {
-                throw new AuthException(
-                        AuthErrorCode.ACCOUNT_LOCKED,
-                        Map.of("smsRequired", "true")
-                );
-            }
+            candidates = switch (request.exchangeType()) {
+                case UPBIT -> upbitClient.getRecentWithdraws(
+                                jwtApiUtil.createUpBitJwt(phoneNumber, query, null), request.currency(), RECONCILE_LOOKUP_LIMIT)
+                        .stream()
+                        .map(withdraw -> new WithdrawCandidate(TransferConverter.toWithdrawResult(withdraw),
+                                withdraw.net_type(), withdraw.amount(), withdraw.state(), withdraw.created_at(),
+                                withdraw.address(), withdraw.secondary_address()))
+                        .toList();
+                case BITHUMB -> bithumbClient.getRecentWithdraws(
+                                jwtApiUtil.createBithumbJwt(phoneNumber, query, null), request.currency(), RECONCILE_LOOKUP_LIMIT)
+                        .stream()
+                        .map(withdraw -> new WithdrawCandidate(TransferConverter.toWithdrawResult(withdraw),
+                                withdraw.net_type(), withdraw.amount(), withdraw.state(), withdraw.created_at(),
+                                withdraw.address(), withdraw.secondary_address()))
+                        .toList();
+            };
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException(e);
+        }
 
-            String rawPassword;
-            try {
-                rawPassword = new String(hashUtil.decryptAES(request.simplePassword()));
-            } catch (GeneralSecurityException e) {
-                log.error("AES 복호화 실패: phoneNumber={}", phoneNumber, e);
-                member.increaseLoginFailCount();
-                int failCount = loginFailCountManager.increaseFailCount(member.getId());
-                int remainingAttempts = Math.max(5 - failCount, 0);
-                throw new AuthException(
-                        AuthErrorCode.INVALID_PASSWORD,
-                        Map.of(
-                                "loginFailCount", String.valueOf(failCount),
-                                "remainingAttempts", String.valueOf(remainingAttempts)
-                        )
-                );
-            }
-            if (!rawPassword.matches("^\\d{6}$")) {
-                log.warn("간편비밀번호 형식 오류: phoneNumber={}", phoneNumber);
-                member.increaseLoginFailCount();
-                int failCount = loginFailCountManager.increaseFailCount(member.getId());
-                int remainingAttempts = Math.max(5 - failCount, 0);
-                throw new AuthException(
-                        AuthErrorCode.INVALID_PASSWORD,
-                        Map.of(
-                                "loginFailCount", String.valueOf(failCount),
-                                "remainingAttempts", String.valueOf(remainingAttempts)
-                        )
-                );
-            }
+        // 같은 네트워크/수량으로 첫 시도 이후에 요청된 출금
+        List<WithdrawCandidate> sameAmount = candidates.stream()
+                .filter(candidate -> candidate.isSameAmount(request, startedAt))
+                .toList();
+        if (sameAmount.isEmpty()) {
+            return Optional.empty();
+        }
+        // 주소를 알 수 없는 항목이 있으면 다른 주소로의 출금인지 구분할 수 없음
+        if (sameAmount.stream().anyMatch(candidate -> candidate.address() == null)) {
+            throw new IllegalStateException("출금 리스트에 주소가 없어 같은 출금인지 확인할 수 없음: " + request.idempotentKey());
+        }
+        List<WithdrawCandidate> matched = sameAmount.stream()
+                .filter(candidate -> candidate.isSameDestination(request))
+                .toList();
+        if (matched.isEmpty()) {
+            return Optional.empty();
+        }
+        if (matched.size() > 1) {
+            throw new IllegalStateException("같은 주소/수량의 출금이 여러 건이라 확인할 수 없음: " + request.idempotentKey());
+        }
 
-            if (!passwordEncoder.matches(rawPassword, member.getSimplePassword())) {
-                member.increaseLoginFailCount();
-                int failCount = loginFailCountManager.increaseFailCount(member.getId());
-                int remainingAttempts = Math.max(5 - failCount, 0);
-                log.warn("비밀번호 인증 실패: phoneNumber={}, failCount={}, remainingAttempts={}",
-                        phoneNumber, failCount, remainingAttempts);
-                throw new AuthException(
-                        AuthErrorCode.INVALID_PASSWORD,
-                        Map.of(
-                                "loginFailCount", String.valueOf(failCount),
-                                "remainingAttempts", String.valueOf(remainingAttempts)
-                        )
-                );
-            }
-            // 비밀번호 일치 시 실패 횟수 초기화
-            member.resetLoginFailCount();
-
-            // 2. 이체하기
-            String token;
-            TransferResDTO.WithdrawResult result;
-
-            try {
-                switch (request.exchangeType()) {
-                    case UPBIT:
-                        TransferReqDTO.UpbitWithdrawRequest upbitDTO = TransferConverter.toUpbitWithdrawRequest(request);
-                        token = jwtApiUtil.createUpBitJwt(phoneNumber, null, upbitDTO);
-
-                        UpbitResDTO.WithdrawResDTO upbitRes = upbitClient.withdrawCoin(token, upbitDTO);
-                        result = TransferConverter.toWithdrawResult(upbitRes);
-                        log.info("UP DTO: {}", upbitRes);
-                        break;
-
-                    case BITHUMB:
-                        TransferReqDTO.BithumbWithdrawRequest bithumbDTO = TransferConverter.toBithumbWithdrawRequest(request);
-                        token = jwtApiUtil.createBithumbJwt(phoneNumber, null, bithumbDTO);
-
-                        BithumbResDTO.WithdrawResDTO bithumRes = bithumbClient.withdrawCoin(token, bithumbDTO);
-                        result = TransferConverter.toWithdrawResult(bithumRes);
-                        log.info("BIT DTO: {}", bithumRes);
-                        break;
-
-                    default:
-                        throw new TransferException(TransferErrorCode.UNSUPPORTED_EXCHANGE);
-                }
-                // 성공한 경우
-                isSuccess = true;
-
-                // 수취인 저장
-                Recipient recipient = TransferConverter.toRecipient(request, member);
-                recipientRepository.save(recipient);
-
-                // 이체내역 저장
-                TradeHistory tradeHistory = TransferConverter.toTradeHistory(request, result, recipient, member);
-                tradeHistoryRepository.save(tradeHistory);
-
-                // 결과 반환
-                return result;
-            } catch (GeneralSecurityException e) {
-                throw new RuntimeException(e);
-            } catch (FeignException.BadRequest | FeignException.NotFound e) {
-                String rawBody = e.contentUTF8(); // 원본 응답 저장
-                log.error(">>>> 거래소 응답 원본: {}", rawBody); // 에러 로그 원본
-                if (rawBody == null || rawBody.isBlank()) {
-
-                    // 상태 코드에 따른 예외
-                    if (e.status() == 401) {
-                        // 인증 실패 (JWT 서명 오류, 만료 등)
-                        throw new TransferException(TransferErrorCode.EXCHANGE_BAD_REQUEST);
-                    } else {
-                        // 권한 없음 (IP 차단 등)
-                        throw new TransferException(TransferErrorCode.EXCHANGE_FORBIDDEN);
-                    }
-                }
-
-                ClientErrorDTO.Errors error = objectMapper.readValue(rawBody, ClientErrorDTO.Errors.class);
-                String errorName = error.error().name();
-                log.error(">>>> 거래소 에러 코드명: {}", errorName); // 파싱된 거래소 에러 코드명 확인
-
-                switch (errorName) {
-                    // 파라미터가 잘못된 경우
-                    case "validation_error" -> throw new TransferException(TransferErrorCode.INVALID_INPUT);
-                    // 네트워크가 잘못된 경우
-                    case "invalid_network_type" -> throw new TransferException(TransferErrorCode.INVALID_NETWORK_TYPE);
-                    // 지갑 주소가 올바르지 않은 경우
-                    case "invalid_withdraw_address" ->
-                            throw new TransferException(TransferErrorCode.INVALID_WALLET_ADDRESS);
-                    // 거래소에서 요청을 처리하지 못한 경우
-                    case "request_fail" -> throw new TransferException(TransferErrorCode.EXCHANGE_BAD_REQUEST);
-                    //등록된 출금주소가 아닌 경우
-                    case "withdraw_address_not_registered" ->
-                            throw new TransferException(TransferErrorCode.UNREGISTERED_WALLET_ADDRESS);
-                    // 출금 시스템이 점검 중인 경우
-                    case "withdraw_maintain" -> throw new TransferException(TransferErrorCode.TRANSFER_CHECK);
-                    // 나머지 400 에러
-                    default -> throw new TransferException(TransferErrorCode.EXCHANGE_BAD_REQUEST);
-                }
-                // 권한이 부족한 경우
-            } catch (FeignException.Unauthorized | FeignException.Forbidden e) {
-                String rawBody = e.contentUTF8(); // 원본 응답 저장
-                log.error(">>>> 거래소 응답 원본: {}", rawBody); // 에러 로그 원본
-                if (rawBody == null || rawBody.isBlank()) {
-
-                    // 상태 코드에 따른 예외
-                    if (e.status() == 401) {
-                        // 인증 실패 (JWT 서명 오류, 만료 등)
-                        throw new TransferException(TransferErrorCode.EXCHANGE_BAD_REQUEST);
-                    } else {
-                        // 권한 없음 (IP 차단 등)
-                        throw new TransferException(TransferErrorCode.EXCHANGE_FORBIDDEN);
-                    }
-                }
-
-                ClientErrorDTO.Errors error = objectMapper.readValue(rawBody, ClientErrorDTO.Errors.class);
-                String errorName = error.error().name();
-                log.error(">>>> 거래소 에러 코드명: {}", errorName); // 파싱된 거래소 에러 코드명 확인
-
-                switch (errorName) {
-                    // 권한이 부족한 경우
-                    case "out_of_scope" -> throw new TransferException(TransferErrorCode.EXCHANGE_FORBIDDEN);
-                    // 인증되지 않은 ip에서 요청을 보낸 경우
-                    case "no_authorization_ip" -> throw new TransferException(TransferErrorCode.NOT_ALLOW_IP);
-                    case "NotAllowIP" -> throw new TransferException(TransferErrorCode.NOT_ALLOW_IP);
-                    // 나머지 jwt 관련 오류
-                    default -> throw new TransferException(TransferErrorCode.EXCHANGE_BAD_REQUEST);
-                }
+        TransferResDTO.WithdrawResult result = matched.getFirst().result();
+        log.info("결과를 모르는 출금을 거래소에서 확인: phoneNumber={}, uuid={}", phoneNumber, result.getUuid());
+        Member member = memberRepository.findByPhoneNumber(phoneNumber)
+                .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND));
+        recordWithdraw(phoneNumber, member, request, result);
+        return Optional.of(result);
+    }
+
+    /**
+     * 출금 리스트 항목 (결과를 모르는 출금 확인용)
+     * @param result 이 요청의 결과로 저장할 출금 결과
+     * @param address 출금 대상 주소 (거래소 응답에 없으면 null)
+     * @param secondaryAddress 2차 주소 (메모, 태그 등)
+     */
+    private record WithdrawCandidate(
+            TransferResDTO.WithdrawResult result,
+            String netType,
+            String amount,
+            String state,
+            String createdAt,
+            String address,
+            String secondaryAddress
+    ) {
+        // 같은 네트워크/수량이고 첫 시도 이후에 요청된 출금인지 (취소/거절된 출금은 반영되지 않은 것으로 봄)
+        boolean isSameAmount(TransferReqDTO.WithdrawRequest request, long startedAt) {
+            if (!request.netType().name().equalsIgnoreCase(netType)
+                    || amount == null || new BigDecimal(amount).compareTo(new BigDecimal(request.amount())) != 0
+                    || state == null || CANCELED_WITHDRAW_STATES.contains(state.toUpperCase())
+                    || createdAt == null) {
+                return false;
             }
+            // 서버와 거래소의 시각 차이를 감안
+            return OffsetDateTime.parse(createdAt).toInstant().toEpochMilli() >= startedAt - CLOCK_SKEW_MILLIS;
+        }
+
+        // 같은 주소로의 출금인지 (요청에 2차 주소가 없으므로 2차 주소가 있는 출금은 다른 출금)
+        boolean isSameDestination(TransferReqDTO.WithdrawRequest request) {
+            return request.address().equals(address)
+                    && (secondaryAddress == null || secondaryAddress.isBlank());
+        }
+    }
+
+    private TransferResDTO.WithdrawResult withdraw(String phoneNumber, TransferReqDTO.WithdrawRequest request) {
+        // 1. 간편 비밀번호 검증
+        Member member = memberRepository.findByPhoneNumber(phoneNumber)
+                .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND));
+
+        // 비밀번호 5회 이상 틀린 경우
+        if (loginFailCountManager.isLocked(member)) {
+            throw new AuthException(
+                    AuthErrorCode.ACCOUNT_LOCKED,
+                    Map.of("smsRequired", "true")
+            );
+        }
+
+        String rawPassword;
+        try {
+            rawPassword = new String(hashUtil.decryptAES(request.simplePassword()));
+        } catch (GeneralSecurityException e) {
+            log.error("AES 복호화 실패: phoneNumber={}", phoneNumber, e);
+            int failCount = loginFailCountManager.increaseFailCount(member);
+            int remainingAttempts = Math.max(LoginFailCountManager.MAX_FAIL_COUNT - failCount, 0);
+            throw new AuthException(
+                    AuthErrorCode.INVALID_PASSWORD,
+                    Map.of(
+                            "loginFailCount", String.valueOf(failCount),
+                            "remainingAttempts", String.valueOf(remainingAttempts)
+                    )
+            );
         }
-        finally {
-            // 성공하지 못했다면(예외 발생 시) Redis 키를 삭제하여 재시도 허용
-            if (!isSuccess) {
-                redisTemplate.delete(redisKey);
+        if (!rawPassword.matches("^\\d{6}$")) {
+            log.warn("간편비밀번호 형식 오류: phoneNumber={}", phoneNumber);
+            int failCount = loginFailCountManager.increaseFailCount(member);
+            int remainingAttempts = Math.max(LoginFailCountManager.MAX_FAIL_COUNT - failCount, 0);
+            throw new AuthException(
+                    AuthErrorCode.INVALID_PASSWORD,
+                    Map.of(
+                            "loginFailCount", String.valueOf(failCount),
+                            "remainingAttempts", String.valueOf(remainingAttempts)
+                    )
+            );
+        }
+
+        if (!passwordVerifier.matches(phoneNumber, rawPassword, member.getSimplePassword())) {
+            int failCount = loginFailCountManager.increaseFailCount(member);
+            int remainingAttempts = Math.max(LoginFailCountManager.MAX_FAIL_COUNT - failCount, 0);
+            log.warn("비밀번호 인증 실패: phoneNumber={}, failCount={}, remainingAttempts={}",
+                    phoneNumber, failCount, remainingAttempts);
+            throw new AuthException(
+                    AuthErrorCode.INVALID_PASSWORD,
+                    Map.of(
+                            "loginFailCount", String.valueOf(failCount),
+                            "remainingAttempts", String.valueOf(remainingAttempts)
+                    )
+            );
+        }
+        // 비밀번호 일치 시 실패 횟수 초기화
+        loginFailCountManager.resetFailCount(member);
+
+        // 2. 이체하기
+        String token;
+        TransferResDTO.WithdrawResult result;
+
+        try {
+            switch (request.exchangeType()) {
+                case UPBIT:
+                    TransferReqDTO.UpbitWithdrawRequest upbitDTO = TransferConverter.toUpbitWithdrawRequest(request);
+                    token = jwtApiUtil.createUpBitJwt(phoneNumber, null, upbitDTO);
+
+                    UpbitResDTO.WithdrawResDTO upbitRes = upbitClient.withdrawCoin(token, upbitDTO);
+                    result = TransferConverter.toWithdrawResult(upbitRes);
+                    log.info("UP DTO: {}", upbitRes);
+                    break;
+
+                case BITHUMB:
+                    TransferReqDTO.BithumbWithdrawRequest bithumbDTO = TransferConverter.toBithumbWithdrawRequest(request);
+                    token = jwtApiUtil.createBithumbJwt(phoneNumber, null, bithumbDTO);
+
+                    BithumbResDTO.WithdrawResDTO bithumRes = bithumbClient.withdrawCoin(token, bithumbDTO);
+                    result = TransferConverter.toWithdrawResult(bithumRes);
+                    log.info("BIT DTO: {}", bithumRes);
+                    break;
+
+                default:
+                    throw new TransferException(TransferErrorCode.UNSUPPORTED_EXCHANGE);
             }
+            // 성공한 경우
+            recordWithdraw(phoneNumber, member, request, result);
+
+            // 결과 반환
+            return result;
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException(e);
+        } catch (ExchangeApiException e) {
+            throw toTransferException(e);
         }
     }
 
+    // 출금 성공 후 처리 (잔고 스냅샷 무효화, 내역 저장, 상태 추적 등록)
+    private void recordWithdraw(
+            String phoneNumber,
+            Member member,
+            TransferReqDTO.WithdrawRequest request,
+            TransferResDTO.WithdrawResult result
+    ) {
+        accountSnapshotService.evict(phoneNumber, request.exchangeType());
+
+        // 출금은 이미 완료되었으므로 내역 저장에 실패해도 성공으로 응답 (재시도 시 중복 출금 방지)
+        try {
+            TradeHistory tradeHistory = saveWithdrawHistory(member, request, result);
+            // 출금 완료 여부는 백그라운드에서 추적
+            withdrawStatusTracker.enroll(tradeHistory);
+        } catch (RuntimeException e) {
+            log.error("출금 완료 후 내역 저장 실패: phoneNumber={}, uuid={}", phoneNumber, result.getUuid(), e);
+        }
+    }
+
+    // 수취인, 이체내역, 최근 수취인 저장
+    private TradeHistory saveWithdrawHistory(
+            Member member,
+            TransferReqDTO.WithdrawRequest request,
+            TransferResDTO.WithdrawResult result
+    ) {
+        // 수취인 저장 (같은 지갑이면 기존 수취인 재사용)
+        Recipient recipient = upsertRecipient(member, request);
+
+        // 이체내역 저장
+        TradeHistory tradeHistory = TransferConverter.toTradeHistory(request, result, recipient, member);
+        tradeHistoryRepository.save(tradeHistory);
+
+        // 최근 수취인 갱신
+        memberRecentRecipientRepository.upsert(
+                member.getId(), recipient.getId(), tradeHistory.getId(), tradeHistory.getCreatedAt());
+        return tradeHistory;
+    }
+
     // 수취인 입력값 검증 메서드
     private void validateRecipient(TransferReqDTO.RecipientInformation recipient) {
         // 1. 지갑 주소와 수취인 정보가 비어있는 경우
@@ -505,8 +579,8 @@ public class TransferService {
                 || !StringUtils.hasText(recipient.recipientKoName())) {
             throw new TransferException(TransferErrorCode.INVALID_RECIPIENT_INFORMATION);
         }
-        // 2. 지갑 주소 형식이 올바르지 않은 경우
-        if (!WalletUtils.isValidAddress(recipient.walletAddress())) {
+        // 2. 지갑 주소 형식이 네트워크와 맞지 않는 경우
+        if (!WalletUtils.isValidAddress(recipient.walletAddress(), recipient.netType())) {
             throw new TransferException(TransferErrorCode.INVALID_WALLET_ADDRESS);
         }
 
@@ -558,36 +632,47 @@ public class TransferService {
         }catch (GeneralSecurityException e) {
             throw new RuntimeException(e);
         }
-        // 잘못된 요청 형식
-        catch (FeignException.BadRequest | FeignException.NotFound e) {
-            String rawBody = e.contentUTF8(); // 원본 응답 저장
-            log.error(">>>> 거래소 응답 원본: {}", rawBody); // 에러 로그 원본
-
-            ClientErrorDTO.Errors error = objectMapper.readValue(rawBody, ClientErrorDTO.Errors.class);
-            String errorName = error.error().name();
-            log.error(">>>> 거래소 에러 코드명: {}", errorName); // 파싱된 거래소 에러 코드명 확인
-
-            // 나머지 400 에러
-            throw new TransferException(TransferErrorCode.EXCHANGE_BAD_REQUEST);
-        }
-        // 권한이 부족한 경우
-        catch (FeignException.Unauthorized | FeignException.Forbidden e) {
-            String rawBody = e.contentUTF8(); // 원본 응답 저장
-            log.error(">>>> 거래소 응답 원본: {}", rawBody); // 에러 로그 원본
-
-            ClientErrorDTO.Errors error = objectMapper.readValue(rawBody, ClientErrorDTO.Errors.class);
-            String errorName = error.error().name();
-            log.error(">>>> 거래소 에러 코드명: {}", errorName); // 파싱된 거래소 에러 코드명 확인
-
-            switch (errorName){
-                // 권한이 부족한 경우
-                case "out_of_scope" -> throw new TransferException(TransferErrorCode.EXCHANGE_FORBIDDEN);
-                // 인증되지 않은 ip에서 요청을 보낸 경우
-                case "no_authorization_ip" -> throw new TransferException(TransferErrorCode.NOT_ALLOW_IP);
-                case "NotAllowIP" -> throw new TransferException(TransferErrorCode.NOT_ALLOW_IP);
-                // 나머지 jwt 관련 오류
-                default -> throw new TransferException(TransferErrorCode.EXCHANGE_BAD_REQUEST);
-            }
+        // 거래소 에러
+        catch (ExchangeApiException e) {
+            throw toTransferException(e);
+        }
+    }
+
+    // 거래소 에러를 이체 에러로 변환 (429/5XX는 요청 문제가 아니므로 그대로 전파)
+    private RuntimeException toTransferException(ExchangeApiException e) {
+        if (e.isRetryable()) {
+            return e;
+        }
+        // 에러 이름이 없는 403은 권한 없음 (IP 차단 등)
+        TransferErrorCode fallback = e.status() == 403
+                ? TransferErrorCode.EXCHANGE_FORBIDDEN
+                : TransferErrorCode.EXCHANGE_BAD_REQUEST;
+        return new TransferException(EXCHANGE_ERRORS.getOrDefault(e.getErrorCode(), fallback));
+    }
+
+    // (회원, 상대 거래소, 지갑 주소, 네트워크)가 같은 수취인은 하나만 유지
+    private Recipient upsertRecipient(Member member, TransferReqDTO.WithdrawRequest request) {
+        ExchangeType exchangeType = TransferConverter.toRecipientExchange(request);
+        Recipient existing = recipientRepository.findByMemberIdAndExchangeTypeAndWalletAddressAndNetType(
+                member.getId(), exchangeType, request.address(), request.netType()
+        ).orElse(null);
+
+        if (existing != null) {
+            existing.updateRecipientInfo(
+                    request.receiverKoName(),
+                    request.receiverEnName(),
+                    request.receiverType() != null ? MemberType.from(request.receiverType()) : null
+            );
+            return recipientRepository.save(existing);
+        }
+
+        try {
+            return recipientRepository.save(TransferConverter.toRecipient(request, member));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 지갑으로 동시에 이체한 경우 먼저 저장된 수취인 사용
+            return recipientRepository.findByMemberIdAndExchangeTypeAndWalletAddressAndNetType(
+                    member.getId(), exchangeType, request.address(), request.netType()
+            ).orElseThrow(() -> e);
         }
     }
 }
@@ -0,0 +1,252 @@
+package com.example.scoi.domain.transfer.service;
+
+import com.example.scoi.domain.member.entity.Member;
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.domain.member.repository.MemberFcmRepository;
+import com.example.scoi.domain.transfer.converter.TransferConverter;
+import com.example.scoi.domain.transfer.dto.TransferResDTO;
+import com.example.scoi.domain.transfer.entity.TradeHistory;
+import com.example.scoi.domain.transfer.repository.TradeHistoryRepository;
+import com.example.scoi.global.client.dto.BithumbResDTO;
+import com.example.scoi.global.client.dto.UpbitResDTO;
+import com.example.scoi.global.client.gateway.BithumbGateway;
+import com.example.scoi.global.client.gateway.UpbitGateway;
+import com.example.scoi.global.config.RedisConfig;
+import com.example.scoi.global.redis.RedisKeySpace;
+import com.example.scoi.global.util.FcmUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 출금 상태 추적기
+ * 출금 직후 거래소 상태(WAITING 등)로 저장된 이체내역을 등록해두고,
+ * 백그라운드에서 (사용자, 거래소, 화폐) 단위로 묶어 출금 리스트 API 한 번으로 상태를 조회합니다.
+ * 상태가 바뀌면 이체내역을 갱신하고 본인에게만 STOMP(/user/queue/withdraw/{uuid})와 FCM으로 알립니다.
+ *
+ * 추적 대상은 Redis ZSET(score = 다음 조회 시각)에 보관하므로 여러 서버가 나눠서 처리할 수 있고,
+ * 상태 변화가 없으면 조회 간격을 BASE_DELAY부터 MAX_DELAY까지 두 배씩 늘립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WithdrawStatusTracker {
+
+    private static final String TRACKING_KEY = RedisKeySpace.WITHDRAW_TRACKING.key();
+    private static final String ATTEMPTS_KEY = RedisKeySpace.WITHDRAW_TRACKING.key("attempts");
+    private static final String DESTINATION_PREFIX = "/queue/withdraw/";
+
+    private static final int BATCH_SIZE = 100;
+    private static final long BASE_DELAY_MILLIS = 5_000;
+    private static final long MAX_DELAY_MILLIS = 5 * 60_000;
+    // 조회 중인 항목을 다른 서버가 가져가지 않도록 미뤄두는 시간
+    private static final long LEASE_MILLIS = 60_000;
+    // 이 시간이 지나도 끝나지 않은 출금은 추적 중단 (상세 조회로 확인)
+    private static final long MAX_TRACKING_HOURS = 24;
+
+    private static final Set<String> TERMINAL_STATES = Set.of("DONE", "FAILED", "CANCELLED", "REJECTED");
+
+    // 조회 시각이 된 항목을 꺼내면서 LEASE 만큼 뒤로 미룸
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, id in ipairs(ids) do
+                redis.call('ZADD', KEYS[1], ARGV[3], id)
+            end
+            return ids
+            """, List.class);
+
+    @Qualifier(RedisConfig.BACKGROUND)
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TradeHistoryRepository tradeHistoryRepository;
+    private final MemberFcmRepository memberFcmRepository;
+    private final UpbitGateway upbitGateway;
+    private final BithumbGateway bithumbGateway;
+    private final SimpMessageSendingOperations simpMessageSendingOperations;
+    private final FcmUtil fcmUtil;
+
+    /**
+     * 출금 상태 추적을 시작합니다. 이미 끝난 상태면 등록하지 않습니다.
+     * @param tradeHistory 저장된 이체내역
+     */
+    public void enroll(TradeHistory tradeHistory) {
+        if (tradeHistory.getUuid() == null || isTerminal(tradeHistory.getStatus())) {
+            return;
+        }
+        String id = String.valueOf(tradeHistory.getId());
+        redisTemplate.opsForZSet().add(TRACKING_KEY, id, System.currentTimeMillis() + BASE_DELAY_MILLIS);
+        log.info("[ WithdrawStatusTracker ]: 출금 상태 추적 등록 - tradeHistoryId: {}, uuid: {}", id, tradeHistory.getUuid());
+    }
+
+    @Scheduled(fixedDelayString = "${transfer.withdraw-tracking.interval-millis:2000}")
+    public void poll() {
+        List<Long> ids = claim();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        List<TradeHistory> histories = tradeHistoryRepository.findAllWithMemberByIdIn(ids);
+        if (histories.size() < ids.size()) {
+            // 삭제된 이체내역은 추적 중단
+            Set<Long> found = new HashSet<>();
+            histories.forEach(history -> found.add(history.getId()));
+            ids.stream().filter(id -> !found.contains(id)).forEach(this::stopTracking);
+        }
+
+        // 같은 API 키, 같은 화폐끼리 묶어서 한 번에 조회
+        Map<String, List<TradeHistory>> groups = new LinkedHashMap<>();
+        for (TradeHistory history : histories) {
+            String groupKey = history.getMember().getId() + ":" + history.getExchangeType() + ":" + history.getCoinType();
+            groups.computeIfAbsent(groupKey, k -> new ArrayList<>()).add(history);
+        }
+        groups.values().forEach(this::refreshGroup);
+    }
+
+    private void refreshGroup(List<TradeHistory> histories) {
+        TradeHistory first = histories.get(0);
+        Member member = first.getMember();
+
+        Map<String, WithdrawStatus> statuses;
+        try {
+            statuses = fetchStatuses(
+                    member.getPhoneNumber(),
+                    first.getExchangeType(),
+                    String.valueOf(first.getCoinType()),
+                    histories.stream().map(TradeHistory::getUuid).toList()
+            );
+        } catch (GeneralSecurityException | RuntimeException e) {
+            log.warn("[ WithdrawStatusTracker ]: 출금 상태 조회 실패 - memberId: {}, exchangeType: {}, 건수: {}",
+                    member.getId(), first.getExchangeType(), histories.size(), e);
+            histories.forEach(history -> reschedule(history.getId(), false));
+            return;
+        }
+
+        for (TradeHistory history : histories) {
+            WithdrawStatus status = statuses.get(history.getUuid());
+            boolean changed = status != null && !Objects.equals(status.state(), history.getStatus());
+
+            if (changed) {
+                tradeHistoryRepository.updateStatus(history.getId(), status.state());
+                notify(member, history, status);
+            }
+
+            String state = changed ? status.state() : history.getStatus();
+            if (isTerminal(state) || isExpired(history)) {
+                stopTracking(history.getId());
+            } else {
+                reschedule(history.getId(), changed);
+            }
+        }
+    }
+
+    private Map<String, WithdrawStatus> fetchStatuses(
+            String phoneNumber,
+            ExchangeType exchangeType,
+            String currency,
+            List<String> uuids
+    ) throws GeneralSecurityException {
+
+        Map<String, WithdrawStatus> statuses = new HashMap<>();
+        switch (exchangeType) {
+            case UPBIT -> {
+                for (UpbitResDTO.GetWithdraw withdraw : upbitGateway.getWithdraws(phoneNumber, currency, uuids)) {
+                    statuses.put(withdraw.uuid(), new WithdrawStatus(withdraw.state(), withdraw.txid(), withdraw.done_at()));
+                }
+            }
+            case BITHUMB -> {
+                for (BithumbResDTO.GetWithdraw withdraw : bithumbGateway.getWithdraws(phoneNumber, currency, uuids)) {
+                    statuses.put(withdraw.uuid(), new WithdrawStatus(withdraw.state(), withdraw.txid(), withdraw.done_at()));
+                }
+            }
+        }
+        return statuses;
+    }
+
+    // 상태 변경 알림 (STOMP + FCM)
+    private void notify(Member member, TradeHistory history, WithdrawStatus status) {
+        TransferResDTO.WithdrawStatusDTO dto =
+                TransferConverter.toWithdrawStatusDTO(history, status.state(), status.txid(), status.doneAt());
+        simpMessageSendingOperations.convertAndSendToUser(member.getPhoneNumber(), DESTINATION_PREFIX + history.getUuid(), dto);
+        log.info("[ WithdrawStatusTracker ]: 출금 상태 변경 - uuid: {}, {} -> {}",
+                history.getUuid(), history.getStatus(), status.state());
+
+        if (isTerminal(status.state())) {
+            memberFcmRepository.findByMember(member).ifPresent(memberFcm -> fcmUtil.sendNotification(
+                    memberFcm.getFcmToken(),
+                    "출금 상태 알림",
+                    history.getCoinCount() + " " + history.getCoinType() + " 출금이 " + toKorean(status.state()) + "되었습니다."
+            ));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> claim() {
+        long now = System.currentTimeMillis();
+        List<String> claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(TRACKING_KEY),
+                String.valueOf(now), String.valueOf(BATCH_SIZE), String.valueOf(now + LEASE_MILLIS));
+        if (claimed == null) {
+            return List.of();
+        }
+        return claimed.stream().map(Long::valueOf).toList();
+    }
+
+    // 상태가 바뀌면 기본 간격으로, 그대로면 간격을 두 배로
+    private void reschedule(Long id, boolean changed) {
+        String field = String.valueOf(id);
+        long attempts = changed
+                ? 0
+                : redisTemplate.opsForHash().increment(ATTEMPTS_KEY, field, 1);
+        if (changed) {
+            redisTemplate.opsForHash().delete(ATTEMPTS_KEY, field);
+        }
+        long delay = Math.min(BASE_DELAY_MILLIS << Math.min(attempts, 16), MAX_DELAY_MILLIS);
+        redisTemplate.opsForZSet().add(TRACKING_KEY, field, System.currentTimeMillis() + delay);
+    }
+
+    private void stopTracking(Long id) {
+        String field = String.valueOf(id);
+        redisTemplate.opsForZSet().remove(TRACKING_KEY, field);
+        redisTemplate.opsForHash().delete(ATTEMPTS_KEY, field);
+    }
+
+    private boolean isExpired(TradeHistory history) {
+        return history.getCreatedAt() != null
+                && history.getCreatedAt().isBefore(LocalDateTime.now().minusHours(MAX_TRACKING_HOURS));
+    }
+
+    private boolean isTerminal(String state) {
+        return state != null && TERMINAL_STATES.contains(state.toUpperCase());
+    }
+
+    private String toKorean(String state) {
+        return switch (state.toUpperCase()) {
+            case "DONE" -> "완료";
+            case "CANCELLED" -> "취소";
+            case "REJECTED" -> "거절";
+            default -> "실패";
+        };
+    }
+
+    private record WithdrawStatus(
+            String state,
+            String txid,
+            String doneAt
+    ) {}
+}
@@ -0,0 +1,73 @@
+package com.example.scoi.domain.transfer.utils.address;
+
+import java.util.Arrays;
+
+/**
+ * Base58 (비트코인 알파벳) 디코더
+ * 주소 검증용으로 결과 길이가 정해진 경우만 다룹니다.
+ */
+final class Base58 {
+
+    private static final String ALPHABET = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+
+    // 문자 -> 값, 알파벳이 아니면 -1
+    private static final byte[] INDEXES = new byte[128];
+
+    static {
+        Arrays.fill(INDEXES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length(); i++) {
+            INDEXES[ALPHABET.charAt(i)] = (byte) i;
+        }
+    }
+
+    private Base58() {
+    }
+
+    /**
+     * 문자열이 Base58 알파벳으로만 이루어졌는지 확인합니다.
+     */
+    static boolean isBase58(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 128 || INDEXES[c] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 정확히 out.length 바이트로 디코딩합니다.
+     * 앞자리 '1'의 개수와 결과 앞쪽 0 바이트 개수가 다르면 정규 인코딩이 아니므로 실패합니다.
+     * @param value Base58 문자열 (isBase58로 검사된 값)
+     * @param out 디코딩 결과를 담을 버퍼
+     * @return 길이가 맞게 디코딩되면 true
+     */
+    static boolean decode(String value, byte[] out) {
+        Arrays.fill(out, (byte) 0);
+
+        int leadingOnes = 0;
+        while (leadingOnes < value.length() && value.charAt(leadingOnes) == '1') {
+            leadingOnes++;
+        }
+
+        for (int i = leadingOnes; i < value.length(); i++) {
+            int carry = INDEXES[value.charAt(i)];
+            for (int j = out.length - 1; j >= 0; j--) {
+                carry += 58 * (out[j] & 0xFF);
+                out[j] = (byte) carry;
+                carry >>>= 8;
+            }
+            // 결과가 out.length 바이트를 넘음
+            if (carry != 0) {
+                return false;
+            }
+        }
+
+        int leadingZeros = 0;
+        while (leadingZeros < out.length && out[leadingZeros] == 0) {
+            leadingZeros++;
+        }
+        return leadingZeros == leadingOnes;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.scoi.domain.transfer.utils.address;
+
+/**
+ * Keccak-256 (이더리움 방식, SHA3-256과 패딩이 다름)
+ * EIP-55 체크섬 검증에만 사용하므로 짧은 입력 한 번 해시하는 용도로만 구현했습니다.
+ */
+final class Keccak256 {
+
+    private static final int RATE = 136;
+
+    private static final long[] ROUND_CONSTANTS = {
+            0x0000000000000001L, 0x0000000000008082L, 0x800000000000808aL, 0x8000000080008000L,
+            0x000000000000808bL, 0x0000000080000001L, 0x8000000080008081L, 0x8000000000008009L,
+            0x000000000000008aL, 0x0000000000000088L, 0x0000000080008009L, 0x000000008000000aL,
+            0x000000008000808bL, 0x800000000000008bL, 0x8000000000008089L, 0x8000000000008003L,
+            0x8000000000008002L, 0x8000000000000080L, 0x000000000000800aL, 0x800000008000000aL,
+            0x8000000080008081L, 0x8000000000008080L, 0x0000000080000001L, 0x8000000080008008L
+    };
+
+    private static final int[] ROTATIONS = {
+            1, 3, 6, 10, 15, 21, 28, 36, 45, 55, 2, 14, 27, 41, 56, 8, 25, 43, 62, 18, 39, 61, 20, 44
+    };
+
+    private static final int[] PI_LANES = {
+            10, 7, 11, 17, 18, 3, 5, 16, 8, 21, 24, 4, 15, 23, 19, 13, 12, 2, 20, 14, 22, 9, 6, 1
+    };
+
+    private Keccak256() {
+    }
+
+    /**
+     * @param input 해시할 바이트
+     * @return 32바이트 해시
+     */
+    static byte[] digest(byte[] input) {
+        long[] state = new long[25];
+
+        int offset = 0;
+        while (input.length - offset >= RATE) {
+            absorb(state, input, offset, RATE);
+            permute(state);
+            offset += RATE;
+        }
+
+        // 마지막 블록 + Keccak 패딩 (0x01 ... 0x80)
+        byte[] last = new byte[RATE];
+        System.arraycopy(input, offset, last, 0, input.length - offset);
+        last[input.length - offset] ^= 0x01;
+        last[RATE - 1] ^= (byte) 0x80;
+        absorb(state, last, 0, RATE);
+        permute(state);
+
+        byte[] out = new byte[32];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = (byte) (state[i >>> 3] >>> ((i & 7) << 3));
+        }
+        return out;
+    }
+
+    private static void absorb(long[] state, byte[] block, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            state[i >>> 3] ^= (block[offset + i] & 0xFFL) << ((i & 7) << 3);
+        }
+    }
+
+    private static void permute(long[] st) {
+        long[] bc = new long[5];
+        for (long roundConstant : ROUND_CONSTANTS) {
+            // theta
+            for (int i = 0; i < 5; i++) {
+                bc[i] = st[i] ^ st[i + 5] ^ st[i + 10] ^ st[i + 15] ^ st[i + 20];
+            }
+            for (int i = 0; i < 5; i++) {
+                long t = bc[(i + 4) % 5] ^ Long.rotateLeft(bc[(i + 1) % 5], 1);
+                for (int j = 0; j < 25; j += 5) {
+                    st[j + i] ^= t;
+                }
+            }
+
+            // rho, pi
+            long t = st[1];
+            for (int i = 0; i < 24; i++) {
+                int lane = PI_LANES[i];
+                long next = st[lane];
+                st[lane] = Long.rotateLeft(t, ROTATIONS[i]);
+                t = next;
+            }
+
+            // chi
+            for (int j = 0; j < 25; j += 5) {
+                for (int i = 0; i < 5; i++) {
+                    bc[i] = st[j + i];
+                }
+                for (int i = 0; i < 5; i++) {
+                    st[j + i] ^= (~bc[(i + 1) % 5]) & bc[(i + 2) % 5];
+                }
+            }
+
+            // iota
+            st[0] ^= roundConstant;
+        }
+    }
+}
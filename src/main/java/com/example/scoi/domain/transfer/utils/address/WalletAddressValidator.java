@@ -0,0 +1,15 @@
+package com.example.scoi.domain.transfer.utils.address;
+
+/**
+ * 네트워크별 지갑 주소 검증기
+ * 구현체는 상태가 없으므로 여러 주소를 반복 검증할 때도 같은 인스턴스를 재사용합니다.
+ */
+@FunctionalInterface
+public interface WalletAddressValidator {
+
+    /**
+     * @param address 검증할 지갑 주소
+     * @return 형식과 체크섬이 모두 올바르면 true
+     */
+    boolean isValid(String address);
+}
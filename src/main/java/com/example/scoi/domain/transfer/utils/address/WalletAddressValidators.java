@@ -0,0 +1,148 @@
+package com.example.scoi.domain.transfer.utils.address;
+
+import com.example.scoi.domain.transfer.enums.NetworkType;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 네트워크별 지갑 주소 검증기 모음
+ * 정규표현식 대신 문자 범위를 직접 검사하고, 네트워크가 제공하는 체크섬까지 확인합니다.
+ * - ETH, KAIA : 0x + 40자리 16진수, 대소문자가 섞여 있으면 EIP-55 체크섬 확인
+ * - TRX       : T로 시작하는 34자리 Base58, 디코딩한 25바이트의 Base58Check 체크섬 확인
+ * - SOL       : 32~44자리 Base58, 디코딩 결과가 정확히 32바이트
+ * - APT       : 0x + 1~64자리 16진수
+ */
+public final class WalletAddressValidators {
+
+    private static final byte TRON_PREFIX = 0x41;
+    private static final int TRON_ADDRESS_BYTES = 25;
+    private static final int SOLANA_ADDRESS_BYTES = 32;
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private static final Map<NetworkType, WalletAddressValidator> VALIDATORS = new EnumMap<>(NetworkType.class);
+
+    static {
+        VALIDATORS.put(NetworkType.ETH, WalletAddressValidators::isValidEvm);
+        VALIDATORS.put(NetworkType.KAIA, WalletAddressValidators::isValidEvm);
+        VALIDATORS.put(NetworkType.TRX, WalletAddressValidators::isValidTron);
+        VALIDATORS.put(NetworkType.SOL, WalletAddressValidators::isValidSolana);
+        VALIDATORS.put(NetworkType.APT, WalletAddressValidators::isValidAptos);
+    }
+
+    private WalletAddressValidators() {
+    }
+
+    /**
+     * 네트워크에 맞는 검증기를 반환합니다.
+     * 여러 주소를 검증할 때는 한 번 꺼낸 검증기를 재사용하면 됩니다.
+     * @param networkType 네트워크 타입
+     * @return 주소 검증기 (등록되지 않은 네트워크는 항상 false)
+     */
+    public static WalletAddressValidator of(NetworkType networkType) {
+        return VALIDATORS.getOrDefault(networkType, address -> false);
+    }
+
+    // 0x + 40자리 16진수 (+ EIP-55)
+    static boolean isValidEvm(String address) {
+        if (address.length() != 42 || !hasHexPrefix(address) || !isHex(address, 2, 42)) {
+            return false;
+        }
+
+        boolean hasLower = false;
+        boolean hasUpper = false;
+        for (int i = 2; i < 42; i++) {
+            char c = address.charAt(i);
+            hasLower |= c >= 'a' && c <= 'f';
+            hasUpper |= c >= 'A' && c <= 'F';
+        }
+        // 모두 소문자/대문자면 체크섬이 없는 주소
+        if (!(hasLower && hasUpper)) {
+            return true;
+        }
+        return matchesEip55(address);
+    }
+
+    // 소문자 주소의 Keccak-256 해시 니블이 8 이상이면 대문자, 아니면 소문자
+    private static boolean matchesEip55(String address) {
+        byte[] lower = new byte[40];
+        for (int i = 0; i < 40; i++) {
+            char c = address.charAt(i + 2);
+            lower[i] = (byte) (c >= 'A' && c <= 'F' ? c + ('a' - 'A') : c);
+        }
+        byte[] hash = Keccak256.digest(lower);
+
+        for (int i = 0; i < 40; i++) {
+            char c = address.charAt(i + 2);
+            if (c <= '9') {
+                continue;
+            }
+            int nibble = (i & 1) == 0 ? (hash[i >>> 1] >>> 4) & 0x0F : hash[i >>> 1] & 0x0F;
+            boolean upper = c <= 'F';
+            if (upper != (nibble >= 8)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // T + 33자리 Base58, 0x41 + 20바이트 + 4바이트 체크섬(double SHA-256)
+    static boolean isValidTron(String address) {
+        if (address.length() != 34 || address.charAt(0) != 'T' || !Base58.isBase58(address)) {
+            return false;
+        }
+
+        byte[] decoded = new byte[TRON_ADDRESS_BYTES];
+        if (!Base58.decode(address, decoded) || decoded[0] != TRON_PREFIX) {
+            return false;
+        }
+
+        MessageDigest sha256 = SHA256.get();
+        sha256.update(decoded, 0, TRON_ADDRESS_BYTES - 4);
+        byte[] hash = sha256.digest(sha256.digest());
+        for (int i = 0; i < 4; i++) {
+            if (hash[i] != decoded[TRON_ADDRESS_BYTES - 4 + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 32바이트 공개키의 Base58 인코딩
+    static boolean isValidSolana(String address) {
+        if (address.length() < 32 || address.length() > 44 || !Base58.isBase58(address)) {
+            return false;
+        }
+        return Base58.decode(address, new byte[SOLANA_ADDRESS_BYTES]);
+    }
+
+    // 0x + 1~64자리 16진수 (표준은 64자리)
+    static boolean isValidAptos(String address) {
+        return address.length() > 2 && address.length() <= 66
+                && hasHexPrefix(address) && isHex(address, 2, address.length());
+    }
+
+    private static boolean hasHexPrefix(String address) {
+        return address.charAt(0) == '0' && address.charAt(1) == 'x';
+    }
+
+    private static boolean isHex(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            boolean hex = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            if (!hex) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
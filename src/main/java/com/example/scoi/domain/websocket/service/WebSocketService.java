@@ -2,6 +2,7 @@ package com.example.scoi.domain.websocket.service;
 
 import com.example.scoi.domain.websocket.dto.UpbitResDTO;
 import com.example.scoi.domain.websocket.enums.RiseOrFall;
+import com.example.scoi.global.redis.RedisKeySpace;
 import com.example.scoi.global.redis.RedisUtil;
 import com.example.scoi.global.util.FcmUtil;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -20,9 +22,8 @@ public class WebSocketService {
     private final FcmUtil fcmUtil;
     private final RedisUtil redisUtil;
 
-    // 웹소켓 관련된 작업 Redis 접두사
-    private static final String WEBSOCKET_PREFIX = "websocket:";
-    private static final String BASELINE = "baseline:";
+    // 웹소켓 관련된 작업 Redis 키 구성 요소 (RedisKeySpace.WEBSOCKET, 코인 단위로 같은 슬롯)
+    private static final String BASELINE = "baseline";
     private static final String PRICE = "price";
     private static final String TICK = "tick";
     private static final String COOLDOWN = "cooldown";
@@ -39,16 +40,25 @@ public class WebSocketService {
 
         String code = dto.cd().replace("KRW-","");
 
-        // Redis에서 baseline, prevTs, duration 가져오기
+        String priceKey = RedisKeySpace.WEBSOCKET.key(code, BASELINE, PRICE);
+        String tickKey = RedisKeySpace.WEBSOCKET.key(code, BASELINE, TICK);
+        String durationKey = RedisKeySpace.WEBSOCKET.key(code, DURATION);
+        String cooldownKey = RedisKeySpace.WEBSOCKET.key(code, BASELINE, COOLDOWN);
+
+        // Redis에서 baseline, prevTs, duration, 쿨타임 여부를 한 번에 가져오기 (같은 코인 키는 같은 슬롯)
         // BigDecimal로 부동 소수점 오차 해결
-        Double baseline = (redisUtil.exists(WEBSOCKET_PREFIX+code+BASELINE+PRICE))?
-                Double.valueOf(redisUtil.get(WEBSOCKET_PREFIX+code+BASELINE+PRICE)):dto.tp();
+        List<String> values = redisUtil.mget(List.of(priceKey, tickKey, durationKey, cooldownKey));
+
+        Double baseline = (values.get(0) != null)? Double.valueOf(values.get(0)):dto.tp();
+
+        BigDecimal prevTs = (values.get(1) != null)? new BigDecimal(values.get(1)):new BigDecimal(dto.ttms());
+
+        Double duration = (values.get(2) != null)? Double.valueOf(values.get(2)):0.0;
 
-        BigDecimal prevTs = (redisUtil.exists(WEBSOCKET_PREFIX+code+BASELINE+TICK))?
-                new BigDecimal(redisUtil.get(WEBSOCKET_PREFIX+code+BASELINE+TICK)):new BigDecimal(dto.ttms());
+        boolean coolingDown = values.get(3) != null;
 
-        Double duration = (redisUtil.exists(WEBSOCKET_PREFIX+code+DURATION))?
-                Double.valueOf(redisUtil.get(WEBSOCKET_PREFIX+code+DURATION)):0.0;
+        // 쓰기는 마지막에 한 번에 보내기
+        RedisUtil.Batch writes = redisUtil.batch();
 
         BigDecimal nowTs = new BigDecimal(dto.ttms());
 
@@ -60,8 +70,7 @@ public class WebSocketService {
         if (deltaSec.compareTo(new BigDecimal(180)) > 0) deltaSec = new BigDecimal(180);
 
         // 휴식 시간이 지났는가?: 있다면 진행 X
-        if (!redisUtil.exists(WEBSOCKET_PREFIX+code+BASELINE+COOLDOWN)
-        ) {
+        if (!coolingDown) {
             BigDecimal devNumerator = new BigDecimal(Math.abs(dto.tp() - baseline));
             BigDecimal dev = devNumerator.divide(BigDecimal.valueOf(Math.max(baseline, EPS)), RoundingMode.HALF_UP);
 
@@ -74,7 +83,7 @@ public class WebSocketService {
                 duration = 0.0;
             }
 
-            redisUtil.set(WEBSOCKET_PREFIX+code+DURATION, String.valueOf(duration));
+            writes.set(durationKey, String.valueOf(duration));
 
             // 알림 조건
             if (duration >= DUR_TH_SEC){
@@ -90,8 +99,8 @@ public class WebSocketService {
                 );
 
                 // 쿨타임 저장: TTL 쿨타임 저장 시간 (1시간)
-                redisUtil.set(
-                        WEBSOCKET_PREFIX+code+BASELINE+COOLDOWN,
+                writes.set(
+                        cooldownKey,
                         String.valueOf(COOLDOWN_SEC),
                         COOLDOWN_SEC,
                         TimeUnit.SECONDS
@@ -100,7 +109,8 @@ public class WebSocketService {
         }
 
         // baseline 업데이트
-        redisUtil.set(WEBSOCKET_PREFIX+code+BASELINE+PRICE, String.valueOf(A*dto.tp() + (1-A)*baseline));
-        redisUtil.set(WEBSOCKET_PREFIX+code+BASELINE+TICK, String.valueOf(dto.ttms()));
+        writes.set(priceKey, String.valueOf(A*dto.tp() + (1-A)*baseline))
+                .set(tickKey, String.valueOf(dto.ttms()))
+                .execute();
     }
 }
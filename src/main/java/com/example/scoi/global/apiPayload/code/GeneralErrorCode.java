@@ -23,6 +23,12 @@ public enum GeneralErrorCode implements BaseErrorCode{
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR,
             "COMMON500_1",
             "서버에서 처리하지 못했습니다."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE,
+            "COMMON503_1",
+            "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    EXCHANGE_RATE_LIMIT(HttpStatus.TOO_MANY_REQUESTS,
+            "COMMON429_1",
+            "거래소 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
     // 검증용 에러 메시지
     VALIDATION_FAILED(HttpStatus.BAD_REQUEST,
@@ -4,9 +4,11 @@ import com.example.scoi.global.apiPayload.ApiResponse;
 import com.example.scoi.global.apiPayload.code.BaseErrorCode;
 import com.example.scoi.global.apiPayload.code.GeneralErrorCode;
 import com.example.scoi.global.apiPayload.exception.ScoiException;
+import com.example.scoi.global.client.ratelimit.ExchangeRateLimitException;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.UnexpectedTypeException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
@@ -296,6 +298,20 @@ public class GeneralExceptionAdvice {
                 );
     }
 
+    // 거래소 요청 수 제한: 서비스에서 잡지 않고 올라온 경우 429와 Retry-After(초)로 응답
+    @ExceptionHandler(ExchangeRateLimitException.class)
+    public ResponseEntity<ApiResponse<Void>> handleExchangeRateLimitException(
+            ExchangeRateLimitException ex
+    ) {
+        log.warn("[ ExchangeRateLimitException ]: {}", ex.getMessage());
+
+        BaseErrorCode code = GeneralErrorCode.EXCHANGE_RATE_LIMIT;
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfterMillis() + 999) / 1000);
+        return ResponseEntity.status(code.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiResponse.onFailure(code, null));
+    }
+
     // 그 외의 정의되지 않은 모든 예외 처리
     @ExceptionHandler({Exception.class})
     public ResponseEntity<ApiResponse<String>> handleAllException(
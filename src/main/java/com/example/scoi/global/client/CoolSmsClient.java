@@ -15,4 +15,8 @@ public interface CoolSmsClient {
 
     @PostMapping("/messages/v4/send")
     CoolSmsDTO.SendResponse sendMessage(@RequestBody CoolSmsDTO.SendRequest request);
+
+    // 여러 건 한 번에 발송 (건별 실패는 failedMessageList로 응답)
+    @PostMapping("/messages/v4/send-many/detail")
+    CoolSmsDTO.SendManyResponse sendMany(@RequestBody CoolSmsDTO.SendManyRequest request);
 }
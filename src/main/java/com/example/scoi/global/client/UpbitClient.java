@@ -40,6 +40,14 @@ public interface UpbitClient {
             @RequestParam("currency") String currency
     );
 
+    // 입금 리스트 조회 (uuid 목록으로 여러 건을 한 번에 조회)
+    @GetMapping("/v1/deposits")
+    List<UpbitResDTO.GetDeposit> getDeposits(
+            @RequestHeader("Authorization") String authorization,
+            @RequestParam("currency") String currency,
+            @RequestParam("uuids[]") List<String> uuids
+    );
+
     // 전체 계좌 조회
     // 쿼리파라미터 X & Request Body X
     // @GetMapping("/v1/accounts")
@@ -56,7 +64,7 @@ public interface UpbitClient {
     // 페어별 주문 가능 정보 조회
     // 쿼리파라미터 O
     @GetMapping("/v1/orders/chance")
-    String getOrderChance(
+    UpbitResDTO.OrderChance getOrderChance(
             @RequestHeader("Authorization") String token,
             @RequestParam("market") String market
     );
@@ -105,4 +113,20 @@ public interface UpbitClient {
     List<UpbitResDTO.WithdrawalAddressResponse> getRecipients(
             @RequestHeader("Authorization") String authorization
     );
+
+    // 출금 리스트 조회 (uuid 목록으로 여러 건을 한 번에 조회)
+    @GetMapping("/v1/withdraws")
+    List<UpbitResDTO.GetWithdraw> getWithdraws(
+            @RequestHeader("Authorization") String authorization,
+            @RequestParam("currency") String currency,
+            @RequestParam("uuids[]") List<String> uuids
+    );
+
+    // 최근 출금 리스트 조회 (결과를 모르는 출금이 반영되었는지 확인)
+    @GetMapping("/v1/withdraws")
+    List<UpbitResDTO.GetWithdraw> getRecentWithdraws(
+            @RequestHeader("Authorization") String authorization,
+            @RequestParam("currency") String currency,
+            @RequestParam("limit") int limit
+    );
 }
@@ -0,0 +1,63 @@
+package com.example.scoi.global.client.codec;
+
+import com.example.scoi.global.client.dto.BithumbResDTO;
+import com.example.scoi.global.client.dto.ClientErrorDTO;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 거래소 응답 JSON 변환기 모음
+ * 호출마다 new ObjectMapper()를 만들면 타입 분석과 (역)직렬화기 캐시를 매번 새로 쌓으므로,
+ * 설정을 마친 매퍼 하나에서 DTO 타입별 ObjectReader/ObjectWriter를 미리 만들어 공유합니다. (모두 thread-safe)
+ * 거래소 응답에는 DTO에 없는 필드가 자주 추가되므로 모르는 필드는 무시합니다. (Jackson 3 기본값)
+ * 자주 쓰는 타입은 상수로 두고, 그 외 타입은 reader/writer로 처음 한 번만 만듭니다.
+ * 계좌, 주문, 입금 목록처럼 Feign 메서드가 DTO로 바로 받는 응답은 Feign 디코더(SpringDecoder)가
+ * 스프링이 관리하는 JsonMapper 하나로 변환하므로 (역)직렬화기 캐시가 이미 공유되어 여기에 상수를 두지 않습니다.
+ * 이 클래스는 문자열 본문을 직접 변환하는 곳(에러 응답, 빗썸 현재가)에서만 사용합니다.
+ */
+public final class ExchangeCodecs {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    // 거래소 에러 응답 ({"error": {"name": ..., "message": ...}})
+    public static final ObjectReader ERRORS = MAPPER.readerFor(ClientErrorDTO.Errors.class);
+
+    // 빗썸 현재가 (배열 또는 단일 객체로 옴)
+    public static final ObjectReader BITHUMB_TICKERS = MAPPER.readerFor(BithumbResDTO.Ticker[].class);
+    public static final ObjectReader BITHUMB_TICKER = MAPPER.readerFor(BithumbResDTO.Ticker.class);
+
+    private static final ConcurrentHashMap<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+    private ExchangeCodecs() {
+    }
+
+    /**
+     * 거래소 에러 응답 본문을 변환합니다.
+     * @param body 응답 본문
+     * @return 에러 응답 (JSON이 아니면 JacksonException)
+     */
+    public static ClientErrorDTO.Errors readErrors(String body) {
+        return ERRORS.readValue(body);
+    }
+
+    /**
+     * 타입별 공유 ObjectReader
+     * @param type 변환할 타입
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return READERS.computeIfAbsent(type, MAPPER::readerFor);
+    }
+
+    /**
+     * 타입별 공유 ObjectWriter
+     * @param type 직렬화할 타입
+     */
+    public static ObjectWriter writer(Class<?> type) {
+        return WRITERS.computeIfAbsent(type, MAPPER::writerFor);
+    }
+}
@@ -4,10 +4,16 @@ import com.example.scoi.domain.charge.dto.ChargeReqDTO;
 import com.example.scoi.domain.charge.dto.BalanceResDTO;
 import com.example.scoi.global.client.dto.BithumbReqDTO;
 import com.example.scoi.global.client.dto.BithumbResDTO;
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.rules.MarketRules;
+import com.example.scoi.global.client.snapshot.AccountSnapshot;
 import jakarta.validation.constraints.NotNull;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 //빗썸 API 응답을 BalanceResDTO로 변환
@@ -69,4 +75,57 @@ public class BithumbConverter {
         
         return result;
     }
+
+    // 빗썸 전체 계좌 조회 응답 -> 계좌 스냅샷
+    public static AccountSnapshot toAccountSnapshot(@NotNull BithumbResDTO.BalanceResponse[] responses) {
+        Map<String, AccountSnapshot.Balance> balances = new HashMap<>();
+        for (BithumbResDTO.BalanceResponse response : responses) {
+            balances.put(response.currency(), new AccountSnapshot.Balance(
+                    response.currency(),
+                    response.balance(),
+                    response.locked()
+            ));
+        }
+        return new AccountSnapshot(ExchangeType.BITHUMB, Map.copyOf(balances), System.currentTimeMillis());
+    }
+
+    // 빗썸 주문 가능 정보 -> 마켓 규칙 (잔고 정보는 제외)
+    public static MarketRules toMarketRules(String market, @NotNull BithumbResDTO.OrderChance orderChance) {
+        BithumbResDTO.Market marketInfo = orderChance.market();
+
+        // 최소 주문 금액은 최상위 bid/ask 우선, 없으면 market.bid/market.ask
+        String bidMinTotal = orderChance.bid() != null ? orderChance.bid().min_total() : null;
+        if ((bidMinTotal == null || bidMinTotal.isEmpty()) && marketInfo != null && marketInfo.bid() != null) {
+            bidMinTotal = marketInfo.bid().min_total();
+        }
+        String askMinTotal = orderChance.ask() != null ? orderChance.ask().min_total() : null;
+        if ((askMinTotal == null || askMinTotal.isEmpty()) && marketInfo != null && marketInfo.ask() != null) {
+            askMinTotal = marketInfo.ask().min_total();
+        }
+
+        return new MarketRules(
+                ExchangeType.BITHUMB,
+                market,
+                toDecimalOrZero(orderChance.bid_fee()),
+                toDecimalOrZero(orderChance.ask_fee()),
+                toDecimalOrNull(bidMinTotal),
+                toDecimalOrNull(askMinTotal),
+                orderChance.ask() != null ? toDecimalOrNull(orderChance.ask().max_total()) : null,
+                marketInfo != null && marketInfo.bid_types() != null ? List.copyOf(marketInfo.bid_types()) : List.of(),
+                marketInfo != null && marketInfo.ask_types() != null ? List.copyOf(marketInfo.ask_types()) : List.of(),
+                System.currentTimeMillis()
+        );
+    }
+
+    private static BigDecimal toDecimalOrNull(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return new BigDecimal(value);
+    }
+
+    private static BigDecimal toDecimalOrZero(String value) {
+        BigDecimal decimal = toDecimalOrNull(value);
+        return decimal != null ? decimal : BigDecimal.ZERO;
+    }
 }
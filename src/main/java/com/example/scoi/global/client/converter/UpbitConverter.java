@@ -4,10 +4,16 @@ import com.example.scoi.domain.charge.dto.ChargeReqDTO;
 import com.example.scoi.domain.charge.dto.BalanceResDTO;
 import com.example.scoi.global.client.dto.UpbitReqDTO;
 import com.example.scoi.global.client.dto.UpbitResDTO;
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.rules.MarketRules;
+import com.example.scoi.global.client.snapshot.AccountSnapshot;
 import jakarta.validation.constraints.NotNull;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 // 업비트 API 응답 -> BalanceResDTO
 
@@ -69,4 +75,57 @@ public class UpbitConverter {
         
         return result;
     }
+
+    // 업비트 전체 계좌 조회 응답 -> 계좌 스냅샷
+    public static AccountSnapshot toAccountSnapshot(@NotNull UpbitResDTO.BalanceResponse[] responses) {
+        Map<String, AccountSnapshot.Balance> balances = new HashMap<>();
+        for (UpbitResDTO.BalanceResponse response : responses) {
+            balances.put(response.currency(), new AccountSnapshot.Balance(
+                    response.currency(),
+                    response.balance(),
+                    response.locked()
+            ));
+        }
+        return new AccountSnapshot(ExchangeType.UPBIT, Map.copyOf(balances), System.currentTimeMillis());
+    }
+
+    // 업비트 주문 가능 정보 -> 마켓 규칙 (잔고 정보는 제외)
+    public static MarketRules toMarketRules(String market, @NotNull UpbitResDTO.OrderChance orderChance) {
+        UpbitResDTO.Market marketInfo = orderChance.market();
+
+        // 최소 주문 금액은 최상위 bid/ask 우선, 없으면 market.bid/market.ask
+        String bidMinTotal = orderChance.bid() != null ? orderChance.bid().min_total() : null;
+        if ((bidMinTotal == null || bidMinTotal.isEmpty()) && marketInfo != null && marketInfo.bid() != null) {
+            bidMinTotal = marketInfo.bid().min_total();
+        }
+        String askMinTotal = orderChance.ask() != null ? orderChance.ask().min_total() : null;
+        if ((askMinTotal == null || askMinTotal.isEmpty()) && marketInfo != null && marketInfo.ask() != null) {
+            askMinTotal = marketInfo.ask().min_total();
+        }
+
+        return new MarketRules(
+                ExchangeType.UPBIT,
+                market,
+                toDecimalOrZero(orderChance.bid_fee()),
+                toDecimalOrZero(orderChance.ask_fee()),
+                toDecimalOrNull(bidMinTotal),
+                toDecimalOrNull(askMinTotal),
+                marketInfo != null ? toDecimalOrNull(marketInfo.max_total()) : null,
+                marketInfo != null && marketInfo.bid_types() != null ? List.copyOf(marketInfo.bid_types()) : List.of(),
+                marketInfo != null && marketInfo.ask_types() != null ? List.copyOf(marketInfo.ask_types()) : List.of(),
+                System.currentTimeMillis()
+        );
+    }
+
+    private static BigDecimal toDecimalOrNull(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return new BigDecimal(value);
+    }
+
+    private static BigDecimal toDecimalOrZero(String value) {
+        BigDecimal decimal = toDecimalOrNull(value);
+        return decimal != null ? decimal : BigDecimal.ZERO;
+    }
 }
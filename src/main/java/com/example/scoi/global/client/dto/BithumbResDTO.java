@@ -231,7 +231,10 @@ public class BithumbResDTO {
             String done_at,
             String amount,
             String fee,
-            String transaction_type
+            String transaction_type,
+            // 출금 대상 주소 (응답에 없으면 null)
+            String address,
+            String secondary_address
     ){}
 
     /**
@@ -1,5 +1,7 @@
 package com.example.scoi.global.client.dto;
 
+import java.util.List;
+
 public class CoolSmsDTO {
 
     public record SendRequest(
@@ -18,4 +20,18 @@ public class CoolSmsDTO {
         String statusCode,
         String statusMessage
     ) {}
+
+    public record SendManyRequest(
+        List<Message> messages
+    ) {}
+
+    public record SendManyResponse(
+        List<FailedMessage> failedMessageList
+    ) {}
+
+    public record FailedMessage(
+        String to,
+        String statusCode,
+        String statusMessage
+    ) {}
 }
@@ -149,7 +149,10 @@ public class UpbitResDTO {
             String done_at,
             String amount,
             String fee,
-            String transaction_type
+            String transaction_type,
+            // 출금 대상 주소 (응답에 없으면 null)
+            String address,
+            String secondary_address
     ){}
 
     // 주문 가능 정보 조회
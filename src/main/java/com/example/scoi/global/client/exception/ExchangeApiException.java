@@ -0,0 +1,51 @@
+package com.example.scoi.global.client.exception;
+
+import feign.FeignException;
+import feign.Request;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 거래소 에러 응답 (FeignErrorDecoder가 응답 본문을 한 번만 읽고 변환해서 던짐)
+ * 호출부는 본문을 다시 파싱하지 않고 errorCode와 status로 분기합니다.
+ * FeignException을 상속하므로 기존 catch (FeignException e)와 contentUTF8()은 그대로 동작합니다.
+ */
+@Getter
+public class ExchangeApiException extends FeignException {
+
+    private final ExchangeErrorCode errorCode;
+    private final String errorName;
+    private final String errorMessage;
+
+    public ExchangeApiException(
+            int status,
+            String message,
+            Request request,
+            byte[] body,
+            Map<String, Collection<String>> headers,
+            String errorName,
+            String errorMessage
+    ) {
+        super(status, message, request, body, headers);
+        this.errorCode = ExchangeErrorCode.from(errorName);
+        this.errorName = errorName;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * 잠시 후 다시 보내면 성공할 수 있는 에러인지 (429, 5XX)
+     * 요청 자체의 문제가 아니므로 서비스는 도메인 에러로 바꾸지 않고 그대로 전파합니다.
+     */
+    public boolean isRetryable() {
+        return status() == 429 || status() >= 500;
+    }
+
+    /**
+     * 인증/권한 에러인지 (401, 403)
+     */
+    public boolean isAuthError() {
+        return status() == 401 || status() == 403;
+    }
+}
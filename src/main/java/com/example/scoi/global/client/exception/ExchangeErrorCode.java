@@ -0,0 +1,70 @@
+package com.example.scoi.global.client.exception;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 거래소(업비트/빗썸) 에러 응답의 error.name
+ * 서비스는 이 값을 자기 도메인 에러 코드로 바꾸는 표를 두고 변환합니다.
+ * 모르는 이름이거나 응답 본문이 JSON이 아니면 UNKNOWN입니다.
+ */
+public enum ExchangeErrorCode {
+    // 요청 파라미터
+    VALIDATION_ERROR("validation_error"),
+    INVALID_PARAMETER("invalid_parameter"),
+    INVALID_NETWORK_TYPE("invalid_network_type"),
+
+    // 인증/권한
+    OUT_OF_SCOPE("out_of_scope"),
+    NO_AUTHORIZATION_IP("no_authorization_ip"),
+    NOT_ALLOW_IP("NotAllowIP"),
+    TWO_FACTOR_AUTH_REQUIRED("two_factor_auth_required"),
+
+    // 입출금
+    DEPOSIT_AMOUNT_TOO_SMALL("deposit_amount_too_small"),
+    INVALID_WITHDRAW_ADDRESS("invalid_withdraw_address"),
+    WITHDRAW_ADDRESS_NOT_REGISTERED("withdraw_address_not_registered"),
+    WITHDRAW_MAINTAIN("withdraw_maintain"),
+    REQUEST_FAIL("request_fail"),
+
+    // 주문
+    ORDER_NOT_FOUND("order_not_found"),
+    CANCELED_ORDER("canceled_order"),
+    INSUFFICIENT_FUNDS("insufficient_funds"),
+    UNDER_MIN_TOTAL("under_min_total"),
+    INVALID_MIN_TOTAL("invalid_min_total"),
+    OVER_PRICE_LIMIT_BID("over_price_limit_bid"),
+    OVER_PRICE_LIMIT_ASK("over_price_limit_ask"),
+
+    UNKNOWN(null);
+
+    private static final Map<String, ExchangeErrorCode> BY_NAME = Arrays.stream(values())
+            .filter(code -> code.errorName != null)
+            .collect(Collectors.toUnmodifiableMap(code -> code.errorName, Function.identity()));
+
+    private final String errorName;
+
+    ExchangeErrorCode(String errorName) {
+        this.errorName = errorName;
+    }
+
+    /**
+     * 거래소 에러 이름 (응답의 error.name)
+     */
+    public String getErrorName() {
+        return errorName;
+    }
+
+    /**
+     * @param name 응답의 error.name (null 가능)
+     * @return 대응하는 에러 코드 (모르는 이름이면 UNKNOWN)
+     */
+    public static ExchangeErrorCode from(String name) {
+        if (name == null) {
+            return UNKNOWN;
+        }
+        return BY_NAME.getOrDefault(name, UNKNOWN);
+    }
+}
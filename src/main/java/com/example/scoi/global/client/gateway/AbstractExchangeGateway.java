@@ -0,0 +1,54 @@
+package com.example.scoi.global.client.gateway;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 업비트/빗썸 게이트웨이 공통 처리
+ * 거래소별 구현은 서명 방식(sign)만 제공합니다.
+ */
+@Slf4j
+public abstract class AbstractExchangeGateway implements ExchangeGateway {
+
+    // 거래소 규격에 맞는 Authorization 헤더 생성
+    protected abstract String sign(String phoneNumber, String query, Record body) throws GeneralSecurityException;
+
+    @Override
+    public <T> T call(
+            String phoneNumber,
+            ExchangeEndpoint endpoint,
+            String query,
+            Record body,
+            SignedCall<T> call
+    ) throws GeneralSecurityException {
+        String authorization = sign(phoneNumber, query, body);
+        return execute(endpoint, () -> call.execute(authorization));
+    }
+
+    @Override
+    public <T> T callPublic(ExchangeEndpoint endpoint, Supplier<T> call) {
+        return execute(endpoint, call);
+    }
+
+    private <T> T execute(ExchangeEndpoint endpoint, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            log.debug("[ {} ]: {} {} - {}ms", exchangeType(), endpoint.getMethod(), endpoint.getPath(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    // 입출금 리스트 조회 쿼리스트링 (ex. currency=USDT&uuids[]=a&uuids[]=b)
+    protected String toUuidsQuery(String currency, List<String> uuids) {
+        StringBuilder query = new StringBuilder("currency=").append(currency);
+        for (String uuid : uuids) {
+            query.append("&uuids[]=").append(uuid);
+        }
+        return query.toString();
+    }
+}
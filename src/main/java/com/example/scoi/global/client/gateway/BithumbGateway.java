@@ -0,0 +1,85 @@
+package com.example.scoi.global.client.gateway;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.BithumbClient;
+import com.example.scoi.global.client.dto.BithumbReqDTO;
+import com.example.scoi.global.client.dto.BithumbResDTO;
+import com.example.scoi.global.util.JwtApiUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class BithumbGateway extends AbstractExchangeGateway {
+
+    private final BithumbClient bithumbClient;
+    private final JwtApiUtil jwtApiUtil;
+
+    @Override
+    public ExchangeType exchangeType() {
+        return ExchangeType.BITHUMB;
+    }
+
+    @Override
+    protected String sign(String phoneNumber, String query, Record body) throws GeneralSecurityException {
+        return jwtApiUtil.createBithumbJwt(phoneNumber, query, body);
+    }
+
+    // 전체 계좌 조회
+    public BithumbResDTO.BalanceResponse[] getAccounts(String phoneNumber) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.ACCOUNTS, null, null, bithumbClient::getAccount);
+    }
+
+    // 주문 가능 정보 조회
+    public BithumbResDTO.OrderChance getOrderChance(String phoneNumber, String market) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.ORDER_CHANCE, "market=" + market, null,
+                authorization -> bithumbClient.getOrderChance(authorization, market));
+    }
+
+    // 출금 리스트 조회 (uuid 지정)
+    public List<BithumbResDTO.GetWithdraw> getWithdraws(
+            String phoneNumber,
+            String currency,
+            List<String> uuids
+    ) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.WITHDRAWS, toUuidsQuery(currency, uuids), null,
+                authorization -> bithumbClient.getWithdraws(authorization, currency, uuids));
+    }
+
+    // 입금 주소 생성 요청
+    public BithumbResDTO.CreateDepositAddress createDepositAddress(
+            String phoneNumber,
+            BithumbReqDTO.CreateDepositAddress dto
+    ) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.GENERATE_DEPOSIT_ADDRESS, null, dto,
+                authorization -> bithumbClient.createDepositAddress(authorization, dto));
+    }
+
+    // 개별 입금 주소 조회
+    public BithumbResDTO.GetDepositAddress getDepositAddress(
+            String phoneNumber,
+            String currency,
+            String netType
+    ) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.DEPOSIT_ADDRESS, "currency=" + currency + "&net_type=" + netType, null,
+                authorization -> bithumbClient.getDepositAddress(authorization, currency, netType));
+    }
+
+    // 전체 입금 주소 조회
+    public List<BithumbResDTO.GetDepositAddress> getDepositAddresses(String phoneNumber) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.DEPOSIT_ADDRESSES, null, null, bithumbClient::getDepositAddresses);
+    }
+
+    // 입금 리스트 조회 (uuid 지정)
+    public List<BithumbResDTO.GetDeposit> getDeposits(
+            String phoneNumber,
+            String currency,
+            List<String> uuids
+    ) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.DEPOSITS, toUuidsQuery(currency, uuids), null,
+                authorization -> bithumbClient.getDeposits(authorization, currency, uuids));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.scoi.global.client.gateway;
+
+/**
+ * 거래소 요청 수 제한 그룹
+ * 업비트/빗썸 모두 주문 API와 그 외 API의 초당 요청 수 제한이 다릅니다.
+ */
+public enum EndpointGroup {
+    // 주문 생성/취소 (인증 필요)
+    ORDER,
+    // 주문 외 조회/입출금 API (인증 필요)
+    NON_ORDER,
+    // 시세 등 공개 API (인증 불필요)
+    PUBLIC
+}
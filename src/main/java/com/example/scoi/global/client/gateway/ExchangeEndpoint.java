@@ -0,0 +1,70 @@
+package com.example.scoi.global.client.gateway;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 업비트/빗썸 공통 API 목록
+ * 두 거래소는 같은 경로 체계를 사용하므로 하나의 카탈로그로 관리합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExchangeEndpoint {
+
+    // 자산
+    ACCOUNTS("GET", "/v1/accounts", EndpointGroup.NON_ORDER),
+
+    // 주문
+    ORDER_CHANCE("GET", "/v1/orders/chance", EndpointGroup.NON_ORDER),
+    ORDER("GET", "/v1/order", EndpointGroup.NON_ORDER),
+    ORDERS("GET", "/v1/orders", EndpointGroup.NON_ORDER),
+    ORDERS_OPEN("GET", "/v1/orders/open", EndpointGroup.NON_ORDER),
+    ORDERS_CLOSED("GET", "/v1/orders/closed", EndpointGroup.NON_ORDER),
+    CREATE_ORDER("POST", "/v1/orders", EndpointGroup.ORDER),
+    TEST_ORDER("POST", "/v1/orders/test", EndpointGroup.ORDER),
+    CANCEL_ORDER("DELETE", "/v1/order", EndpointGroup.ORDER),
+
+    // 입금
+    DEPOSIT("GET", "/v1/deposit", EndpointGroup.NON_ORDER),
+    DEPOSITS("GET", "/v1/deposits", EndpointGroup.NON_ORDER),
+    DEPOSIT_KRW("POST", "/v1/deposits/krw", EndpointGroup.NON_ORDER),
+    GENERATE_DEPOSIT_ADDRESS("POST", "/v1/deposits/generate_coin_address", EndpointGroup.NON_ORDER),
+    DEPOSIT_ADDRESS("GET", "/v1/deposits/coin_address", EndpointGroup.NON_ORDER),
+    DEPOSIT_ADDRESSES("GET", "/v1/deposits/coin_addresses", EndpointGroup.NON_ORDER),
+
+    // 출금
+    WITHDRAW("GET", "/v1/withdraw", EndpointGroup.NON_ORDER),
+    WITHDRAWS("GET", "/v1/withdraws", EndpointGroup.NON_ORDER),
+    WITHDRAWS_CHANCE("GET", "/v1/withdraws/chance", EndpointGroup.NON_ORDER),
+    WITHDRAW_COIN("POST", "/v1/withdraws/coin", EndpointGroup.NON_ORDER),
+    WITHDRAW_KRW("POST", "/v1/withdraws/krw", EndpointGroup.NON_ORDER),
+    WITHDRAW_ADDRESSES("GET", "/v1/withdraws/coin_addresses", EndpointGroup.NON_ORDER),
+
+    // 시세 (PUBLIC)
+    TICKER("GET", "/v1/ticker", EndpointGroup.PUBLIC),
+    MARKET_ALL("GET", "/v1/market/all", EndpointGroup.PUBLIC),
+    ;
+
+    private final String method;
+    private final String path;
+    private final EndpointGroup group;
+
+    private static final Map<String, ExchangeEndpoint> BY_ROUTE = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(e -> e.method + " " + e.path, Function.identity()));
+
+    /**
+     * HTTP 메서드와 경로로 API를 찾습니다.
+     * @param method HTTP 메서드 (GET, POST, DELETE)
+     * @param path 쿼리스트링을 제외한 요청 경로
+     * @return 카탈로그에 등록된 API
+     */
+    public static Optional<ExchangeEndpoint> find(String method, String path) {
+        return Optional.ofNullable(BY_ROUTE.get(method + " " + path));
+    }
+}
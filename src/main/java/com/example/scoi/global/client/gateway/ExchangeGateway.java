@@ -0,0 +1,49 @@
+package com.example.scoi.global.client.gateway;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+
+import java.security.GeneralSecurityException;
+import java.util.function.Supplier;
+
+/**
+ * 거래소 API 호출 단일 진입점
+ * 서명(JWT 생성), 호출 로깅/지연 측정 등 공통 처리는 게이트웨이에서만 수행하고,
+ * 호출부는 카탈로그(ExchangeEndpoint)와 실제 Feign 호출만 전달합니다.
+ * 요청 수 제한(ExchangeRateLimitInterceptor)과 에러 변환(FeignErrorDecoder)은 FeignConfig의 전역 빈으로,
+ * 게이트웨이를 거치지 않는 거래소 Feign 호출에도 똑같이 적용됩니다.
+ */
+public interface ExchangeGateway {
+
+    ExchangeType exchangeType();
+
+    /**
+     * 인증이 필요한 API를 호출합니다.
+     * @param phoneNumber 사용자 휴대폰 번호 (API 키 조회용)
+     * @param endpoint 호출할 API
+     * @param query GET 요청 쿼리스트링 (없으면 null)
+     * @param body POST, DELETE 요청 바디 (없으면 null)
+     * @param call 서명된 Authorization 헤더로 실제 요청을 보내는 함수
+     * @return 거래소 응답
+     * @throws GeneralSecurityException JWT 생성에 실패한 경우
+     */
+    <T> T call(
+            String phoneNumber,
+            ExchangeEndpoint endpoint,
+            String query,
+            Record body,
+            SignedCall<T> call
+    ) throws GeneralSecurityException;
+
+    /**
+     * 인증이 필요 없는 공개 API를 호출합니다.
+     * @param endpoint 호출할 API
+     * @param call 실제 요청을 보내는 함수
+     * @return 거래소 응답
+     */
+    <T> T callPublic(ExchangeEndpoint endpoint, Supplier<T> call);
+
+    @FunctionalInterface
+    interface SignedCall<T> {
+        T execute(String authorization);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.scoi.global.client.gateway;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.UpbitClient;
+import com.example.scoi.global.client.dto.UpbitReqDTO;
+import com.example.scoi.global.client.dto.UpbitResDTO;
+import com.example.scoi.global.util.JwtApiUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class UpbitGateway extends AbstractExchangeGateway {
+
+    private final UpbitClient upbitClient;
+    private final JwtApiUtil jwtApiUtil;
+
+    @Override
+    public ExchangeType exchangeType() {
+        return ExchangeType.UPBIT;
+    }
+
+    @Override
+    protected String sign(String phoneNumber, String query, Record body) throws GeneralSecurityException {
+        return jwtApiUtil.createUpBitJwt(phoneNumber, query, body);
+    }
+
+    // 전체 계좌 조회
+    public UpbitResDTO.BalanceResponse[] getAccounts(String phoneNumber) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.ACCOUNTS, null, null, upbitClient::getAccount);
+    }
+
+    // 주문 가능 정보 조회
+    public UpbitResDTO.OrderChance getOrderChance(String phoneNumber, String market) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.ORDER_CHANCE, "market=" + market, null,
+                authorization -> upbitClient.getOrderChance(authorization, market));
+    }
+
+    // 출금 리스트 조회 (uuid 지정)
+    public List<UpbitResDTO.GetWithdraw> getWithdraws(
+            String phoneNumber,
+            String currency,
+            List<String> uuids
+    ) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.WITHDRAWS, toUuidsQuery(currency, uuids), null,
+                authorization -> upbitClient.getWithdraws(authorization, currency, uuids));
+    }
+
+    // 입금 주소 생성 요청
+    public UpbitResDTO.CreateDepositAddress createDepositAddress(
+            String phoneNumber,
+            UpbitReqDTO.CreateDepositAddress dto
+    ) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.GENERATE_DEPOSIT_ADDRESS, null, dto,
+                authorization -> upbitClient.createDepositAddress(authorization, dto));
+    }
+
+    // 개별 입금 주소 조회
+    public UpbitResDTO.GetDepositAddress getDepositAddress(
+            String phoneNumber,
+            String currency,
+            String netType
+    ) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.DEPOSIT_ADDRESS, "currency=" + currency + "&net_type=" + netType, null,
+                authorization -> upbitClient.getDepositAddress(authorization, currency, netType));
+    }
+
+    // 전체 입금 주소 조회
+    public List<UpbitResDTO.GetDepositAddress> getDepositAddresses(String phoneNumber) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.DEPOSIT_ADDRESSES, null, null, upbitClient::getDepositAddresses);
+    }
+
+    // 입금 리스트 조회 (uuid 지정)
+    public List<UpbitResDTO.GetDeposit> getDeposits(
+            String phoneNumber,
+            String currency,
+            List<String> uuids
+    ) throws GeneralSecurityException {
+        return call(phoneNumber, ExchangeEndpoint.DEPOSITS, toUuidsQuery(currency, uuids), null,
+                authorization -> upbitClient.getDeposits(authorization, currency, uuids));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.scoi.global.client.ratelimit;
+
+import feign.FeignException;
+import lombok.Getter;
+
+/**
+ * 요청 수 제한 대기 시간을 넘겨 거래소로 보내지 않은 요청
+ * 거래소 429 응답과 같은 상태 코드로 전달해 기존 FeignException 분기를 그대로 탑니다.
+ * 서비스가 따로 잡지 않으면 GeneralExceptionAdvice가 429와 Retry-After로 응답합니다.
+ */
+@Getter
+public class ExchangeRateLimitException extends FeignException {
+
+    // 다음 토큰까지 필요한 대기 시간(ms)
+    private final long retryAfterMillis;
+
+    public ExchangeRateLimitException(String message, long retryAfterMillis) {
+        super(429, message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.scoi.global.client.ratelimit;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.gateway.EndpointGroup;
+import com.example.scoi.global.client.gateway.ExchangeEndpoint;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업비트/빗썸으로 나가는 모든 Feign 요청에 토큰 버킷을 적용합니다.
+ * global/invest/myWallet 어느 클라이언트로 호출하든 같은 API 키 한도를 공유합니다.
+ */
+@RequiredArgsConstructor
+public class ExchangeRateLimitInterceptor implements RequestInterceptor {
+
+    public static final String PUBLIC_KEY_ID = "public";
+
+    private static final Pattern ACCESS_KEY = Pattern.compile("\"access_key\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final ExchangeRateLimiter exchangeRateLimiter;
+
+    @Override
+    public void apply(RequestTemplate template) {
+        Optional<ExchangeType> exchangeType = resolveExchange(template.feignTarget().url());
+        if (exchangeType.isEmpty()) {
+            return;
+        }
+        EndpointGroup group = resolveGroup(template.method(), template.path());
+        String apiKeyId = resolveApiKeyId(template.headers().get("Authorization"));
+        exchangeRateLimiter.acquire(exchangeType.get(), group, apiKeyId);
+    }
+
+    static Optional<ExchangeType> resolveExchange(String url) {
+        if (url == null) {
+            return Optional.empty();
+        }
+        if (url.contains("api.upbit.com")) {
+            return Optional.of(ExchangeType.UPBIT);
+        }
+        if (url.contains("api.bithumb.com")) {
+            return Optional.of(ExchangeType.BITHUMB);
+        }
+        return Optional.empty();
+    }
+
+    static EndpointGroup resolveGroup(String method, String path) {
+        return ExchangeEndpoint.find(method, stripQuery(path))
+                .map(ExchangeEndpoint::getGroup)
+                .orElse(EndpointGroup.NON_ORDER);
+    }
+
+    // https://api.upbit.com/v1/orders?market=... -> /v1/orders
+    static String pathOf(String url) {
+        int schemeEnd = url.indexOf("://");
+        int pathStart = url.indexOf('/', schemeEnd < 0 ? 0 : schemeEnd + 3);
+        return pathStart < 0 ? "/" : stripQuery(url.substring(pathStart));
+    }
+
+    private static String stripQuery(String path) {
+        int queryStart = path.indexOf('?');
+        return queryStart < 0 ? path : path.substring(0, queryStart);
+    }
+
+    // JWT payload의 access_key를 해시해 Redis 키로 사용 (원본 키는 저장하지 않음)
+    static String resolveApiKeyId(Collection<String> authorization) {
+        if (authorization == null || authorization.isEmpty()) {
+            return PUBLIC_KEY_ID;
+        }
+        String token = authorization.iterator().next().replace("Bearer ", "").trim();
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return PUBLIC_KEY_ID;
+        }
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+            Matcher matcher = ACCESS_KEY.matcher(payload);
+            if (!matcher.find()) {
+                return PUBLIC_KEY_ID;
+            }
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(matcher.group(1).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (IllegalArgumentException | NoSuchAlgorithmException e) {
+            return PUBLIC_KEY_ID;
+        }
+    }
+}
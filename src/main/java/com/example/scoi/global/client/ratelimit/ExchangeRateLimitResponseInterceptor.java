@@ -0,0 +1,51 @@
+package com.example.scoi.global.client.ratelimit;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.gateway.EndpointGroup;
+import feign.InvocationContext;
+import feign.Request;
+import feign.Response;
+import feign.ResponseInterceptor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 거래소 응답 헤더(Remaining-Req)와 429 상태를 토큰 버킷에 반영합니다.
+ * 디코딩/에러 디코딩 전에 모든 응답을 거치므로 Feign 로그 레벨과 관계없이 보정됩니다.
+ */
+@RequiredArgsConstructor
+public class ExchangeRateLimitResponseInterceptor implements ResponseInterceptor {
+
+    private final ExchangeRateLimiter exchangeRateLimiter;
+
+    @Override
+    public Object intercept(InvocationContext invocationContext, Chain chain) throws Exception {
+        record(invocationContext.response());
+        return chain.next(invocationContext);
+    }
+
+    private void record(Response response) {
+        Request request = response.request();
+        if (request == null) {
+            return;
+        }
+        Optional<ExchangeType> exchangeType = ExchangeRateLimitInterceptor.resolveExchange(request.url());
+        if (exchangeType.isEmpty()) {
+            return;
+        }
+        EndpointGroup group = ExchangeRateLimitInterceptor.resolveGroup(
+                request.httpMethod().name(), ExchangeRateLimitInterceptor.pathOf(request.url()));
+        String apiKeyId = ExchangeRateLimitInterceptor.resolveApiKeyId(request.headers().get("Authorization"));
+
+        if (response.status() == 429) {
+            exchangeRateLimiter.penalize(exchangeType.get(), group, apiKeyId);
+            return;
+        }
+        Collection<String> remainingReq = response.headers().get("Remaining-Req");
+        if (remainingReq != null && !remainingReq.isEmpty()) {
+            exchangeRateLimiter.calibrate(exchangeType.get(), group, apiKeyId, remainingReq.iterator().next());
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.scoi.global.client.ratelimit;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.gateway.EndpointGroup;
+import com.example.scoi.global.redis.RedisKeySpace;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 거래소 API 키 + 요청 그룹 단위 토큰 버킷
+ * - 로컬 버킷: 토큰이 없으면 Redis 왕복 없이 바로 대기 (fast path)
+ * - Redis 버킷: 여러 서버 인스턴스가 같은 API 키의 한도를 나눠 쓰도록 보장
+ * - 거래소 Remaining-Req 헤더와 429 응답으로 로컬 버킷을 보정
+ * 키별 허용/대기/차단 횟수와 남은 토큰은 exchange.ratelimit.* 지표로 노출합니다.
+ * MAX_WAIT_MILLIS 안에 토큰을 얻지 못하면 요청을 보내지 않고 ExchangeRateLimitException을 던집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExchangeRateLimiter {
+
+    private static final long MAX_WAIT_MILLIS = 1000;
+    // 429 응답 후 로컬 버킷을 비워두는 시간
+    private static final long PENALTY_MILLIS = 1000;
+    // 이 시간 동안 요청이 없던 키의 버킷과 지표는 정리
+    private static final long IDLE_MILLIS = 10 * 60 * 1000;
+
+    private static final Pattern REMAINING_SEC = Pattern.compile("sec=(\\d+)");
+
+    // 남은 토큰이 있으면 0, 없으면 다음 토큰까지 대기 시간(ms)을 반환
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local per_ms = capacity / 1000
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local data = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(data[1]) or capacity
+            local ts = tonumber(data[2]) or now
+            tokens = math.min(capacity, tokens + (now - ts) * per_ms)
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+            else
+                wait = math.ceil((1 - tokens) / per_ms)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], 2000)
+            return wait
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, LocalBucket> buckets = new ConcurrentHashMap<>();
+
+    // 로컬 버킷 충전/대기 기준 시각 (테스트에서 교체)
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * 요청 1건에 대한 토큰을 획득합니다. 필요하면 최대 MAX_WAIT_MILLIS 동안 대기합니다.
+     * @param exchangeType 거래소 타입
+     * @param group 요청 그룹
+     * @param apiKeyId API 키 식별자 (공개 API는 "public")
+     */
+    public void acquire(ExchangeType exchangeType, EndpointGroup group, String apiKeyId) {
+        RateLimitPolicy policy = RateLimitPolicy.of(exchangeType, group);
+        String key = toKey(policy, apiKeyId);
+        LocalBucket bucket = buckets.computeIfAbsent(key, k -> register(k, policy, apiKeyId));
+        bucket.touch();
+
+        long deadline = clock.millis() + MAX_WAIT_MILLIS;
+        while (true) {
+            long wait = bucket.tryAcquire();
+            if (wait == 0) {
+                wait = acquireDistributed(key, policy);
+                if (wait > 0) {
+                    // 공유 버킷에서 거절되면 먼저 꺼낸 로컬 토큰은 돌려놓음
+                    bucket.refund();
+                }
+            }
+            if (wait == 0) {
+                bucket.acquired.increment();
+                return;
+            }
+
+            long remaining = deadline - clock.millis();
+            if (wait > remaining) {
+                bucket.shed.increment();
+                log.warn("[ ExchangeRateLimiter ]: 요청 수 제한으로 거래소 요청 차단 - key: {}, 대기 필요: {}ms", key, wait);
+                throw new ExchangeRateLimitException("거래소 요청 수 제한 초과: " + policy, wait);
+            }
+
+            bucket.waited.increment();
+            sleep(wait);
+        }
+    }
+
+    /**
+     * 거래소 응답의 Remaining-Req 헤더로 로컬 버킷을 보정합니다.
+     * 예) group=default; min=1800; sec=29
+     */
+    public void calibrate(ExchangeType exchangeType, EndpointGroup group, String apiKeyId, String remainingReq) {
+        if (remainingReq == null) {
+            return;
+        }
+        Matcher matcher = REMAINING_SEC.matcher(remainingReq);
+        if (!matcher.find()) {
+            return;
+        }
+        LocalBucket bucket = buckets.get(toKey(RateLimitPolicy.of(exchangeType, group), apiKeyId));
+        if (bucket != null) {
+            bucket.limitTo(Long.parseLong(matcher.group(1)));
+        }
+    }
+
+    /**
+     * 거래소가 429를 반환한 경우 잠시 해당 키의 요청을 멈춥니다.
+     */
+    public void penalize(ExchangeType exchangeType, EndpointGroup group, String apiKeyId) {
+        String key = toKey(RateLimitPolicy.of(exchangeType, group), apiKeyId);
+        LocalBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.pause(PENALTY_MILLIS);
+        }
+        log.warn("[ ExchangeRateLimiter ]: 거래소 429 응답 - key: {}, {}ms 동안 요청 보류", key, PENALTY_MILLIS);
+    }
+
+    /**
+     * 오래 쓰지 않은 키의 버킷과 지표를 정리합니다.
+     * 정리된 키로 다시 요청이 오면 가득 찬 버킷으로 새로 만들고, 공유 한도는 Redis 버킷이 지킵니다.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    void purgeIdle() {
+        long idleBefore = clock.millis() - IDLE_MILLIS;
+        buckets.forEach((key, bucket) -> {
+            if (bucket.lastUsedAt < idleBefore && buckets.remove(key, bucket)) {
+                bucket.meters.forEach(meterRegistry::remove);
+            }
+        });
+    }
+
+    // 키별 버킷을 만들면서 허용/대기/차단 횟수와 남은 토큰 지표를 등록
+    private LocalBucket register(String key, RateLimitPolicy policy, String apiKeyId) {
+        LocalBucket bucket = new LocalBucket(policy.getPermitsPerSecond(), clock);
+        Tags tags = Tags.of("policy", policy.name(), "key", apiKeyId);
+        bucket.meters = List.of(
+                FunctionCounter.builder("exchange.ratelimit.acquired", bucket.acquired, LongAdder::sum)
+                        .description("요청 수 제한을 통과한 거래소 요청 수")
+                        .tags(tags)
+                        .register(meterRegistry),
+                FunctionCounter.builder("exchange.ratelimit.waits", bucket.waited, LongAdder::sum)
+                        .description("토큰을 기다린 횟수")
+                        .tags(tags)
+                        .register(meterRegistry),
+                FunctionCounter.builder("exchange.ratelimit.rejections", bucket.shed, LongAdder::sum)
+                        .description("대기 시간을 넘겨 보내지 않은 거래소 요청 수")
+                        .tags(tags)
+                        .register(meterRegistry),
+                Gauge.builder("exchange.ratelimit.tokens", bucket, LocalBucket::availableTokens)
+                        .description("로컬 버킷에 남은 토큰 수")
+                        .tags(tags)
+                        .register(meterRegistry)
+        );
+        log.debug("[ ExchangeRateLimiter ]: 토큰 버킷 생성 - key: {}", key);
+        return bucket;
+    }
+
+    private long acquireDistributed(String key, RateLimitPolicy policy) {
+        try {
+            Long wait = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                    String.valueOf(policy.getPermitsPerSecond()));
+            return wait == null ? 0 : wait;
+        } catch (Exception e) {
+            // Redis 장애 시 로컬 버킷만으로 제한
+            log.warn("[ ExchangeRateLimiter ]: Redis 토큰 버킷 조회 실패, 로컬 버킷으로 처리 - key: {}, error: {}", key, e.getMessage());
+            return 0;
+        }
+    }
+
+    private String toKey(RateLimitPolicy policy, String apiKeyId) {
+        return RedisKeySpace.RATE_LIMIT.key(policy.name(), apiKeyId);
+    }
+
+    void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExchangeRateLimitException("거래소 요청 대기 중 인터럽트", millis);
+        }
+    }
+
+    // 서버 인스턴스 내 토큰 버킷 (1초에 capacity개 충전)
+    private static class LocalBucket {
+
+        private final long capacity;
+        private final Clock clock;
+        private final AtomicLong pausedUntil = new AtomicLong();
+        private final LongAdder acquired = new LongAdder();
+        private final LongAdder waited = new LongAdder();
+        private final LongAdder shed = new LongAdder();
+        private volatile long lastUsedAt;
+        private List<Meter> meters = List.of();
+
+        private double tokens;
+        private long refilledAt;
+
+        LocalBucket(long capacity, Clock clock) {
+            this.capacity = capacity;
+            this.clock = clock;
+            this.tokens = capacity;
+            this.lastUsedAt = clock.millis();
+            this.refilledAt = lastUsedAt;
+        }
+
+        // 토큰을 얻으면 0, 아니면 대기 시간(ms)
+        synchronized long tryAcquire() {
+            long now = clock.millis();
+            long paused = pausedUntil.get() - now;
+            if (paused > 0) {
+                return paused;
+            }
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) * 1000 / capacity);
+        }
+
+        // 공유 버킷에서 거절된 토큰을 되돌림
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+
+        synchronized void limitTo(long remaining) {
+            refill(clock.millis());
+            tokens = Math.min(tokens, remaining);
+        }
+
+        synchronized void pause(long millis) {
+            tokens = 0;
+            pausedUntil.set(clock.millis() + millis);
+        }
+
+        synchronized double availableTokens() {
+            refill(clock.millis());
+            return Math.floor(tokens);
+        }
+
+        void touch() {
+            lastUsedAt = clock.millis();
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * capacity / 1000.0);
+            refilledAt = now;
+        }
+    }
+}
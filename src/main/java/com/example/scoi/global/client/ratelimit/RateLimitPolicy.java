@@ -0,0 +1,38 @@
+package com.example.scoi.global.client.ratelimit;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.gateway.EndpointGroup;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 거래소별 API 키당 초당 요청 수 제한
+ * 거래소 공지 기준보다 조금 낮게 잡아 429 응답이 나기 전에 대기하도록 합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitPolicy {
+
+    UPBIT_ORDER(ExchangeType.UPBIT, EndpointGroup.ORDER, 8),
+    UPBIT_NON_ORDER(ExchangeType.UPBIT, EndpointGroup.NON_ORDER, 30),
+    UPBIT_PUBLIC(ExchangeType.UPBIT, EndpointGroup.PUBLIC, 10),
+
+    BITHUMB_ORDER(ExchangeType.BITHUMB, EndpointGroup.ORDER, 10),
+    BITHUMB_NON_ORDER(ExchangeType.BITHUMB, EndpointGroup.NON_ORDER, 30),
+    BITHUMB_PUBLIC(ExchangeType.BITHUMB, EndpointGroup.PUBLIC, 30),
+    ;
+
+    private final ExchangeType exchangeType;
+    private final EndpointGroup group;
+    // 초당 허용 요청 수 (버킷 용량)
+    private final int permitsPerSecond;
+
+    public static RateLimitPolicy of(ExchangeType exchangeType, EndpointGroup group) {
+        for (RateLimitPolicy policy : values()) {
+            if (policy.exchangeType == exchangeType && policy.group == group) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("정의되지 않은 요청 수 제한 정책: " + exchangeType + ", " + group);
+    }
+}
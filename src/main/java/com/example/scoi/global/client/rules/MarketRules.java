@@ -0,0 +1,66 @@
+package com.example.scoi.global.client.rules;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 주문 가능 정보(/v1/orders/chance) 중 마켓 규칙과 수수료만 추린 값
+ * 잔고(bid_account, ask_account)는 담지 않으며, 잔고는 계좌 스냅샷에서 가져옵니다.
+ * 수수료는 계정(등급, 이벤트)마다 다르므로 마켓 단위로 공유하는 캐시에는 수수료를 비워서 저장합니다.
+ * @param exchangeType 거래소 타입
+ * @param market 마켓 코드 (ex. KRW-BTC)
+ * @param bidFee 매수 수수료율 (조회한 사용자 기준, 공유 캐시에서는 null)
+ * @param askFee 매도 수수료율 (조회한 사용자 기준, 공유 캐시에서는 null)
+ * @param bidMinTotal 최소 매수 금액 (거래소가 제공하지 않으면 null)
+ * @param askMinTotal 최소 매도 금액 (거래소가 제공하지 않으면 null)
+ * @param maxTotal 최대 주문 금액 (거래소가 제공하지 않으면 null)
+ * @param bidTypes 지원하는 매수 주문 방식
+ * @param askTypes 지원하는 매도 주문 방식
+ * @param fetchedAt 거래소에서 조회한 시각 (epoch millis)
+ */
+public record MarketRules(
+        ExchangeType exchangeType,
+        String market,
+        BigDecimal bidFee,
+        BigDecimal askFee,
+        BigDecimal bidMinTotal,
+        BigDecimal askMinTotal,
+        BigDecimal maxTotal,
+        List<String> bidTypes,
+        List<String> askTypes,
+        long fetchedAt
+) {
+
+    // 매수 시 필요한 통화 (KRW-BTC -> KRW)
+    public String bidCurrency() {
+        return market.split("-")[0];
+    }
+
+    // 매도 시 필요한 통화 (KRW-BTC -> BTC)
+    public String askCurrency() {
+        return market.split("-")[1];
+    }
+
+    // 주문 방향별 주문 방식 지원 여부 (거래소가 목록을 주지 않으면 지원한다고 간주)
+    public boolean supports(String side, String orderType) {
+        List<String> types = "bid".equals(side) ? bidTypes : askTypes;
+        return types == null || types.isEmpty() || types.contains(orderType);
+    }
+
+    // 사용자와 무관한 규칙만 남긴 값 (마켓 단위 공유 캐시용)
+    public MarketRules withoutFees() {
+        return withFees(null, null);
+    }
+
+    // 공유 규칙에 사용자별 수수료를 채운 값
+    public MarketRules withFees(BigDecimal bidFee, BigDecimal askFee) {
+        return new MarketRules(exchangeType, market, bidFee, askFee,
+                bidMinTotal, askMinTotal, maxTotal, bidTypes, askTypes, fetchedAt);
+    }
+
+    public boolean isOlderThan(long now, long millis) {
+        return now - fetchedAt >= millis;
+    }
+}
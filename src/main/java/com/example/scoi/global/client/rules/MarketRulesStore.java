@@ -0,0 +1,172 @@
+package com.example.scoi.global.client.rules;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.converter.BithumbConverter;
+import com.example.scoi.global.client.converter.UpbitConverter;
+import com.example.scoi.global.client.gateway.BithumbGateway;
+import com.example.scoi.global.client.gateway.UpbitGateway;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.security.GeneralSecurityException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 마켓별 주문 규칙(최소 주문 금액, 주문 방식) 캐시
+ * 사용자와 무관한 규칙은 거의 바뀌지 않으므로 마켓 단위로 공유하고,
+ * REFRESH_AFTER_MILLIS가 지나면 캐시된 값을 그대로 쓰면서 백그라운드에서 갱신합니다.
+ * 수수료는 계정마다 다르므로 사용자 + 마켓 단위로 따로 캐시하며, 다른 사용자의 수수료를 쓰지 않습니다.
+ * 주문 가능 정보 API는 인증이 필요하므로 조회와 갱신은 해당 마켓을 조회한 사용자의 API 키로 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketRulesStore {
+
+    // 이 시간이 지나면 백그라운드 갱신
+    private static final long REFRESH_AFTER_MILLIS = 60_000;
+
+    // 이 시간이 지나면 갱신을 기다림 (갱신 실패가 이어진 경우)
+    private static final long EXPIRE_AFTER_MILLIS = 30 * 60_000;
+
+    // 사용자별 수수료 유지 시간 (지나면 다음 조회 때 거래소에서 다시 조회)
+    private static final long FEE_EXPIRE_AFTER_MILLIS = 10 * 60_000;
+
+    private final UpbitGateway upbitGateway;
+    private final BithumbGateway bithumbGateway;
+
+    private final ConcurrentHashMap<String, MarketRules> rules = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Fees> fees = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "market-rules-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 마켓 규칙을 조회합니다.
+     * 규칙이나 해당 사용자의 수수료가 없거나 만료되었으면 거래소에서 바로 조회하고,
+     * 규칙이 오래되었으면 캐시를 반환하며 갱신을 예약합니다.
+     * @param phoneNumber 조회에 사용할 API 키의 사용자 휴대폰 번호
+     * @param exchangeType 거래소 타입
+     * @param market 마켓 코드 (ex. KRW-BTC)
+     * @return 마켓 규칙 (수수료는 해당 사용자 기준)
+     * @throws GeneralSecurityException JWT 생성에 실패한 경우
+     */
+    public MarketRules getRules(
+            String phoneNumber,
+            ExchangeType exchangeType,
+            String market
+    ) throws GeneralSecurityException {
+
+        String key = toKey(exchangeType, market);
+        long now = System.currentTimeMillis();
+
+        MarketRules cached = rules.get(key);
+        Fees cachedFees = fees.get(toFeeKey(phoneNumber, key));
+        if (cached == null || cached.isOlderThan(now, EXPIRE_AFTER_MILLIS)
+                || cachedFees == null || cachedFees.isOlderThan(now, FEE_EXPIRE_AFTER_MILLIS)) {
+            return fetchAndStore(phoneNumber, exchangeType, market);
+        }
+
+        if (cached.isOlderThan(now, REFRESH_AFTER_MILLIS)) {
+            refreshAsync(phoneNumber, exchangeType, market);
+        }
+        return cached.withFees(cachedFees.bidFee(), cachedFees.askFee());
+    }
+
+    /**
+     * 캐시된 마켓 규칙만 조회합니다. (거래소 호출 없음)
+     * @param exchangeType 거래소 타입
+     * @param market 마켓 코드 (ex. KRW-BTC)
+     * @return 캐시된 마켓 규칙 (수수료 없음), 없으면 empty
+     */
+    public Optional<MarketRules> peek(ExchangeType exchangeType, String market) {
+        return Optional.ofNullable(rules.get(toKey(exchangeType, market)));
+    }
+
+    // 같은 마켓의 갱신은 하나만 수행
+    private void refreshAsync(String phoneNumber, ExchangeType exchangeType, String market) {
+        String key = toKey(exchangeType, market);
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        refresher.execute(() -> {
+            try {
+                fetchAndStore(phoneNumber, exchangeType, market);
+            } catch (Exception e) {
+                // 기존 규칙을 계속 사용하고 다음 조회 때 다시 시도
+                log.warn("마켓 규칙 갱신 실패 - key: {}, error: {}", key, e.getMessage());
+            } finally {
+                refreshing.remove(key);
+            }
+        });
+    }
+
+    /**
+     * 만료된 사용자별 수수료를 정리합니다.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    void purgeExpiredFees() {
+        long now = System.currentTimeMillis();
+        fees.values().removeIf(cachedFees -> cachedFees.isOlderThan(now, FEE_EXPIRE_AFTER_MILLIS));
+    }
+
+    // 거래소 응답의 규칙은 마켓 단위로, 수수료는 사용자 단위로 저장
+    private MarketRules fetchAndStore(
+            String phoneNumber,
+            ExchangeType exchangeType,
+            String market
+    ) throws GeneralSecurityException {
+
+        MarketRules fetched = fetch(phoneNumber, exchangeType, market);
+        String key = toKey(exchangeType, market);
+        rules.put(key, fetched.withoutFees());
+        fees.put(toFeeKey(phoneNumber, key), new Fees(fetched.bidFee(), fetched.askFee(), fetched.fetchedAt()));
+        return fetched;
+    }
+
+    private MarketRules fetch(
+            String phoneNumber,
+            ExchangeType exchangeType,
+            String market
+    ) throws GeneralSecurityException {
+
+        log.info("마켓 규칙 조회 - exchangeType: {}, market: {}", exchangeType, market);
+        return switch (exchangeType) {
+            case UPBIT -> UpbitConverter.toMarketRules(market, upbitGateway.getOrderChance(phoneNumber, market));
+            case BITHUMB -> BithumbConverter.toMarketRules(market, bithumbGateway.getOrderChance(phoneNumber, market));
+        };
+    }
+
+    private String toKey(ExchangeType exchangeType, String market) {
+        return exchangeType.name() + ":" + market;
+    }
+
+    private String toFeeKey(String phoneNumber, String key) {
+        return phoneNumber + ":" + key;
+    }
+
+    // 사용자별 수수료율
+    private record Fees(BigDecimal bidFee, BigDecimal askFee, long fetchedAt) {
+
+        boolean isOlderThan(long now, long millis) {
+            return now - fetchedAt >= millis;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+}
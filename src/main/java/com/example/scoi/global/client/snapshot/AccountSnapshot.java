@@ -0,0 +1,63 @@
+package com.example.scoi.global.client.snapshot;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 거래소 전체 계좌 조회(/v1/accounts) 결과를 통화별로 정리한 스냅샷
+ * 업비트/빗썸 응답 DTO 차이를 숨기고 모든 호출부가 같은 뷰를 사용하도록 합니다.
+ * @param exchangeType 거래소 타입
+ * @param balances 통화 코드 -> 잔고 정보
+ * @param fetchedAt 거래소에서 조회한 시각 (epoch millis)
+ */
+public record AccountSnapshot(
+        ExchangeType exchangeType,
+        Map<String, Balance> balances,
+        long fetchedAt
+) {
+
+    /**
+     * 통화별 잔고 정보 (거래소 응답 문자열 그대로 보관)
+     * @param currency 화폐 코드
+     * @param balance 주문 가능 금액/수량
+     * @param locked 주문 중 묶여있는 금액/수량
+     */
+    public record Balance(
+            String currency,
+            String balance,
+            String locked
+    ) {
+
+        public BigDecimal balanceValue() {
+            return toDecimal(balance);
+        }
+
+        public BigDecimal lockedValue() {
+            return toDecimal(locked);
+        }
+
+        // balance + locked
+        public BigDecimal total() {
+            return balanceValue().add(lockedValue());
+        }
+
+        private static BigDecimal toDecimal(String value) {
+            if (value == null || value.isEmpty()) {
+                return BigDecimal.ZERO;
+            }
+            return new BigDecimal(value);
+        }
+    }
+
+    public Optional<Balance> find(String currency) {
+        return Optional.ofNullable(balances.get(currency));
+    }
+
+    // 스냅샷이 freshnessMillis 이내에 조회된 것인지 확인
+    public boolean isFresh(long now, long freshnessMillis) {
+        return now - fetchedAt < freshnessMillis;
+    }
+}
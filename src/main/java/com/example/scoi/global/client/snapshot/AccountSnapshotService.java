@@ -0,0 +1,199 @@
+package com.example.scoi.global.client.snapshot;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.converter.BithumbConverter;
+import com.example.scoi.global.client.converter.UpbitConverter;
+import com.example.scoi.global.client.gateway.BithumbGateway;
+import com.example.scoi.global.client.gateway.UpbitGateway;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 거래소 전체 계좌 조회(/v1/accounts) 단일 진입점
+ * 같은 (사용자, 거래소)에 대한 동시 요청은 하나의 거래소 호출을 공유하고 (single-flight),
+ * 조회 결과는 FRESHNESS_MILLIS 동안 재사용합니다.
+ * 잔고가 바뀌는 요청(주문, 출금, API키 변경) 이후에는 evict로 스냅샷을 비워야 합니다.
+ * evict는 키별 세대(generation)를 올리고, evict 전에 시작한 조회 결과는 저장하지 않습니다. (변경 전 잔고가 되살아나지 않도록)
+ * 만료된 스냅샷은 주기적으로 정리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountSnapshotService {
+
+    // 한 화면 진입 시 몰리는 중복 호출을 흡수할 정도로만 짧게 유지
+    private static final long FRESHNESS_MILLIS = 800;
+    // API 키 등록 직후 채운 스냅샷은 첫 지갑 화면 진입까지 재사용
+    private static final long WARM_FRESHNESS_MILLIS = 10_000;
+
+    private final UpbitGateway upbitGateway;
+    private final BithumbGateway bithumbGateway;
+
+    private final ConcurrentHashMap<String, AccountSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<AccountSnapshot>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> warmedUntil = new ConcurrentHashMap<>();
+    // evict할 때마다 1씩 증가 (없으면 0)
+    private final ConcurrentHashMap<String, Long> generations = new ConcurrentHashMap<>();
+
+    /**
+     * 계좌 스냅샷을 조회합니다.
+     * 신선한 스냅샷이 있으면 그대로 반환하고, 이미 진행 중인 조회가 있으면 그 결과를 기다립니다.
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @param exchangeType 거래소 타입
+     * @return 통화별 잔고 스냅샷
+     * @throws GeneralSecurityException JWT 생성에 실패한 경우
+     */
+    public AccountSnapshot getSnapshot(
+            String phoneNumber,
+            ExchangeType exchangeType
+    ) throws GeneralSecurityException {
+
+        String key = toKey(phoneNumber, exchangeType);
+
+        AccountSnapshot cached = snapshots.get(key);
+        if (cached != null && isReusable(key, cached, System.currentTimeMillis())) {
+            log.debug("계좌 스냅샷 재사용 - key: {}", key);
+            return cached;
+        }
+
+        CompletableFuture<AccountSnapshot> created = new CompletableFuture<>();
+        CompletableFuture<AccountSnapshot> existing = inFlight.putIfAbsent(key, created);
+
+        // 다른 요청이 조회 중이면 그 결과를 공유
+        if (existing != null) {
+            log.debug("계좌 스냅샷 조회 대기 - key: {}", key);
+            return await(existing);
+        }
+
+        try {
+            long generation = generations.getOrDefault(key, 0L);
+            AccountSnapshot snapshot = fetch(phoneNumber, exchangeType);
+            storeIfCurrent(key, snapshot, generation);
+            created.complete(snapshot);
+            return snapshot;
+        } catch (GeneralSecurityException | RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 외부에서 이미 조회한 계좌 정보로 스냅샷을 갱신합니다.
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @param snapshot 새 스냅샷
+     */
+    public void put(String phoneNumber, AccountSnapshot snapshot) {
+        snapshots.put(toKey(phoneNumber, snapshot.exchangeType()), snapshot);
+    }
+
+    /**
+     * 외부에서 이미 조회한 계좌 정보로 스냅샷을 채우고, 평소보다 길게(WARM_FRESHNESS_MILLIS) 재사용합니다.
+     * API 키 검증처럼 방금 조회한 결과가 있을 때 이어지는 첫 화면 진입이 거래소를 기다리지 않도록 합니다.
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @param snapshot 새 스냅샷
+     */
+    public void warm(String phoneNumber, AccountSnapshot snapshot) {
+        String key = toKey(phoneNumber, snapshot.exchangeType());
+        snapshots.put(key, snapshot);
+        warmedUntil.put(key, snapshot.fetchedAt() + WARM_FRESHNESS_MILLIS);
+    }
+
+    /**
+     * 잔고 변경 후 스냅샷을 제거합니다.
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @param exchangeType 거래소 타입
+     */
+    public void evict(String phoneNumber, ExchangeType exchangeType) {
+        String key = toKey(phoneNumber, exchangeType);
+        // 세대 증가와 제거를 한 번에 처리해 진행 중인 조회의 저장(storeIfCurrent)과 순서가 섞이지 않게 함
+        generations.compute(key, (k, generation) -> {
+            snapshots.remove(k);
+            warmedUntil.remove(k);
+            return generation == null ? 1L : generation + 1;
+        });
+    }
+
+    // 만료된 스냅샷과 진행 중인 조회가 없는 키의 세대 정리
+    @Scheduled(fixedDelay = 60_000)
+    void purgeExpired() {
+        long now = System.currentTimeMillis();
+        snapshots.entrySet().removeIf(entry -> !isReusable(entry.getKey(), entry.getValue(), now));
+        warmedUntil.values().removeIf(until -> until <= now);
+        // 조회 중인 키는 조회 시작 시 읽은 세대와 비교해야 하므로 남겨둠
+        generations.keySet().removeIf(key -> !inFlight.containsKey(key));
+    }
+
+    // 조회를 시작할 때의 세대가 그대로일 때만 저장 (조회 중에 evict되었으면 버림)
+    private void storeIfCurrent(String key, AccountSnapshot snapshot, long generation) {
+        generations.compute(key, (k, current) -> {
+            if ((current == null ? 0L : current) == generation) {
+                snapshots.put(k, snapshot);
+            } else {
+                log.debug("evict 이후 끝난 계좌 조회 결과 무시 - key: {}", k);
+            }
+            return current;
+        });
+    }
+
+    private boolean isReusable(String key, AccountSnapshot snapshot, long now) {
+        if (snapshot.isFresh(now, FRESHNESS_MILLIS)) {
+            return true;
+        }
+        Long until = warmedUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until > now) {
+            return true;
+        }
+        warmedUntil.remove(key, until);
+        return false;
+    }
+
+    private AccountSnapshot fetch(
+            String phoneNumber,
+            ExchangeType exchangeType
+    ) throws GeneralSecurityException {
+
+        log.info("거래소 계좌 조회 - phoneNumber: {}, exchangeType: {}", phoneNumber, exchangeType);
+        return switch (exchangeType) {
+            case UPBIT -> UpbitConverter.toAccountSnapshot(upbitGateway.getAccounts(phoneNumber));
+            case BITHUMB -> BithumbConverter.toAccountSnapshot(bithumbGateway.getAccounts(phoneNumber));
+        };
+    }
+
+    // 조회를 수행한 요청의 예외를 그대로 다시 던져 호출부의 예외 분기를 유지
+    private AccountSnapshot await(
+            CompletableFuture<AccountSnapshot> future
+    ) throws GeneralSecurityException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("계좌 스냅샷 조회 대기 중 인터럽트", e);
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof GeneralSecurityException securityException) {
+                throw securityException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private String toKey(String phoneNumber, ExchangeType exchangeType) {
+        return exchangeType.name() + ":" + phoneNumber;
+    }
+}
@@ -1,22 +1,181 @@
 package com.example.scoi.global.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 연결 설정
+ * 요청 처리용(기본)과 백그라운드 작업용 연결을 나눠 서로의 지연에 영향을 주지 않도록 합니다.
+ * - 기본: 공유 연결 하나로 다중화 (Lettuce가 동시에 들어온 명령을 파이프라이닝), 짧은 명령 타임아웃,
+ *         연결이 끊기면 명령을 쌓아두지 않고 바로 실패시켜 요청 스레드가 묶이지 않게 합니다.
+ *         명시적 파이프라인은 전용 연결이 필요하므로 작은 풀에서 빌려 씁니다.
+ * - 백그라운드(BACKGROUND): 연결 풀에서 작업마다 연결을 빌려 쓰고, 파이프라인 명령을 모아서 보내며 타임아웃이 깁니다.
+ *         (입출금 상태 추적, SMS 발송 처리 등 주기 작업)
+ * spring.data.redis.cluster.nodes가 있으면 Redis Cluster로 연결합니다. 키는 RedisKeySpace로 만들어야 합니다.
+ */
 @Configuration
 public class RedisConfig {
 
+    public static final String BACKGROUND = "backgroundRedisTemplate";
+
+    @Value("${spring.data.redis.host:localhost}")
+    private String host;
+
+    @Value("${spring.data.redis.port:6379}")
+    private int port;
+
+    @Value("${spring.data.redis.password:}")
+    private String password;
+
+    @Value("${spring.data.redis.database:0}")
+    private int database;
+
+    @Value("${spring.data.redis.cluster.nodes:}")
+    private List<String> clusterNodes;
+
+    @Value("${redis.command-timeout-millis:500}")
+    private long commandTimeoutMillis;
+
+    @Value("${redis.background.command-timeout-millis:3000}")
+    private long backgroundCommandTimeoutMillis;
+
+    @Value("${redis.background.pool-size:8}")
+    private int backgroundPoolSize;
+
+    @Value("${redis.background.pipeline-buffer-size:64}")
+    private int backgroundPipelineBufferSize;
+
+    @Value("${redis.pipeline-pool-size:4}")
+    private int pipelinePoolSize;
+
+    @Bean
+    @Primary
+    public LettuceConnectionFactory redisConnectionFactory() {
+        // 일반 명령은 공유 연결을 쓰고, 파이프라인(RedisUtil.batch())만 풀에서 전용 연결을 빌림
+        LettuceClientConfiguration clientConfiguration = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig(pipelinePoolSize, commandTimeoutMillis))
+                .commandTimeout(Duration.ofMillis(commandTimeoutMillis))
+                .clientOptions(clientOptions(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS))
+                .build();
+        return new LettuceConnectionFactory(serverConfiguration(), clientConfiguration);
+    }
+
+    @Bean
+    public LettuceConnectionFactory backgroundRedisConnectionFactory() {
+        LettuceClientConfiguration clientConfiguration = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig(backgroundPoolSize, backgroundCommandTimeoutMillis))
+                .commandTimeout(Duration.ofMillis(backgroundCommandTimeoutMillis))
+                .clientOptions(clientOptions(ClientOptions.DisconnectedBehavior.DEFAULT))
+                .build();
+
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(serverConfiguration(), clientConfiguration);
+        factory.setShareNativeConnection(false);
+        factory.setPipeliningFlushPolicy(LettuceConnection.PipeliningFlushPolicy.buffered(backgroundPipelineBufferSize));
+        return factory;
+    }
+
     @Bean
+    @Primary
     public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return stringTemplate(redisConnectionFactory);
+    }
+
+    @Bean(BACKGROUND)
+    public RedisTemplate<String, String> backgroundRedisTemplate(
+            @Qualifier("backgroundRedisConnectionFactory") RedisConnectionFactory backgroundRedisConnectionFactory
+    ) {
+        return stringTemplate(backgroundRedisConnectionFactory);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    private RedisTemplate<String, String> stringTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setConnectionFactory(connectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new StringRedisSerializer());
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
         redisTemplate.setHashValueSerializer(new StringRedisSerializer());
         return redisTemplate;
     }
+
+    private GenericObjectPoolConfig<?> poolConfig(int size, long maxWaitMillis) {
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(size);
+        poolConfig.setMaxIdle(size);
+        poolConfig.setMinIdle(1);
+        poolConfig.setMaxWait(Duration.ofMillis(maxWaitMillis));
+        return poolConfig;
+    }
+
+    private RedisConfiguration serverConfiguration() {
+        RedisPassword redisPassword = password.isBlank() ? RedisPassword.none() : RedisPassword.of(password);
+
+        if (isCluster()) {
+            RedisClusterConfiguration cluster = new RedisClusterConfiguration(
+                    clusterNodes.stream().filter(node -> !node.isBlank()).toList());
+            cluster.setPassword(redisPassword);
+            return cluster;
+        }
+        RedisStandaloneConfiguration standalone = new RedisStandaloneConfiguration(host, port);
+        standalone.setPassword(redisPassword);
+        standalone.setDatabase(database);
+        return standalone;
+    }
+
+    private ClientOptions clientOptions(ClientOptions.DisconnectedBehavior disconnectedBehavior) {
+        // 명령 타임아웃을 연결 수준에서도 적용 (응답이 오지 않는 명령이 쌓이지 않도록)
+        TimeoutOptions timeoutOptions = TimeoutOptions.enabled();
+
+        if (isCluster()) {
+            // 노드 장애/슬롯 이동 시 토폴로지를 바로 다시 읽음
+            ClusterTopologyRefreshOptions topologyRefreshOptions = ClusterTopologyRefreshOptions.builder()
+                    .enableAllAdaptiveRefreshTriggers()
+                    .enablePeriodicRefresh(Duration.ofMinutes(1))
+                    .build();
+            return ClusterClientOptions.builder()
+                    .autoReconnect(true)
+                    .disconnectedBehavior(disconnectedBehavior)
+                    .timeoutOptions(timeoutOptions)
+                    .topologyRefreshOptions(topologyRefreshOptions)
+                    .build();
+        }
+        return ClientOptions.builder()
+                .autoReconnect(true)
+                .disconnectedBehavior(disconnectedBehavior)
+                .timeoutOptions(timeoutOptions)
+                .build();
+    }
+
+    private boolean isCluster() {
+        return clusterNodes != null && clusterNodes.stream().anyMatch(node -> !node.isBlank());
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.scoi.global.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * @Scheduled 작업 스레드 설정
+ * 기본 스케줄러는 스레드가 하나라 거래소 상태 조회(입금 감시, 출금 추적 등)가 느려지면
+ * SMS 발송 같은 다른 작업까지 함께 밀리므로, 작업끼리 서로 기다리지 않도록 여러 스레드로 실행합니다.
+ * 애플리케이션 작업 실행기(@Async 등)와 섞이지 않도록 빈으로 등록하지 않고 스케줄러에만 연결합니다.
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+    public SchedulingConfig(@Value("${scheduling.pool-size:8}") int poolSize) {
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("scheduler-");
+        taskScheduler.initialize();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        taskScheduler.shutdown();
+    }
+}
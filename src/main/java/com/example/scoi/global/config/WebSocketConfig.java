@@ -2,17 +2,35 @@ package com.example.scoi.global.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.socket.client.WebSocketClient;
 import org.springframework.web.socket.client.standard.StandardWebSocketClient;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+/**
+ * STOMP 설정
+ * - /sub/** : 누구나 구독할 수 있는 공개 채널
+ * - /user/queue/** : 본인에게만 전달되는 채널 (충전/출금 상태 등, convertAndSendToUser로 전송)
+ * 사용자는 핸드셰이크 요청의 인증 정보(휴대폰 번호)로 정해지며,
+ * 다른 사용자의 메시지를 받을 수 없도록 /queue/**를 직접 구독하는 것은 막습니다.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer{
 
+    private static final String USER_DESTINATION_PREFIX = "/user";
+    private static final String USER_QUEUE_PREFIX = "/queue";
+
     @Bean
     public WebSocketClient webSocketClient() {
         return new StandardWebSocketClient();
@@ -20,11 +38,35 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer{
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/sub");
+        registry.enableSimpleBroker("/sub", USER_QUEUE_PREFIX);
+        registry.setUserDestinationPrefix(USER_DESTINATION_PREFIX);
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws").setAllowedOrigins("*");
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+                if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE) {
+                    return message;
+                }
+
+                String destination = accessor.getDestination();
+                // 사용자별 큐의 실제 이름(/queue/...-user{세션 ID})을 직접 구독하지 못하도록 차단
+                if (destination == null || destination.startsWith(USER_QUEUE_PREFIX + "/")) {
+                    throw new AccessDeniedException("구독할 수 없는 경로입니다: " + destination);
+                }
+                if (destination.startsWith(USER_DESTINATION_PREFIX + "/") && accessor.getUser() == null) {
+                    throw new AccessDeniedException("인증되지 않은 사용자입니다.");
+                }
+                return message;
+            }
+        });
+    }
 }
@@ -1,9 +0,0 @@
-package com.example.scoi.global.config.feign;
-
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-public class BithumbFeignConfig {
-    // 빗썸 전용 Feign 설정 (필요시 추가)
-  
-}
\ No newline at end of file
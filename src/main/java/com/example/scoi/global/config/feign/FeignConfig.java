@@ -1,6 +1,11 @@
 package com.example.scoi.global.config.feign;
 
+import com.example.scoi.global.client.ratelimit.ExchangeRateLimitInterceptor;
+import com.example.scoi.global.client.ratelimit.ExchangeRateLimitResponseInterceptor;
+import com.example.scoi.global.client.ratelimit.ExchangeRateLimiter;
 import feign.Logger;
+import feign.RequestInterceptor;
+import feign.ResponseInterceptor;
 import feign.codec.ErrorDecoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +18,18 @@ public class FeignConfig {
         return Logger.Level.FULL; // 요청/응답 전체 로깅
     }
 
+    // 거래소 Remaining-Req 헤더와 429 응답으로 요청 수 제한 보정
+    @Bean
+    public ResponseInterceptor exchangeRateLimitResponseInterceptor(ExchangeRateLimiter exchangeRateLimiter) {
+        return new ExchangeRateLimitResponseInterceptor(exchangeRateLimiter);
+    }
+
+    // 거래소 API 키별 요청 수 제한 (업비트/빗썸 외 요청은 통과)
+    @Bean
+    public RequestInterceptor exchangeRateLimitInterceptor(ExchangeRateLimiter exchangeRateLimiter) {
+        return new ExchangeRateLimitInterceptor(exchangeRateLimiter);
+    }
+
     @Bean
     public ErrorDecoder errorDecoder() {
         return new FeignErrorDecoder();
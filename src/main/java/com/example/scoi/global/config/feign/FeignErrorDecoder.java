@@ -1,86 +1,83 @@
 //에러 처리
 package com.example.scoi.global.config.feign;
 
+import com.example.scoi.global.client.codec.ExchangeCodecs;
 import com.example.scoi.global.client.dto.ClientErrorDTO;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import feign.FeignException;
+import com.example.scoi.global.client.exception.ExchangeApiException;
 import feign.Response;
 import feign.codec.ErrorDecoder;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 
+/**
+ * 거래소 에러 응답을 ExchangeApiException으로 변환
+ * 응답 본문을 여기서 한 번만 읽고 파싱해 에러 코드를 담아 던지므로,
+ * 호출부에서 contentUTF8()을 다시 파싱하지 않고 getErrorCode()로 분기합니다.
+ * 로그도 여기서 요청당 한 줄만 남깁니다. (4XX는 WARN, 429/5XX는 ERROR)
+ */
 @Slf4j
 public class FeignErrorDecoder implements ErrorDecoder {
 
-    private final ErrorDecoder defaultDecoder = new Default();
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
     @Override
     public Exception decode(String methodKey, Response response) {
-        String responseBody = "";
+        byte[] body = readBody(methodKey, response);
+        ClientErrorDTO.Error error = parseError(body);
 
-        // 응답 본문 읽기
-        try {
-            if (response.body() != null) {
-                byte[] bodyBytes = response.body().asInputStream().readAllBytes();
-                responseBody = new String(bodyBytes, StandardCharsets.UTF_8);
-
-                // body를 다시 설정하여 FeignException에서 접근 가능하도록 함
-                response = response.toBuilder().body(bodyBytes).build();
-            }
+        String errorName = error != null ? error.name() : null;
+        String errorMessage = error != null ? error.message() : null;
 
-            // 응답 본문 항상 로깅 (에러 디버깅을 위해)
-            log.error("Feign Client 에러 발생 - methodKey: {}, status: {}, reason: {}, responseBody 길이: {}",
-                    methodKey, response.status(), response.reason(), responseBody != null ? responseBody.length() : 0);
+        ExchangeApiException exception = new ExchangeApiException(
+                response.status(),
+                String.format("[%d] %s: %s", response.status(), methodKey, errorName != null ? errorName : response.reason()),
+                response.request(),
+                body,
+                response.headers(),
+                errorName,
+                errorMessage
+        );
 
-            // JSON 파싱 시도
-            if (responseBody != null && !responseBody.isEmpty()) {
-                // 응답 본문 전체 내용 로깅
-                log.error("Feign Client 에러 응답 본문 전체: {}", responseBody);
-
-                // JSON 형식인지 확인 (중괄호로 시작하고 닫히는지)
-                String trimmedBody = responseBody.trim();
-                boolean isJsonFormat = trimmedBody.startsWith("{") && trimmedBody.endsWith("}");
+        if (exception.isRetryable()) {
+            log.error("거래소 API 에러 - methodKey: {}, status: {}, errorName: {}, errorMessage: {}",
+                    methodKey, response.status(), errorName, errorMessage);
+        } else {
+            log.warn("거래소 API 에러 - methodKey: {}, status: {}, errorName: {}, errorMessage: {}",
+                    methodKey, response.status(), errorName, errorMessage);
+        }
+        // 에러 이름이 없는 응답(HTML 등)은 디버깅용으로 본문 전체를 남김
+        if (error == null && log.isDebugEnabled()) {
+            log.debug("거래소 API 에러 응답 본문 - methodKey: {}, responseBody: {}",
+                    methodKey, new String(body, StandardCharsets.UTF_8));
+        }
+        return exception;
+    }
 
-                if (isJsonFormat) {
-                    try {
-                        ClientErrorDTO.Errors errorResponse = objectMapper.readValue(responseBody, ClientErrorDTO.Errors.class);
-                        if (errorResponse != null && errorResponse.error() != null) {
-                            // JSON 에러 응답 파싱 성공 - error.name과 error.message 로깅
-                            log.error("Feign Client 에러 발생 (JSON 파싱 성공) - methodKey: {}, status: {}, reason: {}, errorName: {}, errorMessage: {}",
-                                    methodKey, response.status(), response.reason(),
-                                    errorResponse.error().name(), errorResponse.error().message());
-                        } else {
-                            log.error("Feign Client 에러 발생 (JSON 파싱 성공, error 필드 없음) - methodKey: {}, status: {}, reason: {}, responseBody: {}",
-                                    methodKey, response.status(), response.reason(), responseBody);
-                        }
-                    } catch (Exception e) {
-                        // JSON 파싱 실패 - 원본 응답 본문 로깅
-                        log.error("Feign Client 에러 발생 (JSON 파싱 실패) - methodKey: {}, status: {}, reason: {}, 파싱 에러: {}",
-                                methodKey, response.status(), response.reason(), e.getMessage());
-                        log.error("응답 본문 전체 내용: {}", responseBody);
-                    }
-                } else {
-                    // JSON 형식이 아닌 경우
-                    log.error("Feign Client 에러 발생 (비JSON 응답) - methodKey: {}, status: {}, reason: {}, responseBody: {}",
-                            methodKey, response.status(), response.reason(), responseBody);
-                }
-            } else {
-                log.error("Feign Client 에러 발생 (응답 본문 null 또는 비어있음) - methodKey: {}, status: {}, reason: {}, responseBody: {}",
-                        methodKey, response.status(), response.reason(), responseBody);
-            }
+    private byte[] readBody(String methodKey, Response response) {
+        if (response.body() == null) {
+            return new byte[0];
+        }
+        try (InputStream inputStream = response.body().asInputStream()) {
+            return inputStream.readAllBytes();
         } catch (IOException e) {
-            log.error("Feign Client 에러 발생 - methodKey: {}, status: {}, reason: {} (응답 본문 읽기 실패: {})",
-                    methodKey, response.status(), response.reason(), e.getMessage());
+            log.warn("거래소 API 에러 응답 본문 읽기 실패 - methodKey: {}, status: {}, {}",
+                    methodKey, response.status(), e.getMessage());
+            return new byte[0];
         }
+    }
 
-        // FeignException을 그대로 반환하여 상위에서 세부적인 분기 가능
-        return FeignException.errorStatus(methodKey, response);
+    // {"error": {"name": ..., "message": ...}} 형식이 아니면 null
+    private ClientErrorDTO.Error parseError(byte[] body) {
+        String trimmed = new String(body, StandardCharsets.UTF_8).trim();
+        if (!trimmed.startsWith("{")) {
+            return null;
+        }
+        try {
+            ClientErrorDTO.Errors errors = ExchangeCodecs.readErrors(trimmed);
+            return errors != null ? errors.error() : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
     }
 }
@@ -1,8 +0,0 @@
-package com.example.scoi.global.config.feign;
-
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-public class UpbitFeignConfig {
-    
-}
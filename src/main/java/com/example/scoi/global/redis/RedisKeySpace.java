@@ -0,0 +1,87 @@
+package com.example.scoi.global.redis;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 키 네임스페이스 목록
+ * 모든 Redis 키는 여기서 만들어야 하며, 키 문자열을 직접 이어붙이지 않습니다.
+ * Redis Cluster에서는 Lua 스크립트 하나가 다루는 키가 모두 같은 슬롯에 있어야 하므로
+ * 여러 키를 함께 다루는 네임스페이스는 해시 태그({...})로 슬롯을 고정합니다.
+ * - NONE       : 키 하나씩만 다룸 (태그 없음, 키가 고르게 분산)
+ * - NAMESPACE  : 네임스페이스 전체가 한 슬롯 (전역 대기열/인덱스와 함께 다루는 경우, 트래픽이 적은 곳에만 사용)
+ * - FIRST_PART : 첫 번째 구성 요소(회원, 코인 등) 단위로 한 슬롯
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RedisKeySpace {
+
+    // 인증
+    SMS_CODE("sms", HashTag.NONE),
+    SMS_COOLDOWN("sms:cooldown", HashTag.NONE),
+    SMS_REQUIRED("sms_required", HashTag.NONE),
+    VERIFICATION("verification", HashTag.NONE),
+    BLACKLIST("blacklist", HashTag.NONE),
+    LOGIN_FAIL("login:fail", HashTag.NAMESPACE),
+    REFRESH_TOKEN("rt", HashTag.FIRST_PART),
+
+    // SMS 발송 대기열
+    SMS_OUTBOX("sms:outbox", HashTag.NAMESPACE),
+
+    // 시세 급등락 감지 (코인 단위)
+    WEBSOCKET("websocket", HashTag.FIRST_PART),
+
+    // 백그라운드 상태 추적
+    DEPOSIT_WATCHING("charge:deposit:watching", HashTag.NONE),
+    WITHDRAW_TRACKING("transfer:withdraw:tracking", HashTag.NONE),
+
+    // 입금 주소 캐시 세대 번호 (API 키 변경 시 증가)
+    DEPOSIT_ADDRESS_GENERATION("charge:deposit-address:generation", HashTag.NONE),
+
+    // 거래소 요청/멱등성
+    RATE_LIMIT("ratelimit", HashTag.NONE),
+    IDEMPOTENCY("idempotency", HashTag.NONE),
+    ;
+
+    private final String namespace;
+    private final HashTag hashTag;
+
+    /**
+     * 키를 만듭니다.
+     * @param parts 네임스페이스 뒤에 ':'로 이어붙일 구성 요소
+     * @return Redis 키
+     */
+    public String key(Object... parts) {
+        StringBuilder key = new StringBuilder();
+        if (hashTag == HashTag.NAMESPACE) {
+            key.append('{').append(namespace).append('}');
+        } else {
+            key.append(namespace);
+        }
+
+        for (int idx = 0; idx < parts.length; idx++) {
+            key.append(':');
+            if (idx == 0 && hashTag == HashTag.FIRST_PART) {
+                key.append('{').append(parts[idx]).append('}');
+            } else {
+                key.append(parts[idx]);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 키 접두사를 만듭니다. (Lua 스크립트 안에서 같은 슬롯의 키를 이어 만들 때 사용)
+     * @param parts 네임스페이스 뒤에 이어붙일 구성 요소
+     * @return ':'로 끝나는 접두사
+     */
+    public String prefix(Object... parts) {
+        return key(parts) + ":";
+    }
+
+    public enum HashTag {
+        NONE,
+        NAMESPACE,
+        FIRST_PART
+    }
+}
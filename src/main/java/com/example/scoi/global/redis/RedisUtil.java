@@ -2,15 +2,27 @@ package com.example.scoi.global.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Redis 범용 유틸리티 클래스
  * key, value, ttl만 받아서 Redis CRUD 수행
+ * 논리적으로 한 번의 작업은 한 번의 왕복으로 끝나도록 exists 후 get 대신 get 결과의 null 여부를 보고,
+ * 여러 키는 mget/mset, 서로 독립적인 쓰기는 batch()로 묶어서 보냅니다.
  * 비즈니스 로직(prefix 조합, TTL 설정 등)은 Service 계층에서 처리
  */
 @Slf4j
@@ -18,6 +30,24 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class RedisUtil {
 
+    // 값이 같을 때만 삭제하고 저장되어 있던 값을 반환
+    private static final RedisScript<String> GET_AND_DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('GET', KEYS[1])
+            if value == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+            end
+            return value
+            """, String.class);
+
+    // 1 증가, 새로 만들어졌으면 TTL 설정
+    private static final RedisScript<Long> INCREMENT_WITH_TTL_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('INCR', KEYS[1])
+            if value == 1 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            return value
+            """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
 
     /**
@@ -42,6 +72,17 @@ public class RedisUtil {
         log.debug("Redis 저장(영구): key={}", key);
     }
 
+    /**
+     * 키가 없을 때만 저장 (TTL 포함)
+     * @return 저장했으면 true, 이미 있으면 false
+     */
+    public boolean setIfAbsent(String key, String value, long timeout, TimeUnit unit) {
+        validateInput(key);
+        validateInput(value);
+
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, timeout, unit));
+    }
+
     /**
      * Redis에서 데이터 조회
      */
@@ -55,12 +96,14 @@ public class RedisUtil {
 
     /**
      * Redis에서 데이터 삭제
+     * @return 키가 있어서 삭제했으면 true
      */
-    public void delete(String key) {
+    public boolean delete(String key) {
         validateInput(key);
         
-        redisTemplate.delete(key);
-        log.debug("Redis 삭제: key={}", key);
+        boolean deleted = Boolean.TRUE.equals(redisTemplate.delete(key));
+        log.debug("Redis 삭제: key={}, deleted={}", key, deleted);
+        return deleted;
     }
 
     /**
@@ -74,6 +117,208 @@ public class RedisUtil {
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
 
+    /**
+     * 여러 키를 한 번에 조회 (MGET)
+     * Redis Cluster에서는 같은 슬롯의 키만 가능하므로 RedisKeySpace의 해시 태그를 맞춰야 합니다.
+     * @return 키 순서대로의 값 (없는 키는 null)
+     */
+    public List<String> mget(List<String> keys) {
+        keys.forEach(this::validateInput);
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        return values != null ? values : Collections.nCopies(keys.size(), null);
+    }
+
+    /**
+     * 여러 키를 한 번에 저장 (MSET, TTL 없음)
+     * Redis Cluster에서는 같은 슬롯의 키만 가능합니다.
+     */
+    public void mset(Map<String, String> values) {
+        values.forEach((key, value) -> {
+            validateInput(key);
+            validateInput(value);
+        });
+
+        redisTemplate.opsForValue().multiSet(values);
+        log.debug("Redis 저장(MSET): keys={}", values.keySet());
+    }
+
+    /**
+     * 조회 후 삭제 (GETDEL)
+     * @return 삭제 전 값 (없으면 null)
+     */
+    public String getAndDelete(String key) {
+        validateInput(key);
+
+        return redisTemplate.opsForValue().getAndDelete(key);
+    }
+
+    /**
+     * 저장된 값이 expected와 같을 때만 삭제 (일회용 코드 확인용)
+     * @return 저장되어 있던 값 (없으면 null, expected와 다르면 삭제하지 않음)
+     */
+    public String getAndDeleteIfEquals(String key, String expected) {
+        validateInput(key);
+        validateInput(expected);
+
+        return redisTemplate.execute(GET_AND_DELETE_IF_EQUALS_SCRIPT, List.of(key), expected);
+    }
+
+    /**
+     * 카운터 증가 (INCRBY)
+     * @return 증가된 값
+     */
+    public long increment(String key, long delta) {
+        validateInput(key);
+
+        Long value = redisTemplate.opsForValue().increment(key, delta);
+        return value != null ? value : delta;
+    }
+
+    /**
+     * 카운터 1 증가, 처음 만들어질 때만 TTL 설정 (고정 구간 카운터)
+     * @return 증가된 값
+     */
+    public long increment(String key, long timeout, TimeUnit unit) {
+        validateInput(key);
+
+        Long value = redisTemplate.execute(INCREMENT_WITH_TTL_SCRIPT, List.of(key),
+                String.valueOf(unit.toMillis(timeout)));
+        return value != null ? value : 1L;
+    }
+
+    /**
+     * 해시 필드 조회
+     */
+    public String hget(String key, String field) {
+        validateInput(key);
+
+        Object value = redisTemplate.opsForHash().get(key, field);
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * 해시 전체 조회
+     * @return 필드 -> 값 (키가 없으면 빈 Map)
+     */
+    public Map<String, String> hgetAll(String key) {
+        validateInput(key);
+
+        Map<String, String> result = new LinkedHashMap<>();
+        redisTemplate.opsForHash().entries(key)
+                .forEach((field, value) -> result.put(field.toString(), value.toString()));
+        return result;
+    }
+
+    /**
+     * 해시 필드 여러 개 저장 (HSET)
+     */
+    public void hset(String key, Map<String, String> fields) {
+        validateInput(key);
+
+        redisTemplate.opsForHash().putAll(key, fields);
+        log.debug("Redis 해시 저장: key={}, fields={}", key, fields.keySet());
+    }
+
+    /**
+     * 해시 필드 삭제
+     */
+    public void hdelete(String key, String... fields) {
+        validateInput(key);
+
+        redisTemplate.opsForHash().delete(key, (Object[]) fields);
+    }
+
+    /**
+     * 여러 명령을 파이프라인으로 한 번에 보냅니다.
+     * 명령 사이에 결과를 확인할 수 없으므로 서로 독립적인 명령만 담아야 합니다.
+     * <pre>
+     * redisUtil.batch()
+     *         .set(priceKey, price)
+     *         .set(cooldownKey, "1", 1, TimeUnit.HOURS)
+     *         .execute();
+     * </pre>
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * 파이프라인 명령 묶음
+     */
+    public class Batch {
+
+        private final List<Consumer<RedisOperations<String, String>>> commands = new ArrayList<>();
+
+        private Batch() {
+        }
+
+        public Batch get(String key) {
+            validateInput(key);
+            commands.add(operations -> operations.opsForValue().get(key));
+            return this;
+        }
+
+        public Batch set(String key, String value) {
+            validateInput(key);
+            validateInput(value);
+            commands.add(operations -> operations.opsForValue().set(key, value));
+            return this;
+        }
+
+        public Batch set(String key, String value, long timeout, TimeUnit unit) {
+            validateInput(key);
+            validateInput(value);
+            commands.add(operations -> operations.opsForValue().set(key, value, timeout, unit));
+            return this;
+        }
+
+        public Batch delete(String key) {
+            validateInput(key);
+            commands.add(operations -> operations.delete(key));
+            return this;
+        }
+
+        public Batch increment(String key, long delta) {
+            validateInput(key);
+            commands.add(operations -> operations.opsForValue().increment(key, delta));
+            return this;
+        }
+
+        public Batch expire(String key, long timeout, TimeUnit unit) {
+            validateInput(key);
+            commands.add(operations -> operations.expire(key, timeout, unit));
+            return this;
+        }
+
+        public Batch hset(String key, String field, String value) {
+            validateInput(key);
+            commands.add(operations -> operations.opsForHash().put(key, field, value));
+            return this;
+        }
+
+        /**
+         * 담은 명령을 한 번에 보냅니다.
+         * @return 명령 순서대로의 결과 (SET 등 결과가 없는 명령은 null 또는 true)
+         */
+        public List<Object> execute() {
+            if (commands.isEmpty()) {
+                return List.of();
+            }
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                    commands.forEach(command -> command.accept(stringOperations));
+                    return null;
+                }
+            });
+            log.debug("Redis 파이프라인 실행: commands={}", commands.size());
+            return results;
+        }
+    }
+
     /**
      * 입력값 검증
      */
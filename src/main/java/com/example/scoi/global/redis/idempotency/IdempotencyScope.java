@@ -0,0 +1,20 @@
+package com.example.scoi.global.redis.idempotency;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 멱등성 키를 사용하는 요청 종류
+ * 같은 멱등성 키라도 요청 종류가 다르면 서로 다른 키로 취급합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum IdempotencyScope {
+
+    TRANSFER_WITHDRAW("transfer"),
+    CHARGE_KRW("charge"),
+    WITHDRAW_KRW("krw-withdraw"),
+    ;
+
+    private final String prefix;
+}
@@ -0,0 +1,14 @@
+package com.example.scoi.global.redis.idempotency;
+
+/**
+ * 멱등성 키 상태
+ * PROCESSING -> SUCCEEDED : 결과를 저장하고 이후 중복 요청에 그대로 반환
+ * PROCESSING -> FAILED    : 요청이 확실히 거절된 경우(4XX, 검증 실패) 같은 키로 재시도 허용
+ * PROCESSING -> UNKNOWN   : 결과를 모르는 경우(5XX, 타임아웃) 거래소 조회로 확인하기 전까지 재시도 막음
+ */
+public enum IdempotencyState {
+    PROCESSING,
+    SUCCEEDED,
+    FAILED,
+    UNKNOWN
+}
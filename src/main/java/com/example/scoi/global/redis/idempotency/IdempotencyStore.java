@@ -0,0 +1,336 @@
+package com.example.scoi.global.redis.idempotency;
+
+import com.example.scoi.global.redis.RedisKeySpace;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.RetryableException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Redis 기반 멱등성 저장소
+ * 멱등성 키별 상태(PROCESSING -> SUCCEEDED/FAILED/UNKNOWN)와 성공 결과(JSON)를 Redis 해시에 저장합니다.
+ * - 처음 들어온 요청만 작업을 수행하고, 성공 결과는 RESULT_TTL 동안 DB 조회 없이 재응답합니다.
+ * - 처리 중에 들어온 중복 요청은 완료 채널(pub/sub) 신호를 기다렸다가 결과를 받아갑니다.
+ * - 거래소로 보내지 않았거나 거래소가 거절한 키(도메인 예외, 거래소 4XX)는 같은 키로 바로 재시도할 수 있습니다.
+ * - 결과를 모르는 키(거래소 5XX, 타임아웃)는 거래소에 반영되었을 수 있으므로,
+ *   reconcile(거래소 조회)로 처리 여부를 확인한 뒤에만 다시 수행합니다.
+ * pub/sub은 전달을 보장하지 않으므로 대기 중에도 POLL_INTERVAL마다 상태를 다시 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore implements MessageListener {
+
+    private static final String KEY_PREFIX = RedisKeySpace.IDEMPOTENCY.prefix();
+    // Pub/Sub 채널 (키가 아니므로 슬롯과 무관)
+    private static final String CHANNEL_PREFIX = "idempotency:done:";
+    private static final String ACQUIRED = "ACQUIRED";
+
+    // 처리 중 키 유지 시간 (서버가 죽어도 이 시간 이후 재시도 가능)
+    private static final long PROCESSING_TTL_MILLIS = 10 * 60_000;
+    // 실패 상태 유지 시간 (대기 중인 중복 요청이 실패를 확인할 수 있을 정도만)
+    private static final long FAILED_TTL_MILLIS = 60_000;
+    // 결과를 모르는 상태 유지 시간 (이 시간이 지나면 확인 없이 재시도 가능)
+    private static final long UNKNOWN_TTL_MILLIS = 24 * 60 * 60_000;
+    // 완료 신호를 놓친 경우를 대비한 상태 재확인 주기
+    private static final long POLL_INTERVAL_MILLIS = 1000;
+
+    // 키가 없거나 FAILED이면 PROCESSING으로 선점, 아니면 현재 상태 반환
+    private static final RedisScript<String> BEGIN_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HGET', KEYS[1], 'state')
+            if state == false or state == 'FAILED' then
+                redis.call('DEL', KEYS[1])
+                redis.call('HSET', KEYS[1], 'state', 'PROCESSING', 'owner', ARGV[1], 'startedAt', ARGV[3])
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 'ACQUIRED'
+            end
+            return state
+            """, String.class);
+
+    // UNKNOWN으로 기록된 지 ARGV[3] 이상 지났으면 확인을 위해 다시 선점하고 첫 시도 시각을 반환
+    // (결과가 거래소에 보이기 전에 확인하지 않도록 기다림)
+    private static final RedisScript<String> RECLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local data = redis.call('HMGET', KEYS[1], 'state', 'finishedAt', 'startedAt')
+            if data[1] ~= 'UNKNOWN' then
+                return false
+            end
+            if tonumber(ARGV[4]) - (tonumber(data[2]) or 0) < tonumber(ARGV[3]) then
+                return false
+            end
+            redis.call('HSET', KEYS[1], 'state', 'PROCESSING', 'owner', ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return data[3] or ARGV[4]
+            """, String.class);
+
+    // 선점한 요청만 상태를 바꾸고 완료 채널에 알림 (채널은 키가 아니므로 ARGV로 전달)
+    private static final RedisScript<Long> FINISH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'state', ARGV[2], 'result', ARGV[3], 'finishedAt', ARGV[6])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('PUBLISH', ARGV[5], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    // 성공 결과 보관 시간
+    @Value("${idempotency.result-ttl-millis:86400000}")
+    private long resultTtlMillis;
+
+    // 중복 요청이 먼저 들어온 요청의 완료를 기다리는 최대 시간
+    @Value("${idempotency.wait-timeout-millis:10000}")
+    private long waitTimeoutMillis;
+
+    // 결과를 모르는 요청을 거래소에서 확인하기 전 기다리는 시간 (거래소 조회에 반영될 시간)
+    @Value("${idempotency.reconcile-delay-millis:5000}")
+    private long reconcileDelayMillis;
+
+    // Redis 키 -> 완료 신호
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> waiters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new PatternTopic(CHANNEL_PREFIX + "*"));
+    }
+
+    /**
+     * 멱등성 키로 작업을 한 번만 수행합니다.
+     * 결과를 모르는 키는 UNKNOWN_TTL 동안 onInProgress로 막습니다.
+     * @param scope 요청 종류
+     * @param owner 요청 사용자 식별자 (다른 사용자의 결과를 재응답하지 않도록 키에 포함)
+     * @param idempotentKey 클라이언트가 보낸 멱등성 키
+     * @param resultType 결과 타입 (재응답 시 역직렬화에 사용)
+     * @param action 처음 들어온 요청이 수행할 작업
+     * @param onInProgress 대기 시간 안에 먼저 들어온 요청이 끝나지 않았을 때 던질 예외
+     * @return 작업 결과 또는 저장된 결과
+     */
+    public <T> T execute(
+            IdempotencyScope scope,
+            String owner,
+            String idempotentKey,
+            Class<T> resultType,
+            Supplier<T> action,
+            Supplier<? extends RuntimeException> onInProgress
+    ) {
+        return execute(scope, owner, idempotentKey, resultType, action, null, onInProgress);
+    }
+
+    /**
+     * 멱등성 키로 작업을 한 번만 수행합니다.
+     * 결과를 모르는 키는 reconcile로 거래소에 반영되었는지 확인하고,
+     * 반영되었으면 그 결과를 저장해 반환하며 반영되지 않았을 때만 작업을 다시 수행합니다.
+     * @param scope 요청 종류
+     * @param owner 요청 사용자 식별자 (다른 사용자의 결과를 재응답하지 않도록 키에 포함)
+     * @param idempotentKey 클라이언트가 보낸 멱등성 키
+     * @param resultType 결과 타입 (재응답 시 역직렬화에 사용)
+     * @param action 처음 들어온 요청이 수행할 작업
+     * @param reconcile 첫 시도 시각(epoch millis)을 받아 거래소에 반영된 결과를 찾는 조회
+     *                  (null이면 확인하지 않고 막음, 반영 여부를 판단할 수 없으면 예외를 던져 결과를 모르는 상태로 유지)
+     * @param onInProgress 대기 시간 안에 먼저 들어온 요청이 끝나지 않았을 때 던질 예외
+     * @return 작업 결과 또는 저장된 결과
+     */
+    public <T> T execute(
+            IdempotencyScope scope,
+            String owner,
+            String idempotentKey,
+            Class<T> resultType,
+            Supplier<T> action,
+            LongFunction<Optional<T>> reconcile,
+            Supplier<? extends RuntimeException> onInProgress
+    ) {
+        String key = RedisKeySpace.IDEMPOTENCY.key(scope.getPrefix(), owner, idempotentKey);
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + waitTimeoutMillis;
+
+        while (true) {
+            String state = redisTemplate.execute(BEGIN_SCRIPT, List.of(key),
+                    token, String.valueOf(PROCESSING_TTL_MILLIS), String.valueOf(System.currentTimeMillis()));
+
+            if (ACQUIRED.equals(state)) {
+                return run(key, token, resultType, action);
+            }
+            if (IdempotencyState.SUCCEEDED.name().equals(state)) {
+                log.info("[ IdempotencyStore ]: 저장된 결과 재응답 - key: {}", key);
+                return readResult(key, resultType);
+            }
+            if (IdempotencyState.UNKNOWN.name().equals(state)) {
+                return reconcile(key, token, resultType, action, reconcile, onInProgress);
+            }
+
+            // PROCESSING: 먼저 들어온 요청의 완료를 기다린 뒤 다시 확인 (FAILED였다면 다음 루프에서 선점)
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                log.warn("[ IdempotencyStore ]: 처리 중인 요청 대기 시간 초과 - key: {}", key);
+                throw onInProgress.get();
+            }
+            awaitSignal(key, Math.min(remaining, POLL_INTERVAL_MILLIS));
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String key = KEY_PREFIX + channel.substring(CHANNEL_PREFIX.length());
+        CompletableFuture<Void> signal = waiters.remove(key);
+        if (signal != null) {
+            signal.complete(null);
+        }
+    }
+
+    private <T> T run(
+            String key,
+            String token,
+            Class<T> resultType,
+            Supplier<T> action
+    ) {
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            if (isRejected(e)) {
+                finish(key, token, IdempotencyState.FAILED, "", FAILED_TTL_MILLIS);
+            } else {
+                // 거래소에 반영되었을 수 있으므로 확인 전까지 재시도를 막음
+                log.warn("[ IdempotencyStore ]: 결과를 알 수 없는 요청 - key: {}, error: {}", key, e.toString());
+                finish(key, token, IdempotencyState.UNKNOWN, "", UNKNOWN_TTL_MILLIS);
+            }
+            throw e;
+        }
+        store(key, token, resultType, result);
+        return result;
+    }
+
+    // 결과를 모르는 키: 거래소에 반영된 결과가 있으면 저장해 반환하고, 없을 때만 다시 수행
+    private <T> T reconcile(
+            String key,
+            String token,
+            Class<T> resultType,
+            Supplier<T> action,
+            LongFunction<Optional<T>> reconcile,
+            Supplier<? extends RuntimeException> onInProgress
+    ) {
+        if (reconcile == null) {
+            log.warn("[ IdempotencyStore ]: 결과를 알 수 없는 요청의 재시도 차단 - key: {}", key);
+            throw onInProgress.get();
+        }
+        long now = System.currentTimeMillis();
+        String startedAt = redisTemplate.execute(RECLAIM_SCRIPT, List.of(key),
+                token, String.valueOf(PROCESSING_TTL_MILLIS), String.valueOf(reconcileDelayMillis), String.valueOf(now));
+        if (startedAt == null) {
+            // 아직 확인할 시간이 되지 않았거나 다른 요청이 확인 중
+            throw onInProgress.get();
+        }
+
+        Optional<T> recovered;
+        try {
+            recovered = reconcile.apply(Long.parseLong(startedAt));
+        } catch (RuntimeException e) {
+            log.warn("[ IdempotencyStore ]: 결과 확인 실패 - key: {}, error: {}", key, e.getMessage());
+            finish(key, token, IdempotencyState.UNKNOWN, "", UNKNOWN_TTL_MILLIS);
+            throw onInProgress.get();
+        }
+
+        if (recovered.isPresent()) {
+            log.info("[ IdempotencyStore ]: 거래소에 반영된 결과 확인 - key: {}", key);
+            store(key, token, resultType, recovered.get());
+            return recovered.get();
+        }
+        log.info("[ IdempotencyStore ]: 거래소에 반영되지 않은 요청 재수행 - key: {}", key);
+        return run(key, token, resultType, action);
+    }
+
+    // 결과를 저장하지 못해도 PROCESSING 상태가 남아 TTL 동안 중복 수행을 막음
+    private <T> void store(String key, String token, Class<T> resultType, T result) {
+        try {
+            finish(key, token, IdempotencyState.SUCCEEDED, objectMapper.writeValueAsString(result), resultTtlMillis);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("[ IdempotencyStore ]: 결과 저장 실패 - key: {}, type: {}", key, resultType.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * 요청이 처리되지 않은 것이 확실한 실패인지 (같은 키로 바로 재시도 허용)
+     * 결과를 알 수 없는 것은 거래소와 통신하다 실패한 경우뿐입니다.
+     * - 타임아웃/연결 실패(RetryableException), 거래소 5XX, 응답 변환 실패(DecodeException 등 4XX가 아닌 FeignException)
+     * 그 외는 거래소에 반영되지 않은 실패로 봅니다.
+     * - 거래소 4XX (429 포함, 요청 수 제한으로 보내지 않은 요청도 429)
+     * - 도메인 예외 (5XX 포함: 비밀번호 검증 대기열 포화, 회원 조회 실패 등 거래소 호출 전 실패)
+     */
+    private boolean isRejected(RuntimeException e) {
+        if (e instanceof RetryableException) {
+            return false;
+        }
+        if (e instanceof FeignException feignException) {
+            return feignException.status() >= 400 && feignException.status() < 500;
+        }
+        return true;
+    }
+
+    private void finish(
+            String key,
+            String token,
+            IdempotencyState state,
+            String result,
+            long ttlMillis
+    ) {
+        String channel = CHANNEL_PREFIX + key.substring(KEY_PREFIX.length());
+        Long updated = redisTemplate.execute(FINISH_SCRIPT, List.of(key),
+                token, state.name(), result, String.valueOf(ttlMillis), channel,
+                String.valueOf(System.currentTimeMillis()));
+        if (!Long.valueOf(1).equals(updated)) {
+            log.warn("[ IdempotencyStore ]: 선점이 만료되어 상태를 기록하지 못함 - key: {}, state: {}", key, state);
+        }
+    }
+
+    private <T> T readResult(String key, Class<T> resultType) {
+        Object result = redisTemplate.opsForHash().get(key, "result");
+        try {
+            return objectMapper.readValue((String) result, resultType);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new IllegalStateException("멱등성 결과 역직렬화 실패: " + key, e);
+        }
+    }
+
+    private void awaitSignal(String key, long timeoutMillis) {
+        CompletableFuture<Void> signal = waiters.computeIfAbsent(key, k -> new CompletableFuture<>());
+        try {
+            signal.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 신호를 놓쳤을 수 있으므로 호출부에서 상태를 다시 확인
+            waiters.remove(key, signal);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("멱등성 키 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.scoi.global.security.filter;
 
 import com.example.scoi.domain.auth.exception.code.AuthErrorCode;
 import com.example.scoi.global.apiPayload.ApiResponse;
+import com.example.scoi.global.redis.RedisKeySpace;
 import com.example.scoi.global.redis.RedisUtil;
 import com.example.scoi.global.security.jwt.JwtUtil;
 import com.example.scoi.global.security.userdetails.CustomUserDetailsService;
@@ -35,7 +36,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final String BLACKLIST_PREFIX = "blacklist:";
 
     // 인증 없이 접근 가능한 경로 (SecurityConfig와 동일하게 유지)
     private static final String[] PUBLIC_ENDPOINTS = {
@@ -80,7 +80,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         // Redis 블랙리스트 확인
-        if (redisUtil.exists(BLACKLIST_PREFIX + token)) {
+        if (redisUtil.exists(RedisKeySpace.BLACKLIST.key(token))) {
             log.warn("블랙리스트 토큰 접근 시도: {}", requestURI);
             handleAuthenticationError(request, response, AuthErrorCode.BLACKLISTED_TOKEN);
             return;
@@ -119,12 +119,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /**
      * 인증 정보를 SecurityContext에 저장
-     * DB에서 회원 정보를 조회하여 UserDetails로 래핑합니다.
+     * 회원 정보를 조회하여 UserDetails로 래핑합니다. (이후 서비스는 같은 요청에서 이 정보를 재사용)
      */
     private void authenticateUser(HttpServletRequest request, String token) {
         String phoneNumber = jwtUtil.getPhoneNumberFromToken(token);
 
-        // DB에서 회원 조회 후 UserDetails 생성
+        // 회원 조회 후 UserDetails 생성 (MemberLookupCache)
         UserDetails userDetails = userDetailsService.loadUserByUsername(phoneNumber);
 
         UsernamePasswordAuthenticationToken authentication =
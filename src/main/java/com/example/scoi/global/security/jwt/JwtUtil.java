@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -27,6 +28,7 @@ public class JwtUtil {
     private final long verificationTokenExpiration;
 
     private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String FAMILY_ID_CLAIM = "fid";
     private static final String ACCESS_TOKEN_TYPE = "ACCESS";
     private static final String REFRESH_TOKEN_TYPE = "REFRESH";
     private static final String VERIFICATION_TOKEN_TYPE = "VERIFICATION";
@@ -50,8 +52,24 @@ public class JwtUtil {
         return createToken(phoneNumber, accessTokenExpiration, ACCESS_TOKEN_TYPE);
     }
 
-    public String createRefreshToken(String phoneNumber) {
-        return createToken(phoneNumber, refreshTokenExpiration, REFRESH_TOKEN_TYPE);
+    /**
+     * Refresh Token을 생성합니다.
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @param familyId 로그인 1회에서 이어지는 RT 묶음 ID (재사용 감지용)
+     */
+    public String createRefreshToken(String phoneNumber, String familyId) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + refreshTokenExpiration);
+
+        return Jwts.builder()
+                .subject(phoneNumber)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim(FAMILY_ID_CLAIM, familyId)
+                .id(UUID.randomUUID().toString())  // 같은 초에 회전해도 토큰 값이 겹치지 않도록
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(secretKey)
+                .compact();
     }
 
     public String createVerificationToken(String phoneNumber) {
@@ -113,6 +131,14 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Refresh Token의 묶음 ID를 반환합니다. (묶음 ID 도입 전에 발급된 토큰이면 null)
+     */
+    public String getFamilyIdFromToken(String token) {
+        Claims claims = parseClaims(token);
+        return claims.get(FAMILY_ID_CLAIM, String.class);
+    }
+
     public long getRemainingTime(String token) {
         try {
             Claims claims = parseClaims(token);
@@ -0,0 +1,229 @@
+package com.example.scoi.global.security.password;
+
+import com.example.scoi.global.apiPayload.code.GeneralErrorCode;
+import com.example.scoi.global.apiPayload.exception.ScoiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 간편 비밀번호 해시 검증/생성 전용 실행기
+ * BCrypt 비교는 요청당 수십 ms의 CPU를 쓰므로 요청 스레드에서 바로 돌리지 않고,
+ * 코어 수보다 적은 전용 스레드와 크기가 정해진 FIFO 대기열에서만 처리합니다.
+ * - 대기열이 가득 차거나 대기 시간(verify-wait-timeout-millis) 안에 처리되지 않으면 SERVER_BUSY(503)로 돌려보내 재시도를 유도합니다.
+ * - 같은 휴대폰 번호로 같은 비밀번호 검증이 동시에 들어오면 한 번만 계산해 결과를 공유합니다.
+ * - 검증에 성공했는데 해시 방식/비용이 현재 설정과 다르면 새 해시를 함께 돌려주므로 로그인 시 교체할 수 있습니다.
+ * 대기 시간(password.verify.queue.wait)과 해시 시간(password.verify.hash), 거절 수(password.verify.rejected)를 기록합니다.
+ */
+@Slf4j
+@Component
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+
+    private final Timer queueWaitTimer;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    // 휴대폰 번호 -> 진행 중인 검증
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public PasswordVerifier(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.verify-threads:0}") int threads,
+            @Value("${security.password.verify-queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.verify-wait-timeout-millis:3000}") long waitTimeoutMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+
+        // 0이면 코어의 절반 (나머지는 거래 API 요청 처리에 남겨둠)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity, true),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verifier-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.queueWaitTimer = Timer.builder("password.verify.queue.wait")
+                .description("비밀번호 검증 대기열 대기 시간")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("password.verify.hash")
+                .description("비밀번호 해시 계산 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.verify.rejected")
+                .description("대기열 초과/시간 초과로 거절된 검증 수")
+                .register(meterRegistry);
+        Gauge.builder("password.verify.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호를 검증합니다.
+     * @param phoneNumber 사용자 휴대폰 번호 (동시 중복 검증 합치기용)
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 검증 결과 (일치하고 재해시가 필요하면 새 해시 포함)
+     */
+    public Verification verify(
+            String phoneNumber,
+            String rawPassword,
+            String encodedPassword
+    ) {
+        InFlight created = new InFlight(rawPassword, encodedPassword, new CompletableFuture<>());
+        InFlight existing = inFlight.putIfAbsent(phoneNumber, created);
+
+        // 같은 비밀번호로 진행 중인 검증이 있으면 그 결과를 공유
+        if (existing != null && existing.isSameRequest(rawPassword, encodedPassword)) {
+            return await(existing.result());
+        }
+        // 다른 비밀번호로 진행 중이면 합치지 않고 따로 계산
+        boolean registered = existing == null;
+
+        try {
+            submit(created.result(), () -> {
+                boolean matches = passwordEncoder.matches(rawPassword, encodedPassword);
+                String upgraded = matches && passwordEncoder.upgradeEncoding(encodedPassword)
+                        ? passwordEncoder.encode(rawPassword)
+                        : null;
+                return new Verification(matches, upgraded);
+            });
+            return await(created.result());
+        } finally {
+            if (registered) {
+                inFlight.remove(phoneNumber, created);
+            }
+        }
+    }
+
+    /**
+     * 비밀번호 일치 여부만 확인합니다.
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치 여부
+     */
+    public boolean matches(
+            String phoneNumber,
+            String rawPassword,
+            String encodedPassword
+    ) {
+        return verify(phoneNumber, rawPassword, encodedPassword).matches();
+    }
+
+    /**
+     * 새 비밀번호 해시를 만듭니다.
+     * @param rawPassword 평문 비밀번호
+     * @return 현재 설정의 해시
+     */
+    public String encode(String rawPassword) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        submit(result, () -> passwordEncoder.encode(rawPassword));
+        return await(result);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> void submit(CompletableFuture<T> result, Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+
+                // 요청한 쪽이 이미 시간 초과로 돌아갔으면 계산하지 않음
+                if (result.isDone() || startedAt - enqueuedAt > TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis)) {
+                    result.completeExceptionally(new TimeoutException());
+                    return;
+                }
+                try {
+                    result.complete(task.get());
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 검증 대기열 초과 - queueSize: {}", executor.getQueue().size());
+            result.completeExceptionally(e);
+            throw new ScoiException(GeneralErrorCode.SERVER_BUSY);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 검증 대기 시간 초과 - queueSize: {}", executor.getQueue().size());
+            result.completeExceptionally(e);
+            throw new ScoiException(GeneralErrorCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 검증 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException || cause instanceof RejectedExecutionException) {
+                throw new ScoiException(GeneralErrorCode.SERVER_BUSY);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 비밀번호 검증 결과
+     * @param matches 일치 여부
+     * @param upgradedPassword 재해시한 비밀번호 (교체가 필요 없으면 null)
+     */
+    public record Verification(
+            boolean matches,
+            String upgradedPassword
+    ) {}
+
+    private record InFlight(
+            String rawPassword,
+            String encodedPassword,
+            CompletableFuture<Verification> result
+    ) {
+        boolean isSameRequest(String rawPassword, String encodedPassword) {
+            return this.rawPassword.equals(rawPassword) && this.encodedPassword.equals(encodedPassword);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.scoi.global.security.userdetails;
 
-import com.example.scoi.domain.member.entity.Member;
+import com.example.scoi.domain.member.service.MemberLookupCache.MemberSummary;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
@@ -11,13 +11,18 @@ import java.util.Collections;
 
 /**
  * Spring Security UserDetails 구현체
- * Member 엔티티를 래핑하여 인증 정보를 제공합니다.
+ * 회원 요약 정보(MemberSummary)를 래핑하여 인증 정보를 제공합니다.
+ * 서비스는 같은 요청 안에서 회원을 다시 조회하지 않고 MemberLookupCache를 통해 이 정보를 사용합니다.
  */
 @Getter
 @RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
-    private final Member member;
+    private final MemberSummary member;
+
+    public Long getMemberId() {
+        return member.id();
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -27,24 +32,25 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public String getPassword() {
-        return member.getSimplePassword();
+        // JWT로만 인증하므로 비밀번호 해시는 들고 다니지 않음 (간편 비밀번호 검증은 PasswordVerifier로)
+        return null;
     }
 
     @Override
     public String getUsername() {
-        return member.getPhoneNumber();
+        return member.phoneNumber();
     }
 
     @Override
     public boolean isAccountNonExpired() {
-        // 계정 만료는 deletedAt으로 체크 (soft delete)
-        return member.getDeletedAt() == null;
+        // 탈퇴(soft delete)한 회원은 조회되지 않으므로 항상 true
+        return true;
     }
 
     @Override
     public boolean isAccountNonLocked() {
         // 5회 이상 로그인 실패 시 계정 잠금
-        return member.getLoginFailCount() < 5;
+        return !member.locked();
     }
 
     @Override
@@ -55,7 +61,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        // 계정 활성화 여부 (삭제되지 않은 계정만 활성화)
-        return member.getDeletedAt() == null;
+        // 계정 활성화 여부 (탈퇴한 회원은 조회되지 않음)
+        return true;
     }
 }
@@ -1,7 +1,6 @@
 package com.example.scoi.global.security.userdetails;
 
-import com.example.scoi.domain.member.entity.Member;
-import com.example.scoi.domain.member.repository.MemberRepository;
+import com.example.scoi.domain.member.service.MemberLookupCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -10,18 +9,18 @@ import org.springframework.stereotype.Service;
 
 /**
  * Spring Security UserDetailsService 구현체
- * 사용자 인증 시 데이터베이스에서 회원 정보를 조회합니다.
+ * 사용자 인증 시 회원 정보를 조회합니다. (MemberLookupCache, 없으면 데이터베이스)
  */
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final MemberRepository memberRepository;
+    private final MemberLookupCache memberLookupCache;
 
     @Override
     public UserDetails loadUserByUsername(String phoneNumber) throws UsernameNotFoundException {
-        Member member = memberRepository.findByPhoneNumber(phoneNumber)
+        return memberLookupCache.find(phoneNumber)
+                .map(CustomUserDetails::new)
                 .orElseThrow(() -> new UsernameNotFoundException("회원을 찾을 수 없습니다: " + phoneNumber));
-        return new CustomUserDetails(member);
     }
 }
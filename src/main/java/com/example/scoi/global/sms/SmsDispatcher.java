@@ -0,0 +1,310 @@
+package com.example.scoi.global.sms;
+
+import com.example.scoi.global.client.CoolSmsClient;
+import com.example.scoi.global.client.dto.CoolSmsDTO;
+import com.example.scoi.global.config.RedisConfig;
+import com.example.scoi.global.redis.RedisKeySpace;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SMS 발송 처리기
+ * SmsOutbox 스트림을 컨슈머 그룹으로 읽어 CoolSMS 여러 건 발송 API로 묶어 보냅니다.
+ * - 같은 번호로 더 나중에 등록된 작업이 있으면 이전 작업은 보내지 않습니다. (SUPERSEDED)
+ * - 실패한 작업은 지터를 섞은 지수 백오프로 재시도 ZSET에 넣었다가 시각이 되면 스트림에 다시 넣습니다.
+ * - 서버가 처리 중에 내려가 ACK되지 않은 항목은 RECLAIM_IDLE 이후 다른 서버가 가져가 처리합니다.
+ * 발송은 전용 스레드에서 하고, 스케줄러 스레드는 발송 스레드와 대기열에 남은 자리만큼만 스트림을 읽습니다.
+ * 그래도 자리가 없으면(회수와 겹친 경우 등) 스케줄러 스레드에서 보내지 않고 재시도 ZSET에 바로 다시 넣습니다.
+ */
+@Slf4j
+@Component
+public class SmsDispatcher {
+
+    private static final String GROUP = "sms-dispatcher";
+    private static final String RETRY_KEY = RedisKeySpace.SMS_OUTBOX.key("retry");
+
+    private static final int READ_COUNT = 100;
+    // CoolSMS 요청 1회에 담을 메시지 수
+    private static final int MAX_MESSAGES_PER_REQUEST = 50;
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_RETRY_DELAY_MILLIS = 1_000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 30_000;
+    private static final Duration RECLAIM_IDLE = Duration.ofMinutes(1);
+
+    // 컨슈머 그룹이 없으면 스트림과 함께 생성 (이미 있으면 무시)
+    private static final RedisScript<Long> CREATE_GROUP_SCRIPT = new DefaultRedisScript<>("""
+            redis.pcall('XGROUP', 'CREATE', KEYS[1], ARGV[1], '0', 'MKSTREAM')
+            return 1
+            """, Long.class);
+
+    // 재시도 시각이 된 작업을 스트림으로 옮김
+    private static final RedisScript<Long> MOVE_DUE_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, id in ipairs(ids) do
+                redis.call('ZREM', KEYS[1], id)
+                redis.call('XADD', KEYS[2], '*', 'jobId', id)
+            end
+            return #ids
+            """, Long.class);
+
+    // 작업 상태 기록 (만료된 작업은 되살리지 않음), 마지막 작업이면 번호별 표시 제거
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('HSET', KEYS[1], 'status', ARGV[2])
+            end
+            if redis.call('GET', KEYS[2]) == ARGV[1] then
+                redis.call('DEL', KEYS[2])
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CoolSmsClient coolSmsClient;
+    private final String fromNumber;
+    private final String consumerName = "sms-dispatcher-" + UUID.randomUUID();
+    private final ThreadPoolExecutor executor;
+
+    public SmsDispatcher(
+            @Qualifier(RedisConfig.BACKGROUND) RedisTemplate<String, String> redisTemplate,
+            CoolSmsClient coolSmsClient,
+            @Value("${coolsms.from-number}") String fromNumber,
+            @Value("${sms.outbox.workers:2}") int workers
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.coolSmsClient = coolSmsClient;
+        this.fromNumber = fromNumber;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sms-dispatcher-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PostConstruct
+    void createGroup() {
+        redisTemplate.execute(CREATE_GROUP_SCRIPT, List.of(SmsOutbox.STREAM_KEY), GROUP);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${sms.outbox.poll-interval-millis:200}")
+    public void poll() {
+        redisTemplate.execute(MOVE_DUE_SCRIPT, List.of(RETRY_KEY, SmsOutbox.STREAM_KEY),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(READ_COUNT));
+
+        // 발송 스레드가 밀려 있으면 읽지 않고 스트림에 남겨둠
+        int readCount = Math.min(READ_COUNT, freeSlots() * MAX_MESSAGES_PER_REQUEST);
+        if (readCount <= 0) {
+            return;
+        }
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(readCount),
+                StreamOffset.create(SmsOutbox.STREAM_KEY, ReadOffset.lastConsumed())
+        );
+        if (records != null && !records.isEmpty()) {
+            dispatch(records);
+        }
+    }
+
+    // 다른 서버가 읽고 ACK하지 못한 항목 회수
+    @Scheduled(fixedDelayString = "${sms.outbox.reclaim-interval-millis:30000}")
+    public void reclaim() {
+        PendingMessages pending = redisTemplate.opsForStream()
+                .pending(SmsOutbox.STREAM_KEY, GROUP, Range.unbounded(), READ_COUNT);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+
+        RecordId[] idleIds = pending.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(RECLAIM_IDLE) > 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idleIds.length == 0) {
+            return;
+        }
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .claim(SmsOutbox.STREAM_KEY, GROUP, consumerName, RECLAIM_IDLE, idleIds);
+        if (records != null && !records.isEmpty()) {
+            log.info("SMS 발송 작업 회수: count={}", records.size());
+            dispatch(records);
+        }
+    }
+
+    private void dispatch(List<MapRecord<String, Object, Object>> records) {
+        List<Job> jobs = new ArrayList<>();
+        List<RecordId> skipped = new ArrayList<>();
+
+        for (MapRecord<String, Object, Object> record : records) {
+            Job job = load(record);
+            if (job == null) {
+                skipped.add(record.getId());
+            } else if (!job.jobId().equals(redisTemplate.opsForValue().get(SmsOutbox.LATEST_PREFIX + job.to()))) {
+                // 같은 번호로 새 작업이 등록됨 (이전 인증번호는 이미 무효)
+                complete(job, "SUPERSEDED");
+                skipped.add(record.getId());
+            } else {
+                jobs.add(job);
+            }
+        }
+        acknowledge(skipped);
+
+        for (int from = 0; from < jobs.size(); from += MAX_MESSAGES_PER_REQUEST) {
+            List<Job> chunk = List.copyOf(jobs.subList(from, Math.min(from + MAX_MESSAGES_PER_REQUEST, jobs.size())));
+            try {
+                executor.execute(() -> send(chunk));
+            } catch (RejectedExecutionException e) {
+                requeue(chunk);
+            }
+        }
+    }
+
+    // 발송 스레드와 대기열에 남은 자리 (요청 단위)
+    private int freeSlots() {
+        return executor.getMaximumPoolSize() - executor.getActiveCount() + executor.getQueue().remainingCapacity();
+    }
+
+    // 발송 스레드가 가득 차 받지 못한 작업은 시도 횟수를 늘리지 않고 다음 조회 때 다시 읽도록 재시도 ZSET에 넣음
+    private void requeue(List<Job> jobs) {
+        long now = System.currentTimeMillis();
+        for (Job job : jobs) {
+            redisTemplate.opsForZSet().add(RETRY_KEY, job.jobId(), now);
+        }
+        acknowledge(jobs.stream().map(Job::recordId).toList());
+        log.info("SMS 발송 대기열 포화로 재등록: count={}", jobs.size());
+    }
+
+    private void send(List<Job> jobs) {
+        try {
+            List<CoolSmsDTO.Message> messages = jobs.stream()
+                    .map(job -> new CoolSmsDTO.Message(job.to(), fromNumber, job.text()))
+                    .toList();
+            CoolSmsDTO.SendManyResponse response = coolSmsClient.sendMany(new CoolSmsDTO.SendManyRequest(messages));
+
+            Set<String> failed = new HashSet<>();
+            if (response != null && response.failedMessageList() != null) {
+                for (CoolSmsDTO.FailedMessage message : response.failedMessageList()) {
+                    failed.add(message.to());
+                    log.warn("SMS 발송 실패: to={}, statusCode={}, statusMessage={}",
+                            message.to(), message.statusCode(), message.statusMessage());
+                }
+            }
+            for (Job job : jobs) {
+                if (failed.contains(job.to())) {
+                    retry(job);
+                } else {
+                    complete(job, "SENT");
+                }
+            }
+            log.info("SMS 발송 완료: count={}, failed={}", jobs.size(), failed.size());
+        } catch (RuntimeException e) {
+            log.warn("SMS 발송 요청 실패: count={}, message={}", jobs.size(), e.getMessage());
+            jobs.forEach(this::retry);
+        } finally {
+            acknowledge(jobs.stream().map(Job::recordId).toList());
+        }
+    }
+
+    private void retry(Job job) {
+        int attempt = job.attempt() + 1;
+        if (attempt >= MAX_ATTEMPTS) {
+            log.error("SMS 발송 최종 실패: jobId={}, to={}, attempt={}", job.jobId(), job.to(), attempt);
+            complete(job, "FAILED");
+            return;
+        }
+
+        // 지수 백오프의 절반은 고정, 절반은 무작위 (동시에 실패한 작업들이 같은 시각에 몰리지 않도록)
+        long delay = Math.min(BASE_RETRY_DELAY_MILLIS << (attempt - 1), MAX_RETRY_DELAY_MILLIS);
+        long jittered = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+
+        redisTemplate.opsForHash().put(SmsOutbox.JOB_PREFIX + job.jobId(), "attempt", String.valueOf(attempt));
+        redisTemplate.opsForZSet().add(RETRY_KEY, job.jobId(), System.currentTimeMillis() + jittered);
+    }
+
+    private void complete(Job job, String status) {
+        redisTemplate.execute(COMPLETE_SCRIPT,
+                List.of(SmsOutbox.JOB_PREFIX + job.jobId(), SmsOutbox.LATEST_PREFIX + job.to()),
+                job.jobId(),
+                status);
+    }
+
+    // 처리한 항목은 ACK 후 스트림에서 삭제
+    private void acknowledge(List<RecordId> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        RecordId[] recordIds = ids.toArray(RecordId[]::new);
+        redisTemplate.opsForStream().acknowledge(SmsOutbox.STREAM_KEY, GROUP, recordIds);
+        redisTemplate.opsForStream().delete(SmsOutbox.STREAM_KEY, recordIds);
+    }
+
+    // 작업 정보가 만료되었으면 null
+    private Job load(MapRecord<String, Object, Object> record) {
+        Object jobId = record.getValue().get("jobId");
+        if (jobId == null) {
+            return null;
+        }
+        List<Object> fields = redisTemplate.opsForHash()
+                .multiGet(SmsOutbox.JOB_PREFIX + jobId, List.<Object>of("to", "text", "attempt"));
+        if (fields == null || fields.get(0) == null || fields.get(1) == null) {
+            return null;
+        }
+        int attempt = fields.get(2) == null ? 0 : Integer.parseInt(fields.get(2).toString());
+        return new Job(record.getId(), jobId.toString(), fields.get(0).toString(), fields.get(1).toString(), attempt);
+    }
+
+    private record Job(
+            RecordId recordId,
+            String jobId,
+            String to,
+            String text,
+            int attempt
+    ) {}
+}
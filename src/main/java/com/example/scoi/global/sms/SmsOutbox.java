@@ -0,0 +1,65 @@
+package com.example.scoi.global.sms;
+
+import com.example.scoi.global.redis.RedisKeySpace;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SMS 발송 대기열 (Redis Stream)
+ * 요청 스레드는 발송 작업만 등록하고 바로 작업 ID를 돌려받으며, 실제 CoolSMS 호출은 SmsDispatcher가 처리합니다.
+ * - {sms:outbox}            : 발송 대기 스트림 (필드 jobId)
+ * - {sms:outbox}:job:{jobId} : 작업 정보 (to, text, attempt, status)
+ * - {sms:outbox}:latest:{to} : 번호별 마지막 작업 ID (같은 번호로 먼저 등록된 작업은 보내지 않음)
+ * 스크립트 하나에서 함께 다루므로 모두 같은 슬롯에 둡니다. (RedisKeySpace.SMS_OUTBOX)
+ * 작업 ID는 발송 결과 추적용이며, 작업 정보는 인증번호 유효 시간보다 길게만 남겨둡니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmsOutbox {
+
+    static final String STREAM_KEY = RedisKeySpace.SMS_OUTBOX.key();
+    static final String JOB_PREFIX = RedisKeySpace.SMS_OUTBOX.prefix("job");
+    static final String LATEST_PREFIX = RedisKeySpace.SMS_OUTBOX.prefix("latest");
+
+    static final long JOB_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    // 스트림 최대 길이 (처리된 항목은 지우므로 밀려 있을 때만 의미가 있음)
+    private static final long STREAM_MAX_LENGTH = 10_000;
+
+    // 작업 등록 + 번호별 마지막 작업 갱신 + 스트림 추가
+    private static final RedisScript<String> ENQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'to', ARGV[2], 'text', ARGV[3], 'attempt', '0', 'status', 'QUEUED')
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[4])
+            return redis.call('XADD', KEYS[3], 'MAXLEN', '~', ARGV[5], '*', 'jobId', ARGV[1])
+            """, String.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * SMS 발송 작업을 등록합니다.
+     * @param to 수신 번호
+     * @param text 본문
+     * @return 작업 ID
+     */
+    public String enqueue(String to, String text) {
+        String jobId = UUID.randomUUID().toString();
+        redisTemplate.execute(ENQUEUE_SCRIPT,
+                List.of(JOB_PREFIX + jobId, LATEST_PREFIX + to, STREAM_KEY),
+                jobId,
+                to,
+                text,
+                String.valueOf(JOB_TTL_MILLIS),
+                String.valueOf(STREAM_MAX_LENGTH));
+        log.debug("SMS 발송 작업 등록: jobId={}, to={}", jobId, to);
+        return jobId;
+    }
+}
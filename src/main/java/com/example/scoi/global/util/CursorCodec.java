@@ -0,0 +1,229 @@
+package com.example.scoi.global.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 키셋 페이지네이션 커서 인코더/디코더
+ * 커서 구조: [버전 1B][플래그 1B][timestamp(epoch micros) varint][id varint][HMAC-SHA256 앞 8B]
+ * - 문자열 조합 없이 바이트 배열에 바로 쓰고 읽습니다.
+ * - HMAC에 회원 ID를 함께 넣어 다른 회원의 커서나 조작된 커서는 거부합니다. (회원 ID 자체는 커서에 싣지 않음)
+ * - URL-safe Base64(패딩 없음)로 내보냅니다.
+ * 서명 키는 cursor.secret(없으면 jwt.secret)에서 HKDF로 커서 전용 키를 파생해 사용하므로,
+ * JWT 서명 키와 같은 키로 다른 용도의 값을 서명하지 않습니다.
+ */
+@Component
+public class CursorCodec {
+
+    private static final byte VERSION = 1;
+    private static final int FLAG_TIMESTAMP = 1;
+    private static final int MAC_LENGTH = 8;
+    private static final int MAX_VARINT_LENGTH = 10;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    // HKDF info (용도별로 다른 키가 나오도록 고정 라벨 사용, 바꾸면 기존 커서는 모두 무효)
+    private static final byte[] KEY_LABEL = "scoi/cursor-hmac/v1".getBytes(StandardCharsets.UTF_8);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> macs;
+
+    public CursorCodec(
+            @Value("${cursor.secret:}") String cursorSecret,
+            @Value("${jwt.secret}") String jwtSecret
+    ) {
+        String secret = cursorSecret.isBlank() ? jwtSecret : cursorSecret;
+        SecretKeySpec key = new SecretKeySpec(deriveKey(secret.getBytes(StandardCharsets.UTF_8)), MAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(MAC_ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("커서 서명 키 초기화 실패", e);
+            }
+        });
+    }
+
+    /**
+     * (시간, ID) 커서를 만듭니다.
+     * @param memberId 커서를 사용할 회원 ID
+     * @param timestamp 마지막 항목의 정렬 시각
+     * @param id 마지막 항목의 ID
+     * @return 커서 (값이 없으면 null)
+     */
+    public String encode(Long memberId, LocalDateTime timestamp, Long id) {
+        if (memberId == null || timestamp == null || id == null) {
+            return null;
+        }
+        return write(memberId, true, toEpochMicros(timestamp), id);
+    }
+
+    /**
+     * ID만 가진 커서를 만듭니다.
+     * @param memberId 커서를 사용할 회원 ID
+     * @param id 마지막 항목의 ID
+     * @return 커서 (값이 없으면 null)
+     */
+    public String encode(Long memberId, Long id) {
+        if (memberId == null || id == null) {
+            return null;
+        }
+        return write(memberId, false, 0, id);
+    }
+
+    /**
+     * 커서를 해석합니다.
+     * @param memberId 요청한 회원 ID
+     * @param cursor 클라이언트가 보낸 커서
+     * @return 형식, 버전, 서명이 모두 맞으면 커서 내용, 아니면 empty
+     */
+    public Optional<Cursor> decode(Long memberId, String cursor) {
+        if (memberId == null || cursor == null || cursor.isEmpty()) {
+            return Optional.empty();
+        }
+
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (bytes.length < 3 + MAC_LENGTH || bytes[0] != VERSION) {
+            return Optional.empty();
+        }
+
+        int end = bytes.length - MAC_LENGTH;
+        boolean hasTimestamp = (bytes[1] & FLAG_TIMESTAMP) != 0;
+        long[] position = {2};
+
+        long micros = 0;
+        if (hasTimestamp) {
+            micros = readVarint(bytes, position, end);
+        }
+        long id = readVarint(bytes, position, end);
+
+        // 읽다가 범위를 벗어났거나 남는 바이트가 있으면 잘못된 커서
+        if (position[0] != end) {
+            return Optional.empty();
+        }
+
+        byte[] expected = sign(memberId, bytes, end);
+        byte[] actual = new byte[MAC_LENGTH];
+        System.arraycopy(bytes, end, actual, 0, MAC_LENGTH);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new Cursor(hasTimestamp ? fromEpochMicros(micros) : null, id));
+    }
+
+    private String write(long memberId, boolean hasTimestamp, long micros, long id) {
+        byte[] buffer = new byte[2 + MAX_VARINT_LENGTH * 2 + MAC_LENGTH];
+        buffer[0] = VERSION;
+        buffer[1] = (byte) (hasTimestamp ? FLAG_TIMESTAMP : 0);
+
+        int position = 2;
+        if (hasTimestamp) {
+            position = writeVarint(buffer, position, micros);
+        }
+        position = writeVarint(buffer, position, id);
+
+        byte[] mac = sign(memberId, buffer, position);
+        System.arraycopy(mac, 0, buffer, position, MAC_LENGTH);
+
+        byte[] out = new byte[position + MAC_LENGTH];
+        System.arraycopy(buffer, 0, out, 0, out.length);
+        return ENCODER.encodeToString(out);
+    }
+
+    // HMAC(회원 ID 8B + 본문)의 앞 MAC_LENGTH 바이트
+    private byte[] sign(long memberId, byte[] payload, int length) {
+        Mac mac = macs.get();
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            mac.update((byte) (memberId >>> shift));
+        }
+        mac.update(payload, 0, length);
+        byte[] full = mac.doFinal();
+
+        byte[] truncated = new byte[MAC_LENGTH];
+        System.arraycopy(full, 0, truncated, 0, MAC_LENGTH);
+        return truncated;
+    }
+
+    // HKDF-SHA256 (RFC 5869, salt 없음): PRK = HMAC(0, secret), OKM = HMAC(PRK, label || 0x01)
+    private static byte[] deriveKey(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(new SecretKeySpec(new byte[32], MAC_ALGORITHM));
+            byte[] prk = mac.doFinal(secret);
+
+            mac.init(new SecretKeySpec(prk, MAC_ALGORITHM));
+            mac.update(KEY_LABEL);
+            mac.update((byte) 1);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("커서 서명 키 파생 실패", e);
+        }
+    }
+
+    // 부호 없는 LEB128
+    private static int writeVarint(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    // 실패하면 position을 end 뒤로 보내 호출부 검사에서 걸리도록 함
+    private static long readVarint(byte[] buffer, long[] position, int end) {
+        long value = 0;
+        int shift = 0;
+        int index = (int) position[0];
+        while (index < end && shift < 64) {
+            byte b = buffer[index++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                position[0] = index;
+                return value;
+            }
+            shift += 7;
+        }
+        position[0] = end + 1;
+        return 0;
+    }
+
+    private static long toEpochMicros(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + timestamp.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000,
+                ZoneOffset.UTC
+        );
+    }
+
+    /**
+     * 해석된 커서 내용
+     * @param timestamp 정렬 시각 (ID만 가진 커서는 null)
+     * @param id 마지막 항목의 ID
+     */
+    public record Cursor(
+            LocalDateTime timestamp,
+            Long id
+    ) {}
+}
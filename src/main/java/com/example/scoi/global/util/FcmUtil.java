@@ -67,6 +67,38 @@ public class FcmUtil {
         }
     }
 
+    /**
+     * 특정 기기에 알림을 전송합니다.
+     * @param fcmToken 받을 기기의 FCM 토큰
+     * @param title 보낼 알림의 제목
+     * @param body 보낼 알림의 내용
+     */
+    @Async
+    public void sendNotification(
+            @NotNull String fcmToken,
+            @NotNull String title,
+            @NotNull String body
+    ){
+
+        AndroidConfig androidConfig = AndroidConfig.builder()
+                .setPriority(AndroidConfig.Priority.HIGH)
+                .build();
+
+        Message message = Message.builder()
+                .putData("title", title)
+                .putData("body", body)
+                .setAndroidConfig(androidConfig)
+                .setToken(fcmToken)
+                .build();
+
+        try{
+            firebaseMessaging.send(message);
+            log.info("[ FcmUtil ]: 개별 알림 전송 성공");
+        } catch (FirebaseMessagingException e){
+            log.warn("[ FcmUtil ]: 개별 알림 전송 실패, {}", e.getMessage());
+        }
+    }
+
     /**
      * 디페깅 알림을 위해 구독합니다.
      * @param fcmTokenList 알림을 구독할 FCM 토큰
@@ -7,6 +7,8 @@ import com.example.scoi.domain.member.exception.code.MemberErrorCode;
 import com.example.scoi.domain.member.repository.MemberApiKeyRepository;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.Nullable;
@@ -29,6 +31,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class JwtApiUtil {
 
+    // query_hash 계산용 body 직렬화 (null 필드 제외, 요청마다 매퍼를 만들지 않도록 한 번만 구성)
+    // Feign이 실제로 보내는 body와 같은 바이트가 나와야 하므로 기존 매퍼(Jackson 2) 설정을 그대로 유지
+    private static final ObjectMapper QUERY_BODY_MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private static final ObjectWriter QUERY_BODY_WRITER = QUERY_BODY_MAPPER.writer();
+    private static final ObjectReader QUERY_BODY_READER = QUERY_BODY_MAPPER.readerFor(
+            QUERY_BODY_MAPPER.getTypeFactory().constructMapType(LinkedHashMap.class, String.class, Object.class));
+
     private final MemberApiKeyRepository memberApiKeyRepository;
     private final HashUtil hashUtil;
 
@@ -186,19 +196,14 @@ public class JwtApiUtil {
         // query_hash = SHA512(실제 전송되는 JSON body를 query string으로 변환한 것)
         if (body != null) {
             MessageDigest digest = MessageDigest.getInstance("SHA-512");
-            ObjectMapper objectMapper = new ObjectMapper();
-            // null 필드 제외 설정
-            objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-            
             try {
                 // 1. body를 JSON으로 직렬화 (Feign Client가 실제로 보내는 형식과 동일)
-                String jsonBody = objectMapper.writeValueAsString(body);
+                String jsonBody = QUERY_BODY_WRITER.writeValueAsString(body);
                 log.info("query_hash 계산 - 실제 전송되는 JSON body: {}", jsonBody);
                 
                 // 2. JSON을 LinkedHashMap으로 파싱하여 순서 보장
                 // API는 JSON 파싱 순서 그대로 query string을 생성
-                LinkedHashMap<String, Object> map = objectMapper.readValue(jsonBody, 
-                        objectMapper.getTypeFactory().constructMapType(LinkedHashMap.class, String.class, Object.class));
+                LinkedHashMap<String, Object> map = QUERY_BODY_READER.readValue(jsonBody);
 
                 StringBuilder result = new StringBuilder();
 
@@ -0,0 +1,81 @@
+-- 기존 Hibernate ddl-auto로 생성되던 스키마 (이미 운영 중인 DB는 baseline으로 건너뜀)
+
+CREATE TABLE member
+(
+    id                BIGINT AUTO_INCREMENT PRIMARY KEY,
+    english_name      VARCHAR(50)                          NOT NULL,
+    korean_name       VARCHAR(5)                           NOT NULL,
+    resident_number   VARCHAR(255)                         NOT NULL,
+    simple_password   VARCHAR(255)                         NOT NULL,
+    phone_number      VARCHAR(255)                         NOT NULL,
+    member_type       ENUM ('INDIVIDUAL', 'CORPORATION')   NOT NULL,
+    is_bio_registered BIT                                  NOT NULL,
+    created_at        DATETIME(6),
+    deleted_at        DATETIME(6),
+    login_fail_count  INT                                  NOT NULL,
+    last_login_at     DATETIME(6),
+    profile_image_url VARCHAR(255)
+) ENGINE = InnoDB;
+
+CREATE TABLE member_api_key
+(
+    id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    exchange_type ENUM ('BITHUMB', 'UPBIT') NOT NULL,
+    public_key    VARCHAR(255)              NOT NULL,
+    secret_key    VARCHAR(255)              NOT NULL,
+    member_id     BIGINT,
+    CONSTRAINT fk_member_api_key_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE member_fcm
+(
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    fcm_token  VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    member_id  BIGINT,
+    CONSTRAINT fk_member_fcm_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE member_token
+(
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    refresh_token   VARCHAR(255) NOT NULL,
+    expiration_date DATETIME(6)  NOT NULL,
+    issued_at       DATETIME(6)  NOT NULL,
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    member_id       BIGINT,
+    CONSTRAINT fk_member_token_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE recipient
+(
+    id                     BIGINT AUTO_INCREMENT PRIMARY KEY,
+    wallet_address         VARCHAR(255)                       NOT NULL,
+    recipient_en_name      VARCHAR(50)                        NOT NULL,
+    recipient_ko_name      VARCHAR(5)                         NOT NULL,
+    recipient_type         ENUM ('INDIVIDUAL', 'CORPORATION') NOT NULL,
+    recipient_corp_en_name VARCHAR(50),
+    recipient_corp_ko_name VARCHAR(50),
+    is_favorite            BIT,
+    member_id              BIGINT                             NOT NULL,
+    CONSTRAINT fk_recipient_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE trade_history
+(
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    exchange_type  ENUM ('BITHUMB', 'UPBIT')                    NOT NULL,
+    coin_count     VARCHAR(255)                                 NOT NULL,
+    created_at     DATETIME(6),
+    trade_type     ENUM ('DEPOSIT', 'WITHDRAWAL')               NOT NULL,
+    coin_type      ENUM ('BTC', 'ETH', 'USDT', 'USDC', 'KRW')   NOT NULL,
+    status         VARCHAR(255),
+    uuid           VARCHAR(255),
+    idempotent_key VARCHAR(255)                                 NOT NULL,
+    member_id      BIGINT                                       NOT NULL,
+    recipient_id   BIGINT                                       NOT NULL,
+    CONSTRAINT uk_trade_history_idempotent_key UNIQUE (idempotent_key),
+    CONSTRAINT fk_trade_history_member FOREIGN KEY (member_id) REFERENCES member (id),
+    CONSTRAINT fk_trade_history_recipient FOREIGN KEY (recipient_id) REFERENCES recipient (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,28 @@
+-- 수취인/이체 내역 조회 쿼리별 복합 인덱스
+-- 쿼리 -> 인덱스
+--   RecipientRepository.findByMemberIdAndIsFavoriteTrue    -> idx_recipient_member_favorite (member_id, is_favorite, id)
+--   RecipientRepository.existsByMemberIdAndWalletAddress   -> idx_recipient_member_wallet (member_id, wallet_address)
+--   MemberRecentRecipientRepository.findRecentRecipients   -> idx_member_recent_recipient_cursor (member_id, last_trade_at, last_trade_id)
+--   MemberRecentRecipientRepository.backfill               -> idx_trade_history_member_recipient (member_id, recipient_id)
+--   TradeHistoryRepository.findTradeHistoryByIdempotentKey -> idempotent_key 유니크 키
+--   회원별 이체 내역 최신순 조회                           -> idx_trade_history_member_created (member_id, created_at, id)
+
+CREATE INDEX idx_recipient_member_favorite ON recipient (member_id, is_favorite, id);
+CREATE INDEX idx_recipient_member_wallet ON recipient (member_id, wallet_address);
+
+CREATE INDEX idx_trade_history_member_recipient ON trade_history (member_id, recipient_id);
+CREATE INDEX idx_trade_history_member_created ON trade_history (member_id, created_at, id);
+
+-- findRecentUniqueRecipients를 대체한 최근 수취인 테이블 (ddl-auto로 이미 생성된 DB는 건너뜀)
+CREATE TABLE IF NOT EXISTS member_recent_recipient
+(
+    id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    last_trade_id BIGINT      NOT NULL,
+    last_trade_at DATETIME(6) NOT NULL,
+    member_id     BIGINT      NOT NULL,
+    recipient_id  BIGINT      NOT NULL,
+    CONSTRAINT uk_member_recent_recipient_member_recipient UNIQUE (member_id, recipient_id),
+    CONSTRAINT fk_member_recent_recipient_member FOREIGN KEY (member_id) REFERENCES member (id),
+    CONSTRAINT fk_member_recent_recipient_recipient FOREIGN KEY (recipient_id) REFERENCES recipient (id),
+    INDEX idx_member_recent_recipient_cursor (member_id, last_trade_at, last_trade_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,12 @@
+-- 수취인 식별 키 (회원, 상대 거래소, 지갑 주소, 네트워크)
+-- 기존 행은 exchange_type, net_type이 NULL이라 유니크 키와 충돌하지 않으며,
+-- 중복 행은 RecipientCompactionRunner(transfer.recipient.compaction=true)로 정리합니다.
+
+ALTER TABLE recipient
+    ADD COLUMN exchange_type ENUM ('BITHUMB', 'UPBIT') NULL AFTER wallet_address,
+    ADD COLUMN net_type ENUM ('TRX', 'ETH', 'SOL', 'APT', 'KAIA') NULL AFTER exchange_type;
+
+CREATE UNIQUE INDEX uk_recipient_identity ON recipient (member_id, exchange_type, wallet_address, net_type);
+
+-- existsByMemberIdAndWalletAddress 제거로 uk_recipient_identity 조회로 대체
+DROP INDEX idx_recipient_member_wallet ON recipient;
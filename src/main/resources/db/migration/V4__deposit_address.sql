@@ -0,0 +1,19 @@
+-- 회원별 입금 주소 디렉터리 (거래소 입금 주소 전체 조회를 대신하는 조회용 테이블)
+-- 쿼리 -> 인덱스
+--   DepositAddressRepository.findAllByMember_PhoneNumberAndExchangeType -> uk_deposit_address_identity (member_id, exchange_type, ...)
+--   DepositAddressRepository.upsert                                      -> uk_deposit_address_identity
+--   DepositAddressRepository.deleteStale                                 -> uk_deposit_address_identity
+
+CREATE TABLE IF NOT EXISTS deposit_address
+(
+    id                BIGINT AUTO_INCREMENT PRIMARY KEY,
+    exchange_type     ENUM ('BITHUMB', 'UPBIT') NOT NULL,
+    currency          VARCHAR(20)               NOT NULL,
+    net_type          VARCHAR(20)               NOT NULL,
+    address           VARCHAR(255)              NOT NULL,
+    secondary_address VARCHAR(255),
+    updated_at        DATETIME(6)               NOT NULL,
+    member_id         BIGINT                    NOT NULL,
+    CONSTRAINT uk_deposit_address_identity UNIQUE (member_id, exchange_type, currency, net_type),
+    CONSTRAINT fk_deposit_address_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
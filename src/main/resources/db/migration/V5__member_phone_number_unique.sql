@@ -0,0 +1,6 @@
+-- 휴대폰 번호로 회원 조회 (MemberRepository.findByPhoneNumber / existsByPhoneNumber)
+-- 모든 인증 요청이 타는 조회이므로 유니크 키로 인덱스를 겸하고, 동시 가입 시 중복 회원 생성을 막음
+-- 적용 전 중복 번호가 있으면 실패하므로 먼저 정리해야 함
+--   SELECT phone_number, COUNT(*) FROM member GROUP BY phone_number HAVING COUNT(*) > 1;
+
+ALTER TABLE member ADD CONSTRAINT uk_member_phone_number UNIQUE (phone_number);
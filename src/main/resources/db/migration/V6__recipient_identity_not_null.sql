@@ -0,0 +1,76 @@
+-- 수취인 식별 키 컬럼(exchange_type, net_type) NOT NULL 전환
+-- NULL은 유니크 키에서 서로 다른 값으로 취급되어 같은 지갑의 수취인이 계속 쌓이므로,
+-- 기존 NULL 행을 채우고 중복을 합친 뒤 NOT NULL로 바꾸고 유니크 키를 다시 만듭니다.
+--   exchange_type: 최근 이체 내역의 거래소 -> 없으면 UPBIT (업비트 출금은 상대 거래소 없이 저장되었음)
+--   net_type: 지갑 주소 형식으로 추정 -> 판별되지 않으면 TRX
+
+DROP INDEX uk_recipient_identity ON recipient;
+
+-- 1. exchange_type 채우기
+UPDATE recipient r
+    JOIN (SELECT th.recipient_id, th.exchange_type
+          FROM trade_history th
+                   JOIN (SELECT MAX(id) AS id FROM trade_history GROUP BY recipient_id) latest ON latest.id = th.id) h
+    ON h.recipient_id = r.id
+SET r.exchange_type = h.exchange_type
+WHERE r.exchange_type IS NULL;
+
+UPDATE recipient SET exchange_type = 'UPBIT' WHERE exchange_type IS NULL;
+
+-- 2. net_type 채우기 (대소문자 구분 비교)
+UPDATE recipient SET net_type = 'ETH'
+WHERE net_type IS NULL AND REGEXP_LIKE(wallet_address, '^0x[0-9a-fA-F]{40}$', 'c');
+UPDATE recipient SET net_type = 'APT'
+WHERE net_type IS NULL AND REGEXP_LIKE(wallet_address, '^0x[0-9a-fA-F]{64}$', 'c');
+UPDATE recipient SET net_type = 'TRX'
+WHERE net_type IS NULL AND REGEXP_LIKE(wallet_address, '^T[1-9A-HJ-NP-Za-km-z]{33}$', 'c');
+UPDATE recipient SET net_type = 'SOL'
+WHERE net_type IS NULL AND REGEXP_LIKE(wallet_address, '^[1-9A-HJ-NP-Za-km-z]{32,44}$', 'c');
+UPDATE recipient SET net_type = 'TRX' WHERE net_type IS NULL;
+
+-- 3. 채운 값으로 생긴 중복 수취인 합치기 (RecipientCompactionRunner와 같은 순서)
+UPDATE recipient keep
+    JOIN (SELECT MIN(id) AS keep_id, MAX(is_favorite) AS favorite FROM recipient
+          GROUP BY member_id, exchange_type, wallet_address, net_type HAVING COUNT(*) > 1) dup
+    ON keep.id = dup.keep_id
+SET keep.is_favorite = dup.favorite;
+
+UPDATE trade_history th
+    JOIN recipient r ON th.recipient_id = r.id
+    JOIN (SELECT member_id, exchange_type, wallet_address, net_type, MIN(id) AS keep_id FROM recipient
+          GROUP BY member_id, exchange_type, wallet_address, net_type HAVING COUNT(*) > 1) dup
+    ON r.member_id = dup.member_id AND r.exchange_type = dup.exchange_type
+        AND r.wallet_address = dup.wallet_address AND r.net_type = dup.net_type
+SET th.recipient_id = dup.keep_id
+WHERE r.id <> dup.keep_id;
+
+DELETE mr FROM member_recent_recipient mr
+    JOIN recipient r ON mr.recipient_id = r.id
+    JOIN (SELECT member_id, exchange_type, wallet_address, net_type, MIN(id) AS keep_id FROM recipient
+          GROUP BY member_id, exchange_type, wallet_address, net_type HAVING COUNT(*) > 1) dup
+    ON r.member_id = dup.member_id AND r.exchange_type = dup.exchange_type
+        AND r.wallet_address = dup.wallet_address AND r.net_type = dup.net_type
+WHERE r.id <> dup.keep_id;
+
+DELETE r FROM recipient r
+    JOIN (SELECT member_id, exchange_type, wallet_address, net_type, MIN(id) AS keep_id FROM recipient
+          GROUP BY member_id, exchange_type, wallet_address, net_type HAVING COUNT(*) > 1) dup
+    ON r.member_id = dup.member_id AND r.exchange_type = dup.exchange_type
+        AND r.wallet_address = dup.wallet_address AND r.net_type = dup.net_type
+WHERE r.id <> dup.keep_id;
+
+-- 합쳐진 수취인의 최근 수취인 다시 채우기
+INSERT INTO member_recent_recipient (member_id, recipient_id, last_trade_id, last_trade_at)
+SELECT th.member_id, th.recipient_id, th.id, COALESCE(th.created_at, NOW(6))
+FROM trade_history th
+         JOIN (SELECT MAX(id) AS id FROM trade_history GROUP BY member_id, recipient_id) latest ON latest.id = th.id
+ON DUPLICATE KEY UPDATE
+    last_trade_at = IF(VALUES(last_trade_id) > last_trade_id, VALUES(last_trade_at), last_trade_at),
+    last_trade_id = GREATEST(last_trade_id, VALUES(last_trade_id));
+
+-- 4. NOT NULL 전환 후 유니크 키 재생성
+ALTER TABLE recipient
+    MODIFY COLUMN exchange_type ENUM ('BITHUMB', 'UPBIT') NOT NULL,
+    MODIFY COLUMN net_type ENUM ('TRX', 'ETH', 'SOL', 'APT', 'KAIA') NOT NULL;
+
+CREATE UNIQUE INDEX uk_recipient_identity ON recipient (member_id, exchange_type, wallet_address, net_type);
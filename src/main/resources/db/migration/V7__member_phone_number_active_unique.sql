@@ -0,0 +1,9 @@
+-- 휴대폰 번호 유니크 키를 탈퇴하지 않은 회원에만 적용
+-- 회원 탈퇴는 deleted_at만 채우는 soft delete라서 V5의 (phone_number) 유니크 키로는 같은 번호로 다시 가입할 수 없음
+-- 탈퇴하지 않은 회원이면 1, 탈퇴했으면 NULL인 생성 컬럼을 키에 넣어 (번호, NULL)은 여러 건 허용하고 (번호, 1)은 한 건만 허용
+-- 휴대폰 번호 조회는 키의 첫 번째 컬럼이므로 그대로 이 인덱스를 사용
+
+ALTER TABLE member
+    ADD COLUMN not_deleted TINYINT GENERATED ALWAYS AS (IF(deleted_at IS NULL, 1, NULL)) VIRTUAL,
+    DROP INDEX uk_member_phone_number,
+    ADD CONSTRAINT uk_member_phone_number UNIQUE (phone_number, not_deleted);
@@ -1,11 +1,19 @@
 package com.example.scoi;
 
+import com.example.scoi.global.redis.EmbeddedRedis;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 
 @SpringBootTest
 class ScoiApplicationTests {
 
+	@DynamicPropertySource
+	static void redisProperties(DynamicPropertyRegistry registry) {
+		EmbeddedRedis.register(registry);
+	}
+
 	@Test
 	void contextLoads() {
 	}
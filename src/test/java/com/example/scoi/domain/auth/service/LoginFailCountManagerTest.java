@@ -0,0 +1,185 @@
+package com.example.scoi.domain.auth.service;
+
+import com.example.scoi.domain.member.entity.Member;
+import com.example.scoi.domain.member.repository.MemberRepository;
+import com.example.scoi.domain.member.service.MemberLookupCache;
+import com.example.scoi.global.redis.EmbeddedRedis;
+import com.example.scoi.global.redis.RedisKeySpace;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LoginFailCountManagerTest {
+
+	private static final String DIRTY_KEY = RedisKeySpace.LOGIN_FAIL.key("dirty");
+
+	private static LettuceConnectionFactory connectionFactory;
+
+	private final MemberRepository memberRepository = mock(MemberRepository.class);
+	private final MemberLookupCache memberLookupCache = mock(MemberLookupCache.class);
+
+	private StringRedisTemplate redisTemplate;
+	private LoginFailCountManager manager;
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", EmbeddedRedis.port()));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.delete(DIRTY_KEY);
+		manager = new LoginFailCountManager(redisTemplate, memberRepository, memberLookupCache);
+	}
+
+	// 5번 틀리면 잠금
+	@Test
+	void increasesUntilLocked() {
+		Member member = member(0);
+
+		for (int expected = 1; expected < LoginFailCountManager.MAX_FAIL_COUNT; expected++) {
+			assertThat(manager.increaseFailCount(member)).isEqualTo(expected);
+			assertThat(manager.isLocked(member)).isFalse();
+		}
+		assertThat(manager.increaseFailCount(member)).isEqualTo(LoginFailCountManager.MAX_FAIL_COUNT);
+		assertThat(manager.isLocked(member)).isTrue();
+		assertThat(redisTemplate.opsForSet().members(DIRTY_KEY)).containsExactly(String.valueOf(member.getId()));
+	}
+
+	// Redis 카운터가 없으면 DB에 반영된 값에서 이어서 셈
+	@Test
+	void startsFromPersistedCount() {
+		Member member = member(3);
+
+		assertThat(manager.getFailCount(member)).isEqualTo(3);
+		assertThat(manager.increaseFailCount(member)).isEqualTo(4);
+		assertThat(manager.getFailCount(member)).isEqualTo(4);
+	}
+
+	// Redis 키가 만료되어도 DB 값으로 잠금 유지
+	@Test
+	void lockSurvivesCounterExpiry() {
+		Member member = member(LoginFailCountManager.MAX_FAIL_COUNT);
+		manager.increaseFailCount(member);
+
+		redisTemplate.delete(RedisKeySpace.LOGIN_FAIL.key(member.getId()));
+
+		assertThat(manager.isLocked(member)).isTrue();
+	}
+
+	// 비밀번호가 맞으면 0으로 초기화
+	@Test
+	void resetOnSuccess() {
+		Member member = member(0);
+		manager.increaseFailCount(member);
+		manager.increaseFailCount(member);
+		redisTemplate.delete(DIRTY_KEY);
+
+		manager.resetFailCount(member);
+
+		assertThat(manager.getFailCount(member)).isZero();
+		assertThat(redisTemplate.opsForSet().isMember(DIRTY_KEY, String.valueOf(member.getId()))).isTrue();
+	}
+
+	// 이미 0이면 DB도 0이므로 반영 대상에 넣지 않음
+	@Test
+	void resetOfCleanMemberIsNoop() {
+		Member member = member(0);
+
+		manager.resetFailCount(member);
+
+		assertThat(redisTemplate.hasKey(RedisKeySpace.LOGIN_FAIL.key(member.getId()))).isFalse();
+		assertThat(redisTemplate.opsForSet().size(DIRTY_KEY)).isZero();
+	}
+
+	// 잠금 후 DB 값이 남아 있으면 Redis 카운터가 없어도 초기화를 반영
+	@Test
+	void resetOfPersistedLockIsFlushed() {
+		Member member = member(LoginFailCountManager.MAX_FAIL_COUNT);
+
+		manager.resetFailCount(member);
+		manager.flush();
+
+		verify(memberRepository).updateLoginFailCount(member.getId(), 0);
+	}
+
+	// 바뀐 회원만 모아서 최종 값 한 번으로 DB 반영, 회원 캐시도 비움
+	@Test
+	void flushWritesLatestCountOnce() {
+		Member first = member(0);
+		Member second = member(0);
+		manager.increaseFailCount(first);
+		manager.increaseFailCount(first);
+		manager.increaseFailCount(first);
+		manager.increaseFailCount(second);
+
+		manager.flush();
+
+		verify(memberRepository).updateLoginFailCount(first.getId(), 3);
+		verify(memberRepository).updateLoginFailCount(second.getId(), 1);
+		verify(memberLookupCache).evict(first.getId());
+		verify(memberLookupCache).evict(second.getId());
+		assertThat(redisTemplate.opsForSet().size(DIRTY_KEY)).isZero();
+
+		// 변경이 없으면 DB를 건드리지 않음
+		manager.flush();
+		verify(memberRepository, times(2)).updateLoginFailCount(anyLong(), anyInt());
+	}
+
+	// DB 반영에 실패하면 다음 주기에 다시 시도
+	@Test
+	void failedFlushIsRetried() {
+		Member member = member(0);
+		manager.increaseFailCount(member);
+		when(memberRepository.updateLoginFailCount(member.getId(), 1))
+				.thenThrow(new IllegalStateException("db down"))
+				.thenReturn(1);
+
+		manager.flush();
+		verify(memberLookupCache, never()).evict(member.getId());
+		assertThat(redisTemplate.opsForSet().isMember(DIRTY_KEY, String.valueOf(member.getId()))).isTrue();
+
+		manager.flush();
+		verify(memberRepository, times(2)).updateLoginFailCount(member.getId(), 1);
+		verify(memberLookupCache).evict(member.getId());
+		assertThat(redisTemplate.opsForSet().size(DIRTY_KEY)).isZero();
+	}
+
+	@Test
+	void flushWithoutChangesDoesNothing() {
+		manager.flush();
+
+		verifyNoInteractions(memberRepository, memberLookupCache);
+	}
+
+	private static Member member(int persistedFailCount) {
+		Member member = mock(Member.class);
+		when(member.getId()).thenReturn(ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
+		when(member.getLoginFailCount()).thenReturn(persistedFailCount);
+		return member;
+	}
+}
@@ -0,0 +1,185 @@
+package com.example.scoi.domain.auth.service;
+
+import com.example.scoi.global.redis.EmbeddedRedis;
+import com.example.scoi.global.redis.RedisKeySpace;
+import com.example.scoi.global.security.jwt.JwtUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenStoreTest {
+
+	private static LettuceConnectionFactory connectionFactory;
+
+	private final JwtUtil jwtUtil = mock(JwtUtil.class);
+	private final AtomicInteger issued = new AtomicInteger();
+
+	private StringRedisTemplate redisTemplate;
+	private RefreshTokenStore store;
+	private String phoneNumber;
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", EmbeddedRedis.port()));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		store = new RefreshTokenStore(redisTemplate, jwtUtil);
+		phoneNumber = "010" + (System.nanoTime() % 100_000_000);
+
+		// 토큰 = "rt.{familyId}.{발급 순번}" (서명 검증은 JwtUtil 책임이라 여기서는 묶음 ID만 꺼냄)
+		when(jwtUtil.createRefreshToken(anyString(), anyString()))
+				.thenAnswer(invocation -> "rt." + invocation.getArgument(1) + "." + issued.incrementAndGet());
+		when(jwtUtil.getFamilyIdFromToken(anyString()))
+				.thenAnswer(invocation -> invocation.<String>getArgument(0).split("\\.")[1]);
+	}
+
+	// 발급 시 토큰은 비활성 만료(14일), 묶음은 최대 수명 + 여유 기간 동안 보관
+	@Test
+	void issueStoresHashedTokenWithTtl() {
+		String refreshToken = store.issue(1L, phoneNumber);
+
+		String tokenKey = tokenKey(refreshToken);
+		assertThat(redisTemplate.hasKey(tokenKey)).isTrue();
+		assertThat(redisTemplate.getExpire(tokenKey, TimeUnit.MILLISECONDS))
+				.isBetween(RefreshTokenStore.SLIDING_MILLIS - 60_000, RefreshTokenStore.SLIDING_MILLIS);
+		assertThat(redisTemplate.getExpire(familyKey(refreshToken), TimeUnit.MILLISECONDS))
+				.isGreaterThan(RefreshTokenStore.ABSOLUTE_MILLIS);
+		// 원문은 저장하지 않음
+		assertThat(redisTemplate.keys("*" + refreshToken + "*")).isEmpty();
+	}
+
+	// 회전하면 새 토큰만 유효하고 이전 토큰 키는 사라짐
+	@Test
+	void rotateReplacesCurrentToken() {
+		String first = store.issue(1L, phoneNumber);
+
+		RefreshTokenStore.Rotation rotation = store.rotate(phoneNumber, first);
+
+		assertThat(rotation.status()).isEqualTo(RefreshTokenStore.Status.ROTATED);
+		assertThat(rotation.memberId()).isEqualTo(1L);
+		assertThat(rotation.refreshToken()).isNotEqualTo(first);
+		assertThat(redisTemplate.hasKey(tokenKey(first))).isFalse();
+		assertThat(redisTemplate.hasKey(tokenKey(rotation.refreshToken()))).isTrue();
+
+		assertThat(store.rotate(phoneNumber, rotation.refreshToken()).status())
+				.isEqualTo(RefreshTokenStore.Status.ROTATED);
+	}
+
+	// 이미 회전된 토큰이 다시 오면 탈취로 보고 묶음 전체(현재 토큰 포함)를 폐기
+	@Test
+	void reuseOfRotatedTokenRevokesFamily() {
+		String first = store.issue(1L, phoneNumber);
+		String second = store.rotate(phoneNumber, first).refreshToken();
+
+		RefreshTokenStore.Rotation reuse = store.rotate(phoneNumber, first);
+
+		assertThat(reuse.status()).isEqualTo(RefreshTokenStore.Status.REUSED);
+		assertThat(reuse.memberId()).isEqualTo(1L);
+		assertThat(reuse.refreshToken()).isNull();
+		assertThat(redisTemplate.hasKey(tokenKey(second))).isFalse();
+		assertThat(redisTemplate.hasKey(familyKey(second))).isFalse();
+		assertThat(redisTemplate.hasKey(memberKey())).isFalse();
+
+		// 정상 사용자가 가진 최신 토큰도 더 이상 쓸 수 없음
+		assertThat(store.rotate(phoneNumber, second).status()).isEqualTo(RefreshTokenStore.Status.NOT_FOUND);
+	}
+
+	// 같은 토큰으로 동시에 회전해도 한 번만 성공
+	@Test
+	void concurrentRotationSucceedsOnce() throws InterruptedException {
+		String first = store.issue(1L, phoneNumber);
+		AtomicInteger rotated = new AtomicInteger();
+
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				if (store.rotate(phoneNumber, first).status() == RefreshTokenStore.Status.ROTATED) {
+					rotated.incrementAndGet();
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join(5_000);
+		}
+
+		assertThat(rotated).hasValue(1);
+	}
+
+	// 토큰 키 TTL(비활성 만료)이 지나면 EXPIRED, 묶음도 폐기
+	@Test
+	void expiredTokenRevokesFamily() throws InterruptedException {
+		String refreshToken = store.issue(1L, phoneNumber);
+		redisTemplate.expire(tokenKey(refreshToken), 50, TimeUnit.MILLISECONDS);
+		Thread.sleep(150);
+
+		assertThat(store.rotate(phoneNumber, refreshToken).status()).isEqualTo(RefreshTokenStore.Status.EXPIRED);
+		assertThat(redisTemplate.hasKey(familyKey(refreshToken))).isFalse();
+	}
+
+	// 최대 수명이 지나면 활동 중이어도 ABSOLUTE_EXPIRED
+	@Test
+	void absoluteLifetimeEndsFamily() {
+		String refreshToken = store.issue(1L, phoneNumber);
+		redisTemplate.opsForHash().put(familyKey(refreshToken), "expiresAt", String.valueOf(System.currentTimeMillis() - 1));
+
+		assertThat(store.rotate(phoneNumber, refreshToken).status())
+				.isEqualTo(RefreshTokenStore.Status.ABSOLUTE_EXPIRED);
+		assertThat(redisTemplate.hasKey(familyKey(refreshToken))).isFalse();
+	}
+
+	// 새로 로그인하면 이전 묶음의 토큰은 NOT_FOUND
+	@Test
+	void newLoginRevokesPreviousFamily() {
+		String previous = store.issue(1L, phoneNumber);
+		String current = store.issue(1L, phoneNumber);
+
+		assertThat(store.rotate(phoneNumber, previous).status()).isEqualTo(RefreshTokenStore.Status.NOT_FOUND);
+		assertThat(store.rotate(phoneNumber, current).status()).isEqualTo(RefreshTokenStore.Status.ROTATED);
+	}
+
+	@Test
+	void revokeRemovesFamily() {
+		String refreshToken = store.issue(1L, phoneNumber);
+
+		store.revoke(phoneNumber);
+
+		assertThat(redisTemplate.hasKey(tokenKey(refreshToken))).isFalse();
+		assertThat(redisTemplate.hasKey(memberKey())).isFalse();
+		assertThat(store.rotate(phoneNumber, refreshToken).status()).isEqualTo(RefreshTokenStore.Status.NOT_FOUND);
+	}
+
+	private String tokenKey(String refreshToken) {
+		return RedisKeySpace.REFRESH_TOKEN.key(phoneNumber, "token", RefreshTokenStore.hash(refreshToken));
+	}
+
+	private String familyKey(String refreshToken) {
+		return RedisKeySpace.REFRESH_TOKEN.key(phoneNumber, "family", jwtUtil.getFamilyIdFromToken(refreshToken));
+	}
+
+	private String memberKey() {
+		return RedisKeySpace.REFRESH_TOKEN.key(phoneNumber, "member");
+	}
+}
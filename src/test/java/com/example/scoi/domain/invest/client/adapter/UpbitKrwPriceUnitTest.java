@@ -0,0 +1,49 @@
+package com.example.scoi.domain.invest.client.adapter;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpbitKrwPriceUnitTest {
+
+	// 가격대 경계값과 바로 아래 값의 호가 단위
+	@ParameterizedTest
+	@CsvSource({
+			"2000000, 1000",
+			"1999999, 500",
+			"1000000, 500",
+			"999999, 100",
+			"500000, 100",
+			"499999, 50",
+			"100000, 50",
+			"99999, 10",
+			"10000, 10",
+			"9999, 5",
+			"5000, 5",
+			"4999, 1",
+			"100, 1",
+			"99.9, 0.1",
+			"10, 0.1",
+			"9.99, 0.01",
+			"1, 0.01",
+			"0.999, 0.001",
+			"0.1, 0.001",
+			"0.0999, 0.0001",
+			"0.01, 0.0001",
+			"0.00999, 0.00001",
+			"0.001, 0.00001",
+			"0.000999, 0.000001",
+			"0.0001, 0.000001",
+			"0.0000999, 0.0000001",
+			"0.00001, 0.0000001",
+			"0.00000999, 0.00000001"
+	})
+	void priceUnitByBand(String price, String expectedUnit) {
+		BigDecimal unit = UpbitApiClient.getUpbitKrwPriceUnit(new BigDecimal(price));
+
+		assertThat(unit).isEqualByComparingTo(expectedUnit);
+	}
+}
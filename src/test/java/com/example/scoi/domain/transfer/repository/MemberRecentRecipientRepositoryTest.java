@@ -0,0 +1,106 @@
+package com.example.scoi.domain.transfer.repository;
+
+import com.example.scoi.global.db.MySqlTestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MemberRecentRecipientRepository 네이티브 쿼리 (ON DUPLICATE KEY UPDATE)
+ * 더 최신 이체 내역(last_trade_id가 큰 쪽)만 최근 수취인 행을 덮어쓰는지 MySQL에서 확인
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MemberRecentRecipientRepositoryTest {
+
+	private static final LocalDateTime OLD = LocalDateTime.of(2026, 1, 1, 9, 0);
+	private static final LocalDateTime NEW = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+	private JdbcTemplate jdbc;
+	private long memberId;
+	private long recipientId;
+
+	@BeforeEach
+	void setUp() {
+		MySqlTestDatabase.clear();
+		jdbc = MySqlTestDatabase.jdbcTemplate();
+		memberId = MySqlTestDatabase.insertMember("01012345678");
+		recipientId = MySqlTestDatabase.insertRecipient(memberId, "UPBIT", "wallet-1", "TRX", false);
+	}
+
+	// 더 최신 이체 내역이면 last_trade_id, last_trade_at 모두 갱신
+	@Test
+	void upsertOverwritesWithNewerTrade() {
+		upsert(10L, OLD);
+		upsert(20L, NEW);
+
+		assertRecent(recipientId, 20L, NEW);
+		assertThat(count()).isEqualTo(1);
+	}
+
+	// 늦게 도착한 과거 이체 내역은 무시 (last_trade_at도 그대로)
+	@Test
+	void upsertIgnoresOlderTrade() {
+		upsert(20L, NEW);
+		upsert(10L, OLD);
+
+		assertRecent(recipientId, 20L, NEW);
+	}
+
+	// 백필은 범위 안 회원의 (회원, 수취인)별 최신 이체 내역만 채우고, 이미 있는 더 최신 행은 유지
+	@Test
+	void backfillKeepsLatestTradePerRecipientInRange() {
+		long other = MySqlTestDatabase.insertRecipient(memberId, "UPBIT", "wallet-2", "TRX", false);
+		MySqlTestDatabase.insertTrade(memberId, recipientId, "key-1", OLD);
+		long latest = MySqlTestDatabase.insertTrade(memberId, recipientId, "key-2", NEW);
+		long otherTrade = MySqlTestDatabase.insertTrade(memberId, other, "key-3", OLD);
+		upsert(latest + 100, NEW.plusHours(1));
+
+		long outOfRange = MySqlTestDatabase.insertMember("01087654321");
+		long outOfRangeRecipient = MySqlTestDatabase.insertRecipient(outOfRange, "UPBIT", "wallet-3", "TRX", false);
+		MySqlTestDatabase.insertTrade(outOfRange, outOfRangeRecipient, "key-4", NEW);
+
+		backfill(memberId, memberId);
+
+		assertRecent(recipientId, latest + 100, NEW.plusHours(1));
+		assertRecent(other, otherTrade, OLD);
+		assertThat(count()).isEqualTo(2);
+	}
+
+	private void upsert(long tradeId, LocalDateTime tradeAt) {
+		Map<String, Object> params = new HashMap<>();
+		params.put("memberId", memberId);
+		params.put("recipientId", recipientId);
+		params.put("tradeId", tradeId);
+		params.put("tradeAt", Timestamp.valueOf(tradeAt));
+		MySqlTestDatabase.update(MemberRecentRecipientRepository.class, "upsert", params);
+	}
+
+	private void backfill(long fromMemberId, long toMemberId) {
+		MySqlTestDatabase.update(MemberRecentRecipientRepository.class, "backfill",
+				Map.of("fromMemberId", fromMemberId, "toMemberId", toMemberId));
+	}
+
+	private void assertRecent(long recipient, long tradeId, LocalDateTime tradeAt) {
+		jdbc.query("SELECT last_trade_id, last_trade_at FROM member_recent_recipient WHERE member_id = ? AND recipient_id = ?",
+				rs -> {
+					assertThat(rs.getLong("last_trade_id")).isEqualTo(tradeId);
+					assertThat(rs.getTimestamp("last_trade_at").toLocalDateTime()).isEqualTo(tradeAt);
+				},
+				memberId, recipient);
+		assertThat(jdbc.queryForObject(
+				"SELECT COUNT(*) FROM member_recent_recipient WHERE member_id = ? AND recipient_id = ?",
+				Integer.class, memberId, recipient)).isEqualTo(1);
+	}
+
+	private int count() {
+		return jdbc.queryForObject("SELECT COUNT(*) FROM member_recent_recipient", Integer.class);
+	}
+}
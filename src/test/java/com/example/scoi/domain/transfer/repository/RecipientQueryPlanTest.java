@@ -0,0 +1,126 @@
+package com.example.scoi.domain.transfer.repository;
+
+import com.example.scoi.global.db.MySqlTestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최근 수취인 / 즐겨찾기 수취인 조회가 V2 인덱스를 타는지 실행 계획(EXPLAIN)으로 확인
+ * 쿼리는 Hibernate가 JPQL에서 만드는 SQL과 같은 조건/정렬/LIMIT로 작성했으며,
+ * 조회 조건이나 인덱스가 바뀌어 풀 스캔(type=ALL)이 되면 실패합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RecipientQueryPlanTest {
+
+	private static final int MEMBERS = 40;
+	private static final int RECIPIENTS_PER_MEMBER = 30;
+	private static final int PAGE_SIZE = 20;
+
+	// MemberRecentRecipientRepository.findRecentRecipients
+	private static final String RECENT_RECIPIENTS =
+			"SELECT mr.id, mr.last_trade_id, mr.last_trade_at, r.id, r.wallet_address, r.recipient_ko_name " +
+			"FROM member_recent_recipient mr " +
+			"JOIN recipient r ON r.id = mr.recipient_id " +
+			"WHERE mr.member_id = ? " +
+			"AND (? IS NULL OR (mr.last_trade_at < ?) OR (mr.last_trade_at = ? AND mr.last_trade_id < ?)) " +
+			"ORDER BY mr.last_trade_at DESC, mr.last_trade_id DESC " +
+			"LIMIT " + (PAGE_SIZE + 1);
+
+	// RecipientRepository.findByMemberIdAndIsFavoriteTrue
+	private static final String FAVORITE_RECIPIENTS =
+			"SELECT r.id, r.wallet_address, r.recipient_ko_name " +
+			"FROM recipient r " +
+			"WHERE r.member_id = ? AND r.is_favorite = true " +
+			"AND (? IS NULL OR r.id > ?) " +
+			"ORDER BY r.id ASC " +
+			"LIMIT " + (PAGE_SIZE + 1);
+
+	private static JdbcTemplate jdbc;
+	private static long memberId;
+
+	@BeforeAll
+	static void seed() {
+		MySqlTestDatabase.clear();
+		jdbc = MySqlTestDatabase.jdbcTemplate();
+
+		List<Object[]> recipients = new ArrayList<>();
+		for (int m = 0; m < MEMBERS; m++) {
+			long id = MySqlTestDatabase.insertMember("0100000" + String.format("%04d", m));
+			for (int r = 0; r < RECIPIENTS_PER_MEMBER; r++) {
+				recipients.add(new Object[]{id, "wallet-" + m + "-" + r, r % 3 == 0});
+			}
+			memberId = id;
+		}
+		jdbc.batchUpdate("INSERT INTO recipient (member_id, exchange_type, wallet_address, net_type, " +
+				"recipient_en_name, recipient_ko_name, recipient_type, is_favorite) " +
+				"VALUES (?, 'UPBIT', ?, 'TRX', 'KIM', '김철수', 'INDIVIDUAL', ?)", recipients);
+
+		// 수취인마다 최근 이체 한 건 (last_trade_id는 외래 키가 없어 수취인 id로 대신함)
+		jdbc.update("INSERT INTO member_recent_recipient (member_id, recipient_id, last_trade_id, last_trade_at) " +
+				"SELECT member_id, id, id, TIMESTAMP('2026-01-01') + INTERVAL id MINUTE FROM recipient");
+
+		jdbc.execute("ANALYZE TABLE recipient, member_recent_recipient");
+	}
+
+	@Test
+	void recentRecipientsFirstPageUsesCursorIndex() {
+		List<Map<String, Object>> plan = explain(RECENT_RECIPIENTS, memberId, null, null, null, null);
+
+		assertNoFullScan(plan);
+		assertThat(row(plan, "mr").get("key")).isEqualTo("idx_member_recent_recipient_cursor");
+		assertThat(row(plan, "r").get("key")).isEqualTo("PRIMARY");
+	}
+
+	@Test
+	void recentRecipientsNextPageUsesCursorIndex() {
+		Timestamp lastTime = Timestamp.valueOf(LocalDateTime.of(2026, 1, 1, 10, 0));
+		List<Map<String, Object>> plan = explain(RECENT_RECIPIENTS, memberId, lastTime, lastTime, lastTime, 600L);
+
+		assertNoFullScan(plan);
+		assertThat(row(plan, "mr").get("key")).isEqualTo("idx_member_recent_recipient_cursor");
+	}
+
+	@Test
+	void favoriteRecipientsFirstPageUsesFavoriteIndex() {
+		List<Map<String, Object>> plan = explain(FAVORITE_RECIPIENTS, memberId, null, null);
+
+		assertNoFullScan(plan);
+		assertThat(row(plan, "r").get("key")).isEqualTo("idx_recipient_member_favorite");
+	}
+
+	@Test
+	void favoriteRecipientsNextPageUsesFavoriteIndex() {
+		List<Map<String, Object>> plan = explain(FAVORITE_RECIPIENTS, memberId, 1_000L, 1_000L);
+
+		assertNoFullScan(plan);
+		assertThat(row(plan, "r").get("key")).isEqualTo("idx_recipient_member_favorite");
+	}
+
+	private static List<Map<String, Object>> explain(String sql, Object... args) {
+		return jdbc.queryForList("EXPLAIN " + sql, args);
+	}
+
+	private static void assertNoFullScan(List<Map<String, Object>> plan) {
+		assertThat(plan)
+				.as("실행 계획: %s", plan)
+				.isNotEmpty()
+				.noneMatch(row -> "ALL".equals(row.get("type")));
+	}
+
+	private static Map<String, Object> row(List<Map<String, Object>> plan, String table) {
+		return plan.stream()
+				.filter(row -> table.equals(row.get("table")))
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("실행 계획에 " + table + " 없음: " + plan));
+	}
+}
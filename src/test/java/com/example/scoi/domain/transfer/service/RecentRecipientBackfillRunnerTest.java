@@ -0,0 +1,87 @@
+package com.example.scoi.domain.transfer.service;
+
+import com.example.scoi.domain.transfer.repository.MemberRecentRecipientRepository;
+import com.example.scoi.domain.transfer.repository.TradeHistoryRepository;
+import com.example.scoi.global.db.MySqlTestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 최근 수취인 백필 (member_id 500명 범위 단위)
+ * 리포지토리 목이 운영 네이티브 쿼리를 MySQL에 그대로 실행하도록 연결해, 범위 분할과 결과를 함께 확인
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RecentRecipientBackfillRunnerTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+	private JdbcTemplate jdbc;
+	private TradeHistoryRepository tradeHistoryRepository;
+	private MemberRecentRecipientRepository memberRecentRecipientRepository;
+	private RecentRecipientBackfillRunner runner;
+
+	@BeforeEach
+	void setUp() {
+		MySqlTestDatabase.clear();
+		jdbc = MySqlTestDatabase.jdbcTemplate();
+
+		tradeHistoryRepository = mock(TradeHistoryRepository.class);
+		memberRecentRecipientRepository = mock(MemberRecentRecipientRepository.class);
+		when(tradeHistoryRepository.findMaxMemberId())
+				.thenAnswer(inv -> jdbc.queryForObject("SELECT MAX(member_id) FROM trade_history", Long.class));
+		when(memberRecentRecipientRepository.backfill(anyLong(), anyLong()))
+				.thenAnswer(inv -> MySqlTestDatabase.update(MemberRecentRecipientRepository.class, "backfill",
+						Map.of("fromMemberId", inv.getArgument(0), "toMemberId", inv.getArgument(1))));
+
+		runner = new RecentRecipientBackfillRunner(tradeHistoryRepository, memberRecentRecipientRepository);
+	}
+
+	// 1 ~ maxMemberId를 500명씩 나눠 실행하고, 범위 경계의 회원도 빠짐없이 채움
+	@Test
+	void backfillsEveryMemberRangeByRange() {
+		long[] memberIds = {1, 500, 501, 1200};
+		for (long memberId : memberIds) {
+			MySqlTestDatabase.insertMember(memberId, "010" + String.format("%08d", memberId));
+			long recipientId = MySqlTestDatabase.insertRecipient(memberId, "UPBIT", "wallet-" + memberId, "TRX", false);
+			MySqlTestDatabase.insertTrade(memberId, recipientId, "old-" + memberId, BASE);
+			MySqlTestDatabase.insertTrade(memberId, recipientId, "new-" + memberId, BASE.plusHours(1));
+		}
+
+		runner.run(null);
+
+		verify(memberRecentRecipientRepository).backfill(1L, 500L);
+		verify(memberRecentRecipientRepository).backfill(501L, 1000L);
+		verify(memberRecentRecipientRepository).backfill(1001L, 1200L);
+		verify(memberRecentRecipientRepository, times(3)).backfill(anyLong(), anyLong());
+
+		for (long memberId : memberIds) {
+			Long latest = jdbc.queryForObject(
+					"SELECT id FROM trade_history WHERE idempotent_key = ?", Long.class, "new-" + memberId);
+			assertThat(jdbc.queryForObject(
+					"SELECT last_trade_id FROM member_recent_recipient WHERE member_id = ?", Long.class, memberId))
+					.as("memberId %d", memberId)
+					.isEqualTo(latest);
+		}
+	}
+
+	// 이체 내역이 없으면 백필하지 않음
+	@Test
+	void skipsWhenNoTradeHistory() {
+		runner.run(null);
+
+		verify(memberRecentRecipientRepository, never()).backfill(anyLong(), anyLong());
+	}
+}
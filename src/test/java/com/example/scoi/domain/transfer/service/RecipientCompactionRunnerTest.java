@@ -0,0 +1,129 @@
+package com.example.scoi.domain.transfer.service;
+
+import com.example.scoi.domain.transfer.repository.MemberRecentRecipientRepository;
+import com.example.scoi.domain.transfer.repository.RecipientRepository;
+import com.example.scoi.global.db.MySqlTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 중복 수취인 정리 (member_id 500명 범위 단위)
+ * 리포지토리 목이 운영 네이티브 쿼리를 MySQL에 그대로 실행하도록 연결해 병합 결과를 확인
+ * 중복 수취인은 uk_recipient_identity 때문에 만들 수 없어 테스트 동안만 인덱스를 내리고 끝나면 다시 만듭니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RecipientCompactionRunnerTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+	private JdbcTemplate jdbc;
+	private RecipientRepository recipientRepository;
+	private MemberRecentRecipientRepository memberRecentRecipientRepository;
+	private RecipientCompactionRunner runner;
+
+	@BeforeEach
+	void setUp() {
+		MySqlTestDatabase.clear();
+		jdbc = MySqlTestDatabase.jdbcTemplate();
+		jdbc.execute("DROP INDEX uk_recipient_identity ON recipient");
+
+		recipientRepository = mock(RecipientRepository.class);
+		memberRecentRecipientRepository = mock(MemberRecentRecipientRepository.class);
+		when(recipientRepository.findMaxMemberId())
+				.thenAnswer(inv -> jdbc.queryForObject("SELECT MAX(member_id) FROM recipient", Long.class));
+		when(recipientRepository.mergeDuplicateFavorites(anyLong(), anyLong()))
+				.thenAnswer(inv -> execute(RecipientRepository.class, "mergeDuplicateFavorites", inv.getArgument(0), inv.getArgument(1)));
+		when(recipientRepository.repointDuplicateTradeHistories(anyLong(), anyLong()))
+				.thenAnswer(inv -> execute(RecipientRepository.class, "repointDuplicateTradeHistories", inv.getArgument(0), inv.getArgument(1)));
+		when(recipientRepository.deleteDuplicateRecentRecipients(anyLong(), anyLong()))
+				.thenAnswer(inv -> execute(RecipientRepository.class, "deleteDuplicateRecentRecipients", inv.getArgument(0), inv.getArgument(1)));
+		when(recipientRepository.deleteDuplicates(anyLong(), anyLong()))
+				.thenAnswer(inv -> execute(RecipientRepository.class, "deleteDuplicates", inv.getArgument(0), inv.getArgument(1)));
+		when(memberRecentRecipientRepository.backfill(anyLong(), anyLong()))
+				.thenAnswer(inv -> execute(MemberRecentRecipientRepository.class, "backfill", inv.getArgument(0), inv.getArgument(1)));
+
+		RecipientCompactor compactor = new RecipientCompactor(recipientRepository, memberRecentRecipientRepository);
+		runner = new RecipientCompactionRunner(recipientRepository, compactor);
+	}
+
+	@AfterEach
+	void tearDown() {
+		MySqlTestDatabase.clear();
+		jdbc.execute("CREATE UNIQUE INDEX uk_recipient_identity ON recipient (member_id, exchange_type, wallet_address, net_type)");
+	}
+
+	// 묶음의 최소 id를 남기고 즐겨찾기 합치기, 이체 내역 이동, 최근 수취인 재구성, 중복 삭제
+	@Test
+	void mergesDuplicatesIntoLowestId() {
+		List<Expected> expectations = new ArrayList<>();
+		for (long memberId : new long[]{1, 501}) { (long memberId : memberIds) {
+			MySqlTestDatabase.insertMember(memberId, "010" + String.format("%08d", memberId));
+			long keep = MySqlTestDatabase.insertRecipient(memberId, "UPBIT", "wallet-" + memberId, "TRX", false);
+			long duplicate = MySqlTestDatabase.insertRecipient(memberId, "UPBIT", "wallet-" + memberId, "TRX", true);
+			long other = MySqlTestDatabase.insertRecipient(memberId, "UPBIT", "wallet-" + memberId, "ETH", false);
+
+			long keepTrade = MySqlTestDatabase.insertTrade(memberId, keep, "keep-" + memberId, BASE);
+			long latest = MySqlTestDatabase.insertTrade(memberId, duplicate, "duplicate-" + memberId, BASE.plusHours(1));
+			long otherTrade = MySqlTestDatabase.insertTrade(memberId, other, "other-" + memberId, BASE);
+			insertRecent(memberId, keep, keepTrade, BASE);
+			insertRecent(memberId, duplicate, latest, BASE.plusHours(1));
+
+			expectations.add(new Expected(memberId, keep, other, latest, otherTrade));
+		}
+
+		runner.run(null);
+
+		verify(recipientRepository).deleteDuplicates(1L, 500L);
+		verify(recipientRepository).deleteDuplicates(501L, 501L);
+
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM recipient " +
+				"GROUP BY member_id, exchange_type, wallet_address, net_type HAVING COUNT(*) > 1) dup", Integer.class))
+				.isZero();
+		for (Expected expected : expectations) {
+			long memberId = expected.memberId();
+			assertThat(jdbc.queryForList("SELECT id FROM recipient WHERE member_id = ? ORDER BY id", Long.class, memberId))
+					.containsExactly(expected.keep(), expected.other());
+			assertThat(jdbc.queryForObject("SELECT is_favorite FROM recipient WHERE id = ?", Boolean.class, expected.keep()))
+					.isTrue();
+			assertThat(jdbc.queryForList("SELECT DISTINCT recipient_id FROM trade_history WHERE member_id = ? ORDER BY recipient_id",
+					Long.class, memberId))
+					.containsExactly(expected.keep(), expected.other());
+			assertThat(recent(memberId, expected.keep())).isEqualTo(expected.latest());
+			assertThat(recent(memberId, expected.other())).isEqualTo(expected.otherTrade());
+			assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM member_recent_recipient WHERE member_id = ?",
+					Integer.class, memberId)).isEqualTo(2);
+		}
+	}
+
+	private record Expected(long memberId, long keep, long other, long latest, long otherTrade) {
+	}
+
+	private static int execute(Class<?> repository, String methodName, Object fromMemberId, Object toMemberId) {
+		return MySqlTestDatabase.update(repository, methodName, Map.of("fromMemberId", fromMemberId, "toMemberId", toMemberId));
+	}
+
+	private void insertRecent(long memberId, long recipientId, long tradeId, LocalDateTime tradeAt) {
+		jdbc.update("INSERT INTO member_recent_recipient (member_id, recipient_id, last_trade_id, last_trade_at) VALUES (?, ?, ?, ?)",
+				memberId, recipientId, tradeId, Timestamp.valueOf(tradeAt));
+	}
+
+	private Long recent(long memberId, long recipientId) {
+		return jdbc.queryForObject("SELECT last_trade_id FROM member_recent_recipient WHERE member_id = ? AND recipient_id = ?",
+				Long.class, memberId, recipientId);
+	}
+}
@@ -0,0 +1,81 @@
+package com.example.scoi.domain.transfer.utils.address;
+
+import com.example.scoi.domain.transfer.enums.NetworkType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EvmAddressValidatorTest {
+
+	private final WalletAddressValidator validator = WalletAddressValidators.of(NetworkType.ETH);
+
+	// Keccak-256 알려진 해시 (SHA3-256과 다름)
+	@Test
+	void keccak256KnownVectors() {
+		assertThat(HexFormat.of().formatHex(Keccak256.digest(new byte[0])))
+				.isEqualTo("c5d2460186f7233c927e7db2dcc703c0e500b653ca82273b7bfad8045d85a470");
+		assertThat(HexFormat.of().formatHex(Keccak256.digest("abc".getBytes(StandardCharsets.US_ASCII))))
+				.isEqualTo("4e03657aea45a94fc7d47ba826c8d667c0d1e6e33a64a036ec44f58fa12d6c45");
+	}
+
+	// EIP-55 문서의 체크섬 주소와 USDT(ERC-20) 컨트랙트
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"0x5aAeb6053F3E94C9b9A09f33669435E7Ef1BeAed",
+			"0xfB6916095ca1df60bB79Ce92cE3Ea74c37c5d359",
+			"0xdbF03B407c01E7cD3CBea99509d93f8DDDC8C6FB",
+			"0xD1220A0cf47c7B9Be7A2E6BA89F429762e7b9aDb",
+			"0xdAC17F958D2ee523a2206206994597C13D831ec7"
+	})
+	void acceptsChecksummedAddresses(String address) {
+		assertThat(validator.isValid(address)).isTrue();
+	}
+
+	// 모두 소문자/대문자면 체크섬이 없는 주소로 허용
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"0x52908400098527886e0f7030069857d2e4169ee7",
+			"0x52908400098527886E0F7030069857D2E4169EE7",
+			"0xdac17f958d2ee523a2206206994597c13d831ec7"
+	})
+	void acceptsSingleCaseAddresses(String address) {
+		assertThat(validator.isValid(address)).isTrue();
+	}
+
+	// 대소문자 한 글자를 바꾼 주소
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"0x5aAeb6053F3E94C9b9A09f33669435E7Ef1BeAeD",
+			"0x5AAeb6053F3E94C9b9A09f33669435E7Ef1BeAed",
+			"0xdAC17F958D2ee523a2206206994597C13D831eC7"
+	})
+	void rejectsCorruptedChecksum(String address) {
+		assertThat(validator.isValid(address)).isFalse();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"0x5aAeb6053F3E94C9b9A09f33669435E7Ef1BeAe",
+			"0x5aAeb6053F3E94C9b9A09f33669435E7Ef1BeAed0",
+			"5aAeb6053F3E94C9b9A09f33669435E7Ef1BeAed00",
+			"0X5aAeb6053F3E94C9b9A09f33669435E7Ef1BeAed",
+			"0x5aAeb6053F3E94C9b9A09f33669435E7Ef1BeAeg"
+	})
+	void rejectsWrongLengthOrFormat(String address) {
+		assertThat(validator.isValid(address)).isFalse();
+	}
+
+	// KAIA도 같은 EVM 주소 규칙
+	@Test
+	void kaiaUsesEvmRules() {
+		WalletAddressValidator kaia = WalletAddressValidators.of(NetworkType.KAIA);
+
+		assertThat(kaia.isValid("0x5aAeb6053F3E94C9b9A09f33669435E7Ef1BeAed")).isTrue();
+		assertThat(kaia.isValid("0x5aAeb6053F3E94C9b9A09f33669435E7Ef1BeAeD")).isFalse();
+	}
+}
@@ -0,0 +1,48 @@
+package com.example.scoi.domain.transfer.utils.address;
+
+import com.example.scoi.domain.transfer.enums.NetworkType;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SolanaAddressValidatorTest {
+
+	private final WalletAddressValidator validator = WalletAddressValidators.of(NetworkType.SOL);
+
+	// USDC/USDT/wSOL 민트, 토큰 프로그램, 시스템 프로그램(32바이트 0)
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"EPjFWdd5AufqSSqeM2qN1xzybapC8G4wEGGkZwyTDt1v",
+			"Es9vMFrzaCERmJfrF4H2FYD4KCoNkY11McCe8BenwNYB",
+			"So11111111111111111111111111111111111111112",
+			"TokenkegQfeZyiNwAJbNbGKPFXCWuBvf9Ss623VQ5DA",
+			"11111111111111111111111111111111"
+	})
+	void acceptsMintAndProgramAddresses(String address) {
+		assertThat(validator.isValid(address)).isTrue();
+	}
+
+	// 체크섬이 없으므로 디코딩 길이(32바이트)로만 걸러짐
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"zzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzz",
+			"111111111111111111111111111111111",
+			"1EPjFWdd5AufqSSqeM2qN1xzybapC8G4wEGGkZwyTDt1v"
+	})
+	void rejectsWrongDecodedLength(String address) {
+		assertThat(validator.isValid(address)).isFalse();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"EPjFWdd5AufqSSqeM2qN1xzybapC8G4",
+			"EPjFWdd5AufqSSqeM2qN1xzybapC8G4wEGGkZwyTDt1vv",
+			"EPjFWdd5AufqSSqeM2qN1xzybapC8G4wEGGkZwyTDt10",
+			"EPjFWdd5AufqSSqeM2qN1xzybapC8G4wEGGkZwyTDtIv",
+			"EPjFWdd5AufqSSqeM2qN1xzybapC8G4wEGGkZwyTDtlv"
+	})
+	void rejectsWrongLengthOrAlphabet(String address) {
+		assertThat(validator.isValid(address)).isFalse();
+	}
+}
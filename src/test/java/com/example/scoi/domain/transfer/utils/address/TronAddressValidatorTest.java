@@ -0,0 +1,45 @@
+package com.example.scoi.domain.transfer.utils.address;
+
+import com.example.scoi.domain.transfer.enums.NetworkType;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TronAddressValidatorTest {
+
+	private final WalletAddressValidator validator = WalletAddressValidators.of(NetworkType.TRX);
+
+	// USDT(TRC-20) 컨트랙트, 소각 주소
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"TR7NHqjeKQxGTCi8q8ZY4pL8otSzgjLj6t",
+			"T9yD14Nj9j7xAB4dbGeiX9h8unkKHxuWwb"
+	})
+	void acceptsValidAddresses(String address) {
+		assertThat(validator.isValid(address)).isTrue();
+	}
+
+	// 한 글자를 바꿔 Base58Check 체크섬이 맞지 않는 주소
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"TR7NHqjeKQxGTCi8q8ZY4pL8otSzgjLj6u",
+			"TR7NHqjeKQxGTCi8q8ZY4pL8otSzgjLj7t",
+			"TR8NHqjeKQxGTCi8q8ZY4pL8otSzgjLj6t"
+	})
+	void rejectsCorruptedChecksum(String address) {
+		assertThat(validator.isValid(address)).isFalse();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"TR7NHqjeKQxGTCi8q8ZY4pL8otSzgjLj6",
+			"TR7NHqjeKQxGTCi8q8ZY4pL8otSzgjLj6tt",
+			"AR7NHqjeKQxGTCi8q8ZY4pL8otSzgjLj6t",
+			"TR7NHqjeKQxGTCi8q8ZY4pL8otSzgjLj0t",
+			"TR7NHqjeKQxGTCi8q8ZY4pL8otSzgjLjOt"
+	})
+	void rejectsWrongLengthOrFormat(String address) {
+		assertThat(validator.isValid(address)).isFalse();
+	}
+}
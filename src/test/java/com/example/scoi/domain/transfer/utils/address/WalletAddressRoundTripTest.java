@@ -0,0 +1,198 @@
+package com.example.scoi.domain.transfer.utils.address;
+
+import com.example.scoi.domain.transfer.enums.NetworkType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 무작위 입력으로 만든 주소의 왕복 검증
+ * 테스트 쪽에서 BigInteger 기반 Base58 인코더와 EIP-55 체크섬으로 주소를 만들고,
+ * 검증기가 원본은 통과시키고 한 글자 변조는 거부하는지 확인합니다.
+ * 시드를 고정해 실패하면 같은 입력으로 다시 재현됩니다.
+ */
+class WalletAddressRoundTripTest {
+
+	private static final int SAMPLES = 500;
+	private static final String ALPHABET = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+	private static final BigInteger BASE = BigInteger.valueOf(58);
+
+	private final Random random = new Random(20260101L);
+
+	// Base58 디코딩은 인코딩의 역 (앞쪽 0 바이트 포함)
+	@Test
+	void base58DecodesWhatWasEncoded() {
+		for (int n = 0; n < SAMPLES; n++) {
+			byte[] bytes = randomBytes(32, random.nextInt(4));
+			String encoded = base58(bytes);
+
+			byte[] decoded = new byte[32];
+			assertThat(Base58.isBase58(encoded)).isTrue();
+			assertThat(Base58.decode(encoded, decoded)).as(encoded).isTrue();
+			assertThat(decoded).as(encoded).isEqualTo(bytes);
+		}
+	}
+
+	// EIP-55로 만든 주소는 통과, 영문자 하나의 대소문자를 바꾸면 거부
+	@Test
+	void evmChecksumRoundTrip() {
+		WalletAddressValidator validator = WalletAddressValidators.of(NetworkType.ETH);
+
+		for (int n = 0; n < SAMPLES; n++) {
+			String address = eip55(randomBytes(20, 0));
+			assertThat(validator.isValid(address)).as(address).isTrue();
+			assertThat(validator.isValid("0x" + address.substring(2).toLowerCase())).as(address).isTrue();
+
+			int idx = randomLetterIndex(address);
+			if (idx < 0) {
+				continue;
+			}
+			String mutated = flipCase(address, idx);
+			// 바꾼 결과가 한 가지 대소문자뿐이면 체크섬이 없는 주소로 취급되므로 제외
+			if (mutated.substring(2).equals(mutated.substring(2).toLowerCase())
+					|| mutated.substring(2).equals(mutated.substring(2).toUpperCase())) {
+				continue;
+			}
+			assertThat(validator.isValid(mutated)).as("%s -> %s", address, mutated).isFalse();
+		}
+	}
+
+	// Base58Check로 만든 주소는 통과, 어느 자리든 한 글자를 다른 Base58 문자로 바꾸면 거부
+	@Test
+	void tronChecksumRoundTrip() {
+		WalletAddressValidator validator = WalletAddressValidators.of(NetworkType.TRX);
+
+		for (int n = 0; n < SAMPLES; n++) {
+			String address = tronAddress();
+			assertThat(validator.isValid(address)).as(address).isTrue();
+
+			String mutated = substitute(address, random.nextInt(address.length()));
+			assertThat(validator.isValid(mutated)).as("%s -> %s", address, mutated).isFalse();
+		}
+	}
+
+	// 32바이트 공개키는 통과, 앞에 '1'을 붙이거나 33바이트를 인코딩하면 길이가 맞지 않아 거부
+	@Test
+	void solanaLengthRoundTrip() {
+		WalletAddressValidator validator = WalletAddressValidators.of(NetworkType.SOL);
+
+		for (int n = 0; n < SAMPLES; n++) {
+			String address = base58(randomBytes(32, random.nextInt(4)));
+			assertThat(validator.isValid(address)).as(address).isTrue();
+			assertThat(validator.isValid("1" + address)).as(address).isFalse();
+
+			byte[] tooLong = randomBytes(33, 0);
+			tooLong[0] |= 1;
+			assertThat(validator.isValid(base58(tooLong))).isFalse();
+		}
+	}
+
+	// Base58과 16진수 어디에도 없는 문자(O, I, l, 공백)를 한 글자 넣으면 모든 네트워크에서 거부
+	@Test
+	void foreignCharacterIsRejected() {
+		char[] foreign = {'O', 'I', 'l', ' '};
+
+		for (int n = 0; n < SAMPLES; n++) {
+			String tron = tronAddress();
+			String solana = base58(randomBytes(32, 0));
+			String evm = eip55(randomBytes(20, 0));
+
+			char c = foreign[random.nextInt(foreign.length)];
+			assertThat(WalletAddressValidators.of(NetworkType.TRX).isValid(replaceAt(tron, 1 + random.nextInt(33), c))).isFalse();
+			assertThat(WalletAddressValidators.of(NetworkType.SOL).isValid(replaceAt(solana, random.nextInt(solana.length()), c))).isFalse();
+			assertThat(WalletAddressValidators.of(NetworkType.ETH).isValid(replaceAt(evm, 2 + random.nextInt(40), c))).isFalse();
+		}
+	}
+
+	private byte[] randomBytes(int length, int leadingZeros) {
+		byte[] bytes = new byte[length];
+		random.nextBytes(bytes);
+		for (int i = 0; i < leadingZeros; i++) {
+			bytes[i] = 0;
+		}
+		// 지정한 개수보다 0 바이트가 더 이어지지 않도록
+		if (leadingZeros < length && bytes[leadingZeros] == 0) {
+			bytes[leadingZeros] = 1;
+		}
+		return bytes;
+	}
+
+	private String tronAddress() {
+		try {
+			MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+			byte[] payload = randomBytes(21, 0);
+			payload[0] = 0x41;
+			byte[] checksum = sha256.digest(sha256.digest(payload));
+			byte[] raw = new byte[25];
+			System.arraycopy(payload, 0, raw, 0, 21);
+			System.arraycopy(checksum, 0, raw, 21, 4);
+			return base58(raw);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// 검증기와 독립적인 BigInteger 기반 인코더
+	private static String base58(byte[] bytes) {
+		StringBuilder sb = new StringBuilder();
+		BigInteger value = new BigInteger(1, bytes);
+		while (value.signum() > 0) {
+			BigInteger[] divRem = value.divideAndRemainder(BASE);
+			sb.append(ALPHABET.charAt(divRem[1].intValue()));
+			value = divRem[0];
+		}
+		for (int i = 0; i < bytes.length && bytes[i] == 0; i++) {
+			sb.append('1');
+		}
+		return sb.reverse().toString();
+	}
+
+	private static String eip55(byte[] addressBytes) {
+		String lower = HexFormat.of().formatHex(addressBytes);
+		byte[] hash = Keccak256.digest(lower.getBytes(StandardCharsets.US_ASCII));
+
+		StringBuilder sb = new StringBuilder("0x");
+		for (int i = 0; i < lower.length(); i++) {
+			char c = lower.charAt(i);
+			int nibble = (i & 1) == 0 ? (hash[i >>> 1] >>> 4) & 0x0F : hash[i >>> 1] & 0x0F;
+			sb.append(c > '9' && nibble >= 8 ? Character.toUpperCase(c) : c);
+		}
+		return sb.toString();
+	}
+
+	private int randomLetterIndex(String address) {
+		int start = 2 + random.nextInt(40);
+		for (int i = 0; i < 40; i++) {
+			int idx = 2 + (start - 2 + i) % 40;
+			if (Character.isLetter(address.charAt(idx))) {
+				return idx;
+			}
+		}
+		return -1;
+	}
+
+	private static String flipCase(String address, int idx) {
+		char c = address.charAt(idx);
+		return replaceAt(address, idx, Character.isUpperCase(c) ? Character.toLowerCase(c) : Character.toUpperCase(c));
+	}
+
+	private String substitute(String address, int idx) {
+		char original = address.charAt(idx);
+		char replacement;
+		do {
+			replacement = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+		} while (replacement == original);
+		return replaceAt(address, idx, replacement);
+	}
+
+	private static String replaceAt(String value, int idx, char c) {
+		return value.substring(0, idx) + c + value.substring(idx + 1);
+	}
+}
@@ -0,0 +1,37 @@
+package com.example.scoi.global.apiPayload.handler;
+
+import com.example.scoi.global.apiPayload.ApiResponse;
+import com.example.scoi.global.apiPayload.code.GeneralErrorCode;
+import com.example.scoi.global.client.ratelimit.ExchangeRateLimitException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeneralExceptionAdviceTest {
+
+	private final GeneralExceptionAdvice advice = new GeneralExceptionAdvice();
+
+	// 요청 수 제한은 429와 Retry-After(초, 올림)로 응답
+	@Test
+	void exchangeRateLimitRespondsWithRetryAfter() {
+		ResponseEntity<ApiResponse<Void>> response =
+				advice.handleExchangeRateLimitException(new ExchangeRateLimitException("limit", 1_200));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+		assertThat(response.getBody()).isNotNull();
+		assertThat(response.getBody().getCode()).isEqualTo(GeneralErrorCode.EXCHANGE_RATE_LIMIT.getCode());
+	}
+
+	// 1초 미만이어도 최소 1초
+	@Test
+	void retryAfterIsAtLeastOneSecond() {
+		ResponseEntity<ApiResponse<Void>> response =
+				advice.handleExchangeRateLimitException(new ExchangeRateLimitException("limit", 0));
+
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+	}
+}
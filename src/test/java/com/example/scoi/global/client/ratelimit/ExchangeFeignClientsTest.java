@@ -0,0 +1,59 @@
+package com.example.scoi.global.client.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 수 제한과 에러 디코더는 게이트웨이가 아니라 FeignConfig의 전역 빈으로 적용되므로,
+ * 게이트웨이를 거치지 않는 호출도 포함해 업비트/빗썸 Feign 클라이언트 전부가 이를 거치는지 확인
+ * 클라이언트별 configuration은 전역 ErrorDecoder를 덮어쓸 수 있어 거래소 클라이언트에는 두지 않습니다.
+ */
+class ExchangeFeignClientsTest {
+
+	// 거래소 클라이언트는 모두 요청 수 제한 대상 URL이고, 전역 설정을 덮어쓰지 않음
+	@Test
+	void exchangeClientsUseGlobalRateLimitAndErrorDecoder() throws ClassNotFoundException {
+		List<String> exchangeClients = new ArrayList<>();
+		for (BeanDefinition definition : scanner().findCandidateComponents("com.example.scoi")) {
+			Class<?> client = Class.forName(definition.getBeanClassName());
+			FeignClient feignClient = client.getAnnotation(FeignClient.class);
+			if (!feignClient.url().contains("upbit") && !feignClient.url().contains("bithumb")) {
+				continue;
+			}
+			exchangeClients.add(client.getSimpleName());
+
+			assertThat(ExchangeRateLimitInterceptor.resolveExchange(feignClient.url()))
+					.as("%s url", client.getSimpleName())
+					.isPresent();
+			assertThat(feignClient.configuration())
+					.as("%s configuration", client.getSimpleName())
+					.isEmpty();
+		}
+
+		assertThat(exchangeClients).contains(
+				"UpbitClient", "BithumbClient",
+				"UpbitFeignClient", "BithumbFeignClient",
+				"MyWalletUpbitFeignClient", "MyWalletBithumbFeignClient");
+	}
+
+	// @FeignClient 인터페이스 스캔 (기본 스캐너는 인터페이스를 후보에서 제외)
+	private static ClassPathScanningCandidateComponentProvider scanner() {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+			@Override
+			protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+				return beanDefinition.getMetadata().isInterface();
+			}
+		};
+		scanner.addIncludeFilter(new AnnotationTypeFilter(FeignClient.class));
+		return scanner;
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.scoi.global.client.ratelimit;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.gateway.EndpointGroup;
+import feign.InvocationContext;
+import feign.Request;
+import feign.Response;
+import feign.ResponseInterceptor;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ExchangeRateLimitResponseInterceptorTest {
+
+	private final ExchangeRateLimiter limiter = mock(ExchangeRateLimiter.class);
+	private final ExchangeRateLimitResponseInterceptor interceptor = new ExchangeRateLimitResponseInterceptor(limiter);
+
+	// 정상 응답의 Remaining-Req로 버킷 보정 후 다음 단계로 넘김
+	@Test
+	void calibratesFromRemainingReqHeader() throws Exception {
+		Object result = intercept(response("GET", "https://api.upbit.com/v1/orders/chance?market=KRW-USDT", 200,
+				Map.of("Remaining-Req", List.of("group=default; min=1800; sec=29"))));
+
+		assertThat(result).isEqualTo("decoded");
+		verify(limiter).calibrate(ExchangeType.UPBIT, EndpointGroup.NON_ORDER,
+				ExchangeRateLimitInterceptor.PUBLIC_KEY_ID, "group=default; min=1800; sec=29");
+		verify(limiter, never()).penalize(any(), any(), any());
+	}
+
+	// 429 응답은 보정 대신 보류
+	@Test
+	void penalizesOnTooManyRequests() throws Exception {
+		intercept(response("POST", "https://api.bithumb.com/v1/orders", 429,
+				Map.of("Remaining-Req", List.of("group=order; min=0; sec=0"))));
+
+		verify(limiter).penalize(ExchangeType.BITHUMB, EndpointGroup.ORDER, ExchangeRateLimitInterceptor.PUBLIC_KEY_ID);
+		verify(limiter, never()).calibrate(any(), any(), any(), any());
+	}
+
+	// 거래소가 아닌 요청(문자 발송 등)은 반영하지 않음
+	@Test
+	void ignoresNonExchangeResponses() throws Exception {
+		intercept(response("POST", "https://api.coolsms.co.kr/messages/v4/send", 429, Map.of()));
+
+		verifyNoInteractions(limiter);
+	}
+
+	private Object intercept(Response response) throws Exception {
+		InvocationContext invocationContext = mock(InvocationContext.class);
+		when(invocationContext.response()).thenReturn(response);
+		ResponseInterceptor.Chain chain = mock(ResponseInterceptor.Chain.class);
+		when(chain.next(invocationContext)).thenReturn("decoded");
+		return interceptor.intercept(invocationContext, chain);
+	}
+
+	private static Response response(String method, String url, int status, Map<String, Collection<String>> headers) {
+		Request request = Request.create(Request.HttpMethod.valueOf(method), url, Map.of(), null, StandardCharsets.UTF_8, null);
+		return Response.builder()
+				.status(status)
+				.request(request)
+				.headers(headers)
+				.build();
+	}
+}
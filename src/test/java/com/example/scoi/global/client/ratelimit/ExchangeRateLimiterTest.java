@@ -0,0 +1,239 @@
+package com.example.scoi.global.client.ratelimit;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.gateway.EndpointGroup;
+import com.example.scoi.global.redis.EmbeddedRedis;
+import com.example.scoi.global.redis.RedisKeySpace;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExchangeRateLimiterTest {
+
+	// UPBIT_ORDER: 초당 8개 -> 토큰 하나 충전에 125ms
+	private static final ExchangeType EXCHANGE = ExchangeType.UPBIT;
+	private static final EndpointGroup GROUP = EndpointGroup.ORDER;
+	private static final int CAPACITY = 8;
+
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MutableClock clock = new MutableClock();
+	private final List<Long> sleeps = new CopyOnWriteArrayList<>();
+
+	private ExchangeRateLimiter limiter;
+	private String apiKeyId;
+
+	@BeforeEach
+	void setUp() {
+		limiter = fakeTimeLimiter(redisTemplate);
+		apiKeyId = UUID.randomUUID().toString();
+	}
+
+	// 용량만큼은 바로 통과, 다음 요청은 토큰 하나가 찰 때까지 대기
+	@Test
+	void localBucketWaitsForRefill() {
+		for (int i = 0; i < CAPACITY; i++) {
+			limiter.acquire(EXCHANGE, GROUP, apiKeyId);
+		}
+		assertThat(sleeps).isEmpty();
+		assertThat(tokens()).isZero();
+
+		limiter.acquire(EXCHANGE, GROUP, apiKeyId);
+		assertThat(sleeps).containsExactly(125L);
+
+		// 500ms 동안 4개 충전
+		clock.advance(500);
+		assertThat(tokens()).isEqualTo(4);
+
+		// 용량 이상으로는 쌓이지 않음
+		clock.advance(10_000);
+		assertThat(tokens()).isEqualTo(CAPACITY);
+	}
+
+	// Remaining-Req의 sec 값으로 남은 토큰을 줄임 (늘리지는 않음)
+	@Test
+	void calibratesFromRemainingReq() {
+		limiter.acquire(EXCHANGE, GROUP, apiKeyId);
+		assertThat(tokens()).isEqualTo(CAPACITY - 1);
+
+		limiter.calibrate(EXCHANGE, GROUP, apiKeyId, "group=order; min=59; sec=2");
+		assertThat(tokens()).isEqualTo(2);
+
+		limiter.calibrate(EXCHANGE, GROUP, apiKeyId, "group=order; min=59; sec=7");
+		assertThat(tokens()).isEqualTo(2);
+
+		// sec 값이 없으면 무시
+		limiter.calibrate(EXCHANGE, GROUP, apiKeyId, "group=order; min=59");
+		limiter.calibrate(EXCHANGE, GROUP, apiKeyId, null);
+		assertThat(tokens()).isEqualTo(2);
+	}
+
+	// 아직 요청한 적 없는 키는 보정할 버킷이 없음
+	@Test
+	void calibrateIgnoresUnknownKey() {
+		limiter.calibrate(EXCHANGE, GROUP, apiKeyId, "group=order; min=59; sec=0");
+
+		limiter.acquire(EXCHANGE, GROUP, apiKeyId);
+		assertThat(sleeps).isEmpty();
+	}
+
+	// 공유 버킷에서 거절되면 로컬 토큰을 돌려놓고 기다렸다가 다시 시도
+	@Test
+	void refundsLocalTokenWhenSharedBucketRejects() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenReturn(100L, 0L);
+
+		limiter.acquire(EXCHANGE, GROUP, apiKeyId);
+
+		assertThat(sleeps).containsExactly(100L);
+		// 돌려놓지 않았다면 7 + 0.8(100ms 충전) - 1 = 6.8
+		assertThat(tokens()).isEqualTo(CAPACITY - 1);
+	}
+
+	// 대기 시간이 최대 대기(1초)를 넘으면 보내지 않고 예외, 꺼낸 토큰도 돌려놓음
+	@Test
+	void shedsWhenWaitExceedsMaxWait() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenReturn(5_000L);
+
+		assertThatThrownBy(() -> limiter.acquire(EXCHANGE, GROUP, apiKeyId))
+				.isInstanceOfSatisfying(ExchangeRateLimitException.class, e -> {
+					assertThat(e.status()).isEqualTo(429);
+					assertThat(e.getRetryAfterMillis()).isEqualTo(5_000L);
+				});
+		assertThat(sleeps).isEmpty();
+		assertThat(tokens()).isEqualTo(CAPACITY);
+		assertThat(meterRegistry.get("exchange.ratelimit.rejections").tag("key", apiKeyId).functionCounter().count())
+				.isEqualTo(1);
+	}
+
+	// 429 응답 후 1초 동안 버킷을 비워두고 요청을 보류
+	@Test
+	void penaltyPausesForOneSecond() {
+		limiter.acquire(EXCHANGE, GROUP, apiKeyId);
+
+		limiter.penalize(EXCHANGE, GROUP, apiKeyId);
+		assertThat(tokens()).isZero();
+
+		clock.advance(400);
+		limiter.acquire(EXCHANGE, GROUP, apiKeyId);
+		assertThat(sleeps).containsExactly(600L);
+
+		// 보류가 끝난 뒤에는 정상 충전
+		sleeps.clear();
+		limiter.acquire(EXCHANGE, GROUP, apiKeyId);
+		assertThat(sleeps).isEmpty();
+	}
+
+	// Redis 버킷은 서버 인스턴스가 달라도 같은 API 키의 한도를 나눠 씀
+	@Test
+	void sharedBucketLimitsAcrossInstances() {
+		LettuceConnectionFactory connectionFactory =
+				new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", EmbeddedRedis.port()));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		try {
+			StringRedisTemplate redis = new StringRedisTemplate(connectionFactory);
+			List<Long> firstSleeps = new CopyOnWriteArrayList<>();
+			List<Long> secondSleeps = new CopyOnWriteArrayList<>();
+			ExchangeRateLimiter first = realTimeLimiter(redis, firstSleeps);
+			ExchangeRateLimiter second = realTimeLimiter(redis, secondSleeps);
+
+			for (int i = 0; i < CAPACITY; i++) {
+				first.acquire(EXCHANGE, GROUP, apiKeyId);
+			}
+			// 두 번째 인스턴스의 로컬 버킷은 가득 차 있지만 공유 버킷은 비어 있음
+			for (int i = 0; i < CAPACITY; i++) {
+				second.acquire(EXCHANGE, GROUP, apiKeyId);
+			}
+
+			assertThat(firstSleeps).isEmpty();
+			assertThat(secondSleeps).isNotEmpty()
+					.allSatisfy(wait -> assertThat(wait).isBetween(1L, 1000L / CAPACITY + 1));
+
+			String key = RedisKeySpace.RATE_LIMIT.key(RateLimitPolicy.UPBIT_ORDER.name(), apiKeyId);
+			assertThat(redis.getExpire(key, TimeUnit.MILLISECONDS)).isBetween(1L, 2_000L);
+		} finally {
+			connectionFactory.destroy();
+		}
+	}
+
+	private ExchangeRateLimiter fakeTimeLimiter(RedisTemplate<String, String> redis) {
+		ExchangeRateLimiter fake = new ExchangeRateLimiter(redis, meterRegistry) {
+			@Override
+			void sleep(long millis) {
+				sleeps.add(millis);
+				clock.advance(millis);
+			}
+		};
+		ReflectionTestUtils.setField(fake, "clock", clock);
+		return fake;
+	}
+
+	// Redis TIME 기준으로 충전되므로 실제로 기다림
+	private ExchangeRateLimiter realTimeLimiter(RedisTemplate<String, String> redis, List<Long> recorded) {
+		return new ExchangeRateLimiter(redis, new SimpleMeterRegistry()) {
+			@Override
+			void sleep(long millis) {
+				recorded.add(millis);
+				super.sleep(millis);
+			}
+		};
+	}
+
+	private double tokens() {
+		return meterRegistry.get("exchange.ratelimit.tokens").tag("key", apiKeyId).gauge().value();
+	}
+
+	private static class MutableClock extends Clock {
+
+		private final AtomicLong millis = new AtomicLong(1_700_000_000_000L);
+
+		void advance(long delta) {
+			millis.addAndGet(delta);
+		}
+
+		@Override
+		public long millis() {
+			return millis.get();
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis.get());
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+	}
+}
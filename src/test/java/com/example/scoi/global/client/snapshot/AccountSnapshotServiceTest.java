@@ -0,0 +1,231 @@
+package com.example.scoi.global.client.snapshot;
+
+import com.example.scoi.domain.member.enums.ExchangeType;
+import com.example.scoi.global.client.dto.UpbitResDTO;
+import com.example.scoi.global.client.gateway.BithumbGateway;
+import com.example.scoi.global.client.gateway.UpbitGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccountSnapshotServiceTest {
+
+	private static final String PHONE = "01012345678";
+	private static final int CALLERS = 8;
+
+	private final UpbitGateway upbitGateway = mock(UpbitGateway.class);
+	private final AtomicInteger fetches = new AtomicInteger();
+	// 거래소 응답을 붙잡아 두었다가 테스트가 원하는 시점에 돌려줌
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final CountDownLatch fetchStarted = new CountDownLatch(1);
+	private volatile boolean blockFetch;
+
+	private AccountSnapshotService service;
+	private final List<Thread> threads = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		service = new AccountSnapshotService(upbitGateway, mock(BithumbGateway.class));
+		when(upbitGateway.getAccounts(anyString())).thenAnswer(invocation -> {
+			int n = fetches.incrementAndGet();
+			fetchStarted.countDown();
+			if (blockFetch) {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			return new UpbitResDTO.BalanceResponse[]{
+					new UpbitResDTO.BalanceResponse("USDT", String.valueOf(n), "0", "0", false, "KRW")
+			};
+		});
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		release.countDown();
+		for (Thread thread : threads) {
+			thread.join(5_000);
+		}
+	}
+
+	// 동시에 들어온 요청은 거래소 호출 하나의 결과를 함께 받음
+	@Test
+	void concurrentCallersShareOneFetch() throws Exception {
+		blockFetch = true;
+		Map<Thread, AccountSnapshot> results = new ConcurrentHashMap<>();
+		for (int i = 0; i < CALLERS; i++) {
+			start(() -> results.put(Thread.currentThread(), service.getSnapshot(PHONE, ExchangeType.UPBIT)));
+		}
+
+		assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		// 조회 중인 스레드는 응답을, 나머지는 조회 결과를 기다리는 상태
+		awaitAllWaiting();
+		release.countDown();
+		for (Thread thread : threads) {
+			thread.join(5_000);
+		}
+
+		assertThat(fetches).hasValue(1);
+		assertThat(results).hasSize(CALLERS);
+		assertThat(results.values()).allSatisfy(snapshot ->
+				assertThat(snapshot.find("USDT").orElseThrow().balance()).isEqualTo("1"));
+	}
+
+	// 800ms 이내 스냅샷은 재사용, 지나면 다시 조회
+	@Test
+	void reusesSnapshotWithinFreshnessWindow() throws Exception {
+		long now = System.currentTimeMillis();
+
+		service.put(PHONE, snapshot(now - 300));
+		assertThat(service.getSnapshot(PHONE, ExchangeType.UPBIT).fetchedAt()).isEqualTo(now - 300);
+		assertThat(fetches).hasValue(0);
+
+		service.put(PHONE, snapshot(now - 1_000));
+		assertThat(service.getSnapshot(PHONE, ExchangeType.UPBIT).fetchedAt()).isNotEqualTo(now - 1_000);
+		assertThat(fetches).hasValue(1);
+
+		// 방금 조회한 결과는 다음 호출에서 재사용
+		service.getSnapshot(PHONE, ExchangeType.UPBIT);
+		assertThat(fetches).hasValue(1);
+	}
+
+	// warm으로 채운 스냅샷은 800ms가 지나도 10초까지 재사용
+	@Test
+	void warmedSnapshotOutlivesFreshnessWindow() throws Exception {
+		long now = System.currentTimeMillis();
+
+		service.warm(PHONE, snapshot(now - 5_000));
+		assertThat(service.getSnapshot(PHONE, ExchangeType.UPBIT).fetchedAt()).isEqualTo(now - 5_000);
+		assertThat(fetches).hasValue(0);
+
+		service.warm(PHONE, snapshot(now - 11_000));
+		service.getSnapshot(PHONE, ExchangeType.UPBIT);
+		assertThat(fetches).hasValue(1);
+	}
+
+	// 조회 중에 evict되면 그 조회 결과는 저장하지 않음 (변경 전 잔고가 되살아나지 않도록)
+	@Test
+	void evictDuringFetchDiscardsResult() throws Exception {
+		blockFetch = true;
+		AtomicReference<AccountSnapshot> first = new AtomicReference<>();
+		Thread caller = start(() -> first.set(service.getSnapshot(PHONE, ExchangeType.UPBIT)));
+
+		assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		service.evict(PHONE, ExchangeType.UPBIT);
+		release.countDown();
+		caller.join(5_000);
+
+		// 호출한 요청은 결과를 받지만 스냅샷으로는 남지 않음
+		assertThat(first.get()).isNotNull();
+		assertThat(snapshots()).isEmpty();
+
+		AccountSnapshot second = service.getSnapshot(PHONE, ExchangeType.UPBIT);
+		assertThat(fetches).hasValue(2);
+		assertThat(second.find("USDT").orElseThrow().balance()).isEqualTo("2");
+	}
+
+	@Test
+	void evictForcesNextFetch() throws Exception {
+		service.getSnapshot(PHONE, ExchangeType.UPBIT);
+		service.evict(PHONE, ExchangeType.UPBIT);
+		service.getSnapshot(PHONE, ExchangeType.UPBIT);
+
+		assertThat(fetches).hasValue(2);
+	}
+
+	// 만료된 스냅샷, 지난 warm 기한, 조회 중이 아닌 키의 세대를 정리
+	@Test
+	void purgeRemovesExpiredEntries() throws Exception {
+		long now = System.currentTimeMillis();
+		service.put("01000000001", snapshot(now - 300));
+		service.put("01000000002", snapshot(now - 5_000));
+		service.warm("01000000003", snapshot(now - 11_000));
+		service.warm("01000000004", snapshot(now - 5_000));
+		service.evict("01000000005", ExchangeType.UPBIT);
+
+		service.purgeExpired();
+
+		assertThat(snapshots().keySet()).containsExactlyInAnyOrder("UPBIT:01000000001", "UPBIT:01000000004");
+		assertThat(warmedUntil().keySet()).containsExactly("UPBIT:01000000004");
+		assertThat(generations()).isEmpty();
+	}
+
+	// 조회 중인 키의 세대는 정리하지 않아야 evict 이후 결과를 계속 걸러낼 수 있음
+	@Test
+	void purgeKeepsGenerationOfInFlightKey() throws Exception {
+		blockFetch = true;
+		start(() -> service.getSnapshot(PHONE, ExchangeType.UPBIT));
+		assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		service.evict(PHONE, ExchangeType.UPBIT);
+		service.purgeExpired();
+		assertThat(generations()).containsEntry("UPBIT:" + PHONE, 1L);
+
+		release.countDown();
+		threads.getFirst().join(5_000);
+		assertThat(snapshots()).isEmpty();
+	}
+
+	private AccountSnapshot snapshot(long fetchedAt) {
+		return new AccountSnapshot(ExchangeType.UPBIT,
+				Map.of("USDT", new AccountSnapshot.Balance("USDT", "100", "0")), fetchedAt);
+	}
+
+	private Thread start(ThrowingRunnable action) {
+		Thread thread = new Thread(() -> {
+			try {
+				action.run();
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		threads.add(thread);
+		thread.start();
+		return thread;
+	}
+
+	private void awaitAllWaiting() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (System.currentTimeMillis() < deadline) {
+			if (threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING
+					|| thread.getState() == Thread.State.TIMED_WAITING)) {
+				return;
+			}
+			Thread.sleep(10);
+		}
+		throw new AssertionError("호출 스레드가 대기 상태가 되지 않음");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, AccountSnapshot> snapshots() {
+		return (Map<String, AccountSnapshot>) ReflectionTestUtils.getField(service, "snapshots");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Long> warmedUntil() {
+		return (Map<String, Long>) ReflectionTestUtils.getField(service, "warmedUntil");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Long> generations() {
+		return (Map<String, Long>) ReflectionTestUtils.getField(service, "generations");
+	}
+
+	@FunctionalInterface
+	private interface ThrowingRunnable {
+		void run() throws Exception;
+	}
+}
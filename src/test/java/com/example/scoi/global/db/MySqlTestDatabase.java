@@ -0,0 +1,130 @@
+package com.example.scoi.global.db;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 테스트용 MySQL (Testcontainers)
+ * 테스트 JVM에서 한 번만 띄우고 Flyway 마이그레이션(V1~)을 적용해 운영과 같은 스키마를 만듭니다.
+ * 네이티브 쿼리, 실행 계획, 마이그레이션처럼 MySQL 문법에 의존하는 부분을 스프링 컨텍스트 없이 검증할 때 사용합니다.
+ * Docker가 없는 환경에서는 테스트 클래스에 @Testcontainers(disabledWithoutDocker = true)를 붙여 건너뜁니다.
+ */
+public final class MySqlTestDatabase {
+
+    private static MySQLContainer container;
+    private static DriverManagerDataSource dataSource;
+
+    private MySqlTestDatabase() {
+    }
+
+    public static synchronized DriverManagerDataSource dataSource() {
+        if (container == null) {
+            start();
+        }
+        return dataSource;
+    }
+
+    public static JdbcTemplate jdbcTemplate() {
+        return new JdbcTemplate(dataSource());
+    }
+
+    // 테스트 사이에 데이터 비우기 (외래 키 순서대로)
+    public static void clear() {
+        JdbcTemplate jdbc = jdbcTemplate();
+        jdbc.update("DELETE FROM member_recent_recipient");
+        jdbc.update("DELETE FROM trade_history");
+        jdbc.update("DELETE FROM recipient");
+        jdbc.update("DELETE FROM deposit_address");
+        jdbc.update("DELETE FROM member_api_key");
+        jdbc.update("DELETE FROM member_fcm");
+        jdbc.update("DELETE FROM member_token");
+        jdbc.update("DELETE FROM member");
+    }
+
+    /**
+     * 리포지토리 메서드의 네이티브 쿼리(@Query)를 그대로 실행합니다.
+     * 스프링 컨텍스트 없이 운영 SQL을 검증할 때, 목 리포지토리가 이 결과를 돌려주도록 연결해 사용합니다.
+     * @param repository 리포지토리 인터페이스
+     * @param methodName 메서드 이름 (오버로드 없음)
+     * @param params 이름 있는 파라미터 (:name)
+     * @return 영향받은 행 수
+     */
+    public static int update(Class<?> repository, String methodName, Map<String, ?> params) {
+        Method method = Arrays.stream(repository.getMethods())
+                .filter(candidate -> candidate.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(repository.getSimpleName() + "." + methodName + " 없음"));
+        Query query = Objects.requireNonNull(method.getAnnotation(Query.class), methodName + "에 @Query 없음");
+        return new NamedParameterJdbcTemplate(dataSource()).update(query.value(), params);
+    }
+
+    public static long insertMember(String phoneNumber) {
+        return insert("INSERT INTO member (english_name, korean_name, resident_number, simple_password, phone_number, "
+                        + "member_type, is_bio_registered, login_fail_count) "
+                        + "VALUES ('HONG', '홍길동', '000000-0000000', '{bcrypt}x', ?, 'INDIVIDUAL', 0, 0)",
+                phoneNumber);
+    }
+
+    // member_id 범위를 나눠 처리하는 작업 검증용 (id 지정)
+    public static long insertMember(long id, String phoneNumber) {
+        jdbcTemplate().update("INSERT INTO member (id, english_name, korean_name, resident_number, simple_password, phone_number, "
+                        + "member_type, is_bio_registered, login_fail_count) "
+                        + "VALUES (?, 'HONG', '홍길동', '000000-0000000', '{bcrypt}x', ?, 'INDIVIDUAL', 0, 0)",
+                id, phoneNumber);
+        return id;
+    }
+
+    public static long insertRecipient(long memberId, String exchangeType, String walletAddress, String netType, boolean favorite) {
+        return insert("INSERT INTO recipient (member_id, exchange_type, wallet_address, net_type, "
+                        + "recipient_en_name, recipient_ko_name, recipient_type, is_favorite) "
+                        + "VALUES (?, ?, ?, ?, 'KIM', '김철수', 'INDIVIDUAL', ?)",
+                memberId, exchangeType, walletAddress, netType, favorite);
+    }
+
+    public static long insertTrade(long memberId, long recipientId, String idempotentKey, LocalDateTime createdAt) {
+        return insert("INSERT INTO trade_history (member_id, recipient_id, exchange_type, coin_count, created_at, "
+                        + "trade_type, coin_type, status, idempotent_key) "
+                        + "VALUES (?, ?, 'UPBIT', '1', ?, 'WITHDRAWAL', 'USDT', 'DONE', ?)",
+                memberId, recipientId, Timestamp.valueOf(createdAt), idempotentKey);
+    }
+
+    private static long insert(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate().update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int idx = 0; idx < args.length; idx++) {
+                statement.setObject(idx + 1, args[idx]);
+            }
+            return statement;
+        }, keyHolder);
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+    private static void start() {
+        container = new MySQLContainer("mysql:8.0.36");
+        container.start();
+
+        dataSource = new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+        Flyway.configure()
+                .dataSource(dataSource)
+                .load()
+                .migrate();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(container::stop));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.scoi.global.redis;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * 테스트용 내장 Redis
+ * 테스트 JVM에서 한 번만 빈 포트로 띄우고, spring.data.redis.* 설정을 그 포트로 바꿉니다.
+ */
+public final class EmbeddedRedis {
+
+    private static RedisServer server;
+    private static int port;
+
+    private EmbeddedRedis() {
+    }
+
+    public static synchronized void register(DynamicPropertyRegistry registry) {
+        int port = port();
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> port);
+        registry.add("spring.data.redis.cluster.nodes", () -> "");
+    }
+
+    // 스프링 컨텍스트 없이 Redis에 직접 연결하는 테스트용
+    public static synchronized int port() {
+        if (server == null) {
+            start();
+        }
+        return port;
+    }
+
+    private static void start() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            server = new RedisServer(port);
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.stop();
+            } catch (IOException ignored) {
+                // 종료 중
+            }
+        }));
+    }
+}
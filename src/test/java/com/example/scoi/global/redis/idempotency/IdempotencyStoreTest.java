@@ -0,0 +1,201 @@
+package com.example.scoi.global.redis.idempotency;
+
+import com.example.scoi.global.apiPayload.code.GeneralErrorCode;
+import com.example.scoi.global.apiPayload.exception.ScoiException;
+import com.example.scoi.global.client.exception.ExchangeApiException;
+import com.example.scoi.global.redis.EmbeddedRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTest {
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisMessageListenerContainer listenerContainer;
+
+	private IdempotencyStore idempotencyStore;
+	private String idempotentKey;
+	private final AtomicInteger exchangeCalls = new AtomicInteger();
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", EmbeddedRedis.port()));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+
+		listenerContainer = new RedisMessageListenerContainer();
+		listenerContainer.setConnectionFactory(connectionFactory);
+		listenerContainer.afterPropertiesSet();
+		listenerContainer.start();
+	}
+
+	@AfterAll
+	static void disconnect() throws Exception {
+		listenerContainer.destroy();
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		idempotencyStore = new IdempotencyStore(new StringRedisTemplate(connectionFactory), listenerContainer, new ObjectMapper());
+		ReflectionTestUtils.setField(idempotencyStore, "resultTtlMillis", 60_000L);
+		ReflectionTestUtils.setField(idempotencyStore, "waitTimeoutMillis", 100L);
+		ReflectionTestUtils.setField(idempotencyStore, "reconcileDelayMillis", 60_000L);
+		idempotencyStore.subscribe();
+
+		idempotentKey = UUID.randomUUID().toString();
+		exchangeCalls.set(0);
+	}
+
+	// 타임아웃으로 결과를 모르는 출금은 같은 키로 다시 보내도 거래소를 호출하지 않음
+	@Test
+	void timeoutBlocksRetryWithSameKey() {
+		assertThatThrownBy(() -> withdraw(this::timeout, startedAt -> Optional.empty()))
+				.isInstanceOf(RetryableException.class);
+
+		assertThatThrownBy(() -> withdraw(this::succeed, startedAt -> Optional.empty()))
+				.isInstanceOf(DuplicateRequest.class);
+		assertThat(exchangeCalls).hasValue(1);
+	}
+
+	// 확인 조회가 없는 요청 종류는 결과를 모르는 키를 계속 막음
+	@Test
+	void timeoutBlocksRetryWithoutReconcile() {
+		assertThatThrownBy(() -> withdraw(this::timeout, null))
+				.isInstanceOf(RetryableException.class);
+
+		ReflectionTestUtils.setField(idempotencyStore, "reconcileDelayMillis", 0L);
+		assertThatThrownBy(() -> withdraw(this::succeed, null))
+				.isInstanceOf(DuplicateRequest.class);
+		assertThat(exchangeCalls).hasValue(1);
+	}
+
+	// 거래소에 반영된 출금을 찾으면 다시 출금하지 않고 그 결과를 저장해 반환
+	@Test
+	void reconcileReturnsWithdrawFoundOnExchange() {
+		assertThatThrownBy(() -> withdraw(this::timeout, startedAt -> Optional.empty()))
+				.isInstanceOf(RetryableException.class);
+
+		ReflectionTestUtils.setField(idempotencyStore, "reconcileDelayMillis", 0L);
+		String recovered = withdraw(this::succeed, startedAt -> Optional.of("uuid-found"));
+		String replayed = withdraw(this::succeed, startedAt -> Optional.of("uuid-other"));
+
+		assertThat(recovered).isEqualTo("uuid-found");
+		assertThat(replayed).isEqualTo("uuid-found");
+		assertThat(exchangeCalls).hasValue(1);
+	}
+
+	// 거래소에 반영되지 않은 것을 확인하면 같은 키로 다시 출금
+	@Test
+	void reconcileRetriesWhenWithdrawNotFound() {
+		assertThatThrownBy(() -> withdraw(this::timeout, startedAt -> Optional.empty()))
+				.isInstanceOf(RetryableException.class);
+
+		ReflectionTestUtils.setField(idempotencyStore, "reconcileDelayMillis", 0L);
+		String result = withdraw(this::succeed, startedAt -> Optional.empty());
+
+		assertThat(result).isEqualTo("uuid-2");
+		assertThat(exchangeCalls).hasValue(2);
+	}
+
+	// 확실히 거절된 요청(4XX)은 같은 키로 바로 재시도 가능
+	@Test
+	void clientErrorReleasesKey() {
+		assertThatThrownBy(() -> withdraw(this::reject, startedAt -> Optional.empty()))
+				.isInstanceOf(ScoiException.class);
+
+		String result = withdraw(this::succeed, startedAt -> Optional.empty());
+
+		assertThat(result).isEqualTo("uuid-2");
+		assertThat(exchangeCalls).hasValue(2);
+	}
+
+	// 거래소 호출 전 실패한 요청(5XX 도메인 예외)은 확인 조회가 없어도 같은 키로 바로 재시도 가능
+	@Test
+	void localServerErrorReleasesKey() {
+		assertThatThrownBy(() -> withdraw(this::busy, null))
+				.isInstanceOf(ScoiException.class);
+
+		String result = withdraw(this::succeed, null);
+
+		assertThat(result).isEqualTo("uuid-1");
+		assertThat(exchangeCalls).hasValue(1);
+	}
+
+	// 거래소 5XX는 결과를 알 수 없으므로 같은 키를 막음
+	@Test
+	void exchangeServerErrorBlocksRetry() {
+		assertThatThrownBy(() -> withdraw(this::serverError, null))
+				.isInstanceOf(FeignException.class);
+
+		assertThatThrownBy(() -> withdraw(this::succeed, null))
+				.isInstanceOf(DuplicateRequest.class);
+		assertThat(exchangeCalls).hasValue(1);
+	}
+
+	private String withdraw(Supplier<String> exchange, LongFunction<Optional<String>> reconcile) {
+		return idempotencyStore.execute(
+				IdempotencyScope.TRANSFER_WITHDRAW,
+				"01012345678",
+				idempotentKey,
+				String.class,
+				exchange,
+				reconcile,
+				DuplicateRequest::new
+		);
+	}
+
+	private String succeed() {
+		return "uuid-" + exchangeCalls.incrementAndGet();
+	}
+
+	private String timeout() {
+		exchangeCalls.incrementAndGet();
+		Request request = Request.create(Request.HttpMethod.POST, "https://api.upbit.com/v1/withdraws/coin",
+				Map.of(), null, StandardCharsets.UTF_8, null);
+		throw new RetryableException(-1, "Read timed out", Request.HttpMethod.POST,
+				new SocketTimeoutException("Read timed out"), (Long) null, request);
+	}
+
+	private String reject() {
+		exchangeCalls.incrementAndGet();
+		throw new ScoiException(GeneralErrorCode.BAD_REQUEST);
+	}
+
+	// 비밀번호 검증 대기열 포화처럼 거래소를 부르기 전에 실패
+	private String busy() {
+		throw new ScoiException(GeneralErrorCode.SERVER_BUSY);
+	}
+
+	private String serverError() {
+		exchangeCalls.incrementAndGet();
+		Request request = Request.create(Request.HttpMethod.POST, "https://api.upbit.com/v1/withdraws/coin",
+				Map.of(), null, StandardCharsets.UTF_8, null);
+		throw new ExchangeApiException(500, "[500] withdraw", request, new byte[0], Map.of(), null, null);
+	}
+
+	private static class DuplicateRequest extends RuntimeException {
+	}
+}
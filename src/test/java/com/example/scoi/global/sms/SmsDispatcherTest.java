@@ -0,0 +1,189 @@
+package com.example.scoi.global.sms;
+
+import com.example.scoi.global.client.CoolSmsClient;
+import com.example.scoi.global.client.dto.CoolSmsDTO;
+import com.example.scoi.global.redis.EmbeddedRedis;
+import com.example.scoi.global.redis.RedisKeySpace;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SmsDispatcherTest {
+
+	private static final String GROUP = "sms-dispatcher";
+	private static final String RETRY_KEY = RedisKeySpace.SMS_OUTBOX.key("retry");
+	private static final String TO = "01012345678";
+
+	private static LettuceConnectionFactory connectionFactory;
+
+	private final CoolSmsClient coolSmsClient = mock(CoolSmsClient.class);
+
+	private StringRedisTemplate redisTemplate;
+	private SmsOutbox outbox;
+	private SmsDispatcher dispatcher;
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", EmbeddedRedis.port()));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.delete(List.of(SmsOutbox.STREAM_KEY, RETRY_KEY, SmsOutbox.LATEST_PREFIX + TO));
+
+		outbox = new SmsOutbox(redisTemplate);
+		dispatcher = new SmsDispatcher(redisTemplate, coolSmsClient, "0212345678", 2);
+		dispatcher.createGroup();
+		when(coolSmsClient.sendMany(any())).thenReturn(new CoolSmsDTO.SendManyResponse(List.of()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		dispatcher.shutdown();
+	}
+
+	// 등록 -> 읽기 -> 발송 -> ACK 후 스트림에서 삭제
+	@Test
+	void enqueuedJobIsSentAndAcknowledged() {
+		String jobId = outbox.enqueue(TO, "[SCOI] 인증번호 123456");
+		assertThat(status(jobId)).isEqualTo("QUEUED");
+
+		dispatcher.poll();
+
+		ArgumentCaptor<CoolSmsDTO.SendManyRequest> request = ArgumentCaptor.forClass(CoolSmsDTO.SendManyRequest.class);
+		verify(coolSmsClient, timeout(5_000)).sendMany(request.capture());
+		assertThat(request.getValue().messages())
+				.containsExactly(new CoolSmsDTO.Message(TO, "0212345678", "[SCOI] 인증번호 123456"));
+
+		awaitStatus(jobId, "SENT");
+		awaitEmptyStream();
+		assertThat(redisTemplate.hasKey(SmsOutbox.LATEST_PREFIX + TO)).isFalse();
+	}
+
+	// 같은 번호로 나중에 등록된 작업만 보냄
+	@Test
+	void supersededJobIsSkipped() {
+		String first = outbox.enqueue(TO, "[SCOI] 인증번호 111111");
+		String second = outbox.enqueue(TO, "[SCOI] 인증번호 222222");
+
+		dispatcher.poll();
+
+		awaitStatus(second, "SENT");
+		assertThat(status(first)).isEqualTo("SUPERSEDED");
+		ArgumentCaptor<CoolSmsDTO.SendManyRequest> request = ArgumentCaptor.forClass(CoolSmsDTO.SendManyRequest.class);
+		verify(coolSmsClient).sendMany(request.capture());
+		assertThat(request.getValue().messages()).extracting(CoolSmsDTO.Message::text)
+				.containsExactly("[SCOI] 인증번호 222222");
+		awaitEmptyStream();
+	}
+
+	// 읽고 ACK하지 못한 채 내려간 컨슈머의 항목은 유휴 시간이 지나면 다른 서버가 회수해 발송
+	@Test
+	void pendingEntryOfDeadConsumerIsReclaimed() {
+		String jobId = outbox.enqueue(TO, "[SCOI] 인증번호 333333");
+
+		// 다른 서버가 읽은 뒤 종료된 상황
+		List<MapRecord<String, Object, Object>> read = redisTemplate.opsForStream().read(
+				Consumer.from(GROUP, "dead-consumer"),
+				StreamReadOptions.empty().count(10),
+				StreamOffset.create(SmsOutbox.STREAM_KEY, ReadOffset.lastConsumed()));
+		assertThat(read).hasSize(1);
+
+		// 새 항목이 아니므로 poll로는 읽히지 않고, 유휴 시간(1분) 전에는 회수하지 않음
+		dispatcher.poll();
+		dispatcher.reclaim();
+		verify(coolSmsClient, never()).sendMany(any());
+		assertThat(pendingCount()).isEqualTo(1);
+
+		// 1분 넘게 유휴 상태였던 것으로 표시
+		redisTemplate.opsForStream().claim(SmsOutbox.STREAM_KEY, GROUP, "dead-consumer",
+				RedisStreamCommands.XClaimOptions.minIdle(Duration.ZERO)
+						.ids(read.getFirst().getId())
+						.idle(Duration.ofMinutes(2)));
+
+		dispatcher.reclaim();
+
+		verify(coolSmsClient, timeout(5_000)).sendMany(any());
+		awaitStatus(jobId, "SENT");
+		awaitEmptyStream();
+	}
+
+	// 발송 실패는 시도 횟수를 늘려 재시도 ZSET으로, 스트림 항목은 ACK
+	@Test
+	void failedSendIsScheduledForRetry() {
+		when(coolSmsClient.sendMany(any())).thenThrow(new IllegalStateException("coolsms down"));
+		String jobId = outbox.enqueue(TO, "[SCOI] 인증번호 444444");
+
+		dispatcher.poll();
+
+		awaitEmptyStream();
+		awaitCondition(() -> redisTemplate.opsForZSet().score(RETRY_KEY, jobId) != null);
+		assertThat(redisTemplate.opsForHash().get(SmsOutbox.JOB_PREFIX + jobId, "attempt")).isEqualTo("1");
+		assertThat(status(jobId)).isEqualTo("QUEUED");
+	}
+
+	private String status(String jobId) {
+		Object status = redisTemplate.opsForHash().get(SmsOutbox.JOB_PREFIX + jobId, "status");
+		return status == null ? null : status.toString();
+	}
+
+	private long pendingCount() {
+		return redisTemplate.opsForStream().pending(SmsOutbox.STREAM_KEY, GROUP).getTotalPendingMessages();
+	}
+
+	private void awaitStatus(String jobId, String expected) {
+		awaitCondition(() -> expected.equals(status(jobId)));
+	}
+
+	// 발송 스레드가 ACK와 삭제까지 마칠 때까지
+	private void awaitEmptyStream() {
+		awaitCondition(() -> pendingCount() == 0 && redisTemplate.opsForStream().size(SmsOutbox.STREAM_KEY) == 0);
+	}
+
+	private static void awaitCondition(BooleanSupplier condition) {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > deadline) {
+				throw new AssertionError("조건을 만족하지 않음");
+			}
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new AssertionError(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package com.example.scoi.global.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorCodecTest {
+
+	private static final String SECRET = "test-jwt-secret-test-jwt-secret-test-jwt-secret";
+	private static final long MEMBER_ID = 42L;
+
+	private final CursorCodec codec = new CursorCodec("", SECRET);
+
+	// 시간은 마이크로초 단위까지 보존 (DATETIME(6)과 같은 정밀도)
+	@Test
+	void roundTripsTimestampAndId() {
+		LocalDateTime timestamp = LocalDateTime.of(2026, 3, 14, 15, 9, 26, 535_897_000);
+
+		String cursor = codec.encode(MEMBER_ID, timestamp, 1_234L);
+
+		assertThat(codec.decode(MEMBER_ID, cursor))
+				.contains(new CursorCodec.Cursor(timestamp, 1_234L));
+	}
+
+	@Test
+	void roundTripsIdOnly() {
+		String cursor = codec.encode(MEMBER_ID, 77L);
+
+		assertThat(codec.decode(MEMBER_ID, cursor))
+				.contains(new CursorCodec.Cursor(null, 77L));
+	}
+
+	// 1970년 이전 시각(음수 micros)과 최대 ID도 varint로 그대로 복원
+	@Test
+	void roundTripsExtremeValues() {
+		LocalDateTime beforeEpoch = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000);
+
+		assertThat(codec.decode(MEMBER_ID, codec.encode(MEMBER_ID, beforeEpoch, Long.MAX_VALUE)))
+				.contains(new CursorCodec.Cursor(beforeEpoch, Long.MAX_VALUE));
+		assertThat(codec.decode(MEMBER_ID, codec.encode(MEMBER_ID, 0L)))
+				.contains(new CursorCodec.Cursor(null, 0L));
+	}
+
+	// URL에 그대로 넣을 수 있는 문자만 사용
+	@Test
+	void encodesUrlSafeWithoutPadding() {
+		String cursor = codec.encode(MEMBER_ID, LocalDateTime.of(2026, 1, 1, 0, 0), 1L);
+
+		assertThat(cursor).matches("[A-Za-z0-9_-]+");
+	}
+
+	// MAC 한 바이트를 바꾸면 거부
+	@Test
+	void rejectsTamperedMac() {
+		byte[] bytes = Base64.getUrlDecoder().decode(codec.encode(MEMBER_ID, LocalDateTime.of(2026, 1, 1, 0, 0), 10L));
+		bytes[bytes.length - 1] ^= 0x01;
+
+		assertThat(codec.decode(MEMBER_ID, encode(bytes))).isEmpty();
+	}
+
+	// 본문(ID)을 바꾸고 MAC을 그대로 두면 거부
+	@Test
+	void rejectsTamperedPayload() {
+		byte[] bytes = Base64.getUrlDecoder().decode(codec.encode(MEMBER_ID, 10L));
+		bytes[2] = 11;
+
+		assertThat(codec.decode(MEMBER_ID, encode(bytes))).isEmpty();
+	}
+
+	// 다른 회원의 커서는 서명이 맞지 않음
+	@Test
+	void rejectsCursorOfAnotherMember() {
+		String cursor = codec.encode(MEMBER_ID, LocalDateTime.of(2026, 1, 1, 0, 0), 10L);
+
+		assertThat(codec.decode(MEMBER_ID + 1, cursor)).isEmpty();
+	}
+
+	// 잘린 커서 (MAC 일부, 본문 일부)
+	@Test
+	void rejectsTruncatedCursor() {
+		String cursor = codec.encode(MEMBER_ID, LocalDateTime.of(2026, 1, 1, 0, 0), 300L);
+		byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+
+		for (int length = 0; length < bytes.length; length++) {
+			byte[] truncated = new byte[length];
+			System.arraycopy(bytes, 0, truncated, 0, length);
+			assertThat(codec.decode(MEMBER_ID, encode(truncated))).as("length %d", length).isEmpty();
+		}
+		assertThat(codec.decode(MEMBER_ID, cursor.substring(0, cursor.length() - 1))).isEmpty();
+	}
+
+	// 이전 형식(표준 Base64로 감싼 "시각_ID", "ID")은 더 이상 받지 않음
+	@Test
+	void rejectsLegacyBase64Cursor() {
+		String legacyTimestamp = Base64.getEncoder()
+				.encodeToString("2026-01-01T10:00:00.123456_15".getBytes(StandardCharsets.UTF_8));
+		String legacyId = Base64.getEncoder().encodeToString("15".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(codec.decode(MEMBER_ID, legacyTimestamp)).isEmpty();
+		assertThat(codec.decode(MEMBER_ID, legacyId)).isEmpty();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "!!!", "AQ", "not a cursor"})
+	void rejectsMalformedInput(String cursor) {
+		assertThat(codec.decode(MEMBER_ID, cursor)).isEmpty();
+	}
+
+	@Test
+	void nullValuesProduceNoCursor() {
+		assertThat(codec.encode(null, 1L)).isNull();
+		assertThat(codec.encode(MEMBER_ID, null)).isNull();
+		assertThat(codec.encode(MEMBER_ID, null, 1L)).isNull();
+		assertThat(codec.decode(null, codec.encode(MEMBER_ID, 1L))).isEmpty();
+		assertThat(codec.decode(MEMBER_ID, null)).isEmpty();
+	}
+
+	// cursor.secret이 없으면 jwt.secret에서, 있으면 cursor.secret에서 키를 파생
+	@Test
+	void derivesKeyFromConfiguredSecret() {
+		String cursor = codec.encode(MEMBER_ID, 5L);
+
+		assertThat(new CursorCodec(SECRET, "other-jwt-secret").decode(MEMBER_ID, cursor)).isPresent();
+		assertThat(new CursorCodec("separate-cursor-secret", SECRET).decode(MEMBER_ID, cursor)).isEmpty();
+	}
+
+	private static String encode(byte[] bytes) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+}